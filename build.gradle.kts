@@ -44,8 +44,12 @@ dependencies {
 	implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.8.0")
 	// Redis
 	implementation("org.springframework.boot:spring-boot-starter-data-redis")
+	// Local Cache
+	implementation("com.github.ben-manes.caffeine:caffeine")
 	//Kafka
 	implementation("org.springframework.kafka:spring-kafka")
+	// Outbox CDC (binlog tailing)
+	implementation("com.zendesk:mysql-binlog-connector-java:0.29.2")
 	// Lombok
     compileOnly("org.projectlombok:lombok")
     annotationProcessor("org.projectlombok:lombok")
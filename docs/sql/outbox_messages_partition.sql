@@ -0,0 +1,51 @@
+-- ==========================================
+-- outbox_messages 일 단위 파티션 전환 (1회성 마이그레이션)
+-- ==========================================
+-- 적용 후 outbox.partition.enabled=true 로 바꾸면 OutboxPartitionManager 가
+-- 매일 미래 파티션 생성(REORGANIZE pmax) / 만료 파티션 삭제(DROP PARTITION)만 수행한다.
+--
+-- 주의
+-- - ALTER TABLE ... PARTITION BY 는 테이블 전체를 복사한다. 점검 시간에 한 노드(또는 DBA)가 한 번만 실행한다.
+-- - 파티션 키(crt_dttm)가 PK 에 포함되어야 하므로 PK 를 (id, crt_dttm) 으로 바꾼다.
+-- - crt_dttm 은 UTC 로 저장되므로 날짜 경계도 UTC_DATE() 기준이다.
+-- - 기존 행은 모두 첫 파티션(어제, crt_dttm < 오늘 00:00)으로 들어간다.
+--   미처리 행이 남아 있는 동안은 보관 기간이 지나도 삭제되지 않는다.
+-- - @precreate_days 는 outbox.partition.precreate-days 와 맞춘다.
+
+SET @precreate_days = 7;
+SET SESSION group_concat_max_len = 65535;
+
+-- 분할 여부 확인 (0 이어야 함)
+SELECT COUNT(*) AS partition_count
+FROM information_schema.partitions
+WHERE table_schema = DATABASE() AND table_name = 'outbox_messages' AND partition_name IS NOT NULL;
+
+-- 어제 ~ 오늘 + @precreate_days 일 파티션 + pmax 로 분할
+WITH RECURSIVE days (d) AS (
+    SELECT UTC_DATE() - INTERVAL 1 DAY
+    UNION ALL
+    SELECT d + INTERVAL 1 DAY FROM days WHERE d < UTC_DATE() + INTERVAL @precreate_days DAY
+)
+SELECT CONCAT(
+    'ALTER TABLE outbox_messages DROP PRIMARY KEY, ADD PRIMARY KEY (id, crt_dttm) ',
+    'PARTITION BY RANGE COLUMNS (crt_dttm) (',
+    GROUP_CONCAT(
+        CONCAT('PARTITION p', DATE_FORMAT(d, '%Y%m%d'), ' VALUES LESS THAN (''', d + INTERVAL 1 DAY, ' 00:00:00'')')
+        ORDER BY d SEPARATOR ', '
+    ),
+    ', PARTITION pmax VALUES LESS THAN (MAXVALUE))'
+)
+INTO @ddl
+FROM days;
+
+SELECT @ddl;
+
+PREPARE partition_stmt FROM @ddl;
+EXECUTE partition_stmt;
+DEALLOCATE PREPARE partition_stmt;
+
+-- 결과 확인
+SELECT partition_name, partition_description, table_rows
+FROM information_schema.partitions
+WHERE table_schema = DATABASE() AND table_name = 'outbox_messages'
+ORDER BY partition_ordinal_position;
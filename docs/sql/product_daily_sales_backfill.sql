@@ -0,0 +1,22 @@
+-- ==========================================
+-- product_daily_sales 백필 (1회성 마이그레이션)
+-- ==========================================
+-- 롤업 도입 이전 주문 이력을 일별 판매량으로 채운다. 배포 직후 한 번만 실행한다.
+--
+-- 주의
+-- - 배포 이후 flush 된 판매량과 겹치지 않도록, 배포 시각 이전 주문만 집계한다. (@cutover 를 배포 시각으로 맞춘다)
+-- - crt_dttm 은 UTC 로 저장된다. 서비스가 다른 시간대로 판매일을 나눈다면 DATE(CONVERT_TZ(o.crt_dttm, '+00:00', '+09:00')) 처럼 변환한다.
+-- - 배포 이전에 취소된 주문은 제외한다. 배포 이후 취소된 주문은 롤업이 원 주문일에서 이미 차감했으므로
+--   백필에서는 판매량으로 더해야 순판매량이 맞는다. (upd_dttm >= @cutover)
+
+-- 배포(롤업 적용) 시각 (UTC)
+SET @cutover = '2026-01-01 00:00:00';
+
+INSERT INTO product_daily_sales (product_id, sales_date, quantity)
+SELECT d.product_id, DATE(o.crt_dttm), SUM(d.quantity)
+FROM order_detail d
+JOIN orders o ON o.id = d.order_id
+WHERE o.crt_dttm < @cutover
+  AND (o.order_status <> 'CANCELED' OR o.upd_dttm >= @cutover)
+GROUP BY d.product_id, DATE(o.crt_dttm)
+ON DUPLICATE KEY UPDATE quantity = quantity + VALUES(quantity);
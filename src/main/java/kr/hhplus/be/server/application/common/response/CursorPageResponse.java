@@ -0,0 +1,19 @@
+package kr.hhplus.be.server.application.common.response;
+
+import java.util.List;
+
+/*
+* 커서 기반 페이지 응답
+* - 전체 건수(count) 를 조회하지 않으므로 totalElements / totalPages 가 없다.
+* - 다음 페이지는 nextCursor 를 그대로 전달하여 조회한다. (마지막 페이지면 null)
+*/
+public record CursorPageResponse<T>(
+        List<T> contents,
+        int size,
+        String nextCursor,
+        boolean hasNext
+) {
+    public static <T> CursorPageResponse<T> of(List<T> contents, int size, String nextCursor) {
+        return new CursorPageResponse<>(contents, size, nextCursor, nextCursor != null);
+    }
+}
@@ -11,9 +11,14 @@ public record PageResponse<T>(
         long totalElements,
         int totalPages,
         boolean first,
-        boolean last
+        boolean last,
+        boolean totalEstimated     // totalElements/totalPages 가 추정치인지 (COUNT 미실행)
 ) {
     public static <T> PageResponse<T> of(Page<T> page) {
+        return of(page, false);
+    }
+
+    public static <T> PageResponse<T> of(Page<T> page, boolean totalEstimated) {
         return new PageResponse<>(
                 page.getContent(),
                 page.getNumber(),
@@ -21,7 +26,8 @@ public record PageResponse<T>(
                 page.getTotalElements(),
                 page.getTotalPages(),
                 page.isFirst(),
-                page.isLast()
+                page.isLast(),
+                totalEstimated
         );
     }
 }
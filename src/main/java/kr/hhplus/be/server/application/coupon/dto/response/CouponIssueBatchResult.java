@@ -0,0 +1,17 @@
+package kr.hhplus.be.server.application.coupon.dto.response;
+
+import java.util.List;
+
+/**
+ * 비동기 쿠폰 배치 발급 결과
+ * @param issued 이번 배치에서 새로 발급된 건수
+ * @param rejectedUserIds DB 잔여 수량 부족으로 발급하지 못한 사용자 (대기열 순서 유지)
+ */
+public record CouponIssueBatchResult(
+    int issued,
+    List<Long> rejectedUserIds
+) {
+    public static CouponIssueBatchResult empty() {
+        return new CouponIssueBatchResult(0, List.of());
+    }
+}
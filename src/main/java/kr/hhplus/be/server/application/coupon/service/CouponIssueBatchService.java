@@ -0,0 +1,94 @@
+package kr.hhplus.be.server.application.coupon.service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import kr.hhplus.be.server.application.coupon.dto.response.CouponIssueBatchResult;
+import kr.hhplus.be.server.domain.coupon.entity.Coupon;
+import kr.hhplus.be.server.domain.coupon.entity.UserCoupon;
+import kr.hhplus.be.server.domain.coupon.repository.CouponRepository;
+import kr.hhplus.be.server.domain.coupon.repository.UserCouponRepository;
+import kr.hhplus.be.server.support.exception.BusinessException;
+import kr.hhplus.be.server.support.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비동기 쿠폰 발급 배치 저장 서비스
+ *
+ * Redis 대기열에서 입장이 확정된 사용자들을 한 트랜잭션으로 저장한다.
+ * - coupons: 배치당 한 번 행 락(SELECT ... FOR UPDATE)을 잡아 동기 발급/다른 노드의 배치와 직렬화
+ * - user_coupons: 이미 발급된 사용자를 제외하고 multi-row INSERT 1회 (재처리 시 멱등)
+ * - coupons: available_quantity = available_quantity - N 1회
+ * DB 잔여 수량이 배치보다 적으면 대기열 순서대로 잔여 수량만큼만 발급하고, 나머지만 거절 대상으로 돌려준다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CouponIssueBatchService {
+    private final CouponRepository couponRepository;
+    private final UserCouponRepository userCouponRepository;
+
+    /**
+     * 사용자 쿠폰 일괄 발급
+     * @param userIds 대기열 순서의 사용자 ID
+     * @throws BusinessException 쿠폰이 없거나 발급 기간/상태가 아니면 (배치 전체 실패)
+     */
+    @Transactional
+    public CouponIssueBatchResult issueBatch(Long couponId, List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return CouponIssueBatchResult.empty();
+        }
+
+        Coupon coupon = couponRepository.findByIdWithLock(couponId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.COUPON_NOT_FOUND));
+
+        if (!coupon.isActive()) {
+            throw new BusinessException(ErrorCode.COUPON_NOT_AVAILABLE);
+        }
+
+        // 재처리로 이미 저장된 사용자는 발급 완료로 간주하고 제외 (쿠폰 행 락 안이므로 이후 INSERT 와 경합 없음)
+        Set<Long> alreadyIssued = new HashSet<>(userCouponRepository.findIssuedUserIds(couponId, userIds));
+        List<Long> candidates = userIds.stream()
+            .filter(userId -> !alreadyIssued.contains(userId))
+            .toList();
+
+        int issuable = Math.min(candidates.size(), Math.max(coupon.availableQuantity(), 0));
+        List<Long> accepted = candidates.subList(0, issuable);
+        List<Long> rejected = candidates.subList(issuable, candidates.size());
+
+        if (!accepted.isEmpty()) {
+            List<UserCoupon> userCoupons = accepted.stream()
+                .map(userId -> UserCoupon.issue(userId, couponId, coupon.validTo()))
+                .toList();
+            userCouponRepository.insertAllIgnoreDuplicates(userCoupons);
+
+            if (couponRepository.decreaseAvailableQuantity(couponId, accepted.size()) == 0) {
+                // 락을 잡은 뒤 확인한 수량이므로 발생하지 않아야 함 → 배치 전체 롤백
+                throw new IllegalStateException("쿠폰 수량 차감 실패: couponId=" + couponId);
+            }
+        }
+
+        if (!rejected.isEmpty()) {
+            log.warn("쿠폰 DB 잔여 수량 부족 - 일부 발급 거절: couponId={}, rejected={}", couponId, rejected.size());
+        }
+        log.info("쿠폰 배치 발급 완료: couponId={}, requested={}, issued={}",
+            couponId, userIds.size(), accepted.size());
+
+        return new CouponIssueBatchResult(accepted.size(), List.copyOf(rejected));
+    }
+
+    /**
+     * 더 이상 발급할 수 없는 쿠폰인지 (삭제/비활성/유효기간 종료/DB 수량 소진)
+     */
+    @Transactional(readOnly = true)
+    public boolean isClosed(Long couponId) {
+        return couponRepository.findById(couponId)
+            .map(Coupon::isClosed)
+            .orElse(true);
+    }
+}
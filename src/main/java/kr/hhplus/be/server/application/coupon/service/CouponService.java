@@ -1,20 +1,25 @@
 package kr.hhplus.be.server.application.coupon.service;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import kr.hhplus.be.server.domain.coupon.entity.Coupon;
 import kr.hhplus.be.server.domain.coupon.entity.UserCoupon;
+import kr.hhplus.be.server.domain.coupon.enums.CouponIssueStatus;
 import kr.hhplus.be.server.domain.coupon.enums.UserCouponStatus;
 import kr.hhplus.be.server.domain.coupon.repository.CouponRepository;
 import kr.hhplus.be.server.domain.coupon.repository.UserCouponRepository;
+import kr.hhplus.be.server.infrastructure.coupon.cache.CouponCatalogCache;
+import kr.hhplus.be.server.presentation.coupon.dto.response.CouponIssueStatusResponse;
 import kr.hhplus.be.server.presentation.coupon.dto.response.UserCouponResponse;
 import kr.hhplus.be.server.support.exception.BusinessException;
 import kr.hhplus.be.server.support.exception.ErrorCode;
@@ -28,50 +33,47 @@ public class CouponService {
     private final CouponRepository couponRepository;
     private final UserCouponRepository userCouponRepository;
     private final RedisTemplate<String, String> redisTemplate;
+    private final CouponCatalogCache couponCatalogCache;
 
-    private static final String COUPON_ISSUED_SET_KEY = "coupon:issued:";
-    private static final String COUPON_REQUEST_QUEUE_KEY = "coupon:request:";
-    private static final String COUPON_QUANTITY_KEY = "coupon:quantity:";
+    public static final String COUPON_ISSUED_SET_KEY = "coupon:issued:";
+    public static final String COUPON_REQUEST_QUEUE_KEY = "coupon:request:";
+    public static final String COUPON_QUANTITY_KEY = "coupon:quantity:";
+    public static final String COUPON_REQUEST_SEQ_KEY = "coupon:request:seq:";
+    public static final String COUPON_ISSUE_ACTIVE_KEY = "coupon:issue:active";
+    public static final String COUPON_ISSUE_FAILED_KEY = "coupon:issue:failed:";
+
+    // 발급 스크립트 반환 코드 (0 이상은 발급 순위)
+    private static final long ISSUE_ALREADY_ISSUED = -1L;
+    private static final long ISSUE_OUT_OF_STOCK = -2L;
+    private static final long ISSUE_NOT_INITIALIZED = -3L;
+
+    private static final RedisScript<Long> ISSUE_SCRIPT =
+        RedisScript.of(new ClassPathResource("scripts/coupon-issue.lua"), Long.class);
+    private static final RedisScript<Long> ROLLBACK_SCRIPT =
+        RedisScript.of(new ClassPathResource("scripts/coupon-issue-rollback.lua"), Long.class);
 
     /**
      * 선착순 쿠폰 발급
      *
      * Redis 자료구조 활용:
-     * - Set (coupon:issued:{couponId}): 중복 발급 방지 (SADD 원자적 중복 체크)
-     * - Sorted Set (coupon:request:{couponId}): 선착순 대기열 (ZADD + ZRANK로 순위 기반 검증)
+     * - Set (coupon:issued:{couponId}): 중복 발급 방지
+     * - Sorted Set (coupon:request:{couponId}): 선착순 대기열 (score=Redis 시퀀스)
      * - String (coupon:quantity:{couponId}): 최대 발급 수량 참조 (읽기 전용)
+     *
+     * 중복 체크 / 수량 체크 / 대기열 등록은 Lua 스크립트 한 번의 호출(EVALSHA)로 원자적으로 처리한다.
+     * Redis에서 탈락한 요청은 DB 락(findByIdWithLock)을 잡지 않는다.
      */
     @Transactional
     public UserCouponResponse issueCoupon(Long userId, Long couponId) {
         String issuedSetKey = COUPON_ISSUED_SET_KEY + couponId;
         String requestQueueKey = COUPON_REQUEST_QUEUE_KEY + couponId;
-        String quantityKey = COUPON_QUANTITY_KEY + couponId;
         String userIdStr = String.valueOf(userId);
 
-        // 1. 중복 발급 방지 (Set: SADD - 원자적 중복 체크)
-        Long added = redisTemplate.opsForSet().add(issuedSetKey, userIdStr);
-        if (added == null || added == 0) {
-            throw new BusinessException(ErrorCode.COUPON_ALREADY_ISSUED);
-        }
+        // 1. 선착순 입장 (중복 체크 + 수량 체크 + 대기열 등록, 1 round trip)
+        long rank = admit(couponId, userIdStr, false);
 
         try {
-            // 2. 선착순 대기열 등록 (Sorted Set: ZADD - score=timestamp로 요청 순서 기록)
-            redisTemplate.opsForZSet().add(requestQueueKey, userIdStr, (double) System.currentTimeMillis());
-
-            // 3. 순위 확인으로 선착순 검증 (Sorted Set: ZRANK - 0-based 순위)
-            Long rank = redisTemplate.opsForZSet().rank(requestQueueKey, userIdStr);
-            String quantityStr = redisTemplate.opsForValue().get(quantityKey);
-
-            if (rank == null || quantityStr == null) {
-                throw new BusinessException(ErrorCode.COUPON_ISSUE_FAILED);
-            }
-
-            long maxQuantity = Long.parseLong(quantityStr);
-            if (rank >= maxQuantity) {
-                throw new BusinessException(ErrorCode.COUPON_OUT_OF_STOCK);
-            }
-
-            // 4. 쿠폰 조회 (비관적 락 - 동시성 제어)
+            // 2. 쿠폰 조회 (비관적 락 - 동시성 제어)
             Coupon coupon = couponRepository.findByIdWithLock(couponId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.COUPON_NOT_FOUND));
 
@@ -80,7 +82,7 @@ public class CouponService {
                 throw new BusinessException(ErrorCode.COUPON_NOT_AVAILABLE);
             }
 
-            // 5. DB 처리 (UserCoupon 발급 및 쿠폰 수량 차감)
+            // 3. DB 처리 (UserCoupon 발급 및 쿠폰 수량 차감)
             UserCoupon userCoupon = UserCoupon.issue(userId, couponId, coupon.validTo());
             UserCoupon savedUserCoupon = userCouponRepository.save(userCoupon);
 
@@ -103,12 +105,79 @@ public class CouponService {
     }
 
     /**
-     * Redis 롤백 (Set에서 사용자 제거 + Sorted Set에서 대기열 제거)
+     * 선착순 쿠폰 발급 요청 (비동기)
+     *
+     * Redis 입장 처리만 수행하고 즉시 반환한다. (DB 락 없음)
+     * 입장한 사용자는 CouponIssueDrainScheduler가 coupon:request:{couponId} 대기열에서 읽어
+     * user_coupons multi-row INSERT + 수량 일괄 차감으로 배치 저장한다.
+     */
+    public CouponIssueStatusResponse requestCouponIssue(Long userId, Long couponId) {
+        long rank = admit(couponId, String.valueOf(userId), true);
+
+        log.info("쿠폰 발급 요청 접수: userId={}, couponId={}, rank={}", userId, couponId, rank);
+
+        return CouponIssueStatusResponse.of(userId, couponId, CouponIssueStatus.PENDING);
+    }
+
+    /**
+     * 쿠폰 발급 결과 조회 (비동기 발급 상태 폴링)
+     */
+    @Transactional(readOnly = true)
+    public CouponIssueStatusResponse getCouponIssueStatus(Long userId, Long couponId) {
+        String userIdStr = String.valueOf(userId);
+
+        CouponIssueStatus status;
+        if (userCouponRepository.existsByUserIdAndCouponId(userId, couponId)) {
+            status = CouponIssueStatus.ISSUED;
+        } else if (Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(COUPON_ISSUE_FAILED_KEY + couponId, userIdStr))) {
+            status = CouponIssueStatus.FAILED;
+        } else if (Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(COUPON_ISSUED_SET_KEY + couponId, userIdStr))) {
+            status = CouponIssueStatus.PENDING;
+        } else {
+            status = CouponIssueStatus.NOT_REQUESTED;
+        }
+
+        return CouponIssueStatusResponse.of(userId, couponId, status);
+    }
+
+    /**
+     * Lua 스크립트로 선착순 입장 처리
+     * @param async 비동기 발급 여부 (배치 저장 대상 쿠폰으로 등록)
+     * @return 0-based 발급 순위
+     */
+    private long admit(Long couponId, String userIdStr, boolean async) {
+        List<String> keys = new ArrayList<>(List.of(
+            COUPON_ISSUED_SET_KEY + couponId,
+            COUPON_REQUEST_QUEUE_KEY + couponId,
+            COUPON_QUANTITY_KEY + couponId,
+            COUPON_REQUEST_SEQ_KEY + couponId
+        ));
+        Long result;
+        if (async) {
+            keys.add(COUPON_ISSUE_ACTIVE_KEY);
+            result = redisTemplate.execute(ISSUE_SCRIPT, keys, userIdStr, String.valueOf(couponId));
+        } else {
+            result = redisTemplate.execute(ISSUE_SCRIPT, keys, userIdStr);
+        }
+
+        if (result == null || result == ISSUE_NOT_INITIALIZED) {
+            throw new BusinessException(ErrorCode.COUPON_ISSUE_FAILED);
+        }
+        if (result == ISSUE_ALREADY_ISSUED) {
+            throw new BusinessException(ErrorCode.COUPON_ALREADY_ISSUED);
+        }
+        if (result == ISSUE_OUT_OF_STOCK) {
+            throw new BusinessException(ErrorCode.COUPON_OUT_OF_STOCK);
+        }
+        return result;
+    }
+
+    /**
+     * Redis 롤백 (Set에서 사용자 제거 + Sorted Set에서 대기열 제거, 1 round trip)
      */
     private void rollbackRedis(String issuedSetKey, String requestQueueKey, String userIdStr) {
         try {
-            redisTemplate.opsForSet().remove(issuedSetKey, userIdStr);
-            redisTemplate.opsForZSet().remove(requestQueueKey, userIdStr);
+            redisTemplate.execute(ROLLBACK_SCRIPT, List.of(issuedSetKey, requestQueueKey), userIdStr);
             log.warn("Redis 롤백 완료: issuedSetKey={}, requestQueueKey={}, userId={}",
                 issuedSetKey, requestQueueKey, userIdStr);
         } catch (Exception e) {
@@ -125,11 +194,11 @@ public class CouponService {
 
         List<Long> couponIds = userCoupons.stream()
             .map(UserCoupon::couponId)
+            .distinct()
             .toList();
 
-        Map<Long, Coupon> couponMap = couponRepository.findAllById(couponIds)
-            .stream()
-            .collect(Collectors.toMap(Coupon::id, c -> c));
+        // 쿠폰 정의는 로컬 캐시에서 조회 (미스난 ID만 DB 조회)
+        Map<Long, Coupon> couponMap = couponCatalogCache.getAll(couponIds);
 
         return userCoupons.map(userCoupon -> {
             Coupon coupon = couponMap.get(userCoupon.couponId());
@@ -146,11 +215,10 @@ public class CouponService {
         // 1. 먼저 모든 couponId 수집
         List<Long> couponIds = userCoupons.stream()
             .map(UserCoupon::couponId)
+            .distinct()
             .toList();
-        // 2. 한번에 조회
-        Map<Long, Coupon> couponMap = couponRepository.findAllById(couponIds)
-            .stream()
-            .collect(Collectors.toMap(Coupon::id, c -> c));
+        // 2. 로컬 캐시에서 한번에 조회 (미스난 ID만 DB 조회)
+        Map<Long, Coupon> couponMap = couponCatalogCache.getAll(couponIds);
         // 3. map에서 조회
         return userCoupons.map(userCoupon -> {
             Coupon coupon = couponMap.get(userCoupon.couponId());
@@ -159,11 +227,10 @@ public class CouponService {
     }
 
     /**
-     *사용자 쿠폰 조회
+     *사용자 쿠폰 조회 (쿠폰 카탈로그 로컬 캐시)
      */
-    @Transactional(readOnly = true)
     public Coupon getCoupon(Long userId, Long couponId) {
-        return couponRepository.findById(couponId)
+        return couponCatalogCache.get(couponId)
             .orElseThrow(() -> new BusinessException(ErrorCode.COUPON_NOT_FOUND, couponId));
     }
 
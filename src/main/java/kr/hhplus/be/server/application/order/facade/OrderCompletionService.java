@@ -55,7 +55,7 @@ public class OrderCompletionService {
             Order completedOrder = orderService.completeOrder(orderData.order().id());
             
             // 3. 판매량 증가
-            updateProductSales(orderData.orderDetails());
+            updateProductSales(completedOrder, orderData.orderDetails());
             
             eventPublisher.publishEvent(orderData);
 
@@ -74,11 +74,12 @@ public class OrderCompletionService {
         }
     }
     
-    private void updateProductSales(List<OrderDetail> orderDetails) {
+    private void updateProductSales(Order order, List<OrderDetail> orderDetails) {
         orderDetails.forEach(detail -> {
             productService.increaseSalesQuantity(
                 detail.productId(), 
-                detail.quantity()
+                detail.quantity(),
+                order.crtDttm()
             );
         });
     }
@@ -9,6 +9,7 @@ import kr.hhplus.be.server.application.order.dto.response.OrderResponse;
 import kr.hhplus.be.server.application.payment.dto.response.PaymentResult;
 import kr.hhplus.be.server.application.payment.facade.PaymentProcessorImpl;
 import kr.hhplus.be.server.infrastructure.lock.WithDistributedLock;
+import kr.hhplus.be.server.infrastructure.stock.WithStockReservation;
 import kr.hhplus.be.server.support.exception.BusinessException;
 import kr.hhplus.be.server.support.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -26,16 +27,18 @@ public class OrderFacade {
      *
      * 분산락과 트랜잭션 실행 순서:
      * 1. @WithDistributedLock (Order.HIGHEST_PRECEDENCE) - 락 획득
-     * 2. @Transactional - 트랜잭션 시작
-     * 3. 비즈니스 로직 실행
-     * 4. @Transactional - 트랜잭션 커밋
-     * 5. @WithDistributedLock - 락 해제 (finally)
+     * 2. @WithStockReservation (Order.HIGHEST_PRECEDENCE + 1) - Redis 재고 예약 (품절 시 트랜잭션 없이 거절)
+     * 3. @Transactional - 트랜잭션 시작
+     * 4. 비즈니스 로직 실행
+     * 5. @Transactional - 트랜잭션 커밋 (롤백 시 Redis 예약 복구)
+     * 6. @WithDistributedLock - 락 해제 (finally)
      */
     @WithDistributedLock(
         key = "'payment:idempotency:' + #request.idempotencyKey()",
         waitTime = 0,
         leaseTime = 30
     )
+    @WithStockReservation(items = "#request.items()")
     @Transactional
     public OrderResponse completeOrder(Long userId, OrderCreateRequest request) {
 
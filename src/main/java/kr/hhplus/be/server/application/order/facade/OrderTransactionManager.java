@@ -129,7 +129,7 @@ public class OrderTransactionManager {
             Order completedOrder = orderService.completeOrder(orderData.order().id());
 
             // 3. 판매량 증가
-            updateProductSales(orderData.orderDetails());
+            updateProductSales(completedOrder, orderData.orderDetails());
 
             // 4. Application 이벤트 발행 (BEFORE_COMMIT - Outbox 메시지 저장 트리거)
             eventPublisher.publishEvent(new OrderCompletedEvent(
@@ -165,11 +165,12 @@ public class OrderTransactionManager {
         }
     }
     
-    private void updateProductSales(List<OrderDetail> orderDetails) {
+    private void updateProductSales(Order order, List<OrderDetail> orderDetails) {
         orderDetails.forEach(detail -> {
             productService.increaseSalesQuantity(
                 detail.productId(),
-                detail.quantity()
+                detail.quantity(),
+                order.crtDttm()
             );
         });
     }
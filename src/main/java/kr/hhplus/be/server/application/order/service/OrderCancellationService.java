@@ -1,7 +1,8 @@
 package kr.hhplus.be.server.application.order.service;
 
-import java.time.LocalDate;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -63,9 +64,6 @@ public class OrderCancellationService {
                 }
 
                 // 6. 재고 및 판매량 복구
-                // 주문 생성일 기준으로 Redis 랭킹 점수 감소 (날짜 정합성)
-                LocalDate orderDate = order.crtDttm().toLocalDate();
-
                 orderDetails.forEach(detail -> {
                         // 6-1. 재고 복구
                         productService.increaseStock(detail.productId(), detail.quantity());
@@ -73,14 +71,17 @@ public class OrderCancellationService {
                                 detail.productId(), detail.quantity());
 
                         // 6-2. 판매량 감소 (DB)
-                        productService.decreaseSalesQuantity(detail.productId(), detail.quantity());
+                        productService.decreaseSalesQuantity(detail.productId(), detail.quantity(), order.crtDttm());
                         log.info("[주문 취소] 판매량 감소: productId={}, quantity={}",
                                 detail.productId(), detail.quantity());
-
-                        // 6-3. Redis 랭킹 점수 감소 (주문 생성일 기준)
-                        productRankingService.decrementSalesScore(detail.productId(), detail.quantity(), orderDate);
                 });
 
+                // 6-3. Redis 랭킹 점수 감소 - 주문 생성 시각 기준 (날짜/시간 버킷 정합성), 전체 상품 한 번에
+                Map<Long, Integer> canceledQuantities = new LinkedHashMap<>();
+                orderDetails.forEach(detail ->
+                        canceledQuantities.merge(detail.productId(), detail.quantity(), Integer::sum));
+                productRankingService.decrementSalesScores(canceledQuantities, order.crtDttm());
+
                 log.info("[주문 취소] 완료: orderId={}, 복구 항목={}",
                         orderId, orderDetails.size()
                 );
@@ -1,11 +1,15 @@
 package kr.hhplus.be.server.application.product.dto.request;
 
+import java.util.Set;
+
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
+import kr.hhplus.be.server.domain.product.entity.ProductCursor;
 import kr.hhplus.be.server.domain.product.entity.ProductSearch;
 import kr.hhplus.be.server.domain.product.enums.ProductCategory;
+import kr.hhplus.be.server.domain.product.enums.ProductCountMode;
 import kr.hhplus.be.server.domain.product.enums.ProductStatus;
 import kr.hhplus.be.server.support.exception.BusinessException;
 import kr.hhplus.be.server.support.exception.ErrorCode;
@@ -18,6 +22,10 @@ import kr.hhplus.be.server.support.exception.ErrorCode;
 * @param maxPrice 최대가격
 * @param page 페이지
 * @param size 페이지 크기
+* @param sort 정렬 기준 (price, productName, crtDttm, id)
+* @param direction 정렬 방향 (asc, desc)
+* @param cursor 다음 페이지 커서 (커서 기반 조회 시)
+* @param countMode 전체 건수 조회 방식 (cached, estimated, exact)
 */
 public record ProductSearchCommand(
     String name,
@@ -26,23 +34,101 @@ public record ProductSearchCommand(
     Integer minPrice,
     Integer maxPrice,
     Integer page,
-    Integer size
+    Integer size,
+    String sort,
+    String direction,
+    String cursor,
+    String countMode
 ) {
+    private static final Set<String> SORT_PROPERTIES = Set.of("price", "productName", "crtDttm", "id");
+
     public ProductSearchCommand {
         validatePriceRange(minPrice, maxPrice);
     }
+
+    public ProductSearchCommand(
+        String name,
+        String category,
+        String status,
+        Integer minPrice,
+        Integer maxPrice,
+        Integer page,
+        Integer size
+    ) {
+        this(name, category, status, minPrice, maxPrice, page, size, null, null, null, null);
+    }
+
     /*
     * 페이지 정보를 페이지 요청 객체로 변환
     * @return 페이지 요청 객체
     */
     public Pageable toPageable() {
+        Sort.Order order = toSortOrder();
+        Sort pageSort = Sort.by(order);
+        if (!"id".equals(order.getProperty())) {
+            // 동일 정렬 값 사이의 순서를 고정하기 위해 id 를 보조 정렬로 사용
+            pageSort = pageSort.and(Sort.by(order.getDirection(), "id"));
+        }
         return PageRequest.of(
                 pageOrDefault(),
                 sizeOrDefault(),
-                Sort.by("id").descending()
+                pageSort
         );
     }
 
+    /*
+    * 정렬 조건 변환 (기본값: id 내림차순)
+    * @return 정렬 조건
+    */
+    public Sort.Order toSortOrder() {
+        String property = (sort == null || sort.isBlank()) ? "id" : sort;
+        if ("name".equals(property)) {
+            property = "productName";
+        }
+        if (!SORT_PROPERTIES.contains(property)) {
+            throw new BusinessException(ErrorCode.INVALID_VALUE, "정렬기준");
+        }
+
+        Sort.Direction sortDirection = Sort.Direction.DESC;
+        if (direction != null && !direction.isBlank()) {
+            sortDirection = Sort.Direction.fromOptionalString(direction)
+                .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_VALUE, "정렬방향"));
+        }
+        return new Sort.Order(sortDirection, property);
+    }
+
+    /*
+    * 전체 건수 조회 방식 변환 (기본값: CACHED)
+    * @return 건수 조회 방식
+    */
+    public ProductCountMode toCountMode() {
+        if (countMode == null || countMode.isBlank()) {
+            return ProductCountMode.CACHED;
+        }
+        try {
+            return ProductCountMode.valueOf(countMode.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_VALUE, "건수조회방식");
+        }
+    }
+
+    /*
+    * 커서 디코딩 (첫 페이지면 null)
+    * 다른 정렬 조건으로 발급된 커서는 사용할 수 없다.
+    * @return 상품 목록 커서
+    */
+    public ProductCursor toCursor() {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        Sort.Order order = toSortOrder();
+        ProductCursor decoded = ProductCursor.decode(cursor);
+        if (!decoded.matches(order.getProperty(), order.isAscending())) {
+            throw new BusinessException(ErrorCode.INVALID_VALUE, "커서");
+        }
+        return decoded;
+    }
+
     /*
     * 상품상태 null인 경우 기본값 세팅
     */
@@ -1,7 +1,11 @@
 package kr.hhplus.be.server.application.product.facade;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,7 +15,7 @@ import kr.hhplus.be.server.application.product.service.ProductService;
 import kr.hhplus.be.server.application.product.service.StockService;
 import kr.hhplus.be.server.domain.order.entity.OrderDetail;
 import kr.hhplus.be.server.domain.product.entity.Product;
-import lombok.RequiredArgsConstructor;
+import kr.hhplus.be.server.infrastructure.stock.RedisStockReservation;
 import lombok.extern.slf4j.Slf4j;
 
 
@@ -19,29 +23,66 @@ import lombok.extern.slf4j.Slf4j;
  * 재고 관리자
  * - Product.stock으로 재고 확인 및 차감/복구만 담당
  * - Stock 테이블 이력은 OrderService에서 별도로 기록
+ *
+ * 재고 차감 방식 (stock.reserve.mode)
+ * - atomic (기본): 상품별 조건부 UPDATE ("판매중 AND 재고 >= 수량"), 행 락 선조회 없음
+ * - batch-lock: SELECT ... ORDER BY id FOR UPDATE 일괄 락 + JDBC batch UPDATE
+ * 두 방식 모두 상품 ID 오름차순으로 행을 잠그므로 상품 순서가 엇갈린 주문끼리 교착 상태가 생기지 않는다.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @Transactional
 public class StockManagerImpl implements StockManager{
+    public static final String MODE_ATOMIC = "atomic";
+    public static final String MODE_BATCH_LOCK = "batch-lock";
+
     private final ProductService productService;
     private final StockService stockService;
+    private final RedisStockReservation redisStockReservation;
+    private final String reserveMode;
+
+    public StockManagerImpl(
+        ProductService productService,
+        StockService stockService,
+        RedisStockReservation redisStockReservation,
+        @Value("${stock.reserve.mode:atomic}") String reserveMode
+    ) {
+        this.productService = productService;
+        this.stockService = stockService;
+        this.redisStockReservation = redisStockReservation;
+        this.reserveMode = reserveMode;
+    }
     
     /**
      * 재고 예약 (차감)
+     * 같은 상품은 수량을 합산한 뒤 상품 ID 순서로 차감하고, 주문 상세는 요청 순서대로 만든다.
      */
     @Override
     public List<OrderDetail> reserveStock(List<OrderCreateRequest.OrderItem> items) {
+        // Redis 재고 예약이 있으면 이 트랜잭션의 커밋/롤백 시 해제되도록 묶는다.
+        redisStockReservation.bindToTransaction();
+
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        items.forEach(item -> quantities.merge(item.productId(), item.quantity(), Integer::sum));
+
+        Map<Long, Product> updatedProducts = MODE_BATCH_LOCK.equals(reserveMode)
+            ? productService.decreaseStocks(quantities)
+            : decreaseStocksAtomically(quantities);
+
         return items.stream()
-            .map(this::reserveStockForItem)
+            .map(item -> toOrderDetail(item, updatedProducts.get(item.productId())))
             .toList();
     }
     
-    // 검증 후 재고를 차감한다.
-    private OrderDetail reserveStockForItem(OrderCreateRequest.OrderItem item) {
-        Product updatedProduct = productService.decreaseStock(item.productId(), item.quantity());
-        
+    // 조건부 UPDATE로 상품 ID 순서대로 차감한다. (판매중 + 재고 충분할 때만 반영, 실패 시 트랜잭션 롤백)
+    private Map<Long, Product> decreaseStocksAtomically(Map<Long, Integer> quantities) {
+        Map<Long, Product> updatedProducts = new LinkedHashMap<>();
+        new TreeMap<>(quantities).forEach((productId, quantity) ->
+            updatedProducts.put(productId, productService.decreaseStockAtomically(productId, quantity)));
+        return updatedProducts;
+    }
+
+    private OrderDetail toOrderDetail(OrderCreateRequest.OrderItem item, Product updatedProduct) {
         log.debug("재고 차감 완료: productId={}, quantity={}, remainStock={}", 
             updatedProduct.id(), item.quantity(), updatedProduct.stock());
         
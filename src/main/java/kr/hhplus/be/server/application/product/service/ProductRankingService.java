@@ -1,22 +1,33 @@
 package kr.hhplus.be.server.application.product.service;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
-
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
-import kr.hhplus.be.server.domain.product.entity.Product;
-import kr.hhplus.be.server.domain.product.repository.ProductRepository;
+import kr.hhplus.be.server.domain.product.entity.ProductSummary;
+import kr.hhplus.be.server.infrastructure.product.cache.ProductSummaryCache;
 import kr.hhplus.be.server.presentation.product.dto.response.PopularProductResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -25,14 +36,34 @@ import lombok.extern.slf4j.Slf4j;
  * Redis 자료구조 활용:
  * - Sorted Set (ranking:products:daily:{yyyyMMdd}): 일별 판매량 누적
  * - Sorted Set (ranking:products:aggregated): ZUNIONSTORE로 합산된 랭킹 (캐시)
+ * - Sorted Set (ranking:products:cache): 상위 N개 조회 캐시
+ * - 상품 정보는 ProductSummaryCache(로컬 + Redis Hash)로 채우므로 랭킹 조회 시 MySQL 을 거치지 않는다.
+ *
+ * 캐시 갱신:
+ * - 판매량 변경 시 캐시를 지우지 않고 "변경됨" 표시만 남긴다.
+ * - 노드별로 최대 1초에 한 번, 변경이 있을 때만 합산 결과로 캐시를 통째로 교체한다. (RENAME - 조회 중 빈 캐시 없음)
+ *
+ * 시간 버킷 모드 (ranking.mode=hourly):
+ * - Sorted Set (ranking:products:hourly:{yyyyMMddHH}): 시간별 판매량
+ * - Sorted Set (ranking:products:rolling): 최근 window-hours 시간 합계 (판매 시 버킷과 함께 ZINCRBY)
+ * - 윈도우를 벗어난 버킷은 rollupHourlyWindow() 가 롤링 합계에서 차감 (전체 재합산 없음)
+ * - 조회는 롤링 합계 ZREVRANGE 1회 (자정에 기간이 끊기지 않고 시간 단위로 밀림)
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class ProductRankingService {
 
     private final RedisTemplate<String, String> redisTemplate;
-    private final ProductRepository productRepository;
+    private final ProductSummaryCache productSummaryCache;
+
+    // 랭킹 모드 (daily: 일별 키 합산 / hourly: 시간 버킷 + 롤링 합계)
+    private final String rankingMode;
+
+    // 시간 버킷 모드의 롤링 윈도우 크기 (시간)
+    private final int windowHours;
+
+    private static final RedisScript<Long> DECREMENT_SCRIPT =
+        RedisScript.of(new ClassPathResource("scripts/ranking-decrement.lua"), Long.class);
 
     private static final String RANKING_KEY_PREFIX = "ranking:products:daily:";
     private static final String AGGREGATED_KEY = "ranking:products:aggregated";
@@ -42,30 +73,83 @@ public class ProductRankingService {
     private static final int DEFAULT_PERIOD_DAYS = 3;
     private static final long RANKING_KEY_TTL_DAYS = 7;
     private static final long CACHE_TTL_SECONDS = 60; // 1분 캐시
+    private static final long CACHE_REFRESH_INTERVAL_MILLIS = 1000; // 노드별 캐시 갱신 최소 간격
+
+    // 마지막 캐시 갱신 이후 판매량 변경 여부 / 마지막 캐시 갱신 시각 (노드별)
+    private final AtomicBoolean cacheDirty = new AtomicBoolean();
+    private final AtomicLong lastCacheRefreshAt = new AtomicLong();
+    private final String cacheStagingKey = CACHE_KEY + ":staging:" + UUID.randomUUID();
+
+    private static final RedisScript<Long> ROLLUP_SCRIPT =
+        RedisScript.of(new ClassPathResource("scripts/ranking-rollup.lua"), Long.class);
+    private static final String HOURLY_KEY_PREFIX = "ranking:products:hourly:";
+    private static final String ROLLING_KEY = "ranking:products:rolling";
+    private static final String ROLLING_CURSOR_KEY = "ranking:products:rolling:cursor";
+    private static final DateTimeFormatter HOUR_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHH");
+    private static final long HOURLY_KEY_EXTRA_TTL_HOURS = 48; // 롤업 지연(장애) 시에도 차감 전에 버킷이 만료되지 않도록 여유
+
+    public ProductRankingService(
+        RedisTemplate<String, String> redisTemplate,
+        ProductSummaryCache productSummaryCache,
+        @Value("${ranking.mode:daily}") String rankingMode,
+        @Value("${ranking.window-hours:72}") int windowHours
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.productSummaryCache = productSummaryCache;
+        this.rankingMode = rankingMode;
+        this.windowHours = windowHours;
+    }
 
     /**
      * 판매량 증가 (주문 완료 시)
-     * - Sorted Set: ZINCRBY로 원자적 판매량 증가
-     * - 캐시 무효화
      */
     public void incrementSalesScore(Long productId, Integer quantity) {
-        String dailyKey = getDailyKey(LocalDate.now());
-        try {
-            redisTemplate.opsForZSet().incrementScore(
-                dailyKey,
-                String.valueOf(productId),
-                quantity.doubleValue()
-            );
+        incrementSalesScores(Map.of(productId, quantity));
+    }
 
-            // TTL 설정 (매번 갱신하여 경쟁조건 방지)
-            redisTemplate.expire(dailyKey, RANKING_KEY_TTL_DAYS, TimeUnit.DAYS);
+    /**
+     * 주문 상품 판매량 일괄 증가 (주문 완료 시)
+     * - 상품별 ZINCRBY + EXPIRE 를 파이프라인 1회 왕복으로 전송
+     * - 캐시는 지우지 않고 갱신 주기에 맞춰 교체
+     * @param quantities 상품 ID → 판매 수량
+     */
+    public void incrementSalesScores(Map<Long, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        String dailyKey = getDailyKey(now.toLocalDate());
+        boolean hourly = isHourlyMode();
+        String hourlyKey = getHourlyKey(now);
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    quantities.forEach((productId, quantity) -> {
+                        String member = String.valueOf(productId);
+                        ops.opsForZSet().incrementScore(dailyKey, member, quantity.doubleValue());
+                        if (hourly) {
+                            ops.opsForZSet().incrementScore(hourlyKey, member, quantity.doubleValue());
+                            ops.opsForZSet().incrementScore(ROLLING_KEY, member, quantity.doubleValue());
+                        }
+                    });
+
+                    // TTL 설정 (매번 갱신하여 경쟁조건 방지)
+                    ops.expire(dailyKey, RANKING_KEY_TTL_DAYS, TimeUnit.DAYS);
+                    if (hourly) {
+                        ops.expire(hourlyKey, windowHours + HOURLY_KEY_EXTRA_TTL_HOURS, TimeUnit.HOURS);
+                    }
+                    return null;
+                }
+            });
 
-            // 캐시 무효화 (다음 조회 시 재계산)
-            invalidateCache();
+            markCacheDirty();
 
-            log.debug("[랭킹] 판매량 증가: productId={}, quantity={}", productId, quantity);
+            log.debug("[랭킹] 판매량 증가: {} 건", quantities.size());
         } catch (Exception e) {
-            log.warn("[랭킹] 판매량 증가 실패 (무시됨): productId={}", productId, e);
+            log.warn("[랭킹] 판매량 증가 실패 (무시됨): productIds={}", quantities.keySet(), e);
         }
     }
 
@@ -74,26 +158,59 @@ public class ProductRankingService {
      * - 주문 생성일 기준으로 해당 일자의 점수 감소
      */
     public void decrementSalesScore(Long productId, Integer quantity, LocalDate orderDate) {
-        String dailyKey = getDailyKey(orderDate);
-        try {
-            Double currentScore = redisTemplate.opsForZSet().score(dailyKey, String.valueOf(productId));
-
-            if (currentScore != null && currentScore > 0) {
-                double newScore = Math.max(0, currentScore - quantity);
-                if (newScore > 0) {
-                    redisTemplate.opsForZSet().add(dailyKey, String.valueOf(productId), newScore);
-                } else {
-                    redisTemplate.opsForZSet().remove(dailyKey, String.valueOf(productId));
-                }
+        decrementSalesScores(Map.of(productId, quantity), orderDate);
+    }
 
-                // 캐시 무효화
-                invalidateCache();
+    /**
+     * 주문 상품 판매량 일괄 감소 (주문 취소 시)
+     * - 주문 생성일 기준 일별 랭킹에서 Lua 스크립트 1회로 감소 (0 하한, 0이 되면 ZREM)
+     * @param quantities 상품 ID → 취소 수량
+     */
+    public void decrementSalesScores(Map<Long, Integer> quantities, LocalDate orderDate) {
+        decrementSalesScores(quantities, List.of(getDailyKey(orderDate)), "");
+    }
+
+    /**
+     * 주문 상품 판매량 일괄 감소 (주문 취소 시 - 주문 시각 기준)
+     * 시간 버킷 모드면 주문 시각의 버킷과, 그 버킷이 아직 롤업되지 않았으면(버킷 > 롤업 커서) 롤링 합계도
+     * 같은 스크립트 호출에서 감소한다. 커서 비교를 스크립트 안에서 하므로 롤업과 겹쳐도 두 번 빼지 않는다.
+     */
+    public void decrementSalesScores(Map<Long, Integer> quantities, LocalDateTime orderedAt) {
+        List<String> keys = new ArrayList<>();
+        keys.add(getDailyKey(orderedAt.toLocalDate()));
+        String rollingBucket = "";
+        if (isHourlyMode()) {
+            keys.add(getHourlyKey(orderedAt));
+            rollingBucket = orderedAt.format(HOUR_FORMATTER);
+        }
+        decrementSalesScores(quantities, keys, rollingBucket);
+    }
 
-                log.debug("[랭킹] 판매량 감소: productId={}, quantity={}, orderDate={}",
-                    productId, quantity, orderDate);
+    /**
+     * @param rollingBucket 롤링 합계 감소 여부를 판단할 주문 버킷 (yyyyMMddHH, 빈 문자열이면 롤링 합계 제외)
+     */
+    private void decrementSalesScores(Map<Long, Integer> quantities, List<String> keys, String rollingBucket) {
+        if (quantities.isEmpty()) {
+            return;
+        }
+        try {
+            Object[] args = Stream.concat(
+                    Stream.of(rollingBucket),
+                    quantities.entrySet().stream()
+                        .flatMap(entry -> Stream.of(String.valueOf(entry.getKey()), String.valueOf(entry.getValue()))))
+                .toArray();
+
+            List<String> scriptKeys = new ArrayList<>(List.of(ROLLING_CURSOR_KEY, ROLLING_KEY));
+            scriptKeys.addAll(keys);
+            Long changed = redisTemplate.execute(DECREMENT_SCRIPT, scriptKeys, args);
+
+            if (changed != null && changed > 0) {
+                markCacheDirty();
             }
+
+            log.debug("[랭킹] 판매량 감소: {} 건 (반영 {}), keys={}", quantities.size(), changed, keys);
         } catch (Exception e) {
-            log.warn("[랭킹] 판매량 감소 실패 (무시됨): productId={}", productId, e);
+            log.warn("[랭킹] 판매량 감소 실패 (무시됨): productIds={}", quantities.keySet(), e);
         }
     }
 
@@ -117,7 +234,13 @@ public class ProductRankingService {
      * 인기 상품 랭킹 조회 (파라미터 지정)
      */
     public List<PopularProductResponse> getTopRankingProducts(int topCount, int periodDays) {
+        if (isHourlyMode()) {
+            return getTopRollingProducts(topCount);
+        }
         try {
+            // 0. 변경이 쌓였고 갱신 주기가 지났으면 캐시 교체
+            refreshCacheIfDue();
+
             // 1. 캐시 확인
             Set<ZSetOperations.TypedTuple<String>> cached = redisTemplate.opsForZSet()
                 .reverseRangeWithScores(CACHE_KEY, 0, topCount - 1);
@@ -127,62 +250,163 @@ public class ProductRankingService {
                 return buildResponse(cached);
             }
 
-            // 2. ZUNIONSTORE로 합산 (Redis 내에서 처리)
-            String[] dailyKeys = buildDailyKeys(periodDays);
-
-            // 일별 키가 모두 비어있는지 확인
-            boolean hasData = false;
-            for (String key : dailyKeys) {
-                Long size = redisTemplate.opsForZSet().zCard(key);
-                if (size != null && size > 0) {
-                    hasData = true;
-                    break;
-                }
-            }
-
-            if (!hasData) {
-                log.debug("[랭킹] 랭킹 데이터 없음");
+            // 2. 합산 후 상위 N개 조회
+            Set<ZSetOperations.TypedTuple<String>> topProducts = aggregateTopProducts(topCount, periodDays);
+            if (topProducts.isEmpty()) {
                 return Collections.emptyList();
             }
 
-            // ZUNIONSTORE: 여러 Sorted Set 합산
-            redisTemplate.opsForZSet().unionAndStore(dailyKeys[0],
-                List.of(dailyKeys).subList(1, dailyKeys.length), AGGREGATED_KEY);
-            redisTemplate.expire(AGGREGATED_KEY, CACHE_TTL_SECONDS, TimeUnit.SECONDS);
+            // 3. 캐시에 저장 (짧은 TTL)
+            replaceCache(topProducts);
+
+            // 4. 응답 생성
+            return buildResponse(topProducts);
+
+        } catch (Exception e) {
+            log.warn("[랭킹] Redis 랭킹 조회 실패", e);
+            return Collections.emptyList();
+        }
+    }
 
-            // 3. 상위 N개 조회
+    /**
+     * 시간 버킷 모드 조회 - 롤링 합계 ZREVRANGE 1회 (합산/캐시 없음)
+     */
+    private List<PopularProductResponse> getTopRollingProducts(int topCount) {
+        try {
             Set<ZSetOperations.TypedTuple<String>> topProducts = redisTemplate.opsForZSet()
-                .reverseRangeWithScores(AGGREGATED_KEY, 0, topCount - 1);
+                .reverseRangeWithScores(ROLLING_KEY, 0, topCount - 1);
+            return buildResponse(topProducts);
+        } catch (Exception e) {
+            log.warn("[랭킹] Redis 롤링 랭킹 조회 실패", e);
+            return Collections.emptyList();
+        }
+    }
 
-            if (topProducts == null || topProducts.isEmpty()) {
-                log.debug("[랭킹] 합산 후 데이터 없음");
-                return Collections.emptyList();
+    /**
+     * 롤링 윈도우 갱신 (시간 버킷 모드)
+     * 마지막으로 차감한 버킷 이후, 윈도우를 벗어난 버킷을 순서대로 롤링 합계에서 차감한다.
+     * 커서가 없으면(최초 실행) 현재 윈도우 시작 직전으로 커서만 맞춘다.
+     * @return 차감한 버킷 수
+     */
+    public int rollupHourlyWindow() {
+        if (!isHourlyMode()) {
+            return 0;
+        }
+        LocalDateTime expiredHour = LocalDateTime.now().minusHours(windowHours).truncatedTo(ChronoUnit.HOURS);
+        String cursor = redisTemplate.opsForValue().get(ROLLING_CURSOR_KEY);
+        if (cursor == null) {
+            redisTemplate.opsForValue().setIfAbsent(ROLLING_CURSOR_KEY, expiredHour.format(HOUR_FORMATTER));
+            return 0;
+        }
+
+        int rolledUp = 0;
+        LocalDateTime hour = LocalDateTime.parse(cursor, HOUR_FORMATTER).plusHours(1);
+        while (!hour.isAfter(expiredHour)) {
+            String bucket = hour.format(HOUR_FORMATTER);
+            Long result = redisTemplate.execute(ROLLUP_SCRIPT,
+                List.of(ROLLING_KEY, ROLLING_CURSOR_KEY, HOURLY_KEY_PREFIX + bucket), bucket);
+            if (result != null && result > 0) {
+                rolledUp++;
             }
+            hour = hour.plusHours(1);
+        }
 
-            // 4. 캐시에 저장 (짧은 TTL)
-            for (ZSetOperations.TypedTuple<String> tuple : topProducts) {
-                redisTemplate.opsForZSet().add(CACHE_KEY, tuple.getValue(), tuple.getScore());
+        if (rolledUp > 0) {
+            log.debug("[랭킹] 롤링 윈도우 갱신: 차감 버킷 {} 개", rolledUp);
+        }
+        return rolledUp;
+    }
+
+    /**
+     * 최근 N일 일별 랭킹을 ZUNIONSTORE 로 합산 후 상위 M개 조회 (Redis 내에서 처리)
+     */
+    private Set<ZSetOperations.TypedTuple<String>> aggregateTopProducts(int topCount, int periodDays) {
+        String[] dailyKeys = buildDailyKeys(periodDays);
+
+        // 일별 키가 모두 비어있는지 확인
+        boolean hasData = false;
+        for (String key : dailyKeys) {
+            Long size = redisTemplate.opsForZSet().zCard(key);
+            if (size != null && size > 0) {
+                hasData = true;
+                break;
             }
-            redisTemplate.expire(CACHE_KEY, CACHE_TTL_SECONDS, TimeUnit.SECONDS);
+        }
 
-            // 5. 응답 생성
-            return buildResponse(topProducts);
+        if (!hasData) {
+            log.debug("[랭킹] 랭킹 데이터 없음");
+            return Collections.emptySet();
+        }
 
-        } catch (Exception e) {
-            log.warn("[랭킹] Redis 랭킹 조회 실패", e);
-            return Collections.emptyList();
+        // ZUNIONSTORE: 여러 Sorted Set 합산
+        redisTemplate.opsForZSet().unionAndStore(dailyKeys[0],
+            List.of(dailyKeys).subList(1, dailyKeys.length), AGGREGATED_KEY);
+        redisTemplate.expire(AGGREGATED_KEY, CACHE_TTL_SECONDS, TimeUnit.SECONDS);
+
+        Set<ZSetOperations.TypedTuple<String>> topProducts = redisTemplate.opsForZSet()
+            .reverseRangeWithScores(AGGREGATED_KEY, 0, topCount - 1);
+
+        if (topProducts == null || topProducts.isEmpty()) {
+            log.debug("[랭킹] 합산 후 데이터 없음");
+            return Collections.emptySet();
         }
+        return topProducts;
+    }
+
+    /**
+     * 캐시 통째로 교체
+     * 노드별 임시 키에 적재한 뒤 RENAME 하므로 조회 중에 캐시가 비거나 일부만 보이지 않는다.
+     */
+    private void replaceCache(Set<ZSetOperations.TypedTuple<String>> topProducts) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.delete(cacheStagingKey);
+                ops.opsForZSet().add(cacheStagingKey, topProducts);
+                ops.expire(cacheStagingKey, CACHE_TTL_SECONDS, TimeUnit.SECONDS);
+                ops.rename(cacheStagingKey, CACHE_KEY);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 판매량 변경 표시 후 갱신 주기가 지났으면 캐시 교체
+     */
+    private void markCacheDirty() {
+        cacheDirty.set(true);
+        refreshCacheIfDue();
     }
 
     /**
-     * 캐시 무효화
+     * 변경이 있을 때만, 노드별로 최대 CACHE_REFRESH_INTERVAL_MILLIS 에 한 번 캐시 교체
+     * 동시에 여러 스레드가 호출해도 CAS 에 성공한 한 스레드만 갱신한다.
      */
-    private void invalidateCache() {
+    private void refreshCacheIfDue() {
+        if (!cacheDirty.get()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long last = lastCacheRefreshAt.get();
+        if (now - last < CACHE_REFRESH_INTERVAL_MILLIS || !lastCacheRefreshAt.compareAndSet(last, now)) {
+            return;
+        }
+        cacheDirty.set(false);
+
         try {
-            redisTemplate.delete(CACHE_KEY);
-            redisTemplate.delete(AGGREGATED_KEY);
+            Set<ZSetOperations.TypedTuple<String>> topProducts = aggregateTopProducts(DEFAULT_TOP_COUNT, DEFAULT_PERIOD_DAYS);
+            if (topProducts.isEmpty()) {
+                redisTemplate.delete(CACHE_KEY);
+                return;
+            }
+            replaceCache(topProducts);
+            log.debug("[랭킹] 캐시 갱신: {} 건", topProducts.size());
         } catch (Exception e) {
-            log.warn("[랭킹] 캐시 무효화 실패", e);
+            // 다음 호출에서 다시 갱신하도록 변경 표시 복구
+            cacheDirty.set(true);
+            log.warn("[랭킹] 캐시 갱신 실패", e);
         }
     }
 
@@ -211,28 +435,17 @@ public class ProductRankingService {
             .map(tuple -> Long.parseLong(tuple.getValue()))
             .toList();
 
-        // DB에서 상품 정보 조회
-        List<Product> products = productRepository.findAllById(productIds);
-        Map<Long, Product> productMap = products.stream()
-            .collect(Collectors.toMap(Product::id, p -> p));
+        // 상품 요약 캐시에서 조회 (로컬 → Redis Hash → DB)
+        Map<Long, ProductSummary> summaries = productSummaryCache.getAll(productIds);
 
         // 응답 생성 (순서 유지)
         return tuples.stream()
             .map(tuple -> {
-                Long productId = Long.parseLong(tuple.getValue());
-                Product product = productMap.get(productId);
-                if (product == null) {
+                ProductSummary summary = summaries.get(Long.parseLong(tuple.getValue()));
+                if (summary == null) {
                     return null;
                 }
-                return new PopularProductResponse(
-                    product.id(),
-                    product.productName(),
-                    product.price(),
-                    product.stock(),
-                    product.category().name(),
-                    product.status(),
-                    tuple.getScore().intValue()
-                );
+                return PopularProductResponse.of(summary, tuple.getScore().intValue());
             })
             .filter(response -> response != null)
             .toList();
@@ -245,10 +458,25 @@ public class ProductRankingService {
         return RANKING_KEY_PREFIX + date.format(DATE_FORMATTER);
     }
 
+    /**
+     * 시간 버킷 랭킹 키 생성
+     */
+    private String getHourlyKey(LocalDateTime dateTime) {
+        return HOURLY_KEY_PREFIX + dateTime.format(HOUR_FORMATTER);
+    }
+
+    private boolean isHourlyMode() {
+        return "hourly".equalsIgnoreCase(rankingMode);
+    }
+
     /**
      * 랭킹 데이터 존재 여부 확인
      */
     public boolean hasRankingData() {
+        if (isHourlyMode()) {
+            Long size = redisTemplate.opsForZSet().zCard(ROLLING_KEY);
+            return size != null && size > 0;
+        }
         LocalDate today = LocalDate.now();
         for (int i = 0; i < DEFAULT_PERIOD_DAYS; i++) {
             String dailyKey = getDailyKey(today.minusDays(i));
@@ -1,33 +1,53 @@
 package kr.hhplus.be.server.application.product.service;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import kr.hhplus.be.server.application.common.response.CursorPageResponse;
 import kr.hhplus.be.server.application.common.response.PageResponse;
 import kr.hhplus.be.server.application.product.dto.request.ProductSearchCommand;
 import kr.hhplus.be.server.domain.product.entity.PopularProduct;
 import kr.hhplus.be.server.domain.product.entity.Product;
+import kr.hhplus.be.server.domain.product.entity.ProductCursor;
+import kr.hhplus.be.server.domain.product.entity.ProductSearch;
+import kr.hhplus.be.server.domain.product.entity.ProductSummary;
+import kr.hhplus.be.server.domain.product.enums.ProductCountMode;
 import kr.hhplus.be.server.domain.product.repository.PopularProductRepository;
 import kr.hhplus.be.server.domain.product.repository.ProductRepository;
+import kr.hhplus.be.server.infrastructure.lock.CacheRebuildGuard;
+import kr.hhplus.be.server.infrastructure.product.ProductSalesAccumulator;
+import kr.hhplus.be.server.infrastructure.product.cache.ProductSummaryCache;
+import kr.hhplus.be.server.infrastructure.product.search.ProductCountCache;
+import kr.hhplus.be.server.infrastructure.product.search.ProductCountHistogram;
+import kr.hhplus.be.server.infrastructure.product.search.ProductNameIndex;
 import kr.hhplus.be.server.presentation.product.dto.response.PopularProductResponse;
 import kr.hhplus.be.server.presentation.product.dto.response.ProductResponse;
 import kr.hhplus.be.server.support.exception.BusinessException;
 import kr.hhplus.be.server.support.exception.ErrorCode;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 @Slf4j
 public class ProductService {
@@ -37,9 +57,63 @@ public class ProductService {
     private final ProductRankingService productRankingService;
     private final RedisTemplate<String, Object> redisTemplate;
     private final ObjectMapper objectMapper;
+    private final ProductNameIndex productNameIndex;
+    private final ProductCountCache productCountCache;
+    private final ProductCountHistogram productCountHistogram;
+    private final ProductSalesAccumulator productSalesAccumulator;
+    private final ProductSummaryCache productSummaryCache;
+    private final CacheRebuildGuard cacheRebuildGuard;
 
     public static final String POPULAR_PRODUCTS_CACHE_KEY = "cache:popular-products";
+    public static final String POPULAR_PRODUCTS_STALE_KEY = "cache:popular-products:stale";
     public static final long POPULAR_PRODUCTS_CACHE_TTL_HOURS = 25;
+    private static final long POPULAR_PRODUCTS_STALE_TTL_DAYS = 7;
+
+    // 확률적 조기 갱신 계수 (0 이면 만료 후에만 재생성)
+    private final double earlyRefreshBeta;
+    // 노드 간 재생성 뮤텍스 유지 시간
+    private final Duration rebuildLockLease;
+
+    public ProductService(
+        ProductRepository productRepository,
+        PopularProductRepository popularProductRepository,
+        ProductRankingService productRankingService,
+        RedisTemplate<String, Object> redisTemplate,
+        ObjectMapper objectMapper,
+        ProductNameIndex productNameIndex,
+        ProductCountCache productCountCache,
+        ProductCountHistogram productCountHistogram,
+        ProductSalesAccumulator productSalesAccumulator,
+        ProductSummaryCache productSummaryCache,
+        CacheRebuildGuard cacheRebuildGuard,
+        @Value("${product.popular-cache.early-refresh-beta:1.0}") double earlyRefreshBeta,
+        @Value("${product.popular-cache.rebuild-lock-lease:5s}") Duration rebuildLockLease
+    ) {
+        this.productRepository = productRepository;
+        this.popularProductRepository = popularProductRepository;
+        this.productRankingService = productRankingService;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.productNameIndex = productNameIndex;
+        this.productCountCache = productCountCache;
+        this.productCountHistogram = productCountHistogram;
+        this.productSalesAccumulator = productSalesAccumulator;
+        this.productSummaryCache = productSummaryCache;
+        this.cacheRebuildGuard = cacheRebuildGuard;
+        this.earlyRefreshBeta = earlyRefreshBeta;
+        this.rebuildLockLease = rebuildLockLease;
+    }
+
+    /**
+     * 인기상품 Redis 캐시 항목
+     * @param rebuildMillis 재생성에 걸린 시간
+     * @param expireAtMillis 만료 시각 (epoch millis)
+     */
+    public record CachedPopularProducts(
+        List<PopularProductResponse> products,
+        long rebuildMillis,
+        long expireAtMillis
+    ) {}
     
     /**
      * 상품 단건 검색
@@ -51,22 +125,75 @@ public class ProductService {
     }
     
     /**
-     * 재고 차감 (주문 시)
-     * 비관적 락(Pessimistic Lock)을 사용하여 동시성 제어
+     * 재고 차감 (주문 시 - 조건부 단일 UPDATE)
+     * 비관적 락 조회 + 전체 행 merge 대신 "판매중 AND 재고 >= 수량" 조건의 UPDATE 한 번으로 차감하고,
+     * 반영된 행 수로 성공 여부를 판단한다. 실패 시에만 원인(판매 중지/재고 부족)을 구분한다.
      * OrderFacade의 트랜잭션에서 호출되므로 @Transactional 불필요
      */
-    public Product decreaseStock(Long productId, Integer quantity) {
-        // 비관적 락을 사용하여 조회 (동시성 제어)
-        Product product = productRepository.findByIdWithLock(productId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
+    public Product decreaseStockAtomically(Long productId, Integer quantity) {
+        if (quantity == null || quantity <= 0) {
+            throw new BusinessException(ErrorCode.LESS_THAN_ZERO, "수량");
+        }
 
-        // 주문 가능 여부 검증
-        product.validateForOrder(quantity);
+        int updated = productRepository.decreaseStockIfAvailable(productId, quantity);
 
-        // 재고 차감
-        Product updatedProduct = product.decreaseStock(quantity);
+        // 차감 후 상태 조회 (자신이 변경한 행은 최신 값으로 조회됨)
+        Product product = getProduct(productId);
+        if (updated == 0) {
+            product.validateForOrder(quantity);
+            throw new BusinessException(ErrorCode.ORDER_STOCK_INSUFFICIENT, product.productName(), product.stock());
+        }
 
-        return productRepository.save(updatedProduct);
+        if (product.isSoldOut()) {
+            // 품절 전환 시 상태 조건 검색 건수가 바뀜
+            productCountCache.invalidateAllAfterCommit();
+        }
+        return product;
+    }
+
+    /**
+     * 여러 상품 재고 일괄 차감 (주문 시 - 정렬된 일괄 락)
+     * 1. 상품 ID 오름차순으로 SELECT ... WHERE id IN (...) ORDER BY id FOR UPDATE 한 번에 락 획득
+     *    → 상품 순서가 다른 주문({A,B} / {B,A})끼리도 같은 순서로 락을 잡으므로 교착 상태가 생기지 않는다.
+     * 2. 메모리에서 전체 검증 (하나라도 실패하면 아무것도 반영하지 않음)
+     * 3. 차감 결과를 JDBC batch 한 번으로 반영
+     * @param quantities 상품 ID → 차감 수량
+     * @return 상품 ID → 차감 후 상품
+     */
+    @Transactional
+    public Map<Long, Product> decreaseStocks(Map<Long, Integer> quantities) {
+        quantities.values().forEach(quantity -> {
+            if (quantity == null || quantity <= 0) {
+                throw new BusinessException(ErrorCode.LESS_THAN_ZERO, "수량");
+            }
+        });
+
+        Map<Long, Integer> sortedQuantities = new TreeMap<>(quantities);
+        List<Product> lockedProducts = productRepository.findAllByIdWithLock(sortedQuantities.keySet());
+        if (lockedProducts.size() != sortedQuantities.size()) {
+            throw new BusinessException(ErrorCode.PRODUCT_NOT_FOUND);
+        }
+
+        Map<Long, Product> decreased = new LinkedHashMap<>();
+        List<Product> updatedProducts = new ArrayList<>(lockedProducts.size());
+        boolean soldOut = false;
+        for (Product product : lockedProducts) {
+            Integer quantity = sortedQuantities.get(product.id());
+            product.validateForOrder(quantity);
+
+            Product updatedProduct = product.decreaseStock(quantity);
+            decreased.put(updatedProduct.id(), updatedProduct);
+            updatedProducts.add(updatedProduct);
+            soldOut |= updatedProduct.isSoldOut();
+        }
+
+        productRepository.updateStocks(updatedProducts);
+
+        if (soldOut) {
+            // 품절 전환 시 상태 조건 검색 건수가 바뀜
+            productCountCache.invalidateAllAfterCommit();
+        }
+        return decreased;
     }
 
     /**
@@ -79,59 +206,73 @@ public class ProductService {
 
         // 재고 증가
         Product updatedProduct = product.increaseStock(quantity);
+        invalidateCountIfStatusChanged(product, updatedProduct);
 
         return productRepository.save(updatedProduct);
     }
 
     /**
-     * 판매량 증가 (주문 완료 시)
-     * OrderFacade의 트랜잭션에서 호출되므로 @Transactional 불필요
+     * 품절 → 판매중 전환 시 상태 조건 검색 건수가 바뀌므로 건수 캐시를 비운다.
      */
-    public Product increaseSalesQuantity(Long productId, Integer quantity) {
-        Product product = getProduct(productId);
-        Product updatedProduct = product.increaseSalesQuantity(quantity);
+    private void invalidateCountIfStatusChanged(Product before, Product after) {
+        if (before.status() != after.status()) {
+            productCountCache.invalidateAllAfterCommit();
+        }
+    }
 
-        return productRepository.save(updatedProduct);
+    /**
+     * 판매량 증가 (주문 완료 시)
+     * 상품 행을 갱신하지 않고 write-behind 누산기에 가산 (주문 커밋 후 반영 대기열에 쌓임)
+     * @param orderedAt 주문 생성 시각 (일별 판매량 롤업의 날짜, 없으면 오늘)
+     */
+    public void increaseSalesQuantity(Long productId, Integer quantity, LocalDateTime orderedAt) {
+        if (quantity == null || quantity <= 0) {
+            throw new BusinessException(ErrorCode.LESS_THAN_ZERO, "수량");
+        }
+        productSalesAccumulator.add(productId, salesDateOf(orderedAt), quantity);
     }
 
     /**
      * 판매량 감소 (주문 취소 시)
+     * 누산기에 음수로 가산하며, 반영 시 판매량이 0 미만으로 내려가지 않도록 보호한다.
+     * 일별 롤업은 취소일이 아닌 원래 주문일에서 차감한다.
      */
-    @Transactional
-    public Product decreaseSalesQuantity(Long productId, Integer quantity) {
-        Product product = getProduct(productId);
-
-        // 판매량이 0 미만으로 내려가지 않도록 보호
-        Integer newSalesQuantity = Math.max(0, product.salesQuantity() - quantity);
-        Integer actualDecrease = product.salesQuantity() - newSalesQuantity;
-
-        if (actualDecrease > 0) {
-            Product updatedProduct = new Product(
-                product.id(),
-                product.productName(),
-                product.price(),
-                product.stock(),
-                product.category(),
-                product.status(),
-                newSalesQuantity,
-                product.crtDttm(),
-                java.time.LocalDateTime.now()
-            );
-            return productRepository.save(updatedProduct);
+    public void decreaseSalesQuantity(Long productId, Integer quantity, LocalDateTime orderedAt) {
+        if (quantity == null || quantity <= 0) {
+            throw new BusinessException(ErrorCode.LESS_THAN_ZERO, "수량");
         }
+        productSalesAccumulator.add(productId, salesDateOf(orderedAt), -quantity);
+    }
 
-        return product;
+    private LocalDate salesDateOf(LocalDateTime orderedAt) {
+        return orderedAt != null ? orderedAt.toLocalDate() : LocalDate.now();
     }
     
     /**
      * 상품 검색 (페이징)
+     *
+     * 전체 건수 조회 방식 (countMode):
+     * - CACHED(기본): 같은 조건의 캐시된 건수 사용, 없으면 히스토그램 추정치 (COUNT 미실행)
+     * - ESTIMATED: 항상 히스토그램 추정치 (COUNT 미실행)
+     * - EXACT: 클라이언트가 명시적으로 요청한 경우에만 COUNT 실행 후 캐시 갱신
+     * 첫 페이지가 size 보다 적게 조회되는 등 목록만으로 건수가 확정되면 건수 조회를 생략한다.
+     * 추정치로 응답한 경우 totalEstimated=true 로 표시한다. (기본 모드의 건수는 근사값일 수 있음)
      */
     public PageResponse<ProductResponse> search(ProductSearchCommand request) {
         Pageable pageable = request.toPageable();
-        
-        Page<Product> page = productRepository.findBySearch(
-            request.toDomain(), 
-            pageable
+        ProductSearch criteria = request.toDomain();
+        ProductSearch search = resolveProductName(criteria);
+        if (isEmptyCandidates(search)) {
+            return PageResponse.of(Page.empty(pageable));
+        }
+
+        ProductCountMode countMode = request.toCountMode();
+        AtomicBoolean totalEstimated = new AtomicBoolean(false);
+        List<Product> contents = productRepository.findContentBySearch(search, pageable);
+        Page<Product> page = PageableExecutionUtils.getPage(
+            contents,
+            pageable,
+            () -> countTotal(criteria, search, countMode, totalEstimated)
         );
         
         List<ProductResponse> responses = page.getContent().stream()
@@ -144,7 +285,88 @@ public class ProductService {
             page.getTotalElements()
         );
         
-        return PageResponse.of(responsePage);
+        return PageResponse.of(responsePage, totalEstimated.get());
+    }
+
+    /**
+     * 전체 건수 조회
+     * @param criteria 요청 검색 조건 (캐시 키)
+     * @param search 상품명 색인이 반영된 실제 조회 조건
+     * @param estimated 추정치로 응답하면 true 로 설정
+     */
+    private long countTotal(ProductSearch criteria, ProductSearch search, ProductCountMode countMode,
+                            AtomicBoolean estimated) {
+        if (countMode == ProductCountMode.EXACT) {
+            long count = productRepository.countBySearch(search);
+            productCountCache.put(criteria, count);
+            return count;
+        }
+
+        if (countMode == ProductCountMode.CACHED) {
+            Optional<Long> cached = productCountCache.get(criteria);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+        }
+
+        // 캐시 미스라도 COUNT 는 실행하지 않고 추정치로 응답 (정확한 건수는 EXACT 로 요청)
+        estimated.set(true);
+        return productCountHistogram.estimate(search);
+    }
+
+    /**
+     * 상품 검색 (커서 기반)
+     * offset 으로 앞 페이지를 건너뛰지 않고 (정렬 값, id) 이후부터 조회하며, count 쿼리를 실행하지 않는다.
+     * 다음 페이지 존재 여부는 size + 1 건을 조회하여 판단한다.
+     */
+    public CursorPageResponse<ProductResponse> searchByCursor(ProductSearchCommand request) {
+        Sort.Order order = request.toSortOrder();
+        int size = request.sizeOrDefault();
+        if (size < 1) {
+            throw new BusinessException(ErrorCode.INVALID_VALUE, "페이지크기");
+        }
+
+        ProductSearch search = resolveProductName(request.toDomain());
+        if (isEmptyCandidates(search)) {
+            return CursorPageResponse.of(List.of(), size, null);
+        }
+
+        List<Product> products = productRepository.findBySearchAfter(
+            search,
+            request.toCursor(),
+            order,
+            size + 1
+        );
+
+        boolean hasNext = products.size() > size;
+        List<Product> pageContents = hasNext ? products.subList(0, size) : products;
+
+        String nextCursor = hasNext
+            ? ProductCursor.of(pageContents.get(size - 1), order.getProperty(), order.isAscending()).encode()
+            : null;
+
+        List<ProductResponse> responses = pageContents.stream()
+            .map(ProductResponse::from)
+            .toList();
+
+        return CursorPageResponse.of(responses, size, nextCursor);
+    }
+
+    /**
+     * 상품명 조건을 n-gram 색인 후보 ID 로 대체 (LIKE '%x%' 전체 스캔 회피)
+     * 색인이 아직 적재되지 않았거나 후보가 너무 많으면 기존 LIKE 조건을 그대로 사용한다.
+     */
+    private ProductSearch resolveProductName(ProductSearch search) {
+        if (search.productName() == null || search.productName().isBlank()) {
+            return search;
+        }
+        return productNameIndex.search(search.productName())
+            .map(search::withProductIds)
+            .orElse(search);
+    }
+
+    private boolean isEmptyCandidates(ProductSearch search) {
+        return search.productIds() != null && search.productIds().isEmpty();
     }
 
     /**
@@ -155,6 +377,13 @@ public class ProductService {
      * - L1: Redis 캐시 (Cache-Aside)
      * - L2: DB 캐시 테이블 (popular_products)
      * - L3: 실시간 집계 (Fallback)
+     *
+     * 캐시 재생성 폭주(stampede) 방지:
+     * - 노드 안: 같은 키 재생성을 single-flight 로 하나로 합침
+     * - 노드 간: 짧은 Redis 뮤텍스를 얻은 요청만 L2/L3 를 조회하고, 나머지는 이전 값을 응답
+     * - 만료 직전 확률적 조기 갱신(XFetch)으로 만료 시점에 요청이 몰리지 않게 함
+     *
+     * L1/L2 는 판매량 순위만 신뢰하고, 재고/상태/가격은 상품 요약 캐시(로컬 + Redis Hash)의 최신 값으로 채운다.
      */
     public List<PopularProductResponse> findPopularProducts() {
         // L0. Redis Sorted Set 실시간 랭킹 조회
@@ -164,13 +393,51 @@ public class ProductService {
             return rankingResult;
         }
 
-        // L1. Redis 캐시 조회
-        List<PopularProductResponse> redisCached = getFromRedisCache();
-        if (redisCached != null) {
-            log.debug("[인기상품] Redis 캐시 Hit: {} 건", redisCached.size());
-            return redisCached;
+        // L1. Redis 캐시 조회 (만료가 가까우면 확률적으로 일부 요청만 조기 갱신)
+        CachedPopularProducts cached = getFromRedisCache(POPULAR_PRODUCTS_CACHE_KEY);
+        if (cached != null && !CacheRebuildGuard.shouldRefreshEarly(
+                cached.rebuildMillis(), cached.expireAtMillis(), earlyRefreshBeta)) {
+            log.debug("[인기상품] Redis 캐시 Hit: {} 건", cached.products().size());
+            return withLatestSummary(cached.products());
         }
 
+        // L2 ~ L3. 재생성은 노드 안에서 하나로 합치고, 노드 간에는 뮤텍스를 얻은 요청만 실행
+        List<PopularProductResponse> response = cacheRebuildGuard.singleFlight(
+            POPULAR_PRODUCTS_CACHE_KEY, () -> rebuildPopularProducts(cached));
+        return withLatestSummary(response);
+    }
+
+    /**
+     * 인기상품 캐시 재생성
+     * 다른 노드가 재생성 중이면 기다리지 않고 이전 값(만료 전 캐시 또는 stale 사본)을 응답한다.
+     * 이전 값이 전혀 없을 때(최초 적재)만 락 없이 직접 조회한다.
+     */
+    private List<PopularProductResponse> rebuildPopularProducts(CachedPopularProducts current) {
+        Optional<String> token = cacheRebuildGuard.tryLock(POPULAR_PRODUCTS_CACHE_KEY, rebuildLockLease);
+        if (token.isEmpty()) {
+            CachedPopularProducts stale = current != null ? current : getFromRedisCache(POPULAR_PRODUCTS_STALE_KEY);
+            if (stale != null) {
+                log.debug("[인기상품] 다른 노드가 재생성 중, 이전 값 응답: {} 건", stale.products().size());
+                return stale.products();
+            }
+            return loadPopularProducts();
+        }
+
+        try {
+            // 락을 얻는 사이 다른 노드가 이미 갱신했으면 그 값을 사용
+            CachedPopularProducts latest = getFromRedisCache(POPULAR_PRODUCTS_CACHE_KEY);
+            if (latest != null && (current == null || latest.expireAtMillis() != current.expireAtMillis())) {
+                return latest.products();
+            }
+            return loadPopularProducts();
+        } finally {
+            cacheRebuildGuard.unlock(POPULAR_PRODUCTS_CACHE_KEY, token.get());
+        }
+    }
+
+    private List<PopularProductResponse> loadPopularProducts() {
+        long startedAt = System.currentTimeMillis();
+
         // L2. DB 캐시 테이블에서 조회
         List<PopularProduct> cachedProducts = popularProductRepository.findLatest();
         if (!cachedProducts.isEmpty()) {
@@ -178,7 +445,7 @@ public class ProductService {
             List<PopularProductResponse> response = cachedProducts.stream()
                 .map(PopularProductResponse::from)
                 .toList();
-            putToRedisCache(response);
+            putToRedisCache(response, System.currentTimeMillis() - startedAt);
             return response;
         }
 
@@ -189,21 +456,36 @@ public class ProductService {
             .map(PopularProductResponse::from)
             .toList();
         if (!response.isEmpty()) {
-            putToRedisCache(response);
+            putToRedisCache(response, System.currentTimeMillis() - startedAt);
         }
         return response;
     }
 
     /**
-     * Redis 캐시에서 인기상품 조회
+     * 캐시된 인기상품 응답의 상품 정보를 요약 캐시 값으로 교체 (판매량은 유지)
+     * 요약 캐시에 없는 상품(삭제 등)은 캐시된 응답을 그대로 사용한다.
+     */
+    private List<PopularProductResponse> withLatestSummary(List<PopularProductResponse> responses) {
+        Map<Long, ProductSummary> summaries = productSummaryCache.getAll(
+            responses.stream().map(PopularProductResponse::id).toList());
+        return responses.stream()
+            .map(response -> {
+                ProductSummary summary = summaries.get(response.id());
+                return summary != null ? PopularProductResponse.of(summary, response.salesQuantity()) : response;
+            })
+            .toList();
+    }
+
+    /**
+     * Redis 캐시에서 인기상품 조회 (형식이 다르거나 장애면 미스로 처리)
      */
-    private List<PopularProductResponse> getFromRedisCache() {
+    private CachedPopularProducts getFromRedisCache(String key) {
         try {
-            Object cached = redisTemplate.opsForValue().get(POPULAR_PRODUCTS_CACHE_KEY);
+            Object cached = redisTemplate.opsForValue().get(key);
             if (cached == null) {
                 return null;
             }
-            return objectMapper.convertValue(cached, new TypeReference<List<PopularProductResponse>>() {});
+            return objectMapper.convertValue(cached, CachedPopularProducts.class);
         } catch (Exception e) {
             log.warn("[인기상품] Redis 캐시 조회 실패, DB fallback", e);
             return null;
@@ -211,16 +493,29 @@ public class ProductService {
     }
 
     /**
-     * Redis 캐시에 인기상품 저장
+     * Redis 캐시에 인기상품 저장 (조회 시 재생성 / 배치 갱신 공용)
+     * 재생성 중 응답할 stale 사본을 더 긴 TTL 로 함께 저장한다.
+     * @param rebuildMillis 재생성에 걸린 시간 (조기 갱신 확률 계산에 사용, 0 이면 조기 갱신하지 않음)
      */
-    public void putToRedisCache(List<PopularProductResponse> response) {
+    public void putToRedisCache(List<PopularProductResponse> response, long rebuildMillis) {
         try {
+            CachedPopularProducts entry = new CachedPopularProducts(
+                new ArrayList<>(response),
+                rebuildMillis,
+                System.currentTimeMillis() + TimeUnit.HOURS.toMillis(POPULAR_PRODUCTS_CACHE_TTL_HOURS)
+            );
             redisTemplate.opsForValue().set(
                 POPULAR_PRODUCTS_CACHE_KEY,
-                response,
+                entry,
                 POPULAR_PRODUCTS_CACHE_TTL_HOURS,
                 TimeUnit.HOURS
             );
+            redisTemplate.opsForValue().set(
+                POPULAR_PRODUCTS_STALE_KEY,
+                entry,
+                POPULAR_PRODUCTS_STALE_TTL_DAYS,
+                TimeUnit.DAYS
+            );
             log.debug("[인기상품] Redis 캐시 저장: {} 건, TTL={}h", response.size(), POPULAR_PRODUCTS_CACHE_TTL_HOURS);
         } catch (Exception e) {
             log.warn("[인기상품] Redis 캐시 저장 실패", e);
@@ -45,6 +45,15 @@ public record Coupon(
             && now.isBefore(this.validTo);
     }
 
+    /*
+    *   더 이상 발급할 수 없는 쿠폰인지 확인 (비활성 / 유효기간 종료 / 수량 소진, 시작 전은 제외)
+    */
+    public boolean isClosed(){
+        return this.status != CouponStatus.ACTIVE
+            || this.availableQuantity <= 0
+            || !LocalDateTime.now().isBefore(this.validTo);
+    }
+
     /*
     *   쿠폰 수량차감
     */
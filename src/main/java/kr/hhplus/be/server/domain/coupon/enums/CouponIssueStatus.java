@@ -0,0 +1,18 @@
+package kr.hhplus.be.server.domain.coupon.enums;
+
+public enum CouponIssueStatus {
+    PENDING("발급대기"),
+    ISSUED("발급완료"),
+    FAILED("발급실패"),
+    NOT_REQUESTED("미요청");
+
+    private final String description;
+
+    CouponIssueStatus(String description){
+        this.description = description;
+    }
+
+    public String getDescription(){
+        return description;
+    }
+}
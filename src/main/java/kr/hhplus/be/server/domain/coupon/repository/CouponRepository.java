@@ -10,4 +10,10 @@ public interface CouponRepository {
     Optional<Coupon> findByIdWithLock(Long id);
     List<Coupon> findAllById(Iterable<Long> ids);
     Coupon save(Coupon coupon);
+
+    /**
+     * 쿠폰 잔여 수량 일괄 차감 (잔여 수량이 부족하면 차감하지 않음)
+     * @return 반영된 행 수 (0이면 차감 실패)
+     */
+    int decreaseAvailableQuantity(Long couponId, int count);
 }
@@ -1,5 +1,6 @@
 package kr.hhplus.be.server.domain.coupon.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,4 +29,15 @@ public interface UserCouponRepository {
         Long couponId,
         UserCouponStatus status
     );
+
+    /**
+     * 주어진 사용자 중 해당 쿠폰을 이미 발급받은 사용자 ID 조회
+     */
+    List<Long> findIssuedUserIds(Long couponId, Collection<Long> userIds);
+
+    /**
+     * 사용자 쿠폰 다건 저장 (multi-row INSERT, PK 중복은 무시 / 그 외 오류는 예외)
+     * @return 영향받은 행 수
+     */
+    int insertAllIgnoreDuplicates(List<UserCoupon> userCoupons);
 }
@@ -1,5 +1,8 @@
 package kr.hhplus.be.server.domain.message;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public interface MessageProducer {
     /**
      * @param topic   대상 시스템 (ORDER, PAYMENT 등)
@@ -7,4 +10,42 @@ public interface MessageProducer {
      * @param payload 실제 데이터 (JSON)
      */
     void send(String topic, String key, String payload);
+
+    /**
+     * 일괄 전송 - 메시지별 결과를 입력 순서대로 돌려준다 (한 건의 실패가 나머지 전송을 막지 않음)
+     * 기본 구현은 send 를 순서대로 호출하며, 브로커가 일괄 전송을 지원하면 재정의한다.
+     */
+    default List<SendResult> sendAll(List<Message> messages) {
+        List<SendResult> results = new ArrayList<>(messages.size());
+        for (Message message : messages) {
+            try {
+                send(message.topic(), message.key(), message.payload());
+                results.add(SendResult.success(message));
+            } catch (Exception e) {
+                results.add(SendResult.failure(message, e));
+            }
+        }
+        return results;
+    }
+
+    record Message(String topic, String key, String payload) {
+    }
+
+    /**
+     * 전송 결과 (error 가 null 이면 성공)
+     */
+    record SendResult(Message message, Exception error) {
+
+        public static SendResult success(Message message) {
+            return new SendResult(message, null);
+        }
+
+        public static SendResult failure(Message message, Exception error) {
+            return new SendResult(message, error);
+        }
+
+        public boolean isSuccess() {
+            return error == null;
+        }
+    }
 }
@@ -0,0 +1,67 @@
+package kr.hhplus.be.server.domain.product.entity;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import kr.hhplus.be.server.support.exception.BusinessException;
+import kr.hhplus.be.server.support.exception.ErrorCode;
+
+// ============================================
+// 상품 목록 커서 (Keyset 페이지네이션)
+// - 마지막으로 조회한 상품의 (정렬 값, id) 를 기억하고 다음 페이지는 그 이후부터 탐색한다.
+// - 외부에는 Base64(URL-safe) 문자열로만 노출한다.
+// ============================================
+public record ProductCursor(
+        String sortProperty,   // 정렬 기준 (price, productName, crtDttm, id)
+        boolean ascending,     // 정렬 방향
+        Long id,               // 마지막 상품 ID (동일 정렬 값 tie-breaker)
+        String sortValue       // 마지막 상품의 정렬 값 (생성일이 없는 상품이면 null)
+) {
+    private static final String DELIMITER = ":";
+    private static final String NULL_VALUE = "";
+
+    /*
+    * 마지막으로 조회한 상품으로 다음 커서 생성
+    */
+    public static ProductCursor of(Product last, String sortProperty, boolean ascending) {
+        String sortValue = switch (sortProperty) {
+            case "price" -> String.valueOf(last.price());
+            case "productName" -> last.productName();
+            case "crtDttm" -> last.crtDttm() != null ? last.crtDttm().toString() : null;
+            default -> String.valueOf(last.id());
+        };
+        return new ProductCursor(sortProperty, ascending, last.id(), sortValue);
+    }
+
+    /*
+    * 커서를 불투명 문자열로 인코딩
+    * 형식: {sortProperty}:{ASC|DESC}:{id}:{sortValue}  (sortValue 는 ':' 를 포함할 수 있어 마지막에 둔다)
+    * 생성일이 null 이면 sortValue 를 빈 문자열로 둔다.
+    */
+    public String encode() {
+        String raw = String.join(DELIMITER, sortProperty, ascending ? "ASC" : "DESC", String.valueOf(id),
+            sortValue != null ? sortValue : NULL_VALUE);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /*
+    * 문자열 커서 디코딩
+    */
+    public static ProductCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(DELIMITER, 4);
+            String sortValue = "crtDttm".equals(parts[0]) && NULL_VALUE.equals(parts[3]) ? null : parts[3];
+            return new ProductCursor(parts[0], "ASC".equals(parts[1]), Long.parseLong(parts[2]), sortValue);
+        } catch (RuntimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_VALUE, "커서");
+        }
+    }
+
+    /*
+    * 요청한 정렬 조건으로 발급된 커서인지 확인
+    */
+    public boolean matches(String sortProperty, boolean ascending) {
+        return this.sortProperty.equals(sortProperty) && this.ascending == ascending;
+    }
+}
@@ -0,0 +1,14 @@
+package kr.hhplus.be.server.domain.product.entity;
+
+import java.time.LocalDate;
+
+/**
+ * 상품 일별 판매량 (주문 생성일 기준 롤업)
+ * 인기상품 집계가 주문 이력 전체 대신 (상품 × 일) 행만 합산하도록 주문 완료/취소 시 증분 반영한다.
+ */
+public record ProductDailySales(
+    Long productId,         // 상품 ID
+    LocalDate salesDate,    // 판매일 (주문 생성일)
+    long quantity           // 판매 수량 (반영 시에는 변화량, 취소는 음수)
+) {
+}
@@ -1,5 +1,7 @@
 package kr.hhplus.be.server.domain.product.entity;
 
+import java.util.Set;
+
 import kr.hhplus.be.server.domain.product.enums.ProductCategory;
 import kr.hhplus.be.server.domain.product.enums.ProductStatus;
 
@@ -11,6 +13,23 @@ public record ProductSearch(
         Integer minPrice,
         Integer maxPrice,
         ProductCategory category,
-        ProductStatus status
+        ProductStatus status,
+        Set<Long> productIds    // 상품명 색인으로 찾은 후보 ID (null 이면 미사용)
 ) {
-}
\ No newline at end of file
+    public ProductSearch(
+            String productName,
+            Integer minPrice,
+            Integer maxPrice,
+            ProductCategory category,
+            ProductStatus status
+    ) {
+        this(productName, minPrice, maxPrice, category, status, null);
+    }
+
+    /*
+    * 상품명 조건을 색인 후보 ID 조건으로 대체
+    */
+    public ProductSearch withProductIds(Set<Long> productIds) {
+        return new ProductSearch(null, minPrice, maxPrice, category, status, productIds);
+    }
+}
@@ -0,0 +1,28 @@
+package kr.hhplus.be.server.domain.product.entity;
+
+import kr.hhplus.be.server.domain.product.enums.ProductCategory;
+import kr.hhplus.be.server.domain.product.enums.ProductStatus;
+
+/**
+ * 상품 요약 (인기상품/랭킹 응답 조립용)
+ * 목록 응답에 필요한 필드만 담으며, 판매량은 랭킹 점수를 사용하므로 포함하지 않는다.
+ */
+public record ProductSummary(
+    Long id,                    // 상품 ID
+    String productName,         // 상품명
+    Long price,                 // 가격
+    Integer stock,              // 재고
+    ProductCategory category,   // 카테고리
+    ProductStatus status        // 상태
+) {
+    public static ProductSummary from(Product product) {
+        return new ProductSummary(
+            product.id(),
+            product.productName(),
+            product.price(),
+            product.stock(),
+            product.category(),
+            product.status()
+        );
+    }
+}
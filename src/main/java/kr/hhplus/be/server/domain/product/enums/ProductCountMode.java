@@ -0,0 +1,17 @@
+package kr.hhplus.be.server.domain.product.enums;
+
+public enum ProductCountMode {
+    CACHED("캐시"),        // 캐시된 건수 사용, 없으면 히스토그램 추정치 (COUNT 미실행, 기본값)
+    ESTIMATED("추정"),     // 항상 카테고리/상태/가격 히스토그램 추정치 (COUNT 미실행)
+    EXACT("정확");         // 명시적으로 요청한 경우에만 COUNT 실행
+
+    private final String description;
+
+    ProductCountMode(String description){
+        this.description = description;
+    }
+
+    public String getDescription(){
+        return description;
+    }
+}
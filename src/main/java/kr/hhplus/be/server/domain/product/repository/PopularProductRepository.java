@@ -36,4 +36,10 @@ public interface PopularProductRepository {
      * 특정 일자 이전 데이터 삭제 (정리 배치용)
      */
     void deleteByBaseDateBefore(LocalDate baseDate);
+
+    /**
+     * 기준일 데이터 교체 (스테이징 기준일에 먼저 적재한 뒤 짧은 트랜잭션으로 승격)
+     * 교체가 커밋되기 전까지 조회 경로는 기존 데이터를 그대로 본다.
+     */
+    void replaceByBaseDate(LocalDate baseDate, List<PopularProduct> popularProducts);
 }
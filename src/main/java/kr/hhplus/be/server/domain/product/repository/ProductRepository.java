@@ -1,12 +1,17 @@
 package kr.hhplus.be.server.domain.product.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import kr.hhplus.be.server.domain.product.entity.Product;
+import kr.hhplus.be.server.domain.product.entity.ProductCursor;
+import kr.hhplus.be.server.domain.product.entity.ProductDailySales;
 import kr.hhplus.be.server.domain.product.entity.ProductSearch;
 import kr.hhplus.be.server.infrastructure.product.persistence.ProductEntity;
 
@@ -28,11 +33,55 @@ public interface ProductRepository {
      */
     Optional<Product> findByIdWithLock(Long productId);
 
+    /**
+     * 여러 상품 일괄 조회 (비관적 락 - id 오름차순으로 락 획득)
+     */
+    List<Product> findAllByIdWithLock(Collection<Long> productIds);
+
+    /**
+     * 재고/상태 일괄 반영 (JDBC batch UPDATE)
+     * 같은 트랜잭션에서 락을 잡고 검증한 상품에만 사용한다.
+     */
+    void updateStocks(List<Product> products);
+
+    /**
+     * 누적 판매량 일괄 가감 (JDBC batch UPDATE, 0 미만으로 내려가지 않음)
+     * @param deltas 상품 ID → 판매량 변화량
+     */
+    void increaseSalesQuantities(Map<Long, Long> deltas);
+
+    /**
+     * 일별 판매량 롤업 일괄 가감 (JDBC batch upsert - 없으면 생성, 있으면 더함)
+     * @param deltas (상품, 판매일)별 판매량 변화량
+     */
+    void addDailySales(List<ProductDailySales> deltas);
+
+    /**
+     * 조건부 재고 차감 (단일 UPDATE - 판매중이고 재고가 충분할 때만 차감)
+     * @return 반영된 행 수 (0이면 차감 실패)
+     */
+    int decreaseStockIfAvailable(Long productId, int quantity);
+
     /**
      * 상품 검색
      */
     Page<Product> findBySearch(ProductSearch search, Pageable pageable);
 
+    /**
+     * 상품 검색 (목록만 조회 - count 쿼리 없음)
+     */
+    List<Product> findContentBySearch(ProductSearch search, Pageable pageable);
+
+    /**
+     * 검색 조건에 해당하는 전체 상품 수 (COUNT)
+     */
+    long countBySearch(ProductSearch search);
+
+    /**
+     * 상품 검색 (커서 기반 - count 쿼리 없음)
+     */
+    List<Product> findBySearchAfter(ProductSearch search, ProductCursor cursor, Sort.Order order, int limit);
+
     /**
      * 인기 상품 조회
      */
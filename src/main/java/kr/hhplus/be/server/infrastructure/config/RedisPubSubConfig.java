@@ -0,0 +1,28 @@
+package kr.hhplus.be.server.infrastructure.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import kr.hhplus.be.server.infrastructure.coupon.cache.CouponCatalogCache;
+
+/**
+ * Redis Pub/Sub 구독 설정
+ * - coupon:catalog:invalidate: 쿠폰 카탈로그 로컬 캐시 무효화
+ */
+@Configuration
+public class RedisPubSubConfig {
+
+	@Bean
+	public RedisMessageListenerContainer redisMessageListenerContainer(
+		RedisConnectionFactory connectionFactory,
+		CouponCatalogCache couponCatalogCache
+	) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		container.addMessageListener(couponCatalogCache, new ChannelTopic(CouponCatalogCache.INVALIDATE_CHANNEL));
+		return container;
+	}
+}
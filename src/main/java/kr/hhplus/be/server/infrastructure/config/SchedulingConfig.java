@@ -0,0 +1,15 @@
+package kr.hhplus.be.server.infrastructure.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled 배치 활성화
+ * 테스트 환경에서는 scheduling.enabled=false 로 비활성화하고 배치를 직접 호출한다.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
@@ -0,0 +1,160 @@
+package kr.hhplus.be.server.infrastructure.coupon;
+
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import kr.hhplus.be.server.application.coupon.dto.response.CouponIssueBatchResult;
+import kr.hhplus.be.server.application.coupon.service.CouponIssueBatchService;
+import kr.hhplus.be.server.application.coupon.service.CouponService;
+import kr.hhplus.be.server.support.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비동기 쿠폰 발급 Drainer
+ *
+ * coupon:request:{couponId} 대기열에서 아직 저장되지 않은 사용자를 score(시퀀스) 순으로 읽어 배치 저장한다.
+ * - coupon:issue:active: 비동기 발급 요청이 들어온 쿠폰 ID 목록
+ * - coupon:issue:cursor:{couponId}: 마지막으로 저장 완료한 대기열 score
+ *
+ * 처리 결과:
+ * - 성공: 커서 전진
+ * - DB 잔여 수량 부족: 발급하지 못한 사용자만 실패 처리 후 커서 전진
+ * - 비즈니스 실패(쿠폰 없음/비활성/기간 종료): 배치 전체 실패 처리 후 커서 전진
+ * - 시스템 실패(DB 장애 등): 커서 유지 → 다음 주기에 재시도 (이미 저장된 사용자는 제외하므로 멱등)
+ * 실패 처리는 coupon:issue:failed:{couponId}에 기록하고 대기열에서 제거해 선점한 수량을 반환한다.
+ *
+ * 커서 이후 대기열이 비었을 때 수량을 모두 채웠거나 쿠폰이 닫혔으면(비활성/기간 종료/DB 수량 소진)
+ * coupon:issue:active 에서 제외한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CouponIssueDrainScheduler {
+
+    static final String CURSOR_KEY = "coupon:issue:cursor:";
+
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+        RedisScript.of(new ClassPathResource("scripts/coupon-issue-release.lua"), Long.class);
+    private static final RedisScript<Long> DEACTIVATE_SCRIPT =
+        RedisScript.of(new ClassPathResource("scripts/coupon-issue-deactivate.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final CouponIssueBatchService couponIssueBatchService;
+
+    @Value("${coupon.issue.drain-batch-size:500}")
+    private int batchSize;
+
+    @Value("${coupon.issue.drain-max-batches:20}")
+    private int maxBatchesPerRun;
+
+    @Scheduled(fixedDelayString = "${coupon.issue.drain-delay:500}")
+    public void drain() {
+        try {
+            Set<String> couponIds = redisTemplate.opsForSet().members(CouponService.COUPON_ISSUE_ACTIVE_KEY);
+            if (couponIds == null || couponIds.isEmpty()) {
+                return;
+            }
+
+            for (String couponId : couponIds) {
+                drainCoupon(Long.parseLong(couponId));
+            }
+        } catch (Exception e) {
+            log.error("[CouponDrain] 스케줄러 실행 중 오류", e);
+        }
+    }
+
+    /**
+     * 쿠폰 하나의 대기열을 커서 이후부터 배치 단위로 저장
+     */
+    void drainCoupon(Long couponId) {
+        String requestQueueKey = CouponService.COUPON_REQUEST_QUEUE_KEY + couponId;
+        String cursorKey = CURSOR_KEY + couponId;
+
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            double cursor = readCursor(cursorKey);
+
+            // 시퀀스 score는 정수이므로 (cursor, +inf] == [cursor + 1, +inf]
+            Set<ZSetOperations.TypedTuple<String>> admitted = redisTemplate.opsForZSet()
+                .rangeByScoreWithScores(requestQueueKey, cursor + 1, Double.POSITIVE_INFINITY, 0, batchSize);
+
+            if (admitted == null || admitted.isEmpty()) {
+                deactivateIfCompleted(couponId, requestQueueKey, cursorKey);
+                return;
+            }
+
+            List<Long> userIds = admitted.stream()
+                .map(tuple -> Long.parseLong(tuple.getValue()))
+                .toList();
+            double lastScore = admitted.stream()
+                .mapToDouble(ZSetOperations.TypedTuple::getScore)
+                .max()
+                .orElse(cursor);
+
+            try {
+                CouponIssueBatchResult result = couponIssueBatchService.issueBatch(couponId, userIds);
+                releaseFailed(couponId, result.rejectedUserIds());
+            } catch (BusinessException e) {
+                log.warn("[CouponDrain] 배치 발급 실패 처리: couponId={}, users={}, reason={}",
+                    couponId, userIds.size(), e.getMessage());
+                releaseFailed(couponId, userIds);
+            } catch (Exception e) {
+                log.error("[CouponDrain] 배치 발급 오류 - 다음 주기에 재시도: couponId={}", couponId, e);
+                return;
+            }
+
+            redisTemplate.opsForValue().set(cursorKey, String.valueOf((long) lastScore));
+
+            if (admitted.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    private double readCursor(String cursorKey) {
+        String cursor = redisTemplate.opsForValue().get(cursorKey);
+        return cursor != null ? Double.parseDouble(cursor) : 0;
+    }
+
+    /**
+     * 실패한 사용자를 실패 목록에 기록하고 대기열에서 제거 (선점한 수량 반환)
+     */
+    private void releaseFailed(Long couponId, List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        Long released = redisTemplate.execute(RELEASE_SCRIPT,
+            List.of(CouponService.COUPON_REQUEST_QUEUE_KEY + couponId, CouponService.COUPON_ISSUE_FAILED_KEY + couponId),
+            userIds.stream().map(String::valueOf).toArray(Object[]::new));
+        log.warn("[CouponDrain] 발급 실패 사용자 수량 반환: couponId={}, failed={}, released={}",
+            couponId, userIds.size(), released);
+    }
+
+    /**
+     * 대기열을 전부 저장했고 수량이 모두 찼거나 쿠폰이 닫혔으면 처리 대상에서 제외
+     */
+    private void deactivateIfCompleted(Long couponId, String requestQueueKey, String cursorKey) {
+        String quantity = redisTemplate.opsForValue().get(CouponService.COUPON_QUANTITY_KEY + couponId);
+        Long admittedCount = redisTemplate.opsForZSet().zCard(requestQueueKey);
+
+        boolean filled = quantity != null && admittedCount != null && admittedCount >= Long.parseLong(quantity);
+        if (!filled && !couponIssueBatchService.isClosed(couponId)) {
+            return;
+        }
+
+        Long removed = redisTemplate.execute(DEACTIVATE_SCRIPT,
+            List.of(CouponService.COUPON_ISSUE_ACTIVE_KEY, requestQueueKey, cursorKey),
+            String.valueOf(couponId));
+        if (removed != null && removed == 1L) {
+            log.info("[CouponDrain] 발급 종료된 쿠폰 제외: couponId={}, filled={}", couponId, filled);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package kr.hhplus.be.server.infrastructure.coupon.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import kr.hhplus.be.server.domain.coupon.entity.Coupon;
+import kr.hhplus.be.server.infrastructure.coupon.persistence.CouponEntity;
+import kr.hhplus.be.server.infrastructure.coupon.persistence.CouponJpaRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 쿠폰 카탈로그 로컬 캐시 (JVM 내부)
+ *
+ * 쿠폰 정의(Coupon)는 거의 바뀌지 않으므로 주문 가격 계산, 보유 쿠폰 목록 조회 시
+ * 매번 MySQL 을 조회하지 않도록 노드별로 캐싱한다.
+ * - 만료: 최대 건수(maximumSize) + 적재 후 TTL(expireAfterWrite)
+ * - 무효화: 상태/수량 변경 트랜잭션 커밋 후 로컬 제거 + Redis Pub/Sub(coupon:catalog:invalidate) 로 전체 노드 전파
+ * - 지표: actuator /metrics 의 cache.gets(result=hit|miss), cache.evictions (cache=couponCatalog)
+ *
+ * 행 락이 필요한 조회(findByIdWithLock)는 캐시를 거치지 않는다.
+ */
+@Component
+@Slf4j
+public class CouponCatalogCache implements MessageListener {
+
+    public static final String INVALIDATE_CHANNEL = "coupon:catalog:invalidate";
+    static final String CACHE_NAME = "couponCatalog";
+
+    private final CouponJpaRepository couponJpaRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Cache<Long, Coupon> cache;
+
+    public CouponCatalogCache(
+        CouponJpaRepository couponJpaRepository,
+        RedisTemplate<String, String> redisTemplate,
+        MeterRegistry meterRegistry,
+        @Value("${coupon.catalog-cache.max-size:10000}") long maxSize,
+        @Value("${coupon.catalog-cache.ttl:10m}") Duration ttl
+    ) {
+        this.couponJpaRepository = couponJpaRepository;
+        this.redisTemplate = redisTemplate;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 단건 조회 (미스 시 DB 조회 후 적재)
+     */
+    public Optional<Coupon> get(Long couponId) {
+        return Optional.ofNullable(cache.get(couponId, id ->
+            couponJpaRepository.findById(id).map(CouponEntity::toDomain).orElse(null)));
+    }
+
+    /**
+     * 다건 조회 (미스난 ID 만 IN 절 1회로 조회)
+     */
+    public Map<Long, Coupon> getAll(Collection<Long> couponIds) {
+        return cache.getAll(couponIds, missingIds ->
+            couponJpaRepository.findAllById(List.copyOf(missingIds)).stream()
+                .map(CouponEntity::toDomain)
+                .collect(Collectors.toMap(Coupon::id, c -> c)));
+    }
+
+    /**
+     * 쿠폰 변경 시 캐시 무효화
+     *
+     * 트랜잭션 안에서 호출되면 커밋 이후에 무효화한다.
+     * (커밋 전에 다른 노드가 이전 값을 다시 적재하는 것을 방지)
+     */
+    public void invalidateAfterCommit(Long couponId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(couponId);
+                }
+            });
+        } else {
+            invalidate(couponId);
+        }
+    }
+
+    /**
+     * 로컬 캐시 제거 + 다른 노드에 무효화 메시지 발행
+     */
+    public void invalidate(Long couponId) {
+        cache.invalidate(couponId);
+        try {
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, String.valueOf(couponId));
+        } catch (Exception e) {
+            // 발행 실패 시 다른 노드는 TTL 만료로 수렴한다.
+            log.warn("[CouponCatalogCache] 무효화 메시지 발행 실패: couponId={}", couponId, e);
+        }
+    }
+
+    /**
+     * 다른 노드(자기 자신 포함)가 발행한 무효화 메시지 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody());
+        try {
+            cache.invalidate(Long.parseLong(body));
+        } catch (NumberFormatException e) {
+            log.warn("[CouponCatalogCache] 잘못된 무효화 메시지: {}", body);
+        }
+    }
+}
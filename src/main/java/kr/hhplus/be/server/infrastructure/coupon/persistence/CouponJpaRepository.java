@@ -1,9 +1,11 @@
 package kr.hhplus.be.server.infrastructure.coupon.persistence;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -14,4 +16,12 @@ public interface CouponJpaRepository extends JpaRepository<CouponEntity, Long>{
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT c FROM CouponEntity c WHERE c.id = :id")
     Optional<CouponEntity> findByIdWithLock(@Param("id") Long id);
+
+    /**
+     * 잔여 수량 조건부 일괄 차감 (단일 UPDATE)
+     */
+    @Modifying
+    @Query("UPDATE CouponEntity c SET c.availableQuantity = c.availableQuantity - :count, c.updDttm = :now " +
+           "WHERE c.id = :id AND c.availableQuantity >= :count")
+    int decreaseAvailableQuantity(@Param("id") Long id, @Param("count") int count, @Param("now") LocalDateTime now);
 }
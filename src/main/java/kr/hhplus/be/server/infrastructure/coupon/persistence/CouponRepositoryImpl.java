@@ -1,5 +1,6 @@
 package kr.hhplus.be.server.infrastructure.coupon.persistence;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -7,6 +8,7 @@ import org.springframework.stereotype.Repository;
 
 import kr.hhplus.be.server.domain.coupon.entity.Coupon;
 import kr.hhplus.be.server.domain.coupon.repository.CouponRepository;
+import kr.hhplus.be.server.infrastructure.coupon.cache.CouponCatalogCache;
 import lombok.RequiredArgsConstructor;
 
 @Repository
@@ -14,6 +16,7 @@ import lombok.RequiredArgsConstructor;
 public class CouponRepositoryImpl implements CouponRepository{
     
     private final CouponJpaRepository couponJpaRepository;
+    private final CouponCatalogCache couponCatalogCache;
 
     @Override
     public List<Coupon> findAllById(Iterable<Long> ids) {
@@ -32,6 +35,17 @@ public class CouponRepositoryImpl implements CouponRepository{
     @Override
     public Coupon save(Coupon coupon) {
         CouponEntity entity = CouponEntity.from(coupon);
-        return couponJpaRepository.save(entity).toDomain();
+        Coupon saved = couponJpaRepository.save(entity).toDomain();
+        couponCatalogCache.invalidateAfterCommit(saved.id());
+        return saved;
+    }
+
+    @Override
+    public int decreaseAvailableQuantity(Long couponId, int count) {
+        int updated = couponJpaRepository.decreaseAvailableQuantity(couponId, count, LocalDateTime.now());
+        if (updated > 0) {
+            couponCatalogCache.invalidateAfterCommit(couponId);
+        }
+        return updated;
     }
 }
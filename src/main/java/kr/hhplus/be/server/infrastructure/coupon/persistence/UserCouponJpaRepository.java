@@ -1,11 +1,14 @@
 package kr.hhplus.be.server.infrastructure.coupon.persistence;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import kr.hhplus.be.server.domain.coupon.enums.UserCouponStatus;
 
@@ -14,6 +17,9 @@ public interface UserCouponJpaRepository extends JpaRepository<UserCouponEntity,
 
     List<UserCouponEntity> findByCouponId(Long couponId);
 
+    @Query("SELECT uc.userId FROM UserCouponEntity uc WHERE uc.couponId = :couponId AND uc.userId IN :userIds")
+    List<Long> findUserIdsByCouponIdAndUserIdIn(@Param("couponId") Long couponId, @Param("userIds") Collection<Long> userIds);
+
     Optional<UserCouponEntity> findByUserIdAndCouponIdAndStatus(Long userId, Long couponId, UserCouponStatus status);
 
     Page<UserCouponEntity> findByUserId(Long userId, Pageable pageable);
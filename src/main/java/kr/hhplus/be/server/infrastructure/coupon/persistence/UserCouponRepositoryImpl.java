@@ -1,11 +1,17 @@
 package kr.hhplus.be.server.infrastructure.coupon.persistence;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 import kr.hhplus.be.server.domain.coupon.entity.UserCoupon;
@@ -18,6 +24,12 @@ import lombok.RequiredArgsConstructor;
 public class UserCouponRepositoryImpl implements UserCouponRepository{
 
     private final UserCouponJpaRepository userCouponJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String INSERT_SQL =
+        "INSERT INTO user_coupons (user_id, coupon_id, status, used_dttm, expired_dttm, crt_dttm, upd_dttm) VALUES ";
+    private static final String INSERT_VALUES_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?)";
+    private static final String ON_DUPLICATE_SQL = " ON DUPLICATE KEY UPDATE user_id = user_id";
 
     @Override
     public UserCoupon save(UserCoupon userCoupon) {
@@ -54,4 +66,60 @@ public class UserCouponRepositoryImpl implements UserCouponRepository{
         return userCouponJpaRepository.findByUserIdAndStatus(userId, status, pageable)
                 .map(UserCouponEntity::toDomain);
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<Long> findIssuedUserIds(Long couponId, Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        return userCouponJpaRepository.findUserIdsByCouponIdAndUserIdIn(couponId, userIds);
+    }
+
+    /**
+     * multi-row INSERT 한 문장으로 저장
+     * PK(user_id, coupon_id) 중복만 ON DUPLICATE KEY UPDATE 로 무시하고, FK/길이 초과 등 다른 오류는
+     * INSERT IGNORE 처럼 경고로 삼키지 않고 그대로 예외로 올린다.
+     */
+    @Override
+    public int insertAllIgnoreDuplicates(List<UserCoupon> userCoupons) {
+        if (userCoupons.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder sql = new StringBuilder(INSERT_SQL);
+        List<Object> params = new ArrayList<>(userCoupons.size() * 7);
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int i = 0; i < userCoupons.size(); i++) {
+            UserCoupon userCoupon = userCoupons.get(i);
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(INSERT_VALUES_PLACEHOLDER);
+
+            params.add(userCoupon.userId());
+            params.add(userCoupon.couponId());
+            params.add(userCoupon.status().name());
+            params.add(toUtc(userCoupon.usedDttm()));
+            params.add(toUtc(userCoupon.expiredDttm()));
+            params.add(toUtc(userCoupon.crtDttm() != null ? userCoupon.crtDttm() : now));
+            params.add(toUtc(now));
+        }
+
+        sql.append(ON_DUPLICATE_SQL);
+
+        return jdbcTemplate.update(sql.toString(), params.toArray());
+    }
+
+    /**
+     * hibernate.jdbc.time_zone=UTC 와 동일하게 UTC 기준으로 저장
+     */
+    private LocalDateTime toUtc(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return null;
+        }
+        return dateTime.atZone(ZoneId.systemDefault())
+            .withZoneSameInstant(ZoneOffset.UTC)
+            .toLocalDateTime();
+    }
+}
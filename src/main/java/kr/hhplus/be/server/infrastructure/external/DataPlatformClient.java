@@ -1,62 +1,319 @@
 package kr.hhplus.be.server.infrastructure.external;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * 데이터 플랫폼 외부 API 호출 클라이언트 (Mock)
+ * 데이터 플랫폼 외부 API 호출 클라이언트
  *
  * 실시간 주문정보를 데이터 플랫폼에 전송하는 역할을 합니다.
- * 현재는 Mock 구현으로, 실제 HTTP 호출을 시뮬레이션합니다.
  *
- * @TransactionalEventListener(phase = AFTER_COMMIT)과 함께 사용하여
- * 트랜잭션 커밋 후에만 외부 호출이 발생하도록 합니다.
+ * 모든 전송은 비동기(CompletableFuture)로 처리되고, 동기 메서드는 비동기 결과를 기다리기만 합니다.
+ * - 마이크로 배치: 요청을 큐에 모아 batch-size 건 또는 linger 시간마다 bulk API 1회로 보낸다.
+ * - 동시 요청 상한: 진행 중인 bulk 요청은 max-in-flight 개까지 (Semaphore)
+ * - 배압: 상한에 걸려 큐가 queue-capacity 까지 차면 새 요청은 즉시 실패한 future 를 돌려준다.
+ * - 실패 격리: 서로 다른 호출자의 이벤트가 한 bulk 에 묶이므로, 요청 거부(4xx / 검증 실패) 시
+ *   묶음을 반으로 나눠 다시 보내 문제 이벤트만 실패시킨다. 5xx / 네트워크 오류는 이벤트 탓이 아니므로 나누지 않는다.
+ *
+ * 전송 방식 (data-platform.client.mode):
+ * - mock: 네트워크 지연(mock-latency)만 흉내 낸다. 지연 동안 스레드를 점유하지 않는다.
+ * - http: {base-url}/api/v1/order-events/bulk 로 JSON 배열 POST (JDK HttpClient 비동기)
+ *   로컬 벤치마크용 스텁 서버는 테스트 소스의 DataPlatformStubServer 참고
  */
 @Component
 @Slf4j
 public class DataPlatformClient {
 
+    static final String BULK_PATH = "/api/v1/order-events/bulk";
+
+    private final ObjectMapper objectMapper;
+    private final boolean httpMode;
+    private final URI bulkUri;
+    private final Duration mockLatency;
+    private final Duration requestTimeout;
+    private final int batchSize;
+    private final Duration linger;
+    private final HttpClient httpClient;
+    private final Semaphore inFlight;
+    private final BlockingQueue<PendingEvent> queue;
+    private final Thread batcher;
+    private final Timer bulkLatency;
+    private final DistributionSummary bulkSize;
+
+    private volatile boolean running = true;
+
+    public DataPlatformClient(
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry,
+        @Value("${data-platform.client.mode:mock}") String mode,
+        @Value("${data-platform.client.base-url:http://localhost:18080}") String baseUrl,
+        @Value("${data-platform.client.mock-latency:100ms}") Duration mockLatency,
+        @Value("${data-platform.client.request-timeout:3s}") Duration requestTimeout,
+        @Value("${data-platform.client.max-in-flight:16}") int maxInFlight,
+        @Value("${data-platform.client.batch-size:100}") int batchSize,
+        @Value("${data-platform.client.linger:5ms}") Duration linger,
+        @Value("${data-platform.client.queue-capacity:10000}") int queueCapacity
+    ) {
+        this.objectMapper = objectMapper;
+        this.httpMode = "http".equalsIgnoreCase(mode);
+        this.bulkUri = URI.create(baseUrl + BULK_PATH);
+        this.mockLatency = mockLatency;
+        this.requestTimeout = requestTimeout;
+        this.batchSize = batchSize;
+        this.linger = linger;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.httpClient = httpMode
+            ? HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).connectTimeout(requestTimeout).build()
+            : null;
+        this.bulkLatency = Timer.builder("data-platform.bulk.latency")
+            .description("bulk 요청 1회 왕복 시간")
+            .register(meterRegistry);
+        this.bulkSize = DistributionSummary.builder("data-platform.bulk.size")
+            .description("bulk 요청 1회에 담긴 주문 수")
+            .register(meterRegistry);
+
+        this.batcher = new Thread(this::runBatcher, "data-platform-batcher");
+        this.batcher.setDaemon(true);
+        this.batcher.start();
+    }
+
     /**
-     * 주문 완료 이벤트를 데이터 플랫폼에 전송
+     * 주문 완료 이벤트를 데이터 플랫폼에 전송 (완료까지 대기)
      *
      * @param payload 전송할 주문 정보 페이로드
      */
     public void sendOrderEvent(OrderEventPayload payload) {
+        await(sendOrderEventAsync(payload), "데이터 플랫폼 전송 실패");
+    }
+
+    /**
+     * 주문 완료 이벤트 일괄 전송 (완료까지 대기)
+     * 한 건이라도 거부되면 전체 실패로 보고 예외를 던진다. (호출 측에서 묶음 단위로 재시도)
+     *
+     * @param payloads 전송할 주문 정보 페이로드 목록
+     */
+    public void sendOrderEvents(List<OrderEventPayload> payloads) {
+        await(sendOrderEventsAsync(payloads), "데이터 플랫폼 일괄 전송 실패");
+    }
+
+    /**
+     * 주문 완료 이벤트 비동기 전송 (다른 요청과 함께 bulk 로 묶일 수 있음)
+     * @return bulk 요청이 성공하면 완료되는 future
+     */
+    public CompletableFuture<Void> sendOrderEventAsync(OrderEventPayload payload) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        if (!running) {
+            result.completeExceptionally(new RejectedExecutionException("데이터 플랫폼 클라이언트 종료됨"));
+        } else if (!queue.offer(new PendingEvent(payload, result))) {
+            result.completeExceptionally(new RejectedExecutionException(
+                "데이터 플랫폼 전송 대기열 가득 참: capacity=" + (queue.size() + queue.remainingCapacity())));
+        }
+        return result;
+    }
+
+    /**
+     * 주문 완료 이벤트 비동기 일괄 전송
+     * @return 모든 이벤트가 전송되면 완료되는 future (하나라도 실패하면 실패)
+     */
+    public CompletableFuture<Void> sendOrderEventsAsync(List<OrderEventPayload> payloads) {
+        return CompletableFuture.allOf(payloads.stream()
+            .map(this::sendOrderEventAsync)
+            .toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * 대기열을 batch-size / linger 단위로 묶어 bulk 전송
+     * 진행 중인 요청이 max-in-flight 이면 여기서 기다리고, 그동안 대기열이 차면 새 요청은 거절된다.
+     */
+    private void runBatcher() {
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingEvent first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<PendingEvent> batch = new ArrayList<>(batchSize);
+                batch.add(first);
+                long deadline = System.nanoTime() + linger.toNanos();
+                while (batch.size() < batchSize) {
+                    PendingEvent next = queue.poll(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                inFlight.acquire();
+                long start = System.nanoTime();
+                sendIsolating(batch)
+                    .whenComplete((ignored, error) -> {
+                        inFlight.release();
+                        bulkLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                        bulkSize.record(batch.size());
+                    });
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                log.error("[DataPlatformClient] 배치 전송 루프 오류", e);
+            }
+        }
+
+        List<PendingEvent> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        complete(remaining, new RejectedExecutionException("데이터 플랫폼 클라이언트 종료됨"));
+    }
+
+    /**
+     * 묶음 전송 후 결과를 각 이벤트 future 에 반영
+     * 거부(BulkRejectedException)면 반씩 나눠 순서대로 다시 보내 거부된 이벤트만 실패시킨다. (같은 permit 안에서 진행)
+     * @return 묶음 안 모든 이벤트 결과가 정해지면 완료 (항상 정상 완료)
+     */
+    private CompletableFuture<Void> sendIsolating(List<PendingEvent> batch) {
+        return sendBulk(batch.stream().map(PendingEvent::payload).toList())
+            .handle((ignored, error) -> {
+                if (error == null) {
+                    complete(batch, null);
+                    return CompletableFuture.<Void>completedFuture(null);
+                }
+                Throwable cause = unwrap(error);
+                if (!(cause instanceof BulkRejectedException) || batch.size() == 1) {
+                    complete(batch, cause);
+                    return CompletableFuture.<Void>completedFuture(null);
+                }
+                int middle = batch.size() / 2;
+                log.warn("데이터 플랫폼 bulk 거부 - 분할 재전송: count={}, error={}", batch.size(), cause.getMessage());
+                return sendIsolating(batch.subList(0, middle))
+                    .thenCompose(done -> sendIsolating(batch.subList(middle, batch.size())));
+            })
+            .thenCompose(next -> next);
+    }
+
+    private CompletableFuture<Void> sendBulk(List<OrderEventPayload> payloads) {
+        return httpMode ? sendBulkHttp(payloads) : sendBulkMock(payloads);
+    }
+
+    private CompletableFuture<Void> sendBulkHttp(List<OrderEventPayload> payloads) {
+        String body;
         try {
-            // 외부 API 호출 시뮬레이션 (지연 추가)
-            simulateNetworkDelay();
+            body = objectMapper.writeValueAsString(payloads);
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        HttpRequest request = HttpRequest.newBuilder(bulkUri)
+            .timeout(requestTimeout)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
 
-            // Mock API 호출 (실제로는 HTTP 요청)
-            log.info("데이터 플랫폼에 주문정보 전송: orderId={}, userId={}, totalAmount={}, itemCount={}",
-                    payload.orderId(),
-                    payload.userId(),
-                    payload.totalAmount(),
-                    payload.items().size());
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+            .thenAccept(response -> {
+                if (response.statusCode() / 100 == 4) {
+                    throw new BulkRejectedException("데이터 플랫폼 요청 거부: status=" + response.statusCode());
+                }
+                if (response.statusCode() / 100 != 2) {
+                    throw new IllegalStateException("데이터 플랫폼 응답 오류: status=" + response.statusCode());
+                }
+                log.debug("데이터 플랫폼에 주문정보 일괄 전송: count={}", payloads.size());
+            });
+    }
+
+    /**
+     * 네트워크 지연 시뮬레이션 (지연 후 실행 - 지연 동안 스레드를 점유하지 않음)
+     */
+    private CompletableFuture<Void> sendBulkMock(List<OrderEventPayload> payloads) {
+        return CompletableFuture.runAsync(() -> {
+            log.info("데이터 플랫폼에 주문정보 일괄 전송: count={}, firstOrderId={}, lastOrderId={}",
+                    payloads.size(),
+                    payloads.get(0).orderId(),
+                    payloads.get(payloads.size() - 1).orderId());
 
             // Mock 성공 응답
-            if (payload.totalAmount() < 0) {
-                throw new RuntimeException("Invalid order amount");
+            for (OrderEventPayload payload : payloads) {
+                if (payload.totalAmount() < 0) {
+                    throw new BulkRejectedException("Invalid order amount: orderId=" + payload.orderId());
+                }
             }
+        }, CompletableFuture.delayedExecutor(mockLatency.toMillis(), TimeUnit.MILLISECONDS));
+    }
+
+    private void complete(List<PendingEvent> batch, Throwable error) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        if (error == null) {
+            batch.forEach(event -> event.result().complete(null));
+            return;
+        }
+        Throwable cause = unwrap(error);
+        log.error("데이터 플랫폼 일괄 전송 실패: count={}, error={}", batch.size(), cause.getMessage());
+        batch.forEach(event -> event.result().completeExceptionally(cause));
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
 
+    private void await(CompletableFuture<Void> future, String failureMessage) {
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw new RuntimeException(failureMessage + ": " + cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * 새 요청을 막고 대기열에 남은 요청을 모두 내보낸 뒤 종료 (진행 중인 요청은 각자 완료)
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        try {
+            batcher.join(requestTimeout.toMillis());
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
-            throw new RuntimeException("데이터 플랫폼 전송 중 중단됨", e);
-        } catch (Exception e) {
-            log.error("데이터 플랫폼 전송 실패: orderId={}", payload.orderId(), e);
-            throw new RuntimeException("데이터 플랫폼 전송 실패: " + e.getMessage(), e);
+        }
+        if (batcher.isAlive()) {
+            batcher.interrupt();
         }
     }
 
+    private record PendingEvent(OrderEventPayload payload, CompletableFuture<Void> result) {}
+
     /**
-     * 네트워크 지연 시뮬레이션
+     * 데이터 플랫폼이 요청 내용 때문에 거부함 (4xx / 검증 실패) - 묶음을 나눠 재전송할 대상
      */
-    private void simulateNetworkDelay() throws InterruptedException {
-        // 100ms의 외부 API 호출 지연을 시뮬레이션
-        Thread.sleep(100);
+    static class BulkRejectedException extends RuntimeException {
+        BulkRejectedException(String message) {
+            super(message);
+        }
     }
 
     /**
@@ -1,10 +1,14 @@
 package kr.hhplus.be.server.infrastructure.kafka;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
@@ -12,11 +16,14 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.kafka.listener.ContainerProperties.AckMode;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 
@@ -28,6 +35,18 @@ import org.springframework.kafka.support.serializer.JsonSerializer;
  *
  * bootstrap-servers는 application.yml의 spring.kafka.bootstrap-servers로 설정.
  * listenerAutoStartup은 spring.kafka.listener.auto-startup으로 제어 (테스트 시 false).
+ *
+ * 주문 이벤트 Consumer 수신 방식은 order-event.consumer.mode로 선택한다.
+ * - record(기본): 레코드 1건씩 처리 (kafkaListenerContainerFactory)
+ * - batch (선택): poll 1회 분량(max.poll.records)을 한 번에 처리하고 묶음마다 오프셋 1회 커밋 (batchKafkaListenerContainerFactory)
+ * - parallel (선택): poll 묶음을 orderId 별 lane 으로 나눠 병렬 처리, 가장 낮은 미완료 오프셋 직전까지 커밋
+ *   (parallelKafkaListenerContainerFactory, 리스너가 직접 커밋하므로 AckMode.MANUAL)
+ * 선택되지 않은 쪽 컨테이너는 기동하지 않는다.
+ *
+ * 컨테이너 concurrency(컨슈머 스레드 수)는 order-event.consumer.concurrency 이며 기본값은 토픽 파티션 수다.
+ * 파티션 수보다 크면 남는 스레드는 할당받지 못하고 놀게 되므로 파티션 수 이하로 둔다.
+ * 토픽은 같은 order-event.topic.partitions 로 NewTopic 을 선언해 기동 시 KafkaAdmin 이 만든다.
+ * (이미 있는 토픽의 파티션이 더 적으면 늘리고, 줄이지는 않는다)
  */
 @Configuration
 @EnableKafka
@@ -39,6 +58,32 @@ public class KafkaConfig {
     @Value("${spring.kafka.listener.auto-startup:true}")
     private boolean listenerAutoStartup;
 
+    @Value("${order-event.consumer.mode:record}")
+    private String consumerMode;
+
+    @Value("${order-event.consumer.max-poll-records:100}")
+    private int maxPollRecords;
+
+    @Value("${order-event.topic.partitions:3}")
+    private int partitions;
+
+    @Value("${order-event.topic.replicas:1}")
+    private int replicas;
+
+    @Value("${order-event.consumer.concurrency:${order-event.topic.partitions:3}}")
+    private int concurrency;
+
+    /**
+     * order.completed.v1 토픽 (파티션 수 = 컨슈머 concurrency 기본값)
+     */
+    @Bean
+    public NewTopic orderCompletedTopic() {
+        return TopicBuilder.name(OrderEventProducer.TOPIC)
+                .partitions(partitions)
+                .replicas(replicas)
+                .build();
+    }
+
     @Bean
     public ProducerFactory<String, Object> producerFactory() {
         Map<String, Object> config = new HashMap<>();
@@ -66,7 +111,7 @@ public class KafkaConfig {
                 "kr.hhplus.be.server.infrastructure.kafka.OrderEventMessage");
         config.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
         config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
-        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 100);
+        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
         return new DefaultKafkaConsumerFactory<>(config);
     }
 
@@ -75,7 +120,56 @@ public class KafkaConfig {
         ConcurrentKafkaListenerContainerFactory<String, Object> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
-        factory.setAutoStartup(listenerAutoStartup);
+        factory.setConcurrency(concurrency);
+        factory.setAutoStartup(listenerAutoStartup && isMode("record"));
         return factory;
     }
+
+    /**
+     * 배치 리스너 컨테이너 (List 로 수신, 리스너가 정상 반환하면 poll 묶음 전체 오프셋 1회 커밋)
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> batchKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory());
+        factory.setBatchListener(true);
+        factory.setConcurrency(concurrency);
+        factory.getContainerProperties().setAckMode(AckMode.BATCH);
+        factory.setAutoStartup(listenerAutoStartup && isMode("batch"));
+        return factory;
+    }
+
+    /**
+     * 파티션 내 병렬 처리 컨테이너 (List<ConsumerRecord> + Consumer 로 수신, 리스너가 커밋/재조회 위치를 직접 정한다)
+     * 회수/유실된 파티션의 레코드 시도 횟수는 리밸런스 리스너에서 지운다.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> parallelKafkaListenerContainerFactory(
+            OrderEventConsumer orderEventConsumer
+    ) {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory());
+        factory.setBatchListener(true);
+        factory.setConcurrency(concurrency);
+        factory.getContainerProperties().setAckMode(AckMode.MANUAL);
+        factory.getContainerProperties().setConsumerRebalanceListener(new ConsumerAwareRebalanceListener() {
+            @Override
+            public void onPartitionsRevokedAfterCommit(Consumer<?, ?> consumer, Collection<TopicPartition> revoked) {
+                orderEventConsumer.clearAttempts(revoked);
+            }
+
+            @Override
+            public void onPartitionsLost(Consumer<?, ?> consumer, Collection<TopicPartition> lost) {
+                orderEventConsumer.clearAttempts(lost);
+            }
+        });
+        factory.setAutoStartup(listenerAutoStartup && isMode("parallel"));
+        return factory;
+    }
+
+    private boolean isMode(String mode) {
+        return mode.equalsIgnoreCase(consumerMode);
+    }
 }
@@ -0,0 +1,171 @@
+package kr.hhplus.be.server.infrastructure.kafka;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 키 순서 보장 병렬 실행기 (파티션 내 병렬 처리)
+ *
+ * poll 묶음의 레코드를 키 해시로 lane(단일 스레드)에 나눠 실행한다.
+ * - 같은 키는 항상 같은 lane 에서 오프셋 순서대로 처리되므로 키 단위 순서가 유지된다.
+ * - 다른 키는 같은 파티션이어도 동시에 처리된다.
+ * - 어떤 키의 레코드가 실패하면 같은 묶음의 그 키 이후 레코드는 처리하지 않는다. (재전달 시 순서대로 다시 처리)
+ *
+ * 처리 결과로 파티션별 "가장 낮은 미완료 오프셋"(모두 완료면 마지막 오프셋 + 1)을 돌려준다.
+ * 호출 측은 이 오프셋까지만 커밋하고, 미완료가 있는 파티션은 그 오프셋부터 다시 읽는다.
+ */
+@Component
+@Slf4j
+public class KeyOrderedExecutor {
+
+    private final ExecutorService[] lanes;
+
+    public KeyOrderedExecutor(@Value("${order-event.consumer.parallel.lanes:8}") int laneCount) {
+        this.lanes = new ExecutorService[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            String name = "order-event-lane-" + (i + 1);
+            this.lanes[i] = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, name);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * 레코드 처리기 (예외를 던지면 미완료로 본다)
+     */
+    @FunctionalInterface
+    public interface RecordHandler<V> {
+        void handle(ConsumerRecord<String, V> record) throws Exception;
+    }
+
+    /**
+     * 묶음 전체를 키별 lane 으로 나눠 실행하고 끝날 때까지 대기
+     * @return 파티션별 다음에 읽을 오프셋 (= 커밋할 오프셋)
+     */
+    public <V> Map<TopicPartition, Long> process(
+        List<ConsumerRecord<String, V>> records,
+        Function<ConsumerRecord<String, V>, Object> keyOf,
+        RecordHandler<V> handler
+    ) {
+        List<List<Integer>> indexesByLane = new ArrayList<>(lanes.length);
+        for (int i = 0; i < lanes.length; i++) {
+            indexesByLane.add(new ArrayList<>());
+        }
+        for (int i = 0; i < records.size(); i++) {
+            Object key = keyOf.apply(records.get(i));
+            indexesByLane.get(Math.floorMod(Objects.hashCode(key), lanes.length)).add(i);
+        }
+
+        boolean[] completed = new boolean[records.size()];
+        List<Future<?>> futures = new ArrayList<>();
+        for (int lane = 0; lane < lanes.length; lane++) {
+            List<Integer> indexes = indexesByLane.get(lane);
+            if (!indexes.isEmpty()) {
+                futures.add(lanes[lane].submit(() -> runLane(records, indexes, keyOf, handler, completed)));
+            }
+        }
+
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            log.warn("[KeyOrderedExecutor] 처리 중 인터럽트 - 완료된 레코드까지만 반영");
+        } catch (ExecutionException e) {
+            log.error("[KeyOrderedExecutor] lane 실행 오류", e.getCause());
+        }
+
+        return nextOffsets(records, completed);
+    }
+
+    private <V> void runLane(
+        List<ConsumerRecord<String, V>> records,
+        List<Integer> indexes,
+        Function<ConsumerRecord<String, V>, Object> keyOf,
+        RecordHandler<V> handler,
+        boolean[] completed
+    ) {
+        Set<Object> failedKeys = new HashSet<>();
+        for (int index : indexes) {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            ConsumerRecord<String, V> record = records.get(index);
+            Object key = keyOf.apply(record);
+            if (failedKeys.contains(key)) {
+                continue; // 앞선 레코드가 실패한 키는 순서 보장을 위해 건너뜀
+            }
+            try {
+                handler.handle(record);
+                completed[index] = true;
+            } catch (Exception e) {
+                failedKeys.add(key);
+                log.warn("[KeyOrderedExecutor] 처리 실패: partition={}-{}, offset={}, key={}, error={}",
+                    record.topic(), record.partition(), record.offset(), key, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 파티션별 가장 낮은 미완료 오프셋 (모두 완료면 마지막 오프셋 + 1)
+     * completed 는 lane Future.get() 이후에 읽으므로 lane 스레드의 기록이 보인다.
+     */
+    static <V> Map<TopicPartition, Long> nextOffsets(List<ConsumerRecord<String, V>> records, boolean[] completed) {
+        Map<TopicPartition, Long> next = new LinkedHashMap<>();
+        Set<TopicPartition> blocked = new HashSet<>();
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<String, V> record = records.get(i);
+            TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+            if (blocked.contains(partition)) {
+                continue;
+            }
+            if (completed[i]) {
+                next.merge(partition, record.offset() + 1, Math::max);
+            } else {
+                next.put(partition, record.offset());
+                blocked.add(partition);
+            }
+        }
+        return next;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (ExecutorService lane : lanes) {
+            lane.shutdown();
+        }
+        for (ExecutorService lane : lanes) {
+            try {
+                if (!lane.awaitTermination(5, TimeUnit.SECONDS)) {
+                    lane.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                lane.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -1,11 +1,30 @@
 package kr.hhplus.be.server.infrastructure.kafka;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import kr.hhplus.be.server.infrastructure.external.DataPlatformClient;
 import kr.hhplus.be.server.infrastructure.external.DataPlatformClient.OrderEventPayload;
@@ -25,14 +44,36 @@ import lombok.extern.slf4j.Slf4j;
  * 실패 처리:
  * - FAILED 상태로 processed_order_events에 기록
  * - 예외를 재발생시켜 Kafka가 재시도하도록 함
+ *
+ * 수신 방식 (order-event.consumer.mode, KafkaConfig 참고):
+ * - record: handleOrderCompleted - 레코드마다 조회 1회 + 전송 1회 + 기록 1회
+ * - batch: handleOrderCompletedBatch - poll 묶음마다 IN 조회 1회 + bulk 전송 1회 + batch INSERT 1회
+ * - parallel: handleOrderCompletedParallel - poll 묶음을 orderId 별 lane 으로 나눠 레코드 단위 처리를 병렬 실행
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class OrderEventConsumer {
 
+    // 리밸런싱으로 다른 컨슈머가 먼저 기록한 eventId 만 무시 (그 밖의 오류는 그대로 던짐)
+    private static final String INSERT_PROCESSED_SQL =
+            "INSERT INTO processed_order_events (event_id, order_id, status, processed_at) VALUES (?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE event_id = event_id";
+
     private final DataPlatformClient dataPlatformClient;
     private final ProcessedEventJpaRepository processedEventRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final KeyOrderedExecutor keyOrderedExecutor;
+
+    /** parallel 모드 레코드별 시도 횟수 (파티션 → eventId → 횟수, 성공/포기 시 제거, 파티션 회수 시 파티션째 제거) */
+    private final Map<TopicPartition, Map<String, Integer>> parallelAttempts = new ConcurrentHashMap<>();
+
+    @Value("${order-event.consumer.parallel.max-attempts:10}")
+    private int parallelMaxAttempts;
+
+    @Value("${order-event.consumer.parallel.retry-backoff:1s}")
+    private Duration parallelRetryBackoff;
 
     @KafkaListener(topics = OrderEventProducer.TOPIC, groupId = "order-consumer-group")
     @Transactional
@@ -49,27 +90,8 @@ public class OrderEventConsumer {
                 return;
             }
 
-            // 데이터 플랫폼 전송용 페이로드 구성
-            List<OrderItemPayload> items = message.getItems().stream()
-                    .map(item -> new OrderItemPayload(
-                            item.getProductId(),
-                            item.getQuantity(),
-                            item.getUnitPrice(),
-                            item.getSubtotal()
-                    ))
-                    .toList();
-
-            OrderEventPayload payload = OrderEventPayload.of(
-                    message.getOrderId(),
-                    message.getUserId(),
-                    message.getTotalAmount(),
-                    message.getDiscountAmount(),
-                    message.getFinalAmount(),
-                    items
-            );
-
             // 데이터 플랫폼으로 전송
-            dataPlatformClient.sendOrderEvent(payload);
+            dataPlatformClient.sendOrderEvent(toPayload(message));
 
             // 처리 성공 기록 (이후 중복 수신 시 스킵)
             processedEventRepository.save(
@@ -107,4 +129,234 @@ public class OrderEventConsumer {
             throw e; // Kafka 재시도를 위해 예외 재발생
         }
     }
+
+    /**
+     * 배치 수신 (poll 1회 분량)
+     *
+     * 1. 묶음 안 중복 eventId 제거 후 processed_order_events 를 IN 절 1회로 조회해 처리된 이벤트 제외
+     * 2. 남은 이벤트를 데이터 플랫폼 bulk API 로 1회 전송
+     * 3. 처리 기록을 batch INSERT 1회로 저장 (중복 키 무시 - 리밸런싱으로 다른 컨슈머가 먼저 기록한 경우)
+     * 정상 반환하면 컨테이너가 묶음 전체 오프셋을 1회 커밋한다.
+     *
+     * bulk 전송이 실패하면 레코드 1건씩 다시 보내 실패한 레코드를 찾는다. (sendIndividually)
+     * 그 앞까지는 성공으로 기록하고 BatchListenerFailedException(index) 을 던지므로,
+     * 에러 핸들러는 실패 레코드 직전까지 커밋하고 그 레코드부터 재시도하며, 재시도 초과 시 그 레코드만 건너뛴다.
+     */
+    @KafkaListener(
+            topics = OrderEventProducer.TOPIC,
+            groupId = "order-consumer-group",
+            containerFactory = "batchKafkaListenerContainerFactory"
+    )
+    public void handleOrderCompletedBatch(List<OrderEventMessage> messages) {
+        Map<String, OrderEventMessage> received = new LinkedHashMap<>();
+        for (OrderEventMessage message : messages) {
+            received.putIfAbsent(message.getEventId(), message);
+        }
+        if (received.isEmpty()) {
+            return;
+        }
+
+        // [멱등성 검증] 이미 처리된 eventId 일괄 조회
+        Set<String> processed = new HashSet<>(processedEventRepository.findEventIdsByEventIdIn(received.keySet()));
+        List<OrderEventMessage> pending = received.values().stream()
+                .filter(message -> !processed.contains(message.getEventId()))
+                .toList();
+
+        log.info("Kafka 메시지 배치 수신: received={}, skipped={}, pending={}",
+                messages.size(), messages.size() - pending.size(), pending.size());
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        try {
+            dataPlatformClient.sendOrderEvents(pending.stream().map(this::toPayload).toList());
+        } catch (Exception e) {
+            log.warn("데이터 플랫폼 일괄 전송 실패 - 건별 재전송: count={}, error={}", pending.size(), e.getMessage());
+            sendIndividually(messages, pending);
+            return;
+        }
+
+        saveSuccessMarkers(pending);
+        log.info("데이터 플랫폼 일괄 전송 완료: count={}", pending.size());
+    }
+
+    /**
+     * bulk 실패 시 건별 전송 (poll 순서대로)
+     * 첫 실패 레코드에서 멈추고, 앞선 성공분을 기록한 뒤 그 레코드의 묶음 내 위치로 BatchListenerFailedException 을 던진다.
+     */
+    private void sendIndividually(List<OrderEventMessage> messages, List<OrderEventMessage> pending) {
+        for (int i = 0; i < pending.size(); i++) {
+            OrderEventMessage message = pending.get(i);
+            try {
+                dataPlatformClient.sendOrderEvent(toPayload(message));
+            } catch (Exception e) {
+                saveSuccessMarkers(pending.subList(0, i));
+                int index = indexOf(messages, message.getEventId());
+                log.error("데이터 플랫폼 전송 실패 - 해당 레코드부터 재시도: eventId={}, orderId={}, index={}, error={}",
+                        message.getEventId(), message.getOrderId(), index, e.getMessage(), e);
+                throw new BatchListenerFailedException("데이터 플랫폼 전송 실패: eventId=" + message.getEventId(), e, index);
+            }
+        }
+        saveSuccessMarkers(pending);
+        log.info("데이터 플랫폼 건별 전송 완료: count={}", pending.size());
+    }
+
+    private void saveSuccessMarkers(List<OrderEventMessage> succeeded) {
+        if (succeeded.isEmpty()) {
+            return;
+        }
+        LocalDateTime processedAt = LocalDateTime.now(ZoneOffset.UTC);
+        List<Object[]> args = succeeded.stream()
+                .map(message -> new Object[]{message.getEventId(), message.getOrderId(), "SUCCESS", processedAt})
+                .toList();
+        new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_PROCESSED_SQL, args));
+    }
+
+    // 묶음 안 중복은 첫 레코드만 처리하므로 eventId 의 첫 위치
+    private static int indexOf(List<OrderEventMessage> messages, String eventId) {
+        for (int i = 0; i < messages.size(); i++) {
+            if (messages.get(i).getEventId().equals(eventId)) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * 파티션 내 병렬 수신 (poll 1회 분량)
+     *
+     * 레코드를 orderId 별 lane 으로 나눠 동시에 처리한다. (같은 주문은 같은 lane 에서 오프셋 순서대로)
+     * 처리 후 파티션마다 가장 낮은 미완료 레코드 직전까지만 커밋하고,
+     * 미완료가 있는 파티션은 그 오프셋으로 되감아 다음 poll 에서 다시 받는다.
+     * 되감기로 다시 받는 완료 레코드는 처리 기록(eventId)으로 건너뛴다.
+     *
+     * 같은 레코드가 max-attempts 번 실패하면 FAILED 로 기록하고 완료로 보아 파티션이 막히지 않게 한다.
+     */
+    @KafkaListener(
+            topics = OrderEventProducer.TOPIC,
+            groupId = "order-consumer-group",
+            containerFactory = "parallelKafkaListenerContainerFactory"
+    )
+    public void handleOrderCompletedParallel(
+            List<ConsumerRecord<String, OrderEventMessage>> records,
+            Consumer<?, ?> consumer
+    ) {
+        Map<TopicPartition, Long> nextOffsets = keyOrderedExecutor.process(
+                records,
+                record -> record.value().getOrderId(),
+                record -> processWithAttempts(new TopicPartition(record.topic(), record.partition()), record.value())
+        );
+
+        Map<TopicPartition, OffsetAndMetadata> commits = new HashMap<>();
+        nextOffsets.forEach((partition, offset) -> commits.put(partition, new OffsetAndMetadata(offset)));
+        consumer.commitSync(commits);
+
+        Map<TopicPartition, Long> lastOffsets = new HashMap<>();
+        records.forEach(record -> lastOffsets.merge(
+                new TopicPartition(record.topic(), record.partition()), record.offset(), Math::max));
+
+        boolean rewound = false;
+        for (Map.Entry<TopicPartition, Long> entry : nextOffsets.entrySet()) {
+            if (entry.getValue() <= lastOffsets.get(entry.getKey())) {
+                consumer.seek(entry.getKey(), entry.getValue());
+                rewound = true;
+                log.warn("미완료 레코드부터 재수신: partition={}, offset={}", entry.getKey(), entry.getValue());
+            }
+        }
+
+        if (rewound) {
+            sleepQuietly(parallelRetryBackoff);
+        }
+    }
+
+    /**
+     * 파티션 회수/유실 시 해당 파티션의 시도 횟수 제거 (KafkaConfig 의 parallel 컨테이너 리밸런스 리스너에서 호출)
+     * 새로 할당받은 컨슈머는 커밋된 오프셋부터 횟수를 새로 센다.
+     */
+    public void clearAttempts(Collection<TopicPartition> partitions) {
+        partitions.forEach(parallelAttempts::remove);
+    }
+
+    int attemptsSize() {
+        return parallelAttempts.values().stream().mapToInt(Map::size).sum();
+    }
+
+    private void processWithAttempts(TopicPartition partition, OrderEventMessage message) {
+        String eventId = message.getEventId();
+        Map<String, Integer> attemptsByEvent = parallelAttempts.computeIfAbsent(partition, key -> new ConcurrentHashMap<>());
+        try {
+            processRecord(message);
+            attemptsByEvent.remove(eventId);
+        } catch (RuntimeException e) {
+            int attempts = attemptsByEvent.merge(eventId, 1, Integer::sum);
+            if (attempts < parallelMaxAttempts) {
+                throw e;
+            }
+            attemptsByEvent.remove(eventId);
+            log.error("재시도 횟수 초과 - FAILED 기록 후 건너뜀: eventId={}, orderId={}, attempts={}",
+                    eventId, message.getOrderId(), attempts, e);
+            saveMarker(message, "FAILED", e.getMessage());
+        }
+    }
+
+    /**
+     * 레코드 1건 처리 (record 모드와 같은 단계, 전송 동안 트랜잭션을 잡지 않는다)
+     */
+    private void processRecord(OrderEventMessage message) {
+        if (processedEventRepository.existsByEventId(message.getEventId())) {
+            log.debug("이미 처리된 이벤트 - 스킵: eventId={}", message.getEventId());
+            return;
+        }
+        dataPlatformClient.sendOrderEvent(toPayload(message));
+        saveMarker(message, "SUCCESS", null);
+    }
+
+    private void saveMarker(OrderEventMessage message, String status, String failureReason) {
+        try {
+            processedEventRepository.save(
+                    ProcessedEventEntity.builder()
+                            .eventId(message.getEventId())
+                            .orderId(message.getOrderId())
+                            .status(status)
+                            .processedAt(LocalDateTime.now())
+                            .failureReason(failureReason)
+                            .build()
+            );
+        } catch (DataIntegrityViolationException e) {
+            // 리밸런싱 등으로 다른 컨슈머가 먼저 기록함
+            log.warn("처리 기록 중복 - 무시: eventId={}", message.getEventId());
+        }
+    }
+
+    private void sleepQuietly(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 데이터 플랫폼 전송용 페이로드 구성
+     */
+    private OrderEventPayload toPayload(OrderEventMessage message) {
+        List<OrderItemPayload> items = message.getItems().stream()
+                .map(item -> new OrderItemPayload(
+                        item.getProductId(),
+                        item.getQuantity(),
+                        item.getUnitPrice(),
+                        item.getSubtotal()
+                ))
+                .toList();
+
+        return OrderEventPayload.of(
+                message.getOrderId(),
+                message.getUserId(),
+                message.getTotalAmount(),
+                message.getDiscountAmount(),
+                message.getFinalAmount(),
+                items
+        );
+    }
 }
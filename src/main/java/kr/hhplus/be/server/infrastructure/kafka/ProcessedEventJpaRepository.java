@@ -1,8 +1,12 @@
 package kr.hhplus.be.server.infrastructure.kafka;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -17,4 +21,10 @@ public interface ProcessedEventJpaRepository extends JpaRepository<ProcessedEven
     Optional<ProcessedEventEntity> findByEventId(String eventId);
 
     boolean existsByEventId(String eventId);
+
+    /**
+     * 이미 처리 기록이 있는 eventId 일괄 조회 (배치 수신 시 IN 절 1회)
+     */
+    @Query("SELECT p.eventId FROM ProcessedEventEntity p WHERE p.eventId IN :eventIds")
+    List<String> findEventIdsByEventIdIn(@Param("eventIds") Collection<String> eventIds);
 }
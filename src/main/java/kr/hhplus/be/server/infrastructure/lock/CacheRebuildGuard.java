@@ -0,0 +1,111 @@
+package kr.hhplus.be.server.infrastructure.lock;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 캐시 재생성 동시 실행 방지 (Cache Stampede 방지)
+ *
+ * - singleFlight: 같은 키의 재생성을 노드 안에서 하나로 합친다. (나머지 요청은 같은 결과를 기다림)
+ * - tryLock / unlock: 노드 간 짧은 Redis 뮤텍스 (SET NX PX, 토큰 비교 후 해제)
+ * - shouldRefreshEarly: 만료 직전 확률적 조기 갱신 (XFetch, 재생성 시간이 길수록 일찍 갱신)
+ *
+ * 대기 없이 즉시 실패를 돌려주므로 락을 얻지 못한 요청은 이전 값을 응답하는 용도로 사용한다.
+ * (실패 시 예외를 던지는 @WithDistributedLock 과 구분)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CacheRebuildGuard {
+
+    private static final String LOCK_PREFIX = "lock:rebuild:";
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+        RedisScript.of(new ClassPathResource("scripts/lock-release.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 같은 키로 진행 중인 재생성이 있으면 그 결과를 기다리고, 없으면 직접 실행한다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T singleFlight(String key, Supplier<T> loader) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            try {
+                return (T) running.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+
+        try {
+            T result = loader.get();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * 재생성 락 획득 시도 (대기 없음)
+     * Redis 장애 시에는 노드 내 singleFlight 만으로 제한하도록 획득한 것으로 본다.
+     * @return 획득 시 해제용 토큰, 다른 노드가 보유 중이면 empty
+     */
+    public Optional<String> tryLock(String key, Duration lease) {
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(LOCK_PREFIX + key, token, lease);
+            return Boolean.TRUE.equals(acquired) ? Optional.of(token) : Optional.empty();
+        } catch (DataAccessException e) {
+            log.warn("[CacheRebuildGuard] 락 획득 실패, 노드 내에서만 제한: key={}", key, e);
+            return Optional.of(token);
+        }
+    }
+
+    public void unlock(String key, String token) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(LOCK_PREFIX + key), token);
+        } catch (DataAccessException e) {
+            // 해제 실패 시 리스 만료로 풀린다.
+            log.warn("[CacheRebuildGuard] 락 해제 실패: key={}", key, e);
+        }
+    }
+
+    /**
+     * 확률적 조기 갱신 여부 (XFetch)
+     * now - rebuildMillis * beta * ln(rand) >= expireAt 이면 만료 전이라도 갱신한다.
+     * @param rebuildMillis 직전 재생성에 걸린 시간
+     * @param expireAtMillis 캐시 만료 시각 (epoch millis)
+     * @param beta 1.0 기본, 클수록 일찍 갱신 (0 이면 조기 갱신 없음)
+     */
+    public static boolean shouldRefreshEarly(long rebuildMillis, long expireAtMillis, double beta) {
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble(); // (0, 1]
+        double earlyMillis = -rebuildMillis * beta * Math.log(random);
+        return System.currentTimeMillis() + earlyMillis >= expireAtMillis;
+    }
+}
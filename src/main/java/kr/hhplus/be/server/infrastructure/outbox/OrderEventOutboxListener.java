@@ -14,6 +14,7 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class OrderEventOutboxListener {
     private final OutboxMessageManager outboxMessageManager;
+    private final OutboxWakeupSignal outboxWakeupSignal;
 
     /**
      * 주문 트랜잭션 커밋 직전에 Outbox 테이블에 기록
@@ -27,4 +28,12 @@ public class OrderEventOutboxListener {
             event
         );
     }
-}
\ No newline at end of file
+
+    /**
+     * 주문 트랜잭션 커밋 후 전송 폴러를 깨움 (폴링 주기를 기다리지 않고 바로 전송)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void wakeUpDispatcher(OrderCompletedEvent event) {
+        outboxWakeupSignal.signal();
+    }
+}
@@ -10,6 +10,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import kr.hhplus.be.server.domain.outbox.entity.OutBoxMessage;
 import lombok.AccessLevel;
@@ -20,7 +21,9 @@ import lombok.NoArgsConstructor;
 
 
 @Entity
-@Table(name = "outbox_messages")
+@Table(name = "outbox_messages", indexes = {
+    @Index(name = "idx_outbox_pending", columnList = "is_processed, crt_dttm")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
@@ -60,6 +63,19 @@ public class OutBoxMessageEntity {
     @Column(name = "crt_dttm", nullable = false, updatable = false)
     private LocalDateTime crtDttm;
 
+    /**
+     * 선점(lease) 만료 시각 - 이 시각 전까지 다른 워커/노드는 가져가지 않는다.
+     * 워커가 처리 도중 죽으면 만료 후 다른 워커가 다시 선점한다.
+     */
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    /**
+     * 선점한 워커 (노드ID:스레드명, 장애 추적용)
+     */
+    @Column(name = "locked_by", length = 100)
+    private String lockedBy;
+
     /**
      * 메시지 처리 완료 상태 변경
      */
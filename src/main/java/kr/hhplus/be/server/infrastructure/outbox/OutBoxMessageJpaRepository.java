@@ -1,16 +1,89 @@
 package kr.hhplus.be.server.infrastructure.outbox;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
 public interface OutBoxMessageJpaRepository extends JpaRepository<OutBoxMessageEntity, Long> {
     
     List<OutBoxMessageEntity> findTop100ByIsProcessedFalseAndRetryCountLessThanOrderByCrtDttmAsc(int maxRetry);
+
+    /**
+     * 선점 가능한 대기 메시지 조회 (SELECT ... FOR UPDATE SKIP LOCKED)
+     * 다른 트랜잭션이 잠근 행은 기다리지 않고 건너뛰므로 여러 워커/노드가 서로 다른 행을 가져간다.
+     * lock.timeout = -2 는 Hibernate 의 SKIP LOCKED 값이다.
+     * crt_dttm >= since 조건으로 일 단위 파티션 중 최근 파티션만 읽는다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM OutBoxMessageEntity o " +
+           "WHERE o.isProcessed = false AND o.retryCount < :maxRetry " +
+           "AND o.crtDttm >= :since " +
+           "AND (o.lockedUntil IS NULL OR o.lockedUntil < :now) " +
+           "ORDER BY o.crtDttm ASC")
+    List<OutBoxMessageEntity> findClaimable(
+        @Param("maxRetry") int maxRetry,
+        @Param("since") LocalDateTime since,
+        @Param("now") LocalDateTime now,
+        Pageable pageable
+    );
+
+    /**
+     * 전송 대상 기간(dispatch-window)보다 오래된 선점 가능 메시지 조회 (느린 스윕용, SKIP LOCKED)
+     * 대부분 비어 있는 오래된 구간을 가끔만 읽어, 최근 구간 조회가 놓친 미처리 메시지도 결국 전송되도록 한다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM OutBoxMessageEntity o " +
+           "WHERE o.isProcessed = false AND o.retryCount < :maxRetry " +
+           "AND o.crtDttm < :before " +
+           "AND (o.lockedUntil IS NULL OR o.lockedUntil < :now) " +
+           "ORDER BY o.crtDttm ASC")
+    List<OutBoxMessageEntity> findStaleClaimable(
+        @Param("maxRetry") int maxRetry,
+        @Param("before") LocalDateTime before,
+        @Param("now") LocalDateTime now,
+        Pageable pageable
+    );
+
+    /**
+     * 선점 기록 (lease 만료 시각 + 선점 워커)
+     */
+    @Modifying
+    @Query("UPDATE OutBoxMessageEntity o SET o.lockedUntil = :lockedUntil, o.lockedBy = :lockedBy WHERE o.id IN :ids")
+    int lease(
+        @Param("ids") Collection<Long> ids,
+        @Param("lockedUntil") LocalDateTime lockedUntil,
+        @Param("lockedBy") String lockedBy
+    );
+
+    /**
+     * 일괄 처리 완료 (UPDATE ... WHERE id IN, 선점 해제)
+     */
+    @Modifying
+    @Query("UPDATE OutBoxMessageEntity o " +
+           "SET o.isProcessed = true, o.processedDttm = :processedDttm, o.errorMessage = null, " +
+           "    o.lockedUntil = null, o.lockedBy = null " +
+           "WHERE o.id IN :ids AND o.isProcessed = false")
+    int markProcessed(@Param("ids") Collection<Long> ids, @Param("processedDttm") LocalDateTime processedDttm);
+
+    /**
+     * 재시도 횟수 증가 + 에러 메시지 기록 (선점은 유지 - lease 만료 후 재시도)
+     */
+    @Modifying
+    @Query("UPDATE OutBoxMessageEntity o SET o.retryCount = o.retryCount + 1, o.errorMessage = :errorMessage WHERE o.id = :id")
+    int incrementRetry(@Param("id") Long id, @Param("errorMessage") String errorMessage);
     
     /**
      * 오래된 처리 완료 메시지 삭제 (7일 이상)
@@ -23,6 +96,7 @@ public interface OutBoxMessageJpaRepository extends JpaRepository<OutBoxMessageE
      * 재시도 횟수 초과 메시지 조회 (Dead Letter Queue)
      */
     List<OutBoxMessageEntity> findByIsProcessedFalseAndRetryCountGreaterThanEqual(int maxRetry);
+
     
     /**
      * 특정 집계 타입의 미처리 메시지 수 조회 (모니터링용)
@@ -0,0 +1,90 @@
+package kr.hhplus.be.server.infrastructure.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import kr.hhplus.be.server.domain.outbox.entity.OutBoxMessage;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Outbox 메시지 선점기
+ *
+ * 짧은 트랜잭션 안에서 SELECT ... FOR UPDATE SKIP LOCKED 로 대기 메시지를 잠그고
+ * locked_until(lease) 을 기록한 뒤 바로 커밋한다.
+ * - 동시에 선점하는 다른 워커/노드는 잠긴 행을 건너뛰어 서로 다른 메시지를 가져간다.
+ * - 커밋 후에는 lease 조건(locked_until < now)으로 중복 선점을 막는다.
+ * - 전송은 트랜잭션 밖에서 하므로 행 락을 전송 시간 동안 잡고 있지 않는다.
+ * - 평소 선점(claim)은 최근 dispatch-window 안에 생성된 메시지만 조회해 오래된 파티션은 읽지 않는다.
+ * - 그보다 오래된 미처리 메시지는 느린 스윕(claimStale)이 기간 제한 없이 선점한다.
+ */
+@Component
+@Slf4j
+public class OutboxClaimer {
+
+    private final OutBoxMessageJpaRepository outBoxMessageJpaRepository;
+    private final int maxRetry;
+    private final Duration lease;
+    private final Duration dispatchWindow;
+    private final String nodeId;
+
+    public OutboxClaimer(
+        OutBoxMessageJpaRepository outBoxMessageJpaRepository,
+        @Value("${outbox.max-retry:3}") int maxRetry,
+        @Value("${outbox.dispatch.lease:30s}") Duration lease,
+        @Value("${outbox.partition.dispatch-window:3d}") Duration dispatchWindow
+    ) {
+        this.outBoxMessageJpaRepository = outBoxMessageJpaRepository;
+        this.maxRetry = maxRetry;
+        this.lease = lease;
+        this.dispatchWindow = dispatchWindow;
+        this.nodeId = UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * 최대 limit 건 선점 (생성 순)
+     * @return 선점한 메시지 (없으면 빈 리스트)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<OutBoxMessage> claim(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        return lease(outBoxMessageJpaRepository
+            .findClaimable(maxRetry, now.minus(dispatchWindow), now, PageRequest.of(0, limit)), now);
+    }
+
+    /**
+     * dispatch-window 보다 오래된 미처리 메시지 최대 limit 건 선점 (생성 순)
+     * @return 선점한 메시지 (없으면 빈 리스트)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<OutBoxMessage> claimStale(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        return lease(outBoxMessageJpaRepository
+            .findStaleClaimable(maxRetry, now.minus(dispatchWindow), now, PageRequest.of(0, limit)), now);
+    }
+
+    private List<OutBoxMessage> lease(List<OutBoxMessageEntity> claimable, LocalDateTime now) {
+        if (claimable.isEmpty()) {
+            return List.of();
+        }
+
+        String owner = nodeId + ":" + Thread.currentThread().getName();
+        outBoxMessageJpaRepository.lease(
+            claimable.stream().map(OutBoxMessageEntity::getId).toList(),
+            now.plus(lease),
+            owner
+        );
+
+        log.debug("[Outbox] 선점: {} 건, owner={}", claimable.size(), owner);
+        return claimable.stream()
+            .map(OutBoxMessageEntity::toDomain)
+            .toList();
+    }
+}
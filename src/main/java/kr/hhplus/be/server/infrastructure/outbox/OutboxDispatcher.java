@@ -0,0 +1,160 @@
+package kr.hhplus.be.server.infrastructure.outbox;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.domain.outbox.entity.OutBoxMessage;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Outbox 병렬 디스패처
+ *
+ * 노드마다 worker-count 개의 워커가 각자 batch-size 만큼 선점 → 전송을 반복한다.
+ * 선점은 SKIP LOCKED + lease 로 이루어지므로 워커/노드를 늘리면 처리량이 함께 늘고 중복 전송은 없다.
+ * - 한 번의 실행에서 워커당 최대 max-claims-per-run 번 선점 (밀린 메시지가 많아도 실행 시간 상한)
+ * - 선점이 비면 해당 워커는 바로 종료
+ * - 서로 다른 워커가 처리하므로 메시지 간 전송 순서는 보장하지 않는다 (주문당 이벤트 1건)
+ * - dispatch-window 보다 오래된 미처리 메시지는 sweepStale 이 호출 스레드에서 따로 처리한다.
+ * - batch-send 이면 선점한 묶음을 한 번에 전송하고 결과를 커밋 1회로 반영 (아니면 메시지별 트랜잭션)
+ */
+@Component
+@Slf4j
+public class OutboxDispatcher {
+
+    private final OutboxClaimer outboxClaimer;
+    private final OutboxProcessor outboxProcessor;
+    private final int workerCount;
+    private final int claimSize;
+    private final int maxClaimsPerRun;
+    private final boolean batchSend;
+    private final ExecutorService workers;
+
+    public OutboxDispatcher(
+        OutboxClaimer outboxClaimer,
+        OutboxProcessor outboxProcessor,
+        @Value("${outbox.dispatch.worker-count:4}") int workerCount,
+        @Value("${outbox.batch-size:100}") int claimSize,
+        @Value("${outbox.dispatch.max-claims-per-run:50}") int maxClaimsPerRun,
+        @Value("${outbox.dispatch.batch-send:true}") boolean batchSend
+    ) {
+        this.outboxClaimer = outboxClaimer;
+        this.outboxProcessor = outboxProcessor;
+        this.workerCount = workerCount;
+        this.claimSize = claimSize;
+        this.maxClaimsPerRun = maxClaimsPerRun;
+        this.batchSend = batchSend;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "outbox-worker-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 모든 워커를 실행하고 끝날 때까지 대기
+     * @return 전체 처리 결과
+     */
+    public DispatchResult dispatch() {
+        List<Callable<DispatchResult>> tasks = new ArrayList<>();
+        for (int i = 0; i < workerCount; i++) {
+            tasks.add(() -> drain(outboxClaimer::claim));
+        }
+
+        DispatchResult total = DispatchResult.EMPTY;
+        try {
+            for (Future<DispatchResult> future : workers.invokeAll(tasks)) {
+                total = total.plus(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.error("[Outbox] 워커 실행 중 오류", e.getCause());
+        }
+        return total;
+    }
+
+    /**
+     * dispatch-window 보다 오래된 미처리 메시지 전송 (느린 스윕, 호출 스레드에서 실행)
+     */
+    public DispatchResult sweepStale() {
+        return drain(outboxClaimer::claimStale);
+    }
+
+    /**
+     * 워커 1개: 선점이 빌 때까지 (최대 maxClaimsPerRun 회) 선점 → 전송 반복
+     */
+    private DispatchResult drain(IntFunction<List<OutBoxMessage>> claimer) {
+        int successCount = 0;
+        int failCount = 0;
+
+        for (int round = 0; round < maxClaimsPerRun; round++) {
+            List<OutBoxMessage> claimed = claimer.apply(claimSize);
+            if (claimed.isEmpty()) {
+                break;
+            }
+            if (batchSend) {
+                int succeeded = sendBatch(claimed);
+                successCount += succeeded;
+                failCount += claimed.size() - succeeded;
+                continue;
+            }
+            for (OutBoxMessage message : claimed) {
+                try {
+                    outboxProcessor.process(message);
+                    successCount++;
+                } catch (Exception e) {
+                    failCount++;
+                    log.error("[Outbox] 처리 실패: id={}, retryCount={}",
+                        message.id(), message.retryCount(), e);
+                }
+            }
+        }
+        return new DispatchResult(successCount, failCount);
+    }
+
+    private int sendBatch(List<OutBoxMessage> claimed) {
+        try {
+            return outboxProcessor.processBatch(claimed);
+        } catch (Exception e) {
+            // 결과 반영 실패: 선점이 유지되므로 lease 만료 후 묶음 전체가 다시 전송된다.
+            log.error("[Outbox] 일괄 처리 실패: {} 건", claimed.size(), e);
+            return 0;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        workers.shutdown();
+        if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+            // 처리 중이던 메시지는 lease 만료 후 다른 노드가 다시 선점한다.
+            workers.shutdownNow();
+        }
+    }
+
+    public record DispatchResult(int successCount, int failCount) {
+
+        static final DispatchResult EMPTY = new DispatchResult(0, 0);
+
+        DispatchResult plus(DispatchResult other) {
+            return new DispatchResult(successCount + other.successCount, failCount + other.failCount);
+        }
+
+        public int totalCount() {
+            return successCount + failCount;
+        }
+    }
+}
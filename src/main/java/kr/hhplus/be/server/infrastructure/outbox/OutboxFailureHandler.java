@@ -19,18 +19,15 @@ public class OutboxFailureHandler {
 
     /**
      * 실패 처리: 재시도 카운트 증가 및 에러 메시지 저장 (별도 트랜잭션)
+     * 선점(lease)은 그대로 두므로 같은 실행 중에 즉시 재선점되지 않고 lease 만료 후 재시도된다.
      */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void handleFailure(OutBoxMessage message, Exception e) {
         try {
-            String errorMsg = e.getMessage();
-            if (errorMsg != null && errorMsg.length() > MAX_ERROR_MESSAGE_LENGTH) {
-                errorMsg = errorMsg.substring(0, MAX_ERROR_MESSAGE_LENGTH);
-            }
+            String errorMsg = errorMessageOf(e);
 
             OutBoxMessage failed = message.incrementRetry(errorMsg);
-            OutBoxMessageEntity entity = OutBoxMessageEntity.from(failed);
-            outBoxMessageJpaRepository.save(entity);
+            outBoxMessageJpaRepository.incrementRetry(message.id(), errorMsg);
 
             log.warn("[Outbox] 전송 실패 (재시도: {}): aggregateId={}, error={}",
                 failed.retryCount(), message.aggregateId(), errorMsg);
@@ -45,4 +42,15 @@ public class OutboxFailureHandler {
             log.error("[Outbox] 실패 처리 중 오류: aggregateId={}", message.aggregateId(), ex);
         }
     }
+
+    /**
+     * 저장용 에러 메시지 (컬럼 길이에 맞춰 자름)
+     */
+    public static String errorMessageOf(Exception e) {
+        String errorMsg = e.getMessage();
+        if (errorMsg != null && errorMsg.length() > MAX_ERROR_MESSAGE_LENGTH) {
+            errorMsg = errorMsg.substring(0, MAX_ERROR_MESSAGE_LENGTH);
+        }
+        return errorMsg;
+    }
 }
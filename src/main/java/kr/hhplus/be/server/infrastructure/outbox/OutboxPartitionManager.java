@@ -0,0 +1,161 @@
+package kr.hhplus.be.server.infrastructure.outbox;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * outbox_messages 일 단위 파티션 관리자
+ *
+ * 처리 완료 메시지를 매일 DELETE 로 지우면 대량 삭제 동안 undo 로그가 쌓이고 복제 지연이 생긴다.
+ * 대신 crt_dttm(UTC) 기준 RANGE COLUMNS 파티션을 하루 단위로 두고, 보관 기간이 지난 파티션을 통째로 DROP 한다.
+ * - 파티션 이름은 포함하는 날짜 (p20261017 → crt_dttm < 2026-10-18 00:00:00)
+ * - pmax(MAXVALUE) 는 미리 만든 파티션을 넘는 행을 받는 예비 파티션이다. 미래 파티션은 pmax 를 분할해 만든다.
+ * - 미처리 행(재시도 초과 포함)이 남은 파티션은 보관 기간이 지나도 삭제하지 않는다.
+ *
+ * 최초 분할(PK 를 (id, crt_dttm) 으로 바꾸고 PARTITION BY)은 테이블 전체를 복사하므로
+ * 애플리케이션이 하지 않고 docs/sql/outbox_messages_partition.sql 마이그레이션으로 점검 시간에 한 번 적용한다.
+ * 분할되지 않은 테이블이면 경고만 남기고 아무것도 하지 않는다.
+ * 여러 노드가 동시에 유지보수를 실행하면 늦은 쪽 DDL 은 실패하고 다음 실행에서 다시 맞춰진다.
+ */
+@Component
+@Slf4j
+public class OutboxPartitionManager {
+
+    static final String MAX_PARTITION = "pmax";
+
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMMdd");
+
+    private static final String PARTITIONS_SQL =
+        "SELECT partition_name FROM information_schema.partitions " +
+        "WHERE table_schema = DATABASE() AND table_name = 'outbox_messages' AND partition_name IS NOT NULL " +
+        "ORDER BY partition_ordinal_position";
+
+    private static final String PENDING_COUNT_SQL =
+        "SELECT COUNT(*) FROM outbox_messages PARTITION (%s) WHERE is_processed = false";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int retentionDays;
+    private final int precreateDays;
+
+    public OutboxPartitionManager(
+        JdbcTemplate jdbcTemplate,
+        @Value("${outbox.partition.enabled:false}") boolean enabled,
+        @Value("${outbox.cleanup-days:7}") int retentionDays,
+        @Value("${outbox.partition.precreate-days:7}") int precreateDays
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.retentionDays = retentionDays;
+        this.precreateDays = precreateDays;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 일일 유지보수: 미래 파티션 생성 + 보관 기간이 지난 처리 완료 파티션 삭제
+     * @return 삭제한 파티션 수
+     */
+    public int maintain() {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        List<LocalDate> days = ensurePartitions(today);
+        return dropExpired(days, today);
+    }
+
+    /**
+     * 오늘 + precreateDays 까지 파티션을 만든다. (분할되지 않은 테이블이면 아무것도 하지 않음)
+     * @return 날짜 파티션 목록 (오름차순)
+     */
+    List<LocalDate> ensurePartitions(LocalDate today) {
+        List<String> names = jdbcTemplate.queryForList(PARTITIONS_SQL, String.class);
+        LocalDate lastDay = today.plusDays(precreateDays);
+
+        if (names.isEmpty()) {
+            log.warn("[OutboxPartition] outbox_messages 가 분할되지 않음 - docs/sql/outbox_messages_partition.sql 적용 필요");
+            return List.of();
+        }
+
+        List<LocalDate> days = names.stream()
+            .map(OutboxPartitionManager::dayOf)
+            .flatMap(Optional::stream)
+            .collect(Collectors.toCollection(ArrayList::new));
+        LocalDate from = days.isEmpty() ? today : days.get(days.size() - 1).plusDays(1);
+        List<LocalDate> missing = from.datesUntil(lastDay.plusDays(1)).toList();
+        if (!missing.isEmpty()) {
+            jdbcTemplate.execute(reorganizeMaxSql(missing));
+            days.addAll(missing);
+            log.info("[OutboxPartition] 파티션 생성: {} ~ {}", missing.get(0), missing.get(missing.size() - 1));
+        }
+        return days;
+    }
+
+    /**
+     * 보관 기간이 지난 파티션 중 미처리 행이 없는 것만 DROP PARTITION
+     */
+    int dropExpired(List<LocalDate> days, LocalDate today) {
+        LocalDate cutoff = today.minusDays(retentionDays);
+        List<String> droppable = new ArrayList<>();
+
+        for (LocalDate day : days) {
+            if (day.plusDays(1).isAfter(cutoff)) {
+                break;
+            }
+            String name = nameOf(day);
+            Long pending = jdbcTemplate.queryForObject(PENDING_COUNT_SQL.formatted(name), Long.class);
+            if (pending != null && pending > 0) {
+                log.warn("[OutboxPartition] 미처리 메시지가 남아 파티션 유지: partition={}, pending={}", name, pending);
+                continue;
+            }
+            droppable.add(name);
+        }
+
+        if (!droppable.isEmpty()) {
+            jdbcTemplate.execute("ALTER TABLE outbox_messages DROP PARTITION " + String.join(", ", droppable));
+            log.info("[OutboxPartition] 파티션 삭제: {}", droppable);
+        }
+        return droppable.size();
+    }
+
+    static String reorganizeMaxSql(List<LocalDate> days) {
+        return "ALTER TABLE outbox_messages REORGANIZE PARTITION " + MAX_PARTITION +
+            " INTO (" + partitionDefinitions(days) + ")";
+    }
+
+    private static String partitionDefinitions(List<LocalDate> days) {
+        StringBuilder sql = new StringBuilder();
+        for (LocalDate day : days) {
+            sql.append("PARTITION ").append(nameOf(day))
+                .append(" VALUES LESS THAN ('").append(day.plusDays(1)).append(" 00:00:00'), ");
+        }
+        return sql.append("PARTITION ").append(MAX_PARTITION).append(" VALUES LESS THAN (MAXVALUE)").toString();
+    }
+
+    static String nameOf(LocalDate day) {
+        return PARTITION_NAME.format(day);
+    }
+
+    /**
+     * 파티션 이름 → 포함 날짜 (pmax 등 날짜 파티션이 아니면 empty)
+     */
+    static Optional<LocalDate> dayOf(String partitionName) {
+        try {
+            return Optional.of(LocalDate.parse(partitionName, PARTITION_NAME));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+}
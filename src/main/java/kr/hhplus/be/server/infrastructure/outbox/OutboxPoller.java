@@ -0,0 +1,102 @@
+package kr.hhplus.be.server.infrastructure.outbox;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Outbox 적응형 폴러
+ *
+ * 고정 주기(5초) 폴링 대신 전용 스레드 하나가 다음 규칙으로 OutboxDispatcher 를 실행한다.
+ * - 커밋 신호(OutboxWakeupSignal)가 오면 즉시 실행 → 새 메시지는 수 ms 안에 전송
+ * - 이번 실행에서 처리한 메시지가 있으면(밀림) min-delay 후 다시 실행
+ * - 비어 있으면 대기 시간을 두 배씩 늘려 max-delay 까지 (유휴 시 DB 폴링 최소화)
+ * 신호를 받지 못하는 경우(다른 노드가 저장한 메시지, 장애 후 남은 메시지)는 backoff 폴링이 처리한다.
+ * 테스트 환경(scheduling.enabled=false)과 CDC 릴레이 모드(outbox.relay.mode=cdc)에서는 등록되지 않는다.
+ */
+@Component
+@ConditionalOnExpression("${scheduling.enabled:true} and '${outbox.relay.mode:polling}' == 'polling'")
+@Slf4j
+public class OutboxPoller implements SmartLifecycle {
+
+    private final OutboxDispatcher outboxDispatcher;
+    private final OutboxWakeupSignal wakeupSignal;
+    private final long initialDelayMillis;
+    private final long minDelayMillis;
+    private final long maxDelayMillis;
+
+    private volatile boolean running;
+    private Thread pollerThread;
+
+    public OutboxPoller(
+        OutboxDispatcher outboxDispatcher,
+        OutboxWakeupSignal wakeupSignal,
+        @Value("${outbox.schedule.publish-initial-delay:10000}") long initialDelayMillis,
+        @Value("${outbox.schedule.publish-min-delay:20}") long minDelayMillis,
+        @Value("${outbox.schedule.publish-max-delay:5000}") long maxDelayMillis
+    ) {
+        this.outboxDispatcher = outboxDispatcher;
+        this.wakeupSignal = wakeupSignal;
+        this.initialDelayMillis = initialDelayMillis;
+        this.minDelayMillis = minDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        pollerThread = new Thread(this::pollLoop, "outbox-poller");
+        pollerThread.setDaemon(true);
+        pollerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (pollerThread != null) {
+            pollerThread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void pollLoop() {
+        long delay = initialDelayMillis;
+        while (running) {
+            try {
+                wakeupSignal.await(delay);
+                if (!running) {
+                    return;
+                }
+                OutboxDispatcher.DispatchResult result = outboxDispatcher.dispatch();
+                if (result.totalCount() > 0) {
+                    log.info("[Outbox] 처리 완료: 성공={}, 실패={}", result.successCount(), result.failCount());
+                }
+                delay = nextDelay(delay, result.totalCount());
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("[Outbox] 폴러 실행 중 오류", e);
+                delay = maxDelayMillis;
+            }
+        }
+    }
+
+    /**
+     * 다음 대기 시간: 처리한 메시지가 있으면 최소, 없으면 두 배 (최대 maxDelay)
+     */
+    long nextDelay(long currentDelay, int processedCount) {
+        if (processedCount > 0) {
+            return minDelayMillis;
+        }
+        return Math.min(maxDelayMillis, Math.max(minDelayMillis, currentDelay * 2));
+    }
+}
@@ -1,22 +1,65 @@
 package kr.hhplus.be.server.infrastructure.outbox;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import kr.hhplus.be.server.domain.message.MessageProducer;
 import kr.hhplus.be.server.domain.outbox.entity.OutBoxMessage;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class OutboxProcessor {
 
+    private static final String INCREMENT_RETRY_SQL =
+        "UPDATE outbox_messages SET retry_count = retry_count + 1, error_message = ? WHERE id = ?";
+
     private final MessageProducer messageProducer;
     private final OutBoxMessageJpaRepository outBoxMessageJpaRepository;
     private final OutboxFailureHandler failureHandler;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final DistributionSummary batchSize;
+    private final Timer sendLatency;
+    private final Timer commitLatency;
+
+    public OutboxProcessor(
+        MessageProducer messageProducer,
+        OutBoxMessageJpaRepository outBoxMessageJpaRepository,
+        OutboxFailureHandler failureHandler,
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry
+    ) {
+        this.messageProducer = messageProducer;
+        this.outBoxMessageJpaRepository = outBoxMessageJpaRepository;
+        this.failureHandler = failureHandler;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionTemplate.PROPAGATION_REQUIRES_NEW);
+
+        this.batchSize = DistributionSummary.builder("outbox.batch.size")
+            .description("일괄 전송 1회당 메시지 수")
+            .register(meterRegistry);
+        this.sendLatency = Timer.builder("outbox.batch.send.latency")
+            .description("일괄 전송 소요 시간")
+            .register(meterRegistry);
+        this.commitLatency = Timer.builder("outbox.batch.commit.latency")
+            .description("전송 결과 일괄 반영(완료/재시도) 트랜잭션 소요 시간")
+            .register(meterRegistry);
+    }
 
     /**
      * 메시지 처리 (성공 시 완료, 실패 시 재시도 카운트 증가)
@@ -45,4 +88,60 @@ public class OutboxProcessor {
             throw e; // 예외 재발생
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 선점한 묶음 일괄 처리
+     * 1. 묶음 전체를 MessageProducer.sendAll 로 전송 (트랜잭션 밖)
+     * 2. 성공은 UPDATE ... WHERE id IN 한 번, 실패는 재시도 카운트 batch UPDATE 한 번으로
+     *    하나의 트랜잭션에서 반영 (100건 = 커밋 1회)
+     * 반영이 실패해도 선점(lease)이 유지되므로 만료 후 다시 전송된다 (at-least-once).
+     * @return 전송 성공 건수
+     */
+    public int processBatch(List<OutBoxMessage> messages) {
+        if (messages.isEmpty()) {
+            return 0;
+        }
+        batchSize.record(messages.size());
+
+        List<MessageProducer.Message> outgoing = messages.stream()
+            .map(message -> new MessageProducer.Message(
+                message.aggregateType(),
+                String.valueOf(message.aggregateId()),
+                message.payload()))
+            .toList();
+        List<MessageProducer.SendResult> results = sendLatency.record(() -> messageProducer.sendAll(outgoing));
+
+        List<Long> succeededIds = new ArrayList<>();
+        List<Object[]> failedArgs = new ArrayList<>();
+        for (int i = 0; i < messages.size(); i++) {
+            OutBoxMessage message = messages.get(i);
+            MessageProducer.SendResult result = results.get(i);
+            if (result.isSuccess()) {
+                succeededIds.add(message.id());
+                continue;
+            }
+            String errorMsg = OutboxFailureHandler.errorMessageOf(result.error());
+            failedArgs.add(new Object[]{errorMsg, message.id()});
+
+            OutBoxMessage failed = message.incrementRetry(errorMsg);
+            log.warn("[Outbox] 전송 실패 (재시도: {}): aggregateId={}, error={}",
+                failed.retryCount(), message.aggregateId(), errorMsg);
+            if (!failed.canRetry()) {
+                log.error("[Outbox] 최대 재시도 초과: aggregateId={} - Dead Letter Queue로 이동",
+                    message.aggregateId());
+            }
+        }
+
+        commitLatency.record(() -> transactionTemplate.executeWithoutResult(status -> {
+            if (!succeededIds.isEmpty()) {
+                outBoxMessageJpaRepository.markProcessed(succeededIds, LocalDateTime.now());
+            }
+            if (!failedArgs.isEmpty()) {
+                jdbcTemplate.batchUpdate(INCREMENT_RETRY_SQL, failedArgs);
+            }
+        }));
+
+        log.info("[Outbox] 일괄 전송: 성공={}, 실패={}", succeededIds.size(), failedArgs.size());
+        return succeededIds.size();
+    }
+}
@@ -6,9 +6,9 @@ import java.util.List;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import kr.hhplus.be.server.domain.outbox.entity.OutBoxMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -17,67 +17,35 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class OutboxScheduler {
     private final OutBoxMessageJpaRepository outBoxMessageJpaRepository;
-    private final OutboxProcessor outboxProcessor;
-
-    @Value("${outbox.batch-size:100}")
-    private int batchSize;
+    private final OutboxPartitionManager outboxPartitionManager;
+    private final OutboxDispatcher outboxDispatcher;
+    private final PlatformTransactionManager transactionManager;
 
     @Value("${outbox.max-retry:3}")
     private int maxRetry;
 
     @Value("${outbox.cleanup-days:7}")
     private int cleanupDays;
+
+    @Value("${outbox.relay.mode:polling}")
+    private String relayMode;
     
     /**
-     * 5초마다 처리되지 않은 메시지 전송
-     * - 재시도 횟수가 maxRetry 미만인 것만 처리
-     */
-    @Scheduled(fixedDelayString = "${outbox.schedule.publish-delay:5000}",
-            initialDelayString = "${outbox.schedule.publish-initial-delay:10000}")
-    public void publishPendingMessages() {
-        try {
-            List<OutBoxMessage> pendingMessages = outBoxMessageJpaRepository
-                .findTop100ByIsProcessedFalseAndRetryCountLessThanOrderByCrtDttmAsc(maxRetry)
-                .stream()
-                .map(OutBoxMessageEntity::toDomain)
-                .toList();
-            
-            if (pendingMessages.isEmpty()) {
-                return;
-            }
-            
-            log.info("[Outbox] 처리 시작: {} 건", pendingMessages.size());
-            
-            int successCount = 0;
-            int failCount = 0;
-            
-            for (OutBoxMessage message : pendingMessages) {
-                try {
-                    outboxProcessor.process(message);
-                    successCount++;
-                } catch (Exception e) {
-                    failCount++;
-                    log.error("[Outbox] 처리 실패: id={}, retryCount={}", 
-                        message.id(), message.retryCount(), e);
-                }
-            }
-            
-            log.info("[Outbox] 처리 완료: 성공={}, 실패={}", successCount, failCount);
-            
-        } catch (Exception e) {
-            log.error("[Outbox] 스케줄러 실행 중 오류", e);
-        }
-    }
-    
-    /**
-     * 매일 새벽 3시: 오래된 처리 완료 메시지 삭제 (기본 7일 이상)
+     * 매일 새벽 3시: 오래된 처리 완료 메시지 정리 (기본 7일 이상)
+     * 파티션 모드면 미래 파티션 생성 + 만료 파티션 DROP, 아니면 DELETE
      */
     @Scheduled(cron = "${outbox.schedule.cleanup-cron:0 0 3 * * *}")
-    @Transactional
     public void cleanupProcessedMessages() {
         try {
+            if (outboxPartitionManager.isEnabled()) {
+                int droppedCount = outboxPartitionManager.maintain();
+                log.info("[Outbox] 정리 완료: 파티션 {} 개 삭제", droppedCount);
+                return;
+            }
+
             LocalDateTime cutoffDate = LocalDateTime.now().minusDays(cleanupDays);
-            int deletedCount = outBoxMessageJpaRepository.deleteProcessedMessagesBefore(cutoffDate);
+            Integer deletedCount = new TransactionTemplate(transactionManager)
+                .execute(status -> outBoxMessageJpaRepository.deleteProcessedMessagesBefore(cutoffDate));
             
             log.info("[Outbox] 정리 완료: {} 건 삭제", deletedCount);
             
@@ -104,11 +72,30 @@ public class OutboxScheduler {
                         msg.getAggregateType(), msg.getAggregateId(), msg.getErrorMessage())
                 );
             }
-            
+
         } catch (Exception e) {
             log.error("[Outbox] DLQ 체크 중 오류", e);
         }
     }
 
+    /**
+     * 10분마다: dispatch-window 보다 오래된 미처리 메시지 전송 (폴링 모드)
+     * 폴러는 최근 구간만 선점하므로 장애 등으로 오래 밀린 메시지는 이 스윕이 기간 제한 없이 전송한다.
+     */
+    @Scheduled(cron = "${outbox.schedule.stale-sweep-cron:0 */10 * * * *}")
+    public void sweepStaleMessages() {
+        if (!"polling".equals(relayMode)) {
+            return;
+        }
+        try {
+            OutboxDispatcher.DispatchResult result = outboxDispatcher.sweepStale();
+            if (result.totalCount() > 0) {
+                log.warn("[Outbox] 오래된 미처리 메시지 전송: 성공={}, 실패={}", result.successCount(), result.failCount());
+            }
+        } catch (Exception e) {
+            log.error("[Outbox] 오래된 메시지 스윕 중 오류", e);
+        }
+    }
+
     
 }
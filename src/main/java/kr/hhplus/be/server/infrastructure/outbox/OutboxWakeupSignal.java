@@ -0,0 +1,36 @@
+package kr.hhplus.be.server.infrastructure.outbox;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Outbox 전송 깨우기 신호 (노드 내부)
+ *
+ * 주문 트랜잭션 커밋 직후 OrderEventOutboxListener 가 signal() 을 호출하면
+ * 대기 중인 OutboxPoller 가 backoff 대기를 끊고 바로 전송한다.
+ * 여러 번 들어온 신호는 한 번의 깨우기로 합쳐진다.
+ */
+@Component
+public class OutboxWakeupSignal {
+
+    private final Semaphore permits = new Semaphore(0);
+
+    public void signal() {
+        // 이미 신호가 쌓여 있으면 추가하지 않음 (경합 시 여분 1회는 허용)
+        if (permits.availablePermits() == 0) {
+            permits.release();
+        }
+    }
+
+    /**
+     * 신호가 오거나 timeout 이 지날 때까지 대기
+     * @return 신호로 깨어났으면 true
+     */
+    public boolean await(long timeoutMillis) throws InterruptedException {
+        boolean signaled = permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS);
+        permits.drainPermits();
+        return signaled;
+    }
+}
@@ -0,0 +1,86 @@
+package kr.hhplus.be.server.infrastructure.outbox.cdc;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * binlog 체크포인트 + 릴레이 리스 저장소 (outbox_relay_checkpoint, JDBC)
+ *
+ * 릴레이 이름별 행 하나에 체크포인트와 리스(lease_owner, lease_until)를 함께 둔다.
+ * - tryAcquire: 리스가 비었거나 만료됐거나 이미 내 것이면 획득/갱신한다. (만료 판단은 DB 시각 기준)
+ * - save: 리스 보유자일 때만 체크포인트를 옮긴다. 리스를 빼앗겼으면 예외를 던져 호출 측 트랜잭션
+ *   (처리 완료 표시 포함)을 롤백시키므로, 두 릴레이가 겹쳐도 체크포인트는 현재 보유자만 움직인다.
+ * save 는 호출한 쪽 트랜잭션에 참여하므로 처리 완료 표시와 같은 커밋으로 묶인다.
+ */
+public class BinlogCheckpointStore {
+
+    private static final String SELECT_SQL =
+        "SELECT binlog_file, binlog_position FROM outbox_relay_checkpoint " +
+        "WHERE relay_name = ? AND binlog_file IS NOT NULL";
+
+    private static final String ENSURE_ROW_SQL =
+        "INSERT INTO outbox_relay_checkpoint (relay_name, upd_dttm) VALUES (?, ?) " +
+        "ON DUPLICATE KEY UPDATE relay_name = relay_name";
+
+    private static final String ACQUIRE_SQL =
+        "UPDATE outbox_relay_checkpoint SET lease_owner = ?, lease_until = TIMESTAMPADD(MICROSECOND, ?, UTC_TIMESTAMP(6)) " +
+        "WHERE relay_name = ? AND (lease_owner IS NULL OR lease_owner = ? OR lease_until < UTC_TIMESTAMP(6))";
+
+    private static final String RELEASE_SQL =
+        "UPDATE outbox_relay_checkpoint SET lease_owner = NULL, lease_until = NULL WHERE relay_name = ? AND lease_owner = ?";
+
+    private static final String SAVE_SQL =
+        "UPDATE outbox_relay_checkpoint SET binlog_file = ?, binlog_position = ?, upd_dttm = ? " +
+        "WHERE relay_name = ? AND lease_owner = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String relayName;
+    private final String owner;
+
+    public BinlogCheckpointStore(JdbcTemplate jdbcTemplate, String relayName, String owner) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.relayName = relayName;
+        this.owner = owner;
+    }
+
+    public String owner() {
+        return owner;
+    }
+
+    public Optional<BinlogPosition> load() {
+        List<BinlogPosition> found = jdbcTemplate.query(SELECT_SQL,
+            (rs, rowNum) -> new BinlogPosition(rs.getString(1), rs.getLong(2)),
+            relayName);
+        return found.stream().findFirst();
+    }
+
+    /**
+     * 리스 획득 또는 갱신
+     * @return 이 노드가 리스를 보유하면 true
+     */
+    public boolean tryAcquire(Duration lease) {
+        jdbcTemplate.update(ENSURE_ROW_SQL, relayName, LocalDateTime.now(ZoneOffset.UTC));
+        return jdbcTemplate.update(ACQUIRE_SQL, owner, lease.toNanos() / 1_000, relayName, owner) > 0;
+    }
+
+    public void release() {
+        jdbcTemplate.update(RELEASE_SQL, relayName, owner);
+    }
+
+    /**
+     * 체크포인트 저장 (리스 보유자만)
+     * @throws IllegalStateException 리스를 다른 노드가 가져간 경우
+     */
+    public void save(BinlogPosition position) {
+        int updated = jdbcTemplate.update(SAVE_SQL,
+            position.filename(), position.position(), LocalDateTime.now(ZoneOffset.UTC), relayName, owner);
+        if (updated == 0) {
+            throw new IllegalStateException("릴레이 리스 상실 - 체크포인트 저장 거부: owner=" + owner);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package kr.hhplus.be.server.infrastructure.outbox.cdc;
+
+/**
+ * binlog 위치 (파일명 + 파일 내 오프셋)
+ */
+public record BinlogPosition(String filename, long position) {
+}
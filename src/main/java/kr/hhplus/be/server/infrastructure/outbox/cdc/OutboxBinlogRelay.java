@@ -0,0 +1,434 @@
+package kr.hhplus.be.server.infrastructure.outbox.cdc;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.shyiko.mysql.binlog.BinaryLogClient;
+import com.github.shyiko.mysql.binlog.event.Event;
+import com.github.shyiko.mysql.binlog.event.EventHeaderV4;
+import com.github.shyiko.mysql.binlog.event.EventType;
+import com.github.shyiko.mysql.binlog.event.TableMapEventData;
+import com.github.shyiko.mysql.binlog.event.WriteRowsEventData;
+import com.github.shyiko.mysql.binlog.event.deserialization.EventDeserializer;
+import com.github.shyiko.mysql.binlog.event.deserialization.json.JsonBinary;
+
+import kr.hhplus.be.server.domain.message.MessageProducer;
+import kr.hhplus.be.server.infrastructure.outbox.OutboxFailureHandler;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Outbox CDC 릴레이 (binlog tailing)
+ *
+ * outbox_messages 를 주기적으로 조회하는 대신 MySQL binlog(ROW 포맷)를 복제 클라이언트로 구독해
+ * INSERT 된 행을 MessageProducer 로 전달한다. primary 에는 조회 부하가 없고, 새 메시지는 커밋 직후 전송된다.
+ * - 한 트랜잭션(XID 이벤트)의 outbox 행을 모아 sendAll 로 전송, 실패분은 retry-backoff 간격으로 max-retry 회까지 재전송
+ * - 처리 완료 표시(is_processed), 재시도 횟수, 체크포인트(다음 binlog 위치)를 한 트랜잭션으로 저장
+ *   → 재시작 시 체크포인트 이후부터 정확히 이어서 읽는다 (처리 도중 장애 시에만 해당 트랜잭션을 다시 전송)
+ * - 체크포인트가 없으면 현재 binlog 위치부터 시작하므로, 처음 전환할 때는 polling 모드로 대기 메시지를 비운 뒤 켠다.
+ * - max-retry 를 넘긴 메시지는 is_processed=false 로 남아 Dead Letter 점검 대상이 된다.
+ * - 결과 저장에 실패하면 이후 XID 는 처리하지 않고(체크포인트가 실패한 트랜잭션을 넘지 않도록) 체크포인트부터 다시 구독한다.
+ *
+ * 단일 리더: 모든 노드가 릴레이를 띄워도 outbox_relay_checkpoint 행의 리스(lease_owner, lease_until)를
+ * 가진 노드 하나만 binlog 에 접속한다. (같은 server-id 접속끼리 서로 끊거나, 노드마다 같은 메시지를 보내는 것 방지)
+ * - lease/3 주기로 리스를 갱신하고, 갱신에 실패하면 구독을 끊는다. 종료 시 리스를 반납한다.
+ * - 체크포인트 저장은 리스 보유자만 가능하므로, 리스를 잃은 노드의 늦은 결과 저장은 롤백된다.
+ * 접속 계정에는 REPLICATION SLAVE, REPLICATION CLIENT 권한이 필요하다.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.relay.mode", havingValue = "cdc")
+@Slf4j
+public class OutboxBinlogRelay implements SmartLifecycle {
+
+    static final String OUTBOX_TABLE = "outbox_messages";
+    static final String RELAY_NAME = "outbox-relay";
+
+    private static final String COLUMNS_SQL =
+        "SELECT column_name, data_type FROM information_schema.columns " +
+        "WHERE table_schema = ? AND table_name = ? ORDER BY ordinal_position";
+
+    private static final String MARK_PROCESSED_SQL =
+        "UPDATE outbox_messages SET is_processed = true, processed_dttm = ?, error_message = NULL, " +
+        "locked_until = NULL, locked_by = NULL WHERE id = ?";
+
+    private static final String INCREMENT_RETRY_SQL =
+        "UPDATE outbox_messages SET retry_count = retry_count + 1, error_message = ? WHERE id = ?";
+
+    private final MessageProducer messageProducer;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BinlogCheckpointStore checkpointStore;
+
+    private final String host;
+    private final int port;
+    private final String database;
+    private final String username;
+    private final String password;
+    private final long serverId;
+    private final Duration connectTimeout;
+    private final Duration checkpointInterval;
+    private final Duration retryBackoff;
+    private final int maxRetry;
+    private final Duration lease;
+
+    // binlog 이벤트는 클라이언트 스레드 하나에서만 처리된다.
+    private final Map<Long, Boolean> outboxTableIds = new HashMap<>();
+    private final List<RelayedRow> pendingRows = new ArrayList<>();
+    private Map<String, Column> columns;
+    private long lastCheckpointAt;
+
+    private volatile BinaryLogClient client;
+    private volatile boolean running;
+    private volatile boolean leader;
+    // 결과 저장 실패 또는 리스 상실 후 재구독 전까지 이벤트를 무시한다.
+    private volatile boolean halted;
+    private ScheduledExecutorService leaseExecutor;
+
+    public OutboxBinlogRelay(
+        MessageProducer messageProducer,
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        @Value("${outbox.relay.cdc.host:localhost}") String host,
+        @Value("${outbox.relay.cdc.port:3306}") int port,
+        @Value("${outbox.relay.cdc.database:hhplus}") String database,
+        @Value("${outbox.relay.cdc.username:}") String username,
+        @Value("${outbox.relay.cdc.password:}") String password,
+        @Value("${outbox.relay.cdc.server-id:6501}") long serverId,
+        @Value("${outbox.relay.cdc.connect-timeout:10s}") Duration connectTimeout,
+        @Value("${outbox.relay.cdc.checkpoint-interval:10s}") Duration checkpointInterval,
+        @Value("${outbox.relay.cdc.retry-backoff:500ms}") Duration retryBackoff,
+        @Value("${outbox.max-retry:3}") int maxRetry,
+        @Value("${outbox.relay.cdc.lease:30s}") Duration lease
+    ) {
+        this.messageProducer = messageProducer;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.checkpointStore = new BinlogCheckpointStore(
+            jdbcTemplate, RELAY_NAME, UUID.randomUUID().toString().substring(0, 8));
+        this.host = host;
+        this.port = port;
+        this.database = database;
+        this.username = username;
+        this.password = password;
+        this.serverId = serverId;
+        this.connectTimeout = connectTimeout;
+        this.checkpointInterval = checkpointInterval;
+        this.retryBackoff = retryBackoff;
+        this.maxRetry = maxRetry;
+        this.lease = lease;
+    }
+
+    @Override
+    public void start() {
+        columns = loadColumns();
+        running = true;
+        leaseExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outbox-relay-lease");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long renewMillis = Math.max(1, lease.toMillis() / 3);
+        leaseExecutor.scheduleWithFixedDelay(this::maintainLease, 0, renewMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (leaseExecutor != null) {
+            leaseExecutor.shutdownNow();
+        }
+        synchronized (this) {
+            disconnect();
+            if (leader) {
+                leader = false;
+                try {
+                    checkpointStore.release();
+                } catch (Exception e) {
+                    log.warn("[OutboxRelay] 리스 반납 실패 - 만료 후 다른 노드가 이어받음", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 리스를 보유하고 binlog 를 구독 중인지
+     */
+    public boolean isSubscribed() {
+        BinaryLogClient current = client;
+        return leader && !halted && current != null && current.isConnected();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 리스 획득/갱신 후 구독 상태 맞추기 (lease 스레드)
+     * - 리스를 얻으면 접속, 잃으면 구독 중단
+     * - 리더인데 접속이 끊겼거나 중단(halted) 상태면 체크포인트부터 다시 구독
+     */
+    synchronized void maintainLease() {
+        if (!running) {
+            return;
+        }
+        try {
+            if (!checkpointStore.tryAcquire(lease)) {
+                if (leader) {
+                    log.warn("[OutboxRelay] 리스 상실 - binlog 구독 중단: owner={}", checkpointStore.owner());
+                    leader = false;
+                    halted = true;
+                    disconnect();
+                }
+                return;
+            }
+            if (!leader) {
+                log.info("[OutboxRelay] 리스 획득 - binlog 구독 시작: owner={}", checkpointStore.owner());
+                leader = true;
+            }
+            BinaryLogClient current = client;
+            if (current == null || !current.isConnected() || halted) {
+                disconnect();
+                connect();
+            }
+        } catch (Exception e) {
+            log.error("[OutboxRelay] 리스 갱신 또는 구독 실패 - 다음 주기에 재시도", e);
+        }
+    }
+
+    private void connect() {
+        BinaryLogClient newClient = new BinaryLogClient(host, port, username, password);
+        newClient.setServerId(serverId);
+        // 재접속은 lease 스레드가 체크포인트 기준으로만 한다. (클라이언트 자체 재접속은 메모리 위치에서 이어 읽음)
+        newClient.setKeepAlive(false);
+
+        EventDeserializer deserializer = new EventDeserializer();
+        deserializer.setCompatibilityMode(
+            EventDeserializer.CompatibilityMode.DATE_AND_TIME_AS_LONG,
+            EventDeserializer.CompatibilityMode.CHAR_AND_BINARY_AS_BYTE_ARRAY
+        );
+        newClient.setEventDeserializer(deserializer);
+
+        checkpointStore.load().ifPresent(checkpoint -> {
+            newClient.setBinlogFilename(checkpoint.filename());
+            newClient.setBinlogPosition(checkpoint.position());
+        });
+        newClient.registerEventListener(this::onEvent);
+
+        outboxTableIds.clear();
+        pendingRows.clear();
+        halted = false;
+        client = newClient;
+        try {
+            newClient.connect(connectTimeout.toMillis());
+        } catch (IOException | TimeoutException e) {
+            throw new IllegalStateException("binlog 접속 실패: " + host + ":" + port, e);
+        }
+        log.info("[OutboxRelay] binlog 구독 시작: {}:{}", newClient.getBinlogFilename(), newClient.getBinlogPosition());
+    }
+
+    private void disconnect() {
+        BinaryLogClient current = client;
+        if (current == null) {
+            return;
+        }
+        try {
+            current.disconnect();
+        } catch (IOException e) {
+            log.warn("[OutboxRelay] binlog 연결 종료 중 오류", e);
+        }
+    }
+
+    void onEvent(Event event) {
+        if (halted) {
+            return;
+        }
+        EventType type = event.getHeader().getEventType();
+
+        if (type == EventType.TABLE_MAP) {
+            TableMapEventData data = event.getData();
+            outboxTableIds.put(data.getTableId(),
+                database.equalsIgnoreCase(data.getDatabase()) && OUTBOX_TABLE.equalsIgnoreCase(data.getTable()));
+
+        } else if (EventType.isWrite(type)) {
+            WriteRowsEventData data = event.getData();
+            if (Boolean.TRUE.equals(outboxTableIds.get(data.getTableId()))) {
+                data.getRows().forEach(row -> pendingRows.add(toRow(row)));
+            }
+
+        } else if (type == EventType.XID) {
+            EventHeaderV4 header = event.getHeader();
+            onCommit(new BinlogPosition(client.getBinlogFilename(), header.getNextPosition()));
+        }
+    }
+
+    /**
+     * 트랜잭션 커밋 지점: 모인 outbox 행 전송 + 결과/체크포인트 저장
+     * outbox 행이 없는 트랜잭션은 checkpoint-interval 마다 위치만 저장한다 (binlog 보관 기간 내 재시작 보장).
+     */
+    private void onCommit(BinlogPosition position) {
+        if (pendingRows.isEmpty()) {
+            if (System.currentTimeMillis() - lastCheckpointAt >= checkpointInterval.toMillis()) {
+                saveCheckpoint(position);
+            }
+            return;
+        }
+
+        List<RelayedRow> rows = List.copyOf(pendingRows);
+        pendingRows.clear();
+        try {
+            relay(rows, position);
+        } catch (Exception e) {
+            // 결과 저장 실패: 이후 XID 를 처리하면 체크포인트가 이 트랜잭션을 넘어가므로 멈추고,
+            // 체크포인트부터 다시 읽어 같은 트랜잭션을 재전송한다.
+            log.error("[OutboxRelay] 전송 결과 저장 실패 - 체크포인트부터 재구독: {} 건", rows.size(), e);
+            halted = true;
+            requestResubscribe();
+        }
+    }
+
+    private void relay(List<RelayedRow> rows, BinlogPosition position) {
+        List<RelayedRow> remaining = rows;
+        List<Long> succeededIds = new ArrayList<>();
+        List<Object[]> failedArgs = new ArrayList<>();
+
+        for (int attempt = 1; attempt <= maxRetry && !remaining.isEmpty(); attempt++) {
+            if (attempt > 1) {
+                sleep(retryBackoff.multipliedBy(attempt - 1));
+            }
+            List<MessageProducer.SendResult> results = messageProducer.sendAll(
+                remaining.stream().map(RelayedRow::message).toList());
+
+            List<RelayedRow> failed = new ArrayList<>();
+            for (int i = 0; i < remaining.size(); i++) {
+                RelayedRow row = remaining.get(i);
+                MessageProducer.SendResult result = results.get(i);
+                if (result.isSuccess()) {
+                    succeededIds.add(row.id());
+                } else {
+                    failed.add(row);
+                    failedArgs.add(new Object[]{OutboxFailureHandler.errorMessageOf(result.error()), row.id()});
+                }
+            }
+            remaining = failed;
+        }
+
+        if (!remaining.isEmpty()) {
+            log.error("[OutboxRelay] 최대 재시도 초과 - Dead Letter Queue로 이동: ids={}",
+                remaining.stream().map(RelayedRow::id).toList());
+        }
+
+        LocalDateTime processedDttm = LocalDateTime.now(ZoneOffset.UTC);
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!succeededIds.isEmpty()) {
+                jdbcTemplate.batchUpdate(MARK_PROCESSED_SQL,
+                    succeededIds.stream().map(id -> new Object[]{processedDttm, id}).toList());
+            }
+            if (!failedArgs.isEmpty()) {
+                jdbcTemplate.batchUpdate(INCREMENT_RETRY_SQL, failedArgs);
+            }
+            checkpointStore.save(position);
+        });
+        lastCheckpointAt = System.currentTimeMillis();
+
+        log.debug("[OutboxRelay] 전달: 성공={}, 실패={}, position={}", succeededIds.size(), remaining.size(), position);
+    }
+
+    private void saveCheckpoint(BinlogPosition position) {
+        try {
+            checkpointStore.save(position);
+            lastCheckpointAt = System.currentTimeMillis();
+        } catch (Exception e) {
+            log.warn("[OutboxRelay] 체크포인트 저장 실패: {}", position, e);
+        }
+    }
+
+    // binlog 클라이언트 스레드에서 끊지 않도록 lease 스레드에서 retry-backoff 후 재구독한다.
+    private void requestResubscribe() {
+        ScheduledExecutorService executor = leaseExecutor;
+        if (running && executor != null && !executor.isShutdown()) {
+            executor.schedule(this::maintainLease, retryBackoff.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private RelayedRow toRow(Serializable[] row) {
+        long id = ((Number) value(row, "id")).longValue();
+        String aggregateType = text(value(row, "aggregate_type"));
+        String aggregateId = String.valueOf(value(row, "aggregate_id"));
+        String payload = payload(value(row, "payload"));
+        return new RelayedRow(id, new MessageProducer.Message(aggregateType, aggregateId, payload));
+    }
+
+    private Serializable value(Serializable[] row, String columnName) {
+        Column column = columns.get(columnName);
+        if (column == null || column.index() >= row.length) {
+            throw new IllegalStateException("outbox_messages 컬럼 없음: " + columnName);
+        }
+        return row[column.index()];
+    }
+
+    private String payload(Serializable value) {
+        if (value instanceof byte[] bytes && "json".equalsIgnoreCase(columns.get("payload").dataType())) {
+            try {
+                // JSON 컬럼은 MySQL 바이너리 JSON 으로 기록된다.
+                return JsonBinary.parseAsString(bytes);
+            } catch (IOException e) {
+                throw new IllegalStateException("payload JSON 해석 실패", e);
+            }
+        }
+        return text(value);
+    }
+
+    private String text(Serializable value) {
+        if (value instanceof byte[] bytes) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+        return value != null ? value.toString() : null;
+    }
+
+    private Map<String, Column> loadColumns() {
+        Map<String, Column> loaded = new HashMap<>();
+        jdbcTemplate.query(COLUMNS_SQL,
+            (RowCallbackHandler) rs -> loaded.put(rs.getString(1).toLowerCase(), new Column(loaded.size(), rs.getString(2))),
+            database, OUTBOX_TABLE);
+        if (loaded.isEmpty()) {
+            throw new IllegalStateException("outbox_messages 테이블을 찾을 수 없음: " + database);
+        }
+        return loaded;
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Column(int index, String dataType) {
+    }
+
+    private record RelayedRow(long id, MessageProducer.Message message) {
+    }
+}
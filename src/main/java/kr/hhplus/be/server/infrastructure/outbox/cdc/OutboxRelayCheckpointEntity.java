@@ -0,0 +1,44 @@
+package kr.hhplus.be.server.infrastructure.outbox.cdc;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outbox CDC 릴레이 binlog 체크포인트 (outbox_relay_checkpoint)
+ *
+ * 쓰기는 BinlogCheckpointStore 의 JDBC upsert 로만 하며, 엔티티는 스키마 정의용이다.
+ * 릴레이 이름별로 마지막으로 전송을 마친 트랜잭션의 다음 binlog 위치를 보관한다. (아직 없으면 NULL)
+ * 같은 행의 lease_owner / lease_until 은 릴레이 리더 리스로, 리스를 가진 노드 하나만 binlog 를 구독한다.
+ */
+@Entity
+@Table(name = "outbox_relay_checkpoint")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class OutboxRelayCheckpointEntity {
+
+    @Id
+    @Column(name = "relay_name", length = 50)
+    private String relayName;
+
+    @Column(name = "binlog_file", length = 100)
+    private String binlogFile;
+
+    @Column(name = "binlog_position")
+    private Long binlogPosition;
+
+    @Column(name = "lease_owner", length = 100)
+    private String leaseOwner;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "upd_dttm", nullable = false)
+    private LocalDateTime updDttm;
+}
@@ -11,6 +11,7 @@ import org.springframework.transaction.annotation.Transactional;
 import kr.hhplus.be.server.application.product.service.ProductService;
 import kr.hhplus.be.server.domain.product.entity.PopularProduct;
 import kr.hhplus.be.server.domain.product.repository.PopularProductRepository;
+import kr.hhplus.be.server.infrastructure.product.batch.OrderHistorySalesAggregator;
 import kr.hhplus.be.server.infrastructure.product.persistence.PopularProductCustomRepository;
 import kr.hhplus.be.server.presentation.product.dto.response.PopularProductResponse;
 import lombok.RequiredArgsConstructor;
@@ -20,14 +21,21 @@ import lombok.extern.slf4j.Slf4j;
  * 인기 상품 집계 배치 스케줄러
  * - 매일 새벽 1시에 실행
  * - 기준일(오늘) 기준 D-3 ~ D-1 기간의 판매량 상위 5개 상품 집계
+ * - 주문 이력 대신 일별 판매량 롤업(product_daily_sales) 행을 합산
+ * - rebuild-mode=order-scan 이면 원본 주문 이력을 PK 범위 단위로 스캔해 다시 계산 (백필/정합성 점검용)
+ * - 집계는 트랜잭션 밖에서 수행하고, 결과는 스테이징 기준일에 적재 후 짧은 트랜잭션으로 교체
+ *   (교체 전까지 조회 경로는 기존 데이터를 그대로 보므로 빈 구간이 생기지 않는다)
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class PopularProductScheduler {
 
+    static final String REBUILD_MODE_ORDER_SCAN = "order-scan";
+
     private final PopularProductRepository popularProductRepository;
     private final PopularProductCustomRepository popularProductCustomRepository;
+    private final OrderHistorySalesAggregator orderHistorySalesAggregator;
     private final ProductService productService;
 
     @Value("${popular-product.top-count:5}")
@@ -42,50 +50,50 @@ public class PopularProductScheduler {
     @Value("${popular-product.end-date-offset:1}")
     private int endDateOffset;
 
+    @Value("${popular-product.rebuild-mode:rollup}")
+    private String rebuildMode;
+
     /**
      * 매일 새벽 1시: 인기 상품 집계
      * - 기준일: 오늘 (배치 실행일)
      * - 집계 기간: D-(periodDays) ~ D-(endDateOffset) (기본: D-3 ~ D-1, 직전 3일)
      */
     @Scheduled(cron = "${popular-product.schedule.aggregate-cron:0 0 1 * * *}")
-    @Transactional
     public void aggregatePopularProducts() {
         LocalDate today = LocalDate.now();
         LocalDate startDate = today.minusDays(periodDays);  // D-3
         LocalDate endDate = today.minusDays(endDateOffset); // D-1 (테스트에서는 D-0)
 
-        log.info("[PopularProduct] 집계 시작: baseDate={}, period={} ~ {}",
-            today, startDate, endDate);
+        log.info("[PopularProduct] 집계 시작: baseDate={}, period={} ~ {}, mode={}",
+            today, startDate, endDate, rebuildMode);
 
+        long startedAt = System.currentTimeMillis();
         try {
-            // 1. 기존 오늘자 데이터 삭제 (멱등성 보장)
-            popularProductRepository.deleteByBaseDate(today);
-            log.debug("[PopularProduct] 기존 데이터 삭제 완료: baseDate={}", today);
+            // 1. 판매량 상위 상품 집계 (트랜잭션 밖)
+            List<PopularProduct> products = REBUILD_MODE_ORDER_SCAN.equals(rebuildMode)
+                ? orderHistorySalesAggregator.aggregateTopSellingProducts(startDate, endDate, topCount, today)
+                : popularProductCustomRepository.aggregateTopSellingProducts(startDate, endDate, topCount, today);
 
-            // 2. 판매량 상위 상품 집계
-            List<PopularProduct> products = popularProductCustomRepository
-                .aggregateTopSellingProducts(startDate, endDate, topCount, today);
+            // 2. 오늘자 데이터 교체 (재실행 시 멱등성 보장, 결과가 없으면 오늘자 데이터만 비워진다)
+            popularProductRepository.replaceByBaseDate(today, products);
 
             if (products.isEmpty()) {
                 log.info("[PopularProduct] 집계 결과 없음: 해당 기간 주문 데이터 없음");
                 return;
             }
 
-            // 3. 저장
-            popularProductRepository.saveAll(products);
-
-            // 4. Redis 캐시 갱신 (Cache Warming)
+            // 3. Redis 캐시 갱신 (Cache Warming, 집계에 걸린 시간을 조기 갱신 확률 계산에 반영)
             List<PopularProductResponse> responses = products.stream()
                 .map(PopularProductResponse::from)
                 .toList();
             productService.evictRedisCache();
-            productService.putToRedisCache(responses);
+            productService.putToRedisCache(responses, System.currentTimeMillis() - startedAt);
 
             log.info("[PopularProduct] 집계 완료: {} 건 저장 + Redis 캐시 갱신", products.size());
 
         } catch (Exception e) {
             log.error("[PopularProduct] 집계 실패: baseDate={}", today, e);
-            throw e; // 트랜잭션 롤백을 위해 예외 재발생
+            throw e; // 교체 트랜잭션이 롤백되면 기존 데이터가 유지된다
         }
     }
 
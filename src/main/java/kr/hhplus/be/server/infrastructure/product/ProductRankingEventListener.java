@@ -0,0 +1,31 @@
+package kr.hhplus.be.server.infrastructure.product;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import kr.hhplus.be.server.application.order.dto.response.OrderCompletedEvent;
+import kr.hhplus.be.server.application.product.service.ProductRankingService;
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class ProductRankingEventListener {
+    private final ProductRankingService productRankingService;
+
+    /**
+     * 주문 트랜잭션 커밋 후 주문 상품 판매량을 랭킹에 반영 (주문 1건당 Redis 1회 왕복)
+     * 롤백된 주문은 반영되지 않으며, 랭킹 반영 실패는 주문에 영향을 주지 않는다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleOrderCompletedEvent(OrderCompletedEvent event) {
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        event.orderDetails().forEach(detail ->
+            quantities.merge(detail.productId(), detail.quantity(), Integer::sum));
+
+        productRankingService.incrementSalesScores(quantities);
+    }
+}
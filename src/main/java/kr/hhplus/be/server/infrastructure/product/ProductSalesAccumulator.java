@@ -0,0 +1,155 @@
+package kr.hhplus.be.server.infrastructure.product;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.domain.product.entity.ProductDailySales;
+import kr.hhplus.be.server.domain.product.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 누적 판매량(products.sales_quantity) + 일별 판매량 롤업(product_daily_sales) write-behind 누산기 (노드별)
+ *
+ * 주문 트랜잭션에서 상품 행을 다시 읽고 전체를 덮어쓰던 판매량 증가를 메모리 카운터 가산으로 바꾼다.
+ * 판매량은 주문 처리 중 동기적으로 읽는 곳이 없으므로 주기적으로 모아서 반영한다.
+ * - 가산: 주문 트랜잭션 커밋 후 상품별 카운터에 더함 (롤백된 주문은 반영되지 않음)
+ * - 반영: sales-flush-delay 마다 상품 ID 순으로 sales_quantity = sales_quantity + ? 를 JDBC batch 1회로 실행
+ *         같은 트랜잭션에서 (판매일, 상품 ID) 순으로 일별 롤업을 upsert
+ * - 실패: 꺼낸 값을 카운터에 되돌려 다음 주기에 재시도
+ * - 종료: 빈 소멸 시 남은 값을 반영 (실패하면 값을 로그로 남긴다)
+ *
+ * 카운터는 ConcurrentHashMap 의 상품별 AtomicLong 으로, 상품이 다르면 서로 경합하지 않는다.
+ * 일별 롤업 카운터는 (상품, 판매일) 키로 merge 하고 반영 시 키째 꺼낸다.
+ * 반영 전까지 products.sales_quantity 는 최대 한 주기만큼 늦다.
+ */
+@Component
+@Slf4j
+public class ProductSalesAccumulator {
+
+    private final ProductRepository productRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<Long, AtomicLong> pending = new ConcurrentHashMap<>();
+    private final Map<DailyKey, Long> pendingDaily = new ConcurrentHashMap<>();
+
+    private static final Comparator<DailyKey> DAILY_KEY_ORDER =
+        Comparator.comparing(DailyKey::salesDate).thenComparing(DailyKey::productId);
+
+    private record DailyKey(Long productId, LocalDate salesDate) {}
+
+    public ProductSalesAccumulator(ProductRepository productRepository, PlatformTransactionManager transactionManager) {
+        this.productRepository = productRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 판매량 변화량 가산 (진행 중인 트랜잭션이 있으면 커밋 후 가산)
+     * @param salesDate 판매일 (주문 생성일 - 취소 시에도 원래 주문일의 롤업에서 차감)
+     * @param delta 증가는 양수, 주문 취소 감소는 음수
+     */
+    public void add(Long productId, LocalDate salesDate, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    accumulate(productId, salesDate, delta);
+                }
+            });
+            return;
+        }
+        accumulate(productId, salesDate, delta);
+    }
+
+    private void accumulate(Long productId, LocalDate salesDate, long delta) {
+        pending.computeIfAbsent(productId, id -> new AtomicLong()).addAndGet(delta);
+        pendingDaily.merge(new DailyKey(productId, salesDate), delta, Long::sum);
+    }
+
+    /**
+     * 쌓인 변화량을 DB 에 반영
+     * @return 반영한 상품 수
+     */
+    @Scheduled(fixedDelayString = "${product.sales-flush-delay:1000}")
+    public synchronized int flush() {
+        Map<Long, Long> deltas = drain();
+        List<ProductDailySales> dailyDeltas = drainDaily();
+        if (deltas.isEmpty() && dailyDeltas.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                productRepository.increaseSalesQuantities(deltas);
+                productRepository.addDailySales(dailyDeltas);
+            });
+            log.debug("[SalesAccumulator] 판매량 반영: {} 건, 일별 롤업: {} 건", deltas.size(), dailyDeltas.size());
+            return deltas.size();
+        } catch (Exception e) {
+            log.error("[SalesAccumulator] 판매량 반영 실패 - 다음 주기에 재시도: {} 건", deltas.size(), e);
+            deltas.forEach((productId, delta) ->
+                pending.computeIfAbsent(productId, id -> new AtomicLong()).addAndGet(delta));
+            dailyDeltas.forEach(daily ->
+                pendingDaily.merge(new DailyKey(daily.productId(), daily.salesDate()), daily.quantity(), Long::sum));
+            return 0;
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        Map<Long, Long> remaining = drain();
+        List<ProductDailySales> remainingDaily = drainDaily();
+        if (!remaining.isEmpty() || !remainingDaily.isEmpty()) {
+            log.error("[SalesAccumulator] 종료 시 반영하지 못한 판매량 (수동 반영 필요): {}, 일별: {}",
+                remaining, remainingDaily);
+        }
+    }
+
+    /**
+     * 카운터 값을 꺼내고 0 으로 초기화 (상품 ID 순 - 반영 시 행 락 순서 고정)
+     * 카운터는 제거하지 않으므로 꺼내는 중에 들어온 가산은 다음 주기에 반영된다.
+     */
+    private Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new TreeMap<>();
+        pending.forEach((productId, counter) -> {
+            long delta = counter.getAndSet(0);
+            if (delta != 0) {
+                deltas.put(productId, delta);
+            }
+        });
+        return deltas;
+    }
+
+    /**
+     * 일별 롤업 변화량 꺼내기 ((판매일, 상품 ID) 순 - upsert 시 유니크 인덱스 락 순서 고정)
+     * 키를 통째로 제거하므로 지난 날짜의 키가 쌓이지 않으며, 제거 후 들어온 가산은 새 키로 다음 주기에 반영된다.
+     */
+    private List<ProductDailySales> drainDaily() {
+        List<ProductDailySales> deltas = new ArrayList<>();
+        pendingDaily.keySet().stream()
+            .sorted(DAILY_KEY_ORDER)
+            .forEach(key -> {
+                Long delta = pendingDaily.remove(key);
+                if (delta != null && delta != 0) {
+                    deltas.add(new ProductDailySales(key.productId(), key.salesDate(), delta));
+                }
+            });
+        return deltas;
+    }
+}
@@ -0,0 +1,31 @@
+package kr.hhplus.be.server.infrastructure.product;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import kr.hhplus.be.server.application.product.service.ProductRankingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 롤링 N시간 랭킹 윈도우 갱신 (ranking.mode=hourly 일 때만 등록)
+ * 윈도우를 벗어난 시간 버킷을 롤링 합계에서 차감한다. 버킷마다 커서로 한 번만 차감되므로 모든 노드에서 실행해도 된다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "ranking.mode", havingValue = "hourly")
+public class RankingRollupScheduler {
+
+    private final ProductRankingService productRankingService;
+
+    @Scheduled(fixedDelayString = "${ranking.rollup-delay:60000}")
+    public void rollup() {
+        try {
+            productRankingService.rollupHourlyWindow();
+        } catch (Exception e) {
+            log.error("[RankingRollup] 롤링 윈도우 갱신 실패", e);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package kr.hhplus.be.server.infrastructure.product.batch;
+
+/**
+ * long → long 오픈 어드레싱 해시맵 (선형 탐사)
+ *
+ * 주문 이력 스캔 중 상품별 판매량을 누적할 때 Long 박싱 / 엔트리 객체 없이
+ * 키·값 배열 두 개만 사용한다. 메모리는 판매된 상품 수에만 비례한다.
+ * 단일 스레드 전용.
+ */
+final class LongLongHashMap {
+
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final long EMPTY = 0L;
+
+    private long[] keys;
+    private long[] values;
+    private int mask;
+    private int size;
+    private int resizeAt;
+
+    // 0 은 빈 슬롯 표시로 쓰므로 별도로 보관한다.
+    private boolean hasZeroKey;
+    private long zeroValue;
+
+    LongLongHashMap(int expectedSize) {
+        int needed = Math.max(4, (int) Math.ceil(expectedSize / LOAD_FACTOR));
+        allocate(Integer.highestOneBit(needed - 1) << 1);
+    }
+
+    /**
+     * key 의 값에 delta 를 더한다 (없으면 delta 로 추가)
+     */
+    void addTo(long key, long delta) {
+        if (key == EMPTY) {
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroValue += delta;
+            return;
+        }
+
+        int slot = slot(key);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                values[slot] += delta;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = delta;
+        if (++size > resizeAt) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    /**
+     * key 의 값 (없으면 0)
+     */
+    long get(long key) {
+        if (key == EMPTY) {
+            return hasZeroKey ? zeroValue : 0L;
+        }
+        int slot = slot(key);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return 0L;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void forEach(EntryConsumer consumer) {
+        if (hasZeroKey) {
+            consumer.accept(EMPTY, zeroValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface EntryConsumer {
+        void accept(long key, long value);
+    }
+
+    private int slot(long key) {
+        // 피보나치 해싱: 연속된 상품 ID 도 고르게 흩어진다.
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(capacity);
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key == EMPTY) {
+                continue;
+            }
+            int slot = slot(key);
+            while (keys[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            values[slot] = oldValues[i];
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package kr.hhplus.be.server.infrastructure.product.batch;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import kr.hhplus.be.server.domain.order.enums.OrderStatus;
+import kr.hhplus.be.server.domain.product.entity.PopularProduct;
+import kr.hhplus.be.server.domain.product.entity.Product;
+import kr.hhplus.be.server.domain.product.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문 이력 스캔 기반 인기 상품 집계 (재구성 / 정합성 점검용)
+ *
+ * 평소 집계는 일별 판매량 롤업(product_daily_sales)을 사용하고,
+ * 이 경로는 롤업을 믿을 수 없을 때(백필, 유실 의심) 원본 주문 이력에서 다시 계산한다.
+ * - order_detail 을 PK 범위(chunk-size) 단위로 잘라 읽으므로 한 번에 버퍼링되는 행 수가 일정하다.
+ * - 행은 RowCallbackHandler 로 흘려보내며 상품 ID → 판매량 원시 해시맵에만 누적한다.
+ * - 스캔 시작/끝 PK 는 crt_dttm 기준 이진 탐색으로 좁혀 기간 밖 이력은 읽지 않는다.
+ * 따라서 메모리는 전체 이력 크기가 아니라 기간 내 판매된 상품 수에만 비례한다.
+ */
+@Component
+@Slf4j
+public class OrderHistorySalesAggregator {
+
+    private static final String ID_BOUNDS_SQL = "SELECT MIN(id), MAX(id) FROM order_detail";
+
+    private static final String CRT_DTTM_AT_SQL =
+        "SELECT crt_dttm FROM order_detail WHERE id >= ? ORDER BY id LIMIT 1";
+
+    private static final String CHUNK_SQL =
+        "SELECT d.product_id, d.quantity FROM order_detail d " +
+        "JOIN orders o ON o.id = d.order_id " +
+        "WHERE d.id > ? AND d.id <= ? " +
+        "AND o.crt_dttm >= ? AND o.crt_dttm < ? AND o.order_status = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProductRepository productRepository;
+    private final int chunkSize;
+
+    public OrderHistorySalesAggregator(
+        JdbcTemplate jdbcTemplate,
+        ProductRepository productRepository,
+        @Value("${popular-product.scan.chunk-size:10000}") int chunkSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.productRepository = productRepository;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 기간 [startDate, endDate] 완료 주문의 판매량 상위 상품 집계
+     * PopularProductCustomRepository.aggregateTopSellingProducts 와 같은 결과 형태를 돌려준다.
+     */
+    public List<PopularProduct> aggregateTopSellingProducts(
+        LocalDate startDate,
+        LocalDate endDate,
+        int limit,
+        LocalDate baseDate
+    ) {
+        LocalDateTime fromUtc = toUtc(startDate.atStartOfDay());
+        LocalDateTime toUtc = toUtc(endDate.plusDays(1).atStartOfDay());
+
+        LongLongHashMap salesByProduct = scan(fromUtc, toUtc);
+        List<long[]> top = topN(salesByProduct, limit);
+        if (top.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Product> products = productRepository.findAllById(top.stream().map(entry -> entry[0]).toList())
+            .stream()
+            .collect(Collectors.toMap(Product::id, Function.identity()));
+
+        List<PopularProduct> popularProducts = new ArrayList<>();
+        int rank = 1;
+        for (long[] entry : top) {
+            Product product = products.get(entry[0]);
+            if (product == null) {
+                continue; // 삭제된 상품
+            }
+            popularProducts.add(PopularProduct.fromAggregation(
+                rank++,
+                product.id(),
+                product.productName(),
+                product.price(),
+                product.category(),
+                (int) entry[1],
+                baseDate
+            ));
+        }
+        return popularProducts;
+    }
+
+    private LongLongHashMap scan(LocalDateTime fromUtc, LocalDateTime toUtc) {
+        LongLongHashMap salesByProduct = new LongLongHashMap(1024);
+
+        long[] bounds = jdbcTemplate.queryForObject(ID_BOUNDS_SQL,
+            (rs, rowNum) -> rs.getObject(1) == null ? null : new long[]{rs.getLong(1), rs.getLong(2)});
+        if (bounds == null) {
+            return salesByProduct;
+        }
+
+        // 상세 행의 crt_dttm 은 주문 시각과 수 ms 차이가 날 수 있으므로 한 chunk 만큼 여유를 둔다.
+        long startId = Math.max(bounds[0] - 1, firstIdAtOrAfter(fromUtc, bounds[0], bounds[1]) - chunkSize);
+        long endId = Math.min(bounds[1], firstIdAtOrAfter(toUtc, bounds[0], bounds[1]) + chunkSize);
+
+        long chunks = 0;
+        for (long lowerExclusive = startId; lowerExclusive < endId; lowerExclusive += chunkSize) {
+            long upperInclusive = Math.min(lowerExclusive + chunkSize, endId);
+            jdbcTemplate.query(CHUNK_SQL,
+                (RowCallbackHandler) rs -> salesByProduct.addTo(rs.getLong(1), rs.getLong(2)),
+                lowerExclusive, upperInclusive, fromUtc, toUtc, OrderStatus.COMPLETED.name());
+            chunks++;
+        }
+
+        log.info("[OrderHistorySalesAggregator] 스캔 완료: id=({}, {}], chunks={}, products={}",
+            startId, endId, chunks, salesByProduct.size());
+        return salesByProduct;
+    }
+
+    /**
+     * crt_dttm >= target 인 첫 상세 행 PK (PK 순서와 생성 시각 순서가 같다고 보고 이진 탐색)
+     * 해당 행이 없으면 maxId + 1
+     */
+    private long firstIdAtOrAfter(LocalDateTime target, long minId, long maxId) {
+        long lo = minId;
+        long hi = maxId + 1;
+        while (lo < hi) {
+            long mid = lo + (hi - lo) / 2;
+            List<LocalDateTime> found = jdbcTemplate.queryForList(CRT_DTTM_AT_SQL, LocalDateTime.class, mid);
+            if (found.isEmpty() || !found.get(0).isBefore(target)) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * 판매량 상위 N개 (판매량 내림차순, 같으면 상품 ID 오름차순)
+     * 크기 N 의 최소 힙만 유지하므로 상품 수와 무관하게 N 개만 할당한다.
+     */
+    static List<long[]> topN(LongLongHashMap salesByProduct, int limit) {
+        Comparator<long[]> ranking = Comparator.<long[]>comparingLong(entry -> entry[1])
+            .thenComparing(Comparator.<long[]>comparingLong(entry -> entry[0]).reversed());
+        PriorityQueue<long[]> heap = new PriorityQueue<>(Math.max(1, limit), ranking);
+
+        salesByProduct.forEach((productId, quantity) -> {
+            if (quantity <= 0 || limit <= 0) {
+                return; // 취소로 상쇄된 상품 제외
+            }
+            if (heap.size() < limit) {
+                heap.offer(new long[]{productId, quantity});
+                return;
+            }
+            long[] lowest = heap.peek();
+            if (quantity > lowest[1] || (quantity == lowest[1] && productId < lowest[0])) {
+                heap.poll();
+                heap.offer(new long[]{productId, quantity});
+            }
+        });
+
+        List<long[]> top = new ArrayList<>(heap);
+        top.sort(ranking.reversed());
+        return top;
+    }
+
+    /**
+     * hibernate.jdbc.time_zone=UTC 와 동일하게 UTC 기준으로 비교
+     */
+    private LocalDateTime toUtc(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault())
+            .withZoneSameInstant(ZoneOffset.UTC)
+            .toLocalDateTime();
+    }
+}
@@ -0,0 +1,237 @@
+package kr.hhplus.be.server.infrastructure.product.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import kr.hhplus.be.server.domain.product.entity.Product;
+import kr.hhplus.be.server.domain.product.entity.ProductSummary;
+import kr.hhplus.be.server.domain.product.enums.ProductCategory;
+import kr.hhplus.be.server.domain.product.enums.ProductStatus;
+import kr.hhplus.be.server.infrastructure.product.persistence.ProductEntity;
+import kr.hhplus.be.server.infrastructure.product.persistence.ProductJpaRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 요약 캐시 (로컬 near-cache + Redis Hash)
+ *
+ * 인기상품/랭킹 응답을 조립할 때 매번 MySQL 에서 상품을 조회하지 않도록 한다.
+ * - L1: 노드별 Caffeine (짧은 TTL, 다른 노드의 재고 변경은 TTL 로 수렴)
+ * - L2: Redis Hash (product:summary:{id} → name, price, stock, category, status)
+ * - 둘 다 미스난 ID 만 IN 절 1회로 DB 조회 후 Redis 에 적재
+ *
+ * 재고/가격 변경(ProductRepositoryImpl 쓰기 경로)은 커밋 후 Redis Hash 와 로컬 캐시를 함께 갱신한다.
+ * 상품 행을 다시 읽지 않는 조건부 차감은 갱신 대신 제거하고, 다음 조회 때 DB 에서 다시 적재한다.
+ * 커밋 순서와 갱신 순서가 어긋나면 잠시 이전 재고가 보일 수 있으나 Redis TTL 로 상한이 정해진다.
+ */
+@Component
+@Slf4j
+public class ProductSummaryCache {
+
+    static final String CACHE_NAME = "productSummary";
+    static final String KEY_PREFIX = "product:summary:";
+
+    private static final String FIELD_NAME = "name";
+    private static final String FIELD_PRICE = "price";
+    private static final String FIELD_STOCK = "stock";
+    private static final String FIELD_CATEGORY = "category";
+    private static final String FIELD_STATUS = "status";
+    private static final List<String> FIELDS =
+        List.of(FIELD_NAME, FIELD_PRICE, FIELD_STOCK, FIELD_CATEGORY, FIELD_STATUS);
+
+    private final ProductJpaRepository productJpaRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Cache<Long, ProductSummary> cache;
+    private final Duration redisTtl;
+
+    public ProductSummaryCache(
+        ProductJpaRepository productJpaRepository,
+        RedisTemplate<String, String> redisTemplate,
+        MeterRegistry meterRegistry,
+        @Value("${product.summary-cache.max-size:10000}") long maxSize,
+        @Value("${product.summary-cache.local-ttl:2s}") Duration localTtl,
+        @Value("${product.summary-cache.redis-ttl:1h}") Duration redisTtl
+    ) {
+        this.productJpaRepository = productJpaRepository;
+        this.redisTemplate = redisTemplate;
+        this.redisTtl = redisTtl;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(localTtl)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 다건 조회 (로컬 → Redis → DB 순으로 미스난 ID 만 다음 단계로 넘긴다)
+     * 존재하지 않는 상품은 결과에서 빠진다.
+     */
+    public Map<Long, ProductSummary> getAll(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        return cache.getAll(productIds, this::loadAll);
+    }
+
+    private Map<Long, ProductSummary> loadAll(Set<? extends Long> productIds) {
+        List<Long> ids = List.copyOf(productIds);
+        Map<Long, ProductSummary> loaded = new HashMap<>(readFromRedis(ids));
+
+        List<Long> missingIds = ids.stream().filter(id -> !loaded.containsKey(id)).toList();
+        if (!missingIds.isEmpty()) {
+            List<ProductSummary> fromDb = productJpaRepository.findAllById(missingIds).stream()
+                .map(ProductEntity::toDomain)
+                .map(ProductSummary::from)
+                .toList();
+            writeToRedis(fromDb);
+            fromDb.forEach(summary -> loaded.put(summary.id(), summary));
+        }
+        return loaded;
+    }
+
+    /**
+     * 상품 변경 반영 (트랜잭션 안이면 커밋 후)
+     */
+    public void putAfterCommit(Product product) {
+        putAllAfterCommit(List.of(product));
+    }
+
+    public void putAllAfterCommit(List<Product> products) {
+        List<ProductSummary> summaries = products.stream().map(ProductSummary::from).toList();
+        runAfterCommit(() -> {
+            writeToRedis(summaries);
+            summaries.forEach(summary -> cache.put(summary.id(), summary));
+        });
+    }
+
+    /**
+     * 상품 요약 제거 (트랜잭션 안이면 커밋 후)
+     */
+    public void evictAfterCommit(Long productId) {
+        runAfterCommit(() -> {
+            cache.invalidate(productId);
+            try {
+                redisTemplate.delete(KEY_PREFIX + productId);
+            } catch (DataAccessException e) {
+                log.warn("[ProductSummaryCache] Redis 제거 실패: productId={}", productId, e);
+            }
+        });
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * HGETALL 을 파이프라인으로 한 번에 조회 (필드가 빠진 항목은 미스로 본다)
+     */
+    @SuppressWarnings("unchecked")
+    private Map<Long, ProductSummary> readFromRedis(List<Long> productIds) {
+        List<Object> results;
+        try {
+            results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    productIds.forEach(id -> ops.opsForHash().entries(KEY_PREFIX + id));
+                    return null;
+                }
+            });
+        } catch (DataAccessException e) {
+            log.warn("[ProductSummaryCache] Redis 조회 실패, DB fallback", e);
+            return Map.of();
+        }
+
+        Map<Long, ProductSummary> found = new LinkedHashMap<>();
+        for (int i = 0; i < productIds.size() && i < results.size(); i++) {
+            if (results.get(i) instanceof Map<?, ?> hash) {
+                ProductSummary summary = fromHash(productIds.get(i), (Map<Object, Object>) hash);
+                if (summary != null) {
+                    found.put(summary.id(), summary);
+                }
+            }
+        }
+        return found;
+    }
+
+    private void writeToRedis(List<ProductSummary> summaries) {
+        if (summaries.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    for (ProductSummary summary : summaries) {
+                        String key = KEY_PREFIX + summary.id();
+                        ops.opsForHash().putAll(key, toHash(summary));
+                        ops.expire(key, redisTtl);
+                    }
+                    return null;
+                }
+            });
+        } catch (DataAccessException e) {
+            // 적재 실패 시 다음 조회에서 다시 DB 로 적재한다.
+            log.warn("[ProductSummaryCache] Redis 적재 실패: {} 건", summaries.size(), e);
+        }
+    }
+
+    private Map<String, String> toHash(ProductSummary summary) {
+        Map<String, String> hash = new HashMap<>();
+        hash.put(FIELD_NAME, summary.productName());
+        hash.put(FIELD_PRICE, String.valueOf(summary.price()));
+        hash.put(FIELD_STOCK, String.valueOf(summary.stock()));
+        hash.put(FIELD_CATEGORY, summary.category().name());
+        hash.put(FIELD_STATUS, summary.status().name());
+        return hash;
+    }
+
+    private ProductSummary fromHash(Long productId, Map<Object, Object> hash) {
+        if (!hash.keySet().containsAll(FIELDS)) {
+            return null;
+        }
+        try {
+            return new ProductSummary(
+                productId,
+                hash.get(FIELD_NAME).toString(),
+                Long.valueOf(hash.get(FIELD_PRICE).toString()),
+                Integer.valueOf(hash.get(FIELD_STOCK).toString()),
+                ProductCategory.valueOf(hash.get(FIELD_CATEGORY).toString()),
+                ProductStatus.valueOf(hash.get(FIELD_STATUS).toString())
+            );
+        } catch (IllegalArgumentException e) {
+            log.warn("[ProductSummaryCache] 잘못된 캐시 항목: productId={}", productId);
+            return null;
+        }
+    }
+}
@@ -11,7 +11,7 @@ import kr.hhplus.be.server.domain.product.entity.PopularProduct;
 public interface PopularProductCustomRepository {
 
     /**
-     * 특정 기간의 판매량 상위 상품 집계
+     * 특정 기간의 판매량 상위 상품 집계 (일별 판매량 롤업 기준)
      * @param startDate 집계 시작일
      * @param endDate 집계 종료일
      * @param limit 상위 N개
@@ -1,20 +1,16 @@
 package kr.hhplus.be.server.infrastructure.product.persistence;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.stereotype.Repository;
 
 import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
-import kr.hhplus.be.server.domain.order.enums.OrderStatus;
 import kr.hhplus.be.server.domain.product.entity.PopularProduct;
-import kr.hhplus.be.server.infrastructure.order.persistence.QOrderDetailEntity;
-import kr.hhplus.be.server.infrastructure.order.persistence.QOrderEntity;
 import lombok.RequiredArgsConstructor;
 
 @Repository
@@ -23,9 +19,12 @@ public class PopularProductCustomRepositoryImpl implements PopularProductCustomR
 
     private final JPAQueryFactory queryFactory;
     private final QProductEntity product = QProductEntity.productEntity;
-    private final QOrderDetailEntity orderDetail = QOrderDetailEntity.orderDetailEntity;
-    private final QOrderEntity order = QOrderEntity.orderEntity;
+    private final QProductDailySalesEntity dailySales = QProductDailySalesEntity.productDailySalesEntity;
 
+    /**
+     * 일별 판매량 롤업(product_daily_sales)을 기간 합산 (주문 이력 조인 없음)
+     * 기간 일수 × 판매된 상품 수만큼의 행만 읽고, 상위 상품만 상품 테이블과 PK 로 조인한다.
+     */
     @Override
     public List<PopularProduct> aggregateTopSellingProducts(
         LocalDate startDate,
@@ -33,9 +32,7 @@ public class PopularProductCustomRepositoryImpl implements PopularProductCustomR
         int limit,
         LocalDate baseDate
     ) {
-        // 시작일 00:00:00 ~ 종료일 23:59:59
-        LocalDateTime startDateTime = startDate.atStartOfDay();
-        LocalDateTime endDateTime = endDate.atTime(LocalTime.MAX);
+        NumberExpression<Long> totalQuantity = dailySales.quantity.sum();
 
         List<Tuple> results = queryFactory
             .select(
@@ -43,18 +40,17 @@ public class PopularProductCustomRepositoryImpl implements PopularProductCustomR
                 product.productName,
                 product.price,
                 product.category,
-                orderDetail.quantity.sum()
+                totalQuantity
             )
-            .from(product)
-            .innerJoin(orderDetail).on(orderDetail.productId.eq(product.id))
-            .innerJoin(order).on(order.id.eq(orderDetail.orderId))
+            .from(dailySales)
+            .innerJoin(product).on(product.id.eq(dailySales.productId))
             .where(
-                order.crtDttm.goe(startDateTime),
-                order.crtDttm.loe(endDateTime),
-                order.orderStatus.ne(OrderStatus.CANCELED)
+                dailySales.salesDate.goe(startDate),
+                dailySales.salesDate.loe(endDate)
             )
             .groupBy(product.id, product.productName, product.price, product.category)
-            .orderBy(orderDetail.quantity.sum().desc())
+            .having(totalQuantity.gt(0L))
+            .orderBy(totalQuantity.desc())
             .limit(limit)
             .fetch();
 
@@ -68,7 +64,7 @@ public class PopularProductCustomRepositoryImpl implements PopularProductCustomR
                 tuple.get(product.productName),
                 tuple.get(product.price),
                 tuple.get(product.category),
-                tuple.get(orderDetail.quantity.sum()),
+                tuple.get(totalQuantity).intValue(),
                 baseDate
             );
             popularProducts.add(popularProduct);
@@ -76,6 +76,13 @@ public class PopularProductEntity {
      * Domain -> Entity 변환
      */
     public static PopularProductEntity from(PopularProduct popularProduct) {
+        return from(popularProduct, popularProduct.baseDate());
+    }
+
+    /**
+     * Domain -> Entity 변환 (기준일 지정, 스테이징 적재용)
+     */
+    public static PopularProductEntity from(PopularProduct popularProduct, LocalDate baseDate) {
         return PopularProductEntity.builder()
             .id(popularProduct.id())
             .rank(popularProduct.rank())
@@ -84,7 +91,7 @@ public class PopularProductEntity {
             .price(popularProduct.price())
             .category(popularProduct.category())
             .totalSalesQuantity(popularProduct.totalSalesQuantity())
-            .baseDate(popularProduct.baseDate())
+            .baseDate(baseDate)
             .periodStartDate(popularProduct.periodStartDate())
             .periodEndDate(popularProduct.periodEndDate())
             .crtDttm(popularProduct.crtDttm() != null ? popularProduct.crtDttm() : LocalDateTime.now())
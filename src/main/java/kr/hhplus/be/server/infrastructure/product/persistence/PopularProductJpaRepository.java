@@ -35,4 +35,12 @@ public interface PopularProductJpaRepository extends JpaRepository<PopularProduc
     @Modifying
     @Query("DELETE FROM PopularProductEntity p WHERE p.baseDate < :baseDate")
     void deleteByBaseDateBefore(@Param("baseDate") LocalDate baseDate);
+
+    /**
+     * 기준일 변경 (스테이징 기준일 → 실제 기준일 승격)
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE PopularProductEntity p SET p.baseDate = :to WHERE p.baseDate = :from")
+    int updateBaseDate(@Param("from") LocalDate from, @Param("to") LocalDate to);
 }
@@ -4,16 +4,31 @@ import java.time.LocalDate;
 import java.util.List;
 
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import kr.hhplus.be.server.domain.product.entity.PopularProduct;
 import kr.hhplus.be.server.domain.product.repository.PopularProductRepository;
-import lombok.RequiredArgsConstructor;
 
 @Repository
-@RequiredArgsConstructor
 public class PopularProductRepositoryImpl implements PopularProductRepository {
 
+    /**
+     * 스테이징 기준일 (findLatest 의 MAX(base_date) 에 걸리지 않도록 가장 과거 날짜 사용)
+     * 승격 전에 장애가 나서 남은 행은 정리 배치(deleteByBaseDateBefore)가 함께 지운다.
+     */
+    static final LocalDate STAGING_BASE_DATE = LocalDate.EPOCH;
+
     private final PopularProductJpaRepository popularProductJpaRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public PopularProductRepositoryImpl(
+        PopularProductJpaRepository popularProductJpaRepository,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.popularProductJpaRepository = popularProductJpaRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
     @Override
     public PopularProduct save(PopularProduct popularProduct) {
@@ -54,4 +69,26 @@ public class PopularProductRepositoryImpl implements PopularProductRepository {
     public void deleteByBaseDateBefore(LocalDate baseDate) {
         popularProductJpaRepository.deleteByBaseDateBefore(baseDate);
     }
+
+    @Override
+    public void replaceByBaseDate(LocalDate baseDate, List<PopularProduct> popularProducts) {
+        // 1. 스테이징 기준일로 적재 (조회 경로에 노출되지 않음)
+        transactionTemplate.executeWithoutResult(status -> {
+            popularProductJpaRepository.deleteByBaseDate(STAGING_BASE_DATE);
+            popularProductJpaRepository.saveAll(popularProducts.stream()
+                .map(popularProduct -> PopularProductEntity.from(popularProduct, STAGING_BASE_DATE))
+                .toList());
+        });
+
+        // 2. 기존 기준일 삭제 + 스테이징 승격을 한 트랜잭션으로 (행 수만큼의 짧은 UPDATE)
+        transactionTemplate.executeWithoutResult(status -> {
+            popularProductJpaRepository.deleteByBaseDate(baseDate);
+            int promoted = popularProductJpaRepository.updateBaseDate(STAGING_BASE_DATE, baseDate);
+            if (promoted != popularProducts.size()) {
+                // 스테이징이 중간에 지워졌거나 다른 실행과 겹친 경우: 기존 데이터를 유지한다.
+                throw new IllegalStateException(
+                    "스테이징 승격 건수 불일치: expected=" + popularProducts.size() + ", actual=" + promoted);
+            }
+        });
+    }
 }
@@ -4,7 +4,9 @@ import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
+import kr.hhplus.be.server.domain.product.entity.ProductCursor;
 import kr.hhplus.be.server.domain.product.entity.ProductSearch;
 
 public interface ProductCustomRepository {
@@ -17,7 +19,32 @@ public interface ProductCustomRepository {
     Page<ProductEntity> findBySearch(ProductSearch search, Pageable pageable);
 
     /*
-    * 최근 3일 동안 누적판매량 기준 상위 5 개 상품 조회.
+    * 상품 검색 (목록만 조회, count 쿼리 없음)
+    * @param search 상품 검색 조건
+    * @param pageable 페이지 정보
+    * @return 상품 목록
+    */
+    List<ProductEntity> findContentBySearch(ProductSearch search, Pageable pageable);
+
+    /*
+    * 검색 조건에 해당하는 전체 상품 수 (COUNT(*))
+    * @param search 상품 검색 조건
+    * @return 전체 상품 수
+    */
+    long countBySearch(ProductSearch search);
+
+    /*
+    * 상품 검색 (커서 기반, count 쿼리 없음)
+    * @param search 상품 검색 조건
+    * @param cursor 마지막으로 조회한 위치 (첫 페이지면 null)
+    * @param order 정렬 조건 (id 가 보조 정렬로 추가됨)
+    * @param limit 조회 건수
+    * @return 커서 이후 상품 목록
+    */
+    List<ProductEntity> findBySearchAfter(ProductSearch search, ProductCursor cursor, Sort.Order order, int limit);
+
+    /*
+    * 최근 3일 동안 누적판매량 기준 상위 5 개 상품 조회 (일별 판매량 롤업 기준).
     * @return 인기 상품 목록
     */
     List<ProductEntity> findPopularProducts();
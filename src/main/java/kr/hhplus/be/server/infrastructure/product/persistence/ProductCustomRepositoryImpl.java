@@ -1,7 +1,9 @@
 package kr.hhplus.be.server.infrastructure.product.persistence;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -13,15 +15,12 @@ import org.springframework.util.StringUtils;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
-import kr.hhplus.be.server.domain.order.enums.OrderStatus;
+import kr.hhplus.be.server.domain.product.entity.ProductCursor;
 import kr.hhplus.be.server.domain.product.entity.ProductSearch;
 import kr.hhplus.be.server.domain.product.enums.ProductCategory;
 import kr.hhplus.be.server.domain.product.enums.ProductStatus;
-import kr.hhplus.be.server.infrastructure.order.persistence.QOrderDetailEntity;
-import kr.hhplus.be.server.infrastructure.order.persistence.QOrderEntity;
 import lombok.RequiredArgsConstructor;
 
 @Repository
@@ -34,10 +33,19 @@ public class ProductCustomRepositoryImpl implements ProductCustomRepository {
     @Override
     public Page<ProductEntity> findBySearch(ProductSearch search, Pageable pageable) {
         // 1. 메인 쿼리 실행
-        List<ProductEntity> content = queryFactory
+        List<ProductEntity> content = findContentBySearch(search, pageable);
+
+        // 2. 카운트 쿼리
+        return PageableExecutionUtils.getPage(content, pageable, () -> countBySearch(search));
+    }
+
+    @Override
+    public List<ProductEntity> findContentBySearch(ProductSearch search, Pageable pageable) {
+        return queryFactory
                 .selectFrom(product)
                 .where(
                     productNameContains(search.productName()),
+                    idIn(search.productIds()),
                     priceGoe(search.minPrice()),
                     priceLoe(search.maxPrice()),
                     categoryEq(search.category()),             
@@ -47,39 +55,65 @@ public class ProductCustomRepositoryImpl implements ProductCustomRepository {
                 .limit(pageable.getPageSize())
                 .orderBy(getOrderSpecifier(pageable.getSort()))
                 .fetch();
+    }
 
-        // 2. 카운트 쿼리
-        JPAQuery<Long> countQuery = queryFactory
+    @Override
+    public long countBySearch(ProductSearch search) {
+        Long count = queryFactory
                 .select(product.count())
                 .from(product)
                 .where(
                     productNameContains(search.productName()),
+                    idIn(search.productIds()),
                     priceGoe(search.minPrice()),
                     priceLoe(search.maxPrice()),
                     categoryEq(search.category()),
                     statusEq(search.status())
-                );
-
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+                )
+                .fetchOne();
+        return count != null ? count : 0L;
     }
     
+    @Override
+    public List<ProductEntity> findBySearchAfter(ProductSearch search, ProductCursor cursor, Sort.Order order, int limit) {
+        // 정렬 값이 같은 상품의 순서를 고정하기 위해 id 를 보조 정렬로 사용
+        Sort sort = "id".equals(order.getProperty())
+                ? Sort.by(order)
+                : Sort.by(order).and(Sort.by(order.getDirection(), "id"));
+
+        // offset / count 없이 (정렬 값, id) 이후 위치부터 인덱스를 탐색
+        return queryFactory
+                .selectFrom(product)
+                .where(
+                    productNameContains(search.productName()),
+                    idIn(search.productIds()),
+                    priceGoe(search.minPrice()),
+                    priceLoe(search.maxPrice()),
+                    categoryEq(search.category()),
+                    statusEq(search.status()),
+                    cursorAfter(cursor, order.isAscending())
+                )
+                .orderBy(getOrderSpecifier(sort))
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 최근 3일(오늘 포함) 판매량 상위 5개 - 일별 판매량 롤업 합산 (주문 이력 조인 없음)
+     */
     @Override
     public List<ProductEntity> findPopularProducts() {
-        QOrderDetailEntity orderItem = QOrderDetailEntity.orderDetailEntity;
-        QOrderEntity order = QOrderEntity.orderEntity;
-        LocalDateTime threeDaysAgo = LocalDateTime.now().minusDays(3);
+        QProductDailySalesEntity dailySales = QProductDailySalesEntity.productDailySalesEntity;
+        LocalDate startDate = LocalDate.now().minusDays(2);     // D-2 ~ 오늘 (3일)
 
         return queryFactory
                 .select(product)
                 .from(product)
-                .innerJoin(orderItem).on(orderItem.productId.eq(product.id))
-                .innerJoin(order).on(order.id.eq(orderItem.orderId))
-                .where(
-                    order.crtDttm.goe(threeDaysAgo),            // 최근 3일 이내
-                    order.orderStatus.ne(OrderStatus.CANCELED) // 취소된 주문 제외
-                )
+                .innerJoin(dailySales).on(dailySales.productId.eq(product.id))
+                .where(dailySales.salesDate.goe(startDate))     // 최근 3일 이내
                 .groupBy(product.id)
-                .orderBy(orderItem.quantity.sum().desc()) // 누적 판매량 순
+                .having(dailySales.quantity.sum().gt(0L))           // 취소로 상쇄된 상품 제외
+                .orderBy(dailySales.quantity.sum().desc())          // 기간 판매량 순
                 .limit(5)
                 .fetch();
     }
@@ -88,6 +122,10 @@ public class ProductCustomRepositoryImpl implements ProductCustomRepository {
         return StringUtils.hasText(productName) ? product.productName.containsIgnoreCase(productName) : null;
     }
 
+    private BooleanExpression idIn(Set<Long> productIds) {
+        return productIds != null ? product.id.in(productIds) : null;
+    }
+
     private BooleanExpression priceGoe(Integer minPrice) {
         return minPrice != null ? product.price.goe(minPrice) : null;
     }
@@ -104,6 +142,48 @@ public class ProductCustomRepositoryImpl implements ProductCustomRepository {
         return status != null ? product.status.eq(status) : null;
     }
     
+    /*
+    * 커서 이후 조건 (seek)
+    * ASC : sortKey > v OR (sortKey = v AND id > lastId)
+    * DESC: sortKey < v OR (sortKey = v AND id < lastId)
+    */
+    private BooleanExpression cursorAfter(ProductCursor cursor, boolean ascending) {
+        if (cursor == null) {
+            return null;
+        }
+        BooleanExpression idAfter = ascending ? product.id.gt(cursor.id()) : product.id.lt(cursor.id());
+
+        return switch (cursor.sortProperty()) {
+            case "price" -> {
+                Long price = Long.valueOf(cursor.sortValue());
+                yield (ascending ? product.price.gt(price) : product.price.lt(price))
+                        .or(product.price.eq(price).and(idAfter));
+            }
+            case "productName" -> {
+                String name = cursor.sortValue();
+                yield (ascending ? product.productName.gt(name) : product.productName.lt(name))
+                        .or(product.productName.eq(name).and(idAfter));
+            }
+            case "crtDttm" -> crtDttmAfter(cursor, ascending, idAfter);
+            default -> idAfter;
+        };
+    }
+
+    /**
+     * 생성일 커서 조건 - MySQL 정렬과 같이 NULL 을 오름차순에서는 맨 앞, 내림차순에서는 맨 뒤로 본다.
+     */
+    private BooleanExpression crtDttmAfter(ProductCursor cursor, boolean ascending, BooleanExpression idAfter) {
+        if (cursor.sortValue() == null) {
+            BooleanExpression nullAfter = product.crtDttm.isNull().and(idAfter);
+            return ascending ? nullAfter.or(product.crtDttm.isNotNull()) : nullAfter;
+        }
+
+        LocalDateTime crtDttm = LocalDateTime.parse(cursor.sortValue());
+        BooleanExpression after = (ascending ? product.crtDttm.gt(crtDttm) : product.crtDttm.lt(crtDttm))
+                .or(product.crtDttm.eq(crtDttm).and(idAfter));
+        return ascending ? after : after.or(product.crtDttm.isNull());
+    }
+
     private OrderSpecifier<?>[] getOrderSpecifier(Sort sort) {
         return sort.stream()
                 .map(o -> {
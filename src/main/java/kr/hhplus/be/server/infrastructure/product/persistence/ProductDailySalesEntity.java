@@ -0,0 +1,46 @@
+package kr.hhplus.be.server.infrastructure.product.persistence;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 일별 판매량 롤업 (product_daily_sales)
+ *
+ * 쓰기는 ProductRepositoryImpl 의 JDBC upsert(INSERT ... ON DUPLICATE KEY UPDATE)로만 하며,
+ * 엔티티는 스키마 정의와 QueryDSL 집계 조회에 사용한다.
+ * (sales_date, product_id) 유니크 인덱스가 upsert 키이자 기간 집계의 범위 스캔 인덱스다.
+ */
+@Entity
+@Table(
+    name = "product_daily_sales",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_sales_date_product", columnNames = {"sales_date", "product_id"})
+    }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class ProductDailySalesEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "sales_date", nullable = false)
+    private LocalDate salesDate;
+
+    @Column(nullable = false)
+    private Long quantity;
+}
@@ -7,6 +7,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import kr.hhplus.be.server.domain.product.entity.Product;
 import kr.hhplus.be.server.domain.product.enums.ProductCategory;
@@ -19,7 +20,12 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "products")
+@Table(name = "products", indexes = {
+    // 커서 기반 목록 조회 (status 필터 + 정렬 값, id seek)
+    @Index(name = "idx_status_price_id", columnList = "status, price, id"),
+    @Index(name = "idx_status_name_id", columnList = "status, product_name, id"),
+    @Index(name = "idx_status_crt_dttm_id", columnList = "status, crt_dttm, id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Getter
@@ -46,7 +52,8 @@ public class ProductEntity extends BaseTimeEntity{
     @Column(nullable = false, length = 20)
     private ProductStatus status;
 
-    @Column(name = "sales_quantity", nullable = false)
+    // 판매량은 ProductSalesAccumulator 의 증분 UPDATE 로만 변경 (엔티티 merge 가 반영분을 덮어쓰지 않도록)
+    @Column(name = "sales_quantity", nullable = false, updatable = false)
     private Integer salesQuantity;
 
 
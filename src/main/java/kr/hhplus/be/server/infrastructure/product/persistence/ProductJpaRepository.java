@@ -1,13 +1,18 @@
 package kr.hhplus.be.server.infrastructure.product.persistence;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import jakarta.persistence.LockModeType;
+import kr.hhplus.be.server.domain.product.enums.ProductStatus;
 
 public interface ProductJpaRepository extends JpaRepository<ProductEntity, Long>, ProductCustomRepository{
 
@@ -18,4 +23,38 @@ public interface ProductJpaRepository extends JpaRepository<ProductEntity, Long>
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT p FROM ProductEntity p WHERE p.id = :id")
     Optional<ProductEntity> findByIdWithLock(@Param("id") Long id);
+
+    /**
+     * 여러 상품 일괄 비관적 락 조회 (SELECT ... WHERE id IN (...) ORDER BY id FOR UPDATE)
+     * 항상 id 오름차순으로 락을 잡으므로 상품 순서가 다른 주문끼리 교착 상태가 생기지 않는다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM ProductEntity p WHERE p.id IN :ids ORDER BY p.id")
+    List<ProductEntity> findAllByIdInWithLock(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 전체 상품명 조회 (상품명 n-gram 인덱스 적재용)
+     */
+    @Query("SELECT p.id AS id, p.productName AS productName FROM ProductEntity p")
+    List<ProductNameProjection> findAllProductNames();
+
+    /**
+     * 조건부 재고 차감 (단일 UPDATE, 비관적 락 조회 없음)
+     * 판매중이고 재고가 충분할 때만 차감하며, 재고가 0이 되면 SOLD_OUT 으로 변경한다.
+     * MySQL 은 SET 절을 왼쪽부터 평가하므로 status 를 stock 보다 먼저 계산한다.
+     * @return 반영된 행 수 (0이면 차감 실패)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ProductEntity p " +
+           "SET p.status = CASE WHEN p.stock = :quantity THEN :soldOut ELSE p.status END, " +
+           "    p.stock = p.stock - :quantity, " +
+           "    p.updDttm = :now " +
+           "WHERE p.id = :id AND p.stock >= :quantity AND p.status = :onSale")
+    int decreaseStockIfAvailable(
+        @Param("id") Long id,
+        @Param("quantity") int quantity,
+        @Param("onSale") ProductStatus onSale,
+        @Param("soldOut") ProductStatus soldOut,
+        @Param("now") LocalDateTime now
+    );
 }
@@ -0,0 +1,9 @@
+package kr.hhplus.be.server.infrastructure.product.persistence;
+
+/**
+ * 상품명 인덱스 적재용 Projection (id, 상품명만 조회)
+ */
+public interface ProductNameProjection {
+    Long getId();
+    String getProductName();
+}
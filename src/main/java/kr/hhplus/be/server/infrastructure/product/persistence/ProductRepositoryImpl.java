@@ -1,26 +1,75 @@
 package kr.hhplus.be.server.infrastructure.product.persistence;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.EntityManager;
 import kr.hhplus.be.server.domain.product.entity.Product;
+import kr.hhplus.be.server.domain.product.entity.ProductCursor;
+import kr.hhplus.be.server.domain.product.entity.ProductDailySales;
 import kr.hhplus.be.server.domain.product.entity.ProductSearch;
+import kr.hhplus.be.server.domain.product.enums.ProductStatus;
 import kr.hhplus.be.server.domain.product.repository.ProductRepository;
+import kr.hhplus.be.server.infrastructure.product.cache.ProductSummaryCache;
+import kr.hhplus.be.server.infrastructure.product.search.ProductCountCache;
+import kr.hhplus.be.server.infrastructure.product.search.ProductNameIndex;
 import lombok.RequiredArgsConstructor;
 
 @Repository
 @RequiredArgsConstructor
 public class ProductRepositoryImpl implements ProductRepository {
+    private static final String UPDATE_STOCK_SQL =
+        "UPDATE products SET stock = ?, status = ?, upd_dttm = ? WHERE id = ?";
+    private static final String INCREASE_SALES_SQL =
+        "UPDATE products SET sales_quantity = GREATEST(sales_quantity + ?, 0) WHERE id = ?";
+    private static final String UPSERT_DAILY_SALES_SQL =
+        "INSERT INTO product_daily_sales (product_id, sales_date, quantity) VALUES (?, ?, ?) " +
+        "ON DUPLICATE KEY UPDATE quantity = quantity + VALUES(quantity)";
+
     private final ProductJpaRepository productJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final ProductNameIndex productNameIndex;
+    private final ProductCountCache productCountCache;
+    private final ProductSummaryCache productSummaryCache;
     
     @Override
     public Page<Product> findBySearch(ProductSearch search, Pageable pageable) {
         return productJpaRepository.findBySearch(search, pageable).map(ProductEntity::toDomain);
     }
+
+
+    @Override
+    public List<Product> findContentBySearch(ProductSearch search, Pageable pageable) {
+        return productJpaRepository.findContentBySearch(search, pageable)
+                .stream()
+                .map(ProductEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    public long countBySearch(ProductSearch search) {
+        return productJpaRepository.countBySearch(search);
+    }
+
+    @Override
+    public List<Product> findBySearchAfter(ProductSearch search, ProductCursor cursor, Sort.Order order, int limit) {
+        return productJpaRepository.findBySearchAfter(search, cursor, order, limit)
+                .stream()
+                .map(ProductEntity::toDomain)
+                .toList();
+    }
     
     @Override
     public List<Product> findPopularProducts(){
@@ -30,10 +79,23 @@ public class ProductRepositoryImpl implements ProductRepository {
                 .toList();
     }
 
+    /**
+     * 저장
+     * 신규 등록만 검색 건수 캐시를 비운다. 기존 상품의 상태/가격 등 검색 조건 속성 변경은
+     * 변경 전 값을 알고 있는 호출 측에서 판단해 비운다. (저장 전 재조회 방지)
+     */
     @Override
     public Product save(Product product) {
+        boolean inserted = product.id() == null;
+
         ProductEntity entity = ProductEntity.from(product);
-        return productJpaRepository.save(entity).toDomain();
+        Product saved = productJpaRepository.save(entity).toDomain();
+        productNameIndex.updateAfterCommit(saved.id(), saved.productName());
+        productSummaryCache.putAfterCommit(saved);
+        if (inserted) {
+            productCountCache.invalidateAllAfterCommit();
+        }
+        return saved;
     }
 
     @Override
@@ -41,11 +103,79 @@ public class ProductRepositoryImpl implements ProductRepository {
         return productJpaRepository.findById(id).map(ProductEntity::toDomain);
     }
 
+    @Override
+    public int decreaseStockIfAvailable(Long productId, int quantity) {
+        int updated = productJpaRepository.decreaseStockIfAvailable(
+            productId, quantity, ProductStatus.ON_SALE, ProductStatus.SOLD_OUT, LocalDateTime.now());
+        if (updated > 0) {
+            productSummaryCache.evictAfterCommit(productId);
+        }
+        return updated;
+    }
+
     @Override
     public Optional<Product> findByIdWithLock(Long id) {
         return productJpaRepository.findByIdWithLock(id).map(ProductEntity::toDomain);
     }
 
+    @Override
+    public List<Product> findAllByIdWithLock(Collection<Long> productIds) {
+        return productJpaRepository.findAllByIdInWithLock(productIds)
+                .stream()
+                .map(ProductEntity::toDomain)
+                .toList();
+    }
+
+    /**
+     * 한 번의 JDBC batch 로 반영 (rewriteBatchedStatements=true 면 multi-statement 1회 왕복)
+     * 영속성 컨텍스트를 거치지 않으므로 먼저 flush 하고, 반영 후 오래된 엔티티가 남지 않도록 clear 한다.
+     */
+    @Override
+    public void updateStocks(List<Product> products) {
+        if (products.isEmpty()) {
+            return;
+        }
+        entityManager.flush();
+
+        LocalDateTime now = toUtc(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPDATE_STOCK_SQL, products, products.size(), (ps, product) -> {
+            ps.setInt(1, product.stock());
+            ps.setString(2, product.status().name());
+            ps.setObject(3, now);
+            ps.setLong(4, product.id());
+        });
+
+        entityManager.clear();
+        productSummaryCache.putAllAfterCommit(products);
+    }
+
+    @Override
+    public void increaseSalesQuantities(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<Long, Long>> entries = List.copyOf(deltas.entrySet());
+        jdbcTemplate.batchUpdate(INCREASE_SALES_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setLong(1, entry.getValue());
+            ps.setLong(2, entry.getKey());
+        });
+    }
+
+    /**
+     * 취소가 완료보다 먼저 반영되는 경우 음수 행이 잠시 생길 수 있으므로 집계 쪽에서 합계가 양수인 상품만 사용한다.
+     */
+    @Override
+    public void addDailySales(List<ProductDailySales> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_DAILY_SALES_SQL, deltas, deltas.size(), (ps, delta) -> {
+            ps.setLong(1, delta.productId());
+            ps.setObject(2, delta.salesDate());
+            ps.setLong(3, delta.quantity());
+        });
+    }
+
     @Override
     public List<Product> findAllById(Iterable<Long> ids) {
         return productJpaRepository.findAllById(ids)
@@ -53,4 +183,13 @@ public class ProductRepositoryImpl implements ProductRepository {
                 .map(ProductEntity::toDomain)
                 .toList();
     }
-}
\ No newline at end of file
+
+    /**
+     * hibernate.jdbc.time_zone=UTC 와 동일하게 UTC 기준으로 저장
+     */
+    private LocalDateTime toUtc(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault())
+            .withZoneSameInstant(ZoneOffset.UTC)
+            .toLocalDateTime();
+    }
+}
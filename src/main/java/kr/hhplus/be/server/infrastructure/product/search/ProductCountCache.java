@@ -0,0 +1,84 @@
+package kr.hhplus.be.server.infrastructure.product.search;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import kr.hhplus.be.server.domain.product.entity.ProductSearch;
+
+/**
+ * 상품 검색 전체 건수 캐시 (JVM 내부)
+ *
+ * 필터가 같은 목록 요청마다 COUNT(*) 가 반복 실행되지 않도록
+ * 정규화된 검색 조건(상품명/가격/카테고리/상태) 단위로 짧은 TTL 동안 건수를 보관한다.
+ * - 전체 무효화 시점 (커밋 후): 상품 등록(ProductRepositoryImpl.save 의 INSERT), 재고 차감/증가로 인한 품절 ↔ 판매중 전환
+ * - 상품명/가격/카테고리 변경 경로는 현재 없으며, 추가하면 호출 측에서 invalidateAllAfterCommit 을 호출해야 한다.
+ * - 그 밖의 변경과 다른 노드의 변경은 TTL 로 수렴
+ */
+@Component
+public class ProductCountCache {
+
+    static final String CACHE_NAME = "productSearchCount";
+
+    private final Cache<String, Long> cache;
+
+    public ProductCountCache(
+        MeterRegistry meterRegistry,
+        @Value("${product.count-cache.max-size:10000}") long maxSize,
+        @Value("${product.count-cache.ttl:30s}") Duration ttl
+    ) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public Optional<Long> get(ProductSearch search) {
+        return Optional.ofNullable(cache.getIfPresent(key(search)));
+    }
+
+    public void put(ProductSearch search, long count) {
+        cache.put(key(search), count);
+    }
+
+    /**
+     * 상품 변경 시 전체 무효화 (트랜잭션 안이면 커밋 후)
+     */
+    public void invalidateAllAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidateAll();
+                }
+            });
+        } else {
+            cache.invalidateAll();
+        }
+    }
+
+    /**
+     * 검색 조건 정규화 키 (상품명은 앞뒤 공백 제거 + 소문자, 빈 값은 null 과 동일)
+     */
+    static String key(ProductSearch search) {
+        String name = search.productName() == null ? "" : search.productName().trim().toLowerCase(Locale.ROOT);
+        return String.join("|",
+            name,
+            String.valueOf(search.minPrice()),
+            String.valueOf(search.maxPrice()),
+            String.valueOf(search.category()),
+            String.valueOf(search.status()));
+    }
+}
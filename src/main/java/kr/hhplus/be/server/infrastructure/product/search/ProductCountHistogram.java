@@ -0,0 +1,112 @@
+package kr.hhplus.be.server.infrastructure.product.search;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import kr.hhplus.be.server.domain.product.entity.ProductSearch;
+import kr.hhplus.be.server.domain.product.enums.ProductCategory;
+import kr.hhplus.be.server.domain.product.enums.ProductStatus;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 건수 히스토그램 (추정 건수용)
+ *
+ * (카테고리, 상태, 가격 구간) 별 상품 수를 GROUP BY 한 번으로 집계해 두고,
+ * 검색 조건의 건수를 COUNT(*) 없이 추정한다.
+ * - 카테고리/상태: 해당 셀 합계 (정확)
+ * - 가격 범위: 구간 합계 + 경계 구간은 선형 보간
+ * - 상품명: 색인 후보 ID 수 비율을 곱함 (조건 간 독립 가정), 색인 미사용 시 상한값
+ * 히스토그램은 TTL 이 지나면 다음 요청에서 다시 집계한다.
+ */
+@Component
+@Slf4j
+public class ProductCountHistogram {
+
+    private static final String HISTOGRAM_SQL =
+        "SELECT category, status, price DIV ? AS bucket, COUNT(*) AS cnt FROM products GROUP BY category, status, bucket";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long bucketWidth;
+    private final long ttlMillis;
+
+    private volatile Snapshot snapshot;
+
+    public ProductCountHistogram(
+        JdbcTemplate jdbcTemplate,
+        @Value("${product.count-histogram.price-bucket-width:10000}") long bucketWidth,
+        @Value("${product.count-histogram.ttl:5m}") Duration ttl
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.bucketWidth = bucketWidth;
+        this.ttlMillis = ttl.toMillis();
+    }
+
+    /**
+     * 검색 조건 추정 건수
+     */
+    public long estimate(ProductSearch search) {
+        Snapshot current = load();
+
+        double estimated = 0;
+        for (Cell cell : current.cells()) {
+            if (search.category() != null && search.category() != cell.category()) {
+                continue;
+            }
+            if (search.status() != null && search.status() != cell.status()) {
+                continue;
+            }
+            estimated += cell.count() * priceOverlap(cell.bucket(), search.minPrice(), search.maxPrice());
+        }
+
+        if (search.productIds() != null && current.total() > 0) {
+            estimated = estimated * search.productIds().size() / current.total();
+        }
+        return Math.round(estimated);
+    }
+
+    /**
+     * 가격 구간 [bucket * width, (bucket + 1) * width) 중 검색 가격 범위에 포함되는 비율
+     */
+    private double priceOverlap(long bucket, Integer minPrice, Integer maxPrice) {
+        double lower = (double) bucket * bucketWidth;
+        double upper = lower + bucketWidth;
+        double from = minPrice != null ? Math.max(lower, minPrice) : lower;
+        double to = maxPrice != null ? Math.min(upper, maxPrice + 1.0) : upper;
+        return to <= from ? 0 : (to - from) / bucketWidth;
+    }
+
+    private Snapshot load() {
+        Snapshot current = this.snapshot;
+        if (current != null && System.currentTimeMillis() - current.loadedAt() < ttlMillis) {
+            return current;
+        }
+        synchronized (this) {
+            current = this.snapshot;
+            if (current != null && System.currentTimeMillis() - current.loadedAt() < ttlMillis) {
+                return current;
+            }
+            List<Cell> cells = jdbcTemplate.query(HISTOGRAM_SQL, (rs, rowNum) -> {
+                String category = rs.getString("category");
+                return new Cell(
+                    category != null ? ProductCategory.valueOf(category) : null,
+                    ProductStatus.valueOf(rs.getString("status")),
+                    rs.getLong("bucket"),
+                    rs.getLong("cnt"));
+            }, bucketWidth);
+            long total = cells.stream().mapToLong(Cell::count).sum();
+            this.snapshot = new Snapshot(cells, total, System.currentTimeMillis());
+            log.debug("[ProductCountHistogram] 집계 완료: cells={}, total={}", cells.size(), total);
+            return this.snapshot;
+        }
+    }
+
+    private record Cell(ProductCategory category, ProductStatus status, long bucket, long count) {
+    }
+
+    private record Snapshot(List<Cell> cells, long total, long loadedAt) {
+    }
+}
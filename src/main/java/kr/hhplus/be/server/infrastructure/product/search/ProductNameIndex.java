@@ -0,0 +1,217 @@
+package kr.hhplus.be.server.infrastructure.product.search;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import kr.hhplus.be.server.infrastructure.product.persistence.ProductJpaRepository;
+import kr.hhplus.be.server.infrastructure.product.persistence.ProductNameProjection;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품명 n-gram 역색인 (JVM 내부)
+ *
+ * LOWER(product_name) LIKE '%x%' 는 인덱스를 타지 못해 상품명 검색마다 products 전체를 스캔한다.
+ * 상품명을 1-gram / 2-gram 단위로 쪼개 gram → 상품 ID 역색인을 메모리에 유지하고,
+ * 검색어의 gram 목록을 교집합하여 후보 ID 를 구한 뒤 원문 부분 문자열 비교로 오탐을 제거한다.
+ * - 한글은 음절 단위(char)로 분해하므로 형태소 분석 없이 부분 일치 검색이 가능하다.
+ * - 대소문자는 구분하지 않는다. (containsIgnoreCase 와 동일)
+ *
+ * 적재/갱신:
+ * - 애플리케이션 기동 시 전체 적재
+ * - ProductRepository.save 커밋 후 해당 상품만 갱신
+ * - 주기적 전체 재적재 (다른 노드에서 변경된 상품명 반영)
+ */
+@Component
+@Slf4j
+public class ProductNameIndex {
+
+    private static final int MAX_GRAM = 2;
+
+    private final ProductJpaRepository productJpaRepository;
+    private final int maxCandidates;
+
+    private volatile Snapshot snapshot = null;
+
+    public ProductNameIndex(
+        ProductJpaRepository productJpaRepository,
+        @Value("${product.name-index.max-candidates:5000}") int maxCandidates
+    ) {
+        this.productJpaRepository = productJpaRepository;
+        this.maxCandidates = maxCandidates;
+    }
+
+    /**
+     * 기동 시 전체 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * 주기적 전체 재적재
+     */
+    @Scheduled(
+        fixedDelayString = "${product.name-index.refresh-delay:600000}",
+        initialDelayString = "${product.name-index.refresh-delay:600000}"
+    )
+    public void refresh() {
+        rebuild();
+    }
+
+    /**
+     * 전체 재적재 (새 스냅샷을 만든 뒤 교체하므로 적재 중에도 기존 색인으로 검색 가능)
+     */
+    public void rebuild() {
+        try {
+            long start = System.currentTimeMillis();
+            List<ProductNameProjection> products = productJpaRepository.findAllProductNames();
+
+            Snapshot rebuilt = new Snapshot();
+            for (ProductNameProjection product : products) {
+                rebuilt.put(product.getId(), product.getProductName());
+            }
+            this.snapshot = rebuilt;
+
+            log.info("[ProductNameIndex] 적재 완료: products={}, grams={}, elapsed={}ms",
+                rebuilt.names.size(), rebuilt.postings.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("[ProductNameIndex] 적재 실패 (기존 색인 유지)", e);
+        }
+    }
+
+    /**
+     * 상품명 변경 반영 (트랜잭션 안이면 커밋 후 반영)
+     */
+    public void updateAfterCommit(Long productId, String productName) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update(productId, productName);
+                }
+            });
+        } else {
+            update(productId, productName);
+        }
+    }
+
+    public void update(Long productId, String productName) {
+        Snapshot current = this.snapshot;
+        if (current != null && productId != null) {
+            current.put(productId, productName);
+        }
+    }
+
+    /**
+     * 상품명 부분 일치 후보 ID 조회
+     *
+     * @return 일치 상품 ID (색인 미적재 또는 후보가 maxCandidates 초과 시 empty → LIKE 검색으로 대체)
+     */
+    public Optional<Set<Long>> search(String keyword) {
+        Snapshot current = this.snapshot;
+        if (current == null || !StringUtils.hasText(keyword)) {
+            return Optional.empty();
+        }
+
+        Set<Long> matched = current.search(normalize(keyword));
+        if (matched.size() > maxCandidates) {
+            return Optional.empty();
+        }
+        return Optional.of(matched);
+    }
+
+    private static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 색인 스냅샷
+     * - postings: gram → 상품 ID
+     * - names: 상품 ID → 정규화된 상품명 (오탐 제거 및 변경 시 기존 gram 제거용)
+     */
+    private static final class Snapshot {
+        private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+        private final Map<Long, String> names = new ConcurrentHashMap<>();
+
+        synchronized void put(Long productId, String productName) {
+            String normalized = productName == null ? "" : normalize(productName);
+            String previous = names.put(productId, normalized);
+            if (normalized.equals(previous)) {
+                return;
+            }
+            if (previous != null) {
+                for (String gram : grams(previous)) {
+                    Set<Long> ids = postings.get(gram);
+                    if (ids != null) {
+                        ids.remove(productId);
+                        if (ids.isEmpty()) {
+                            postings.remove(gram);
+                        }
+                    }
+                }
+            }
+            for (String gram : grams(normalized)) {
+                postings.computeIfAbsent(gram, k -> ConcurrentHashMap.newKeySet()).add(productId);
+            }
+        }
+
+        Set<Long> search(String keyword) {
+            // 검색어 길이에 맞는 gram 으로 분해 (1글자는 1-gram, 그 외 2-gram)
+            int n = Math.min(keyword.length(), MAX_GRAM);
+            Set<String> queryGrams = new HashSet<>();
+            for (int i = 0; i + n <= keyword.length(); i++) {
+                queryGrams.add(keyword.substring(i, i + n));
+            }
+
+            List<Set<Long>> lists = queryGrams.stream()
+                .map(gram -> postings.getOrDefault(gram, Set.of()))
+                .sorted(Comparator.comparingInt(Set::size))
+                .toList();
+            if (lists.isEmpty() || lists.get(0).isEmpty()) {
+                return Set.of();
+            }
+
+            // 가장 짧은 posting 부터 교집합 후 원문으로 확인
+            Set<Long> result = new HashSet<>();
+            for (Long id : lists.get(0)) {
+                boolean inAll = true;
+                for (int i = 1; i < lists.size() && inAll; i++) {
+                    inAll = lists.get(i).contains(id);
+                }
+                if (inAll) {
+                    String name = names.get(id);
+                    if (name != null && name.contains(keyword)) {
+                        result.add(id);
+                    }
+                }
+            }
+            return result;
+        }
+
+        private static Set<String> grams(String value) {
+            Set<String> grams = new HashSet<>();
+            for (int n = 1; n <= MAX_GRAM; n++) {
+                for (int i = 0; i + n <= value.length(); i++) {
+                    grams.add(value.substring(i, i + n));
+                }
+            }
+            return grams;
+        }
+    }
+}
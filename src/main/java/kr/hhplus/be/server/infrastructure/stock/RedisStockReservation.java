@@ -0,0 +1,192 @@
+package kr.hhplus.be.server.infrastructure.stock;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import kr.hhplus.be.server.application.order.dto.request.OrderCreateRequest;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 재고 예약 계층 (선택 사항, stock.redis-reservation.enabled)
+ *
+ * 상품별 예약 가능 재고 카운터를 Redis 에 두고 주문의 모든 상품을 Lua 스크립트 1회로 예약한다. (전체 성공 또는 전체 실패)
+ * 품절 주문은 DB 트랜잭션을 열기 전에 거절되고, 통과한 주문만 기존 조건부 UPDATE 로 products.stock 을 차감한다.
+ * - stock:available:{productId}: 예약 가능 재고 (products.stock - 커밋 전 예약 수량)
+ * - stock:inflight:{productId}: 커밋 전 예약 (member={reservationId}:{quantity}, score=예약 시각)
+ * - stock:tracked: 카운터를 관리하는 상품 ID 목록 (StockReconcileScheduler 대상)
+ *
+ * 최종 재고의 기준은 DB 이며, 카운터는 StockReconcileScheduler 가 주기적으로 products.stock 과 맞춘다.
+ * 카운터가 아직 적재되지 않은 상품이 포함되면 예약 없이 DB 경로로 처리한다.
+ */
+@Component
+@Slf4j
+public class RedisStockReservation {
+
+    public static final String AVAILABLE_KEY = "stock:available:";
+    public static final String INFLIGHT_KEY = "stock:inflight:";
+    public static final String TRACKED_KEY = "stock:tracked";
+
+    private static final RedisScript<Long> RESERVE_SCRIPT =
+        RedisScript.of(new ClassPathResource("scripts/stock-reserve.lua"), Long.class);
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+        RedisScript.of(new ClassPathResource("scripts/stock-release.lua"), Long.class);
+
+    // 현재 요청 스레드의 예약 (StockReservationAspect 가 설정, 트랜잭션 종료 시 해제)
+    private static final ThreadLocal<Reservation> CURRENT = new ThreadLocal<>();
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final boolean enabled;
+
+    public RedisStockReservation(
+        RedisTemplate<String, String> redisTemplate,
+        @Value("${stock.redis-reservation.enabled:false}") boolean enabled
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 예약 결과
+     */
+    public enum ReserveResult {
+        RESERVED,       // 전체 상품 예약 성공
+        SOLD_OUT,       // 재고 부족 상품 존재 (아무것도 차감하지 않음)
+        NOT_TRACKED     // 카운터 미적재 상품 존재 → DB 경로로 처리
+    }
+
+    /**
+     * 주문 상품 일괄 예약 (같은 상품이 여러 번 담긴 경우 수량을 합산)
+     */
+    public Reservation reserve(Collection<OrderCreateRequest.OrderItem> items) {
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        items.forEach(item -> quantities.merge(item.productId(), item.quantity(), Integer::sum));
+
+        Reservation reservation = new Reservation(UUID.randomUUID().toString(), quantities);
+
+        List<String> args = new ArrayList<>();
+        args.add(reservation.id());
+        args.add(String.valueOf(System.currentTimeMillis()));
+        quantities.values().forEach(quantity -> args.add(String.valueOf(quantity)));
+
+        Long result = redisTemplate.execute(RESERVE_SCRIPT, reservation.keys(), args.toArray());
+
+        if (result == null || result < 0) {
+            trackMissing(reservation, result);
+            reservation.result = ReserveResult.NOT_TRACKED;
+        } else if (result > 0) {
+            reservation.result = ReserveResult.SOLD_OUT;
+        } else {
+            reservation.result = ReserveResult.RESERVED;
+        }
+        return reservation;
+    }
+
+    /**
+     * 예약 해제 (멱등)
+     * @param restore true 면 예약 수량을 카운터에 복구 (롤백), false 면 예약 기록만 제거 (커밋)
+     */
+    public void release(Reservation reservation, boolean restore) {
+        if (reservation == null || reservation.result != ReserveResult.RESERVED) {
+            return;
+        }
+        List<String> args = new ArrayList<>();
+        args.add(reservation.id());
+        args.add(restore ? "1" : "0");
+        reservation.quantities().values().forEach(quantity -> args.add(String.valueOf(quantity)));
+
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, reservation.keys(), args.toArray());
+        } catch (Exception e) {
+            // 해제 실패 시 예약 기록은 inflight-timeout 후 재동기화에서 정리된다.
+            log.warn("[StockReservation] 예약 해제 실패: reservationId={}, restore={}", reservation.id(), restore, e);
+        }
+    }
+
+    void setCurrent(Reservation reservation) {
+        CURRENT.set(reservation);
+    }
+
+    Reservation current() {
+        return CURRENT.get();
+    }
+
+    void clearCurrent() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 현재 스레드의 예약을 진행 중인 트랜잭션 결과에 묶는다.
+     * 커밋되면 예약 기록만 제거하고, 롤백되면 예약 수량을 카운터에 복구한다.
+     */
+    public void bindToTransaction() {
+        Reservation reservation = CURRENT.get();
+        if (reservation == null || reservation.result != ReserveResult.RESERVED
+            || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                release(reservation, status != STATUS_COMMITTED);
+            }
+        });
+    }
+
+    private void trackMissing(Reservation reservation, Long result) {
+        List<Long> productIds = new ArrayList<>(reservation.quantities().keySet());
+        String[] missing = result == null
+            ? productIds.stream().map(String::valueOf).toArray(String[]::new)
+            : new String[] { String.valueOf(productIds.get((int) (-result) - 1)) };
+        redisTemplate.opsForSet().add(TRACKED_KEY, missing);
+    }
+
+    /**
+     * 주문 1건의 재고 예약
+     */
+    public static final class Reservation {
+        private final String id;
+        private final Map<Long, Integer> quantities;
+        private ReserveResult result;
+
+        Reservation(String id, Map<Long, Integer> quantities) {
+            this.id = id;
+            this.quantities = quantities;
+        }
+
+        public String id() {
+            return id;
+        }
+
+        public Map<Long, Integer> quantities() {
+            return quantities;
+        }
+
+        public ReserveResult result() {
+            return result;
+        }
+
+        // KEYS 순서: 예약 가능 재고 N개, 커밋 전 예약 N개 (스크립트와 동일)
+        List<String> keys() {
+            List<String> keys = new ArrayList<>(quantities.size() * 2);
+            quantities.keySet().forEach(productId -> keys.add(AVAILABLE_KEY + productId));
+            quantities.keySet().forEach(productId -> keys.add(INFLIGHT_KEY + productId));
+            return keys;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package kr.hhplus.be.server.infrastructure.stock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import kr.hhplus.be.server.domain.product.enums.ProductStatus;
+import kr.hhplus.be.server.infrastructure.product.persistence.ProductEntity;
+import kr.hhplus.be.server.infrastructure.product.persistence.ProductJpaRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 재고 카운터 재동기화
+ *
+ * stock:tracked 의 상품마다 products.stock 을 읽어 예약 가능 재고를 다시 계산한다.
+ * - 예약 가능 재고 = DB 재고 - 커밋 전 예약 수량 (판매중이 아니면 DB 재고를 0 으로 본다)
+ * - inflight-timeout 보다 오래된 예약은 해제가 유실된 것으로 보고 제거
+ * - 주문 취소/관리자 재고 변경 등 DB 에서 직접 바뀐 재고도 이 주기로 반영된다.
+ *
+ * 재동기화와 커밋이 겹치면 한 주기 동안 카운터가 어긋날 수 있으나, 차감은 DB 조건부 UPDATE 가 최종 판단한다.
+ */
+@Component
+@ConditionalOnProperty(name = "stock.redis-reservation.enabled", havingValue = "true")
+@Slf4j
+public class StockReconcileScheduler {
+
+    private static final RedisScript<Long> RECONCILE_SCRIPT =
+        RedisScript.of(new ClassPathResource("scripts/stock-reconcile.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ProductJpaRepository productJpaRepository;
+    private final long inflightTimeoutMillis;
+    private final int batchSize;
+
+    public StockReconcileScheduler(
+        RedisTemplate<String, String> redisTemplate,
+        ProductJpaRepository productJpaRepository,
+        @Value("${stock.redis-reservation.inflight-timeout:60000}") long inflightTimeoutMillis,
+        @Value("${stock.redis-reservation.reconcile-batch-size:500}") int batchSize
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.productJpaRepository = productJpaRepository;
+        this.inflightTimeoutMillis = inflightTimeoutMillis;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${stock.redis-reservation.reconcile-delay:10000}")
+    public void reconcile() {
+        try {
+            Set<String> tracked = redisTemplate.opsForSet().members(RedisStockReservation.TRACKED_KEY);
+            if (tracked == null || tracked.isEmpty()) {
+                return;
+            }
+
+            List<Long> productIds = tracked.stream().map(Long::valueOf).toList();
+            for (int from = 0; from < productIds.size(); from += batchSize) {
+                reconcileBatch(productIds.subList(from, Math.min(from + batchSize, productIds.size())));
+            }
+        } catch (Exception e) {
+            log.error("[StockReconcile] 스케줄러 실행 중 오류", e);
+        }
+    }
+
+    void reconcileBatch(List<Long> productIds) {
+        Map<Long, ProductEntity> products = productJpaRepository.findAllById(productIds).stream()
+            .collect(Collectors.toMap(ProductEntity::getId, Function.identity()));
+        long expireBefore = System.currentTimeMillis() - inflightTimeoutMillis;
+
+        List<String> removed = new ArrayList<>();
+        for (Long productId : productIds) {
+            ProductEntity product = products.get(productId);
+            if (product == null) {
+                // 삭제된 상품은 카운터를 지워 DB 경로(PRODUCT_NOT_FOUND)로 처리
+                redisTemplate.delete(List.of(
+                    RedisStockReservation.AVAILABLE_KEY + productId,
+                    RedisStockReservation.INFLIGHT_KEY + productId));
+                removed.add(String.valueOf(productId));
+                continue;
+            }
+
+            int dbStock = product.getStatus() == ProductStatus.ON_SALE ? product.getStock() : 0;
+            redisTemplate.execute(
+                RECONCILE_SCRIPT,
+                List.of(RedisStockReservation.AVAILABLE_KEY + productId, RedisStockReservation.INFLIGHT_KEY + productId),
+                String.valueOf(dbStock),
+                String.valueOf(expireBefore)
+            );
+        }
+
+        if (!removed.isEmpty()) {
+            redisTemplate.opsForSet().remove(RedisStockReservation.TRACKED_KEY, removed.toArray());
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package kr.hhplus.be.server.infrastructure.stock;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.stereotype.Component;
+
+import kr.hhplus.be.server.application.order.dto.request.OrderCreateRequest;
+import kr.hhplus.be.server.infrastructure.stock.RedisStockReservation.Reservation;
+import kr.hhplus.be.server.infrastructure.stock.RedisStockReservation.ReserveResult;
+import kr.hhplus.be.server.support.exception.BusinessException;
+import kr.hhplus.be.server.support.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 재고 예약 AOP Aspect
+ *
+ * 실행 순서: @WithDistributedLock → @WithStockReservation → @Transactional
+ * - 품절: 트랜잭션을 열지 않고 PRODUCT_OUT_OF_STOCK 으로 거절
+ * - 예약 성공: 트랜잭션 안에서 RedisStockReservation.bindToTransaction() 으로 커밋/롤백에 묶임
+ * - 예외 종료: 트랜잭션에 묶이기 전에 실패한 경우를 위해 예약 수량 복구 (멱등)
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class StockReservationAspect {
+
+    private final RedisStockReservation stockReservation;
+    private final ExpressionParser parser = new SpelExpressionParser();
+
+    @Around("@annotation(kr.hhplus.be.server.infrastructure.stock.WithStockReservation)")
+    public Object around(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!stockReservation.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        Method method = signature.getMethod();
+        WithStockReservation annotation = method.getAnnotation(WithStockReservation.class);
+
+        Reservation reservation = reserve(joinPoint, annotation.items());
+
+        if (reservation != null && reservation.result() == ReserveResult.SOLD_OUT) {
+            log.info("[StockReservation] 품절로 주문 거절: products={}", reservation.quantities().keySet());
+            throw new BusinessException(ErrorCode.PRODUCT_OUT_OF_STOCK);
+        }
+
+        stockReservation.setCurrent(reservation);
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            stockReservation.release(reservation, true);
+            throw e;
+        } finally {
+            stockReservation.clearCurrent();
+        }
+    }
+
+    /**
+     * Redis 장애 시에는 예약 없이 DB 경로로 처리한다.
+     */
+    @SuppressWarnings("unchecked")
+    private Reservation reserve(ProceedingJoinPoint joinPoint, String itemsExpression) {
+        try {
+            List<OrderCreateRequest.OrderItem> items =
+                (List<OrderCreateRequest.OrderItem>) parser.parseExpression(itemsExpression)
+                    .getValue(createContext(joinPoint));
+            if (items == null || items.isEmpty()) {
+                return null;
+            }
+            return stockReservation.reserve(items);
+        } catch (Exception e) {
+            log.warn("[StockReservation] 예약 실패, DB 경로로 처리: error={}", e.getMessage());
+            return null;
+        }
+    }
+
+    private EvaluationContext createContext(ProceedingJoinPoint joinPoint) {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        String[] parameterNames = signature.getParameterNames();
+        Object[] args = joinPoint.getArgs();
+
+        EvaluationContext context = new StandardEvaluationContext();
+        for (int i = 0; i < parameterNames.length; i++) {
+            context.setVariable(parameterNames[i], args[i]);
+        }
+        return context;
+    }
+}
@@ -0,0 +1,21 @@
+package kr.hhplus.be.server.infrastructure.stock;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 트랜잭션 시작 전 Redis 재고 예약을 적용하기 위한 어노테이션
+ * stock.redis-reservation.enabled 가 false 면 아무것도 하지 않는다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface WithStockReservation {
+
+    /**
+     * 주문 상품 목록 (SpEL 표현식, List<OrderCreateRequest.OrderItem>)
+     * 예: "#request.items()"
+     */
+    String items();
+}
@@ -6,6 +6,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -19,6 +20,7 @@ import jakarta.validation.Valid;
 import kr.hhplus.be.server.application.common.response.PageResponse;
 import kr.hhplus.be.server.application.coupon.service.CouponService;
 import kr.hhplus.be.server.presentation.coupon.dto.request.CouponIssueRequest;
+import kr.hhplus.be.server.presentation.coupon.dto.response.CouponIssueStatusResponse;
 import kr.hhplus.be.server.presentation.coupon.dto.response.UserCouponResponse;
 import kr.hhplus.be.server.support.response.ApiResponse;
 import kr.hhplus.be.server.support.security.domain.UserPrincipal;
@@ -53,6 +55,43 @@ class CouponController {
         return ApiResponse.success(response);
     }
 
+    /*
+     * 선착순 쿠폰 발급 요청 (비동기)
+     */
+    @PostMapping("/issue/async")
+    @Operation(summary = "선착순 쿠폰 발급 요청 (비동기)", description = "선착순 입장만 처리하고 즉시 접수 결과를 반환합니다. 발급 결과는 상태 조회 API로 확인합니다.")
+    public ApiResponse<CouponIssueStatusResponse> requestCouponIssue(
+        @AuthenticationPrincipal UserPrincipal userPrincipal,
+        @Valid @RequestBody CouponIssueRequest request
+    ) {
+        log.info("쿠폰 발급 요청 (비동기): userId={}, couponId={}",
+            userPrincipal.getUserId(), request.couponId());
+
+        CouponIssueStatusResponse response = couponService.requestCouponIssue(
+            userPrincipal.getUserId(),
+            request.couponId()
+        );
+
+        return ApiResponse.success("쿠폰 발급 요청 접수", response);
+    }
+
+    /*
+     * 선착순 쿠폰 발급 결과 조회
+     */
+    @GetMapping("/{couponId}/issue-status")
+    @Operation(summary = "쿠폰 발급 결과 조회", description = "비동기 발급 요청의 처리 상태를 조회합니다.")
+    public ApiResponse<CouponIssueStatusResponse> getCouponIssueStatus(
+        @AuthenticationPrincipal UserPrincipal userPrincipal,
+        @PathVariable Long couponId
+    ) {
+        CouponIssueStatusResponse response = couponService.getCouponIssueStatus(
+            userPrincipal.getUserId(),
+            couponId
+        );
+
+        return ApiResponse.success(response);
+    }
+
     /**
      * 사용 가능한 쿠폰 목록 조회
      */
@@ -0,0 +1,19 @@
+package kr.hhplus.be.server.presentation.coupon.dto.response;
+
+import kr.hhplus.be.server.domain.coupon.enums.CouponIssueStatus;
+
+public record CouponIssueStatusResponse(
+    Long userId,
+    Long couponId,
+    CouponIssueStatus status,
+    String statusDescription
+) {
+    public static CouponIssueStatusResponse of(Long userId, Long couponId, CouponIssueStatus status) {
+        return new CouponIssueStatusResponse(
+            userId,
+            couponId,
+            status,
+            status.getDescription()
+        );
+    }
+}
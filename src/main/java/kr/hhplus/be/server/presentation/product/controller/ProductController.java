@@ -10,6 +10,7 @@ import org.springframework.web.bind.annotation.RestController;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import kr.hhplus.be.server.application.common.response.CursorPageResponse;
 import kr.hhplus.be.server.application.common.response.PageResponse;
 import kr.hhplus.be.server.application.product.service.ProductService;
 import kr.hhplus.be.server.presentation.product.dto.request.ProductSearchRequest;
@@ -32,7 +33,9 @@ public class ProductController {
     * @return 상품 목록 (페이지네이션 포함)
     */
     @GetMapping
-    @Operation(summary = "상품 목록 조회", description = "검색 조건에 따라 상품 목록을 조회합니다.")
+    @Operation(summary = "상품 목록 조회", description = "검색 조건에 따라 상품 목록을 조회합니다. "
+        + "전체 건수(totalElements/totalPages)는 기본적으로 캐시 값 또는 추정치이며, 추정치이면 totalEstimated=true 입니다. "
+        + "정확한 건수가 필요하면 countMode=exact 로 요청합니다.")
     public ApiResponse<PageResponse<ProductResponse>> search(
         @Valid @ModelAttribute ProductSearchRequest request
     ) {
@@ -40,6 +43,20 @@ public class ProductController {
         return ApiResponse.success("상품 목록 조회 성공", response);
     }
 
+    /*
+    * 상품 목록 조회 (커서 기반)
+    * @param request 상품 검색 조건 (상품명, 가격 범위, 카테고리, 판매 상태, 정렬, 커서, 페이지 크기)
+    * @return 상품 목록 (다음 페이지 커서 포함, 전체 건수 미포함)
+    */
+    @GetMapping("/scroll")
+    @Operation(summary = "상품 목록 조회 (커서)", description = "이전 응답의 nextCursor 이후 상품 목록을 조회합니다. 전체 건수는 조회하지 않습니다.")
+    public ApiResponse<CursorPageResponse<ProductResponse>> searchByCursor(
+        @Valid @ModelAttribute ProductSearchRequest request
+    ) {
+        CursorPageResponse<ProductResponse> response = productService.searchByCursor(request.toCommand());
+        return ApiResponse.success("상품 목록 조회 성공", response);
+    }
+
     /*
     * 최근 3일 기준 누적판매량 상위 5개 상품 조회
     * @return 최근 3일 기준 누적판매량 상위 5개 상품 목록
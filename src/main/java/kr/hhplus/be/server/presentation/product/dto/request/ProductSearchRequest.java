@@ -9,10 +9,14 @@ public record ProductSearchRequest(
         String category,
         String status,
         Integer page,
-        Integer size
+        Integer size,
+        String sort,
+        String direction,
+        String cursor,
+        String countMode
 ) {
     public ProductSearchCommand toCommand() {
-        return new ProductSearchCommand(productName, category, status, minPrice, maxPrice, page, size);
+        return new ProductSearchCommand(productName, category, status, minPrice, maxPrice, page, size, sort, direction, cursor, countMode);
     }
 }
 
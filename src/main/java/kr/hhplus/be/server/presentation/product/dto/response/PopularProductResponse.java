@@ -3,6 +3,7 @@ package kr.hhplus.be.server.presentation.product.dto.response;
 import io.swagger.v3.oas.annotations.media.Schema;
 import kr.hhplus.be.server.domain.product.entity.PopularProduct;
 import kr.hhplus.be.server.domain.product.entity.Product;
+import kr.hhplus.be.server.domain.product.entity.ProductSummary;
 import kr.hhplus.be.server.domain.product.enums.ProductStatus;
 
 @Schema(description = "인기상품 조회 응답")
@@ -54,4 +55,19 @@ public record PopularProductResponse(
             popularProduct.totalSalesQuantity()
         );
     }
+
+    /**
+     * 상품 요약 캐시 + 판매량(랭킹 점수/집계값)으로부터 변환
+     */
+    public static PopularProductResponse of(ProductSummary summary, Integer salesQuantity) {
+        return new PopularProductResponse(
+            summary.id(),
+            summary.productName(),
+            summary.price(),
+            summary.stock(),
+            summary.category().name(),
+            summary.status(),
+            salesQuantity
+        );
+    }
 }
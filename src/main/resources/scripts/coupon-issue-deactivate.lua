@@ -0,0 +1,16 @@
+-- 비동기 발급 대상 쿠폰 제외 (남은 대기열 확인 + 제외를 하나의 원자적 호출로 처리)
+-- KEYS[1] = coupon:issue:active             (Set)
+-- KEYS[2] = coupon:request:{couponId}       (Sorted Set)
+-- KEYS[3] = coupon:issue:cursor:{couponId}  (String)
+-- ARGV[1] = couponId
+--
+-- 커서 이후 대기열이 비어 있을 때만 제외한다. (확인과 제외 사이에 입장한 요청이 처리 대상에서 빠지지 않도록)
+-- 반환값: 1 = 제외, 0 = 미처리 대기열 있음
+local cursor = redis.call('GET', KEYS[3]) or '0'
+local pending = redis.call('ZRANGEBYSCORE', KEYS[2], '(' .. cursor, '+inf', 'LIMIT', 0, 1)
+if #pending > 0 then
+    return 0
+end
+
+redis.call('SREM', KEYS[1], ARGV[1])
+return 1
@@ -0,0 +1,14 @@
+-- 비동기 쿠폰 발급 실패 처리 (대기열 슬롯 반환 + 실패 기록을 하나의 원자적 호출로 처리)
+-- KEYS[1] = coupon:request:{couponId}       (Sorted Set)
+-- KEYS[2] = coupon:issue:failed:{couponId}  (Set)
+-- ARGV    = userId 목록
+--
+-- 대기열에서 제거하면 ZCARD 가 줄어 다른 사용자가 그 수량으로 입장할 수 있다.
+-- coupon:issued:{couponId} 에는 남겨 두므로 같은 사용자의 재요청은 중복으로 거절되고, 결과 조회는 FAILED 가 된다.
+-- 반환값: 대기열에서 제거된 사용자 수
+local released = 0
+for i = 1, #ARGV do
+    released = released + redis.call('ZREM', KEYS[1], ARGV[i])
+    redis.call('SADD', KEYS[2], ARGV[i])
+end
+return released
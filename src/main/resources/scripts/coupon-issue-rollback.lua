@@ -0,0 +1,7 @@
+-- 선착순 쿠폰 발급 롤백 (Set + Sorted Set 에서 사용자 제거를 하나의 원자적 호출로 처리)
+-- KEYS[1] = coupon:issued:{couponId}   (Set)
+-- KEYS[2] = coupon:request:{couponId}  (Sorted Set)
+-- ARGV[1] = userId
+redis.call('SREM', KEYS[1], ARGV[1])
+redis.call('ZREM', KEYS[2], ARGV[1])
+return 1
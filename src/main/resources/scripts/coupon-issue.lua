@@ -0,0 +1,33 @@
+-- 선착순 쿠폰 발급 (중복 체크 + 수량 체크 + 대기열 등록을 하나의 원자적 호출로 처리)
+-- KEYS[1] = coupon:issued:{couponId}       (Set)
+-- KEYS[2] = coupon:request:{couponId}      (Sorted Set)
+-- KEYS[3] = coupon:quantity:{couponId}     (String)
+-- KEYS[4] = coupon:request:seq:{couponId}  (String, 대기열 score 시퀀스)
+-- KEYS[5] = coupon:issue:active            (Set, 비동기 발급 시에만 전달)
+-- ARGV[1] = userId
+-- ARGV[2] = couponId (비동기 발급 시에만 전달)
+--
+-- 대기열 score는 Redis에서 발급한 시퀀스를 사용한다. (노드 간 시계 차이와 무관하게 단조 증가)
+-- 반환값: 0 이상 = 발급 순위(0-based), -1 = 중복 발급, -2 = 수량 소진, -3 = 수량 미설정
+local maxQuantity = redis.call('GET', KEYS[3])
+if not maxQuantity then
+    return -3
+end
+
+if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then
+    return -1
+end
+
+local rank = redis.call('ZCARD', KEYS[2])
+if rank >= tonumber(maxQuantity) then
+    return -2
+end
+
+local seq = redis.call('INCR', KEYS[4])
+redis.call('SADD', KEYS[1], ARGV[1])
+redis.call('ZADD', KEYS[2], seq, ARGV[1])
+
+if KEYS[5] then
+    redis.call('SADD', KEYS[5], ARGV[2])
+end
+return rank
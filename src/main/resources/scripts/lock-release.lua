@@ -0,0 +1,9 @@
+-- 락 해제 (소유자 확인 후 삭제)
+-- KEYS[1] = 락 키
+-- ARGV[1] = 획득 시 저장한 토큰
+--
+-- 리스가 만료되어 다른 요청이 다시 획득한 락은 지우지 않는다.
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
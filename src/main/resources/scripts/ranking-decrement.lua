@@ -0,0 +1,42 @@
+-- 랭킹 판매량 감소 (0 하한, 0 이하가 되면 member 제거)
+-- KEYS[1]  = ranking:products:rolling:cursor (롤링 합계에서 마지막으로 차감한 버킷 시각 yyyyMMddHH)
+-- KEYS[2]  = ranking:products:rolling        (롤링 합계)
+-- KEYS[3..] = 무조건 감소할 랭킹 키 (일별 키, 시간 버킷 키 - 모두 같은 수량만큼 감소)
+-- ARGV[1]  = 주문 시각 버킷 (yyyyMMddHH), 빈 문자열이면 롤링 합계는 감소하지 않음
+-- ARGV[2..] = productId1, quantity1, productId2, quantity2, ...
+--
+-- ZSCORE 와 ZINCRBY/ZREM 을 한 번에 실행하므로 동시 주문의 ZINCRBY 와 섞여도 점수가 어긋나지 않는다.
+-- 롤링 합계는 주문 버킷이 아직 롤업되지 않았을 때(버킷 > 커서)만 감소한다.
+-- 커서 비교도 같은 스크립트 안에서 하므로 롤업과 동시에 실행돼도 같은 판매량을 두 번 빼지 않는다.
+-- 반환값: 점수가 바뀐 (키, 상품) 수
+local changed = 0
+
+local keys = {}
+for k = 3, #KEYS do
+    keys[#keys + 1] = KEYS[k]
+end
+
+local bucket = ARGV[1]
+if bucket ~= '' then
+    local cursor = redis.call('GET', KEYS[1])
+    if not cursor or bucket > cursor then
+        keys[#keys + 1] = KEYS[2]
+    end
+end
+
+for _, key in ipairs(keys) do
+    for i = 2, #ARGV, 2 do
+        local member = ARGV[i]
+        local quantity = tonumber(ARGV[i + 1])
+        local score = redis.call('ZSCORE', key, member)
+        if score then
+            if tonumber(score) - quantity <= 0 then
+                redis.call('ZREM', key, member)
+            else
+                redis.call('ZINCRBY', key, -quantity, member)
+            end
+            changed = changed + 1
+        end
+    end
+end
+return changed
@@ -0,0 +1,19 @@
+-- 롤링 N시간 랭킹에서 윈도우를 벗어난 시간 버킷 1개를 차감
+-- KEYS[1] = ranking:products:rolling          (롤링 합계)
+-- KEYS[2] = ranking:products:rolling:cursor   (마지막으로 차감한 버킷 시각 yyyyMMddHH)
+-- KEYS[3] = ranking:products:hourly:{yyyyMMddHH} (차감할 버킷)
+-- ARGV[1] = 차감할 버킷 시각 (yyyyMMddHH)
+--
+-- 커서와 함께 갱신하므로 여러 노드가 동시에 실행해도 한 버킷은 한 번만 차감된다.
+-- 반환값: 1 = 차감, 0 = 이미 차감됨
+local cursor = redis.call('GET', KEYS[2])
+if cursor and cursor >= ARGV[1] then
+    return 0
+end
+
+if redis.call('EXISTS', KEYS[3]) == 1 then
+    redis.call('ZUNIONSTORE', KEYS[1], 2, KEYS[1], KEYS[3], 'WEIGHTS', 1, -1)
+    redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', 0)
+end
+redis.call('SET', KEYS[2], ARGV[1])
+return 1
@@ -0,0 +1,21 @@
+-- 예약 재고 카운터를 DB 재고와 맞춤
+-- KEYS[1] = stock:available:{productId}
+-- KEYS[2] = stock:inflight:{productId}
+-- ARGV[1] = DB 재고 (products.stock, 판매중이 아니면 0)
+-- ARGV[2] = 만료 기준 시각 (epoch millis, 이보다 오래된 예약은 유실된 것으로 보고 제거)
+--
+-- 예약 가능 재고 = DB 재고 - 아직 커밋되지 않은 예약 수량
+-- 반환값: 맞춘 후 예약 가능 재고
+redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', '(' .. ARGV[2])
+
+local inflight = 0
+for _, member in ipairs(redis.call('ZRANGE', KEYS[2], 0, -1)) do
+    inflight = inflight + tonumber(string.match(member, ':(%d+)$'))
+end
+
+local available = tonumber(ARGV[1]) - inflight
+if available < 0 then
+    available = 0
+end
+redis.call('SET', KEYS[1], available)
+return available
@@ -0,0 +1,21 @@
+-- 재고 예약 해제
+-- KEYS[1..N]     = stock:available:{productId}
+-- KEYS[N+1..2N]  = stock:inflight:{productId}
+-- ARGV[1]        = reservationId
+-- ARGV[2]        = 1: 롤백 (예약 재고 복구), 0: 커밋 (DB 에 반영되었으므로 예약 기록만 제거)
+-- ARGV[3..N+2]   = 상품별 수량
+--
+-- 예약 기록(ZREM)이 남아있을 때만 복구하므로 여러 번 호출해도 한 번만 반영된다.
+local n = #KEYS / 2
+local released = 0
+
+for i = 1, n do
+    local quantity = ARGV[i + 2]
+    if redis.call('ZREM', KEYS[n + i], ARGV[1] .. ':' .. quantity) == 1 then
+        released = released + 1
+        if ARGV[2] == '1' and redis.call('EXISTS', KEYS[i]) == 1 then
+            redis.call('INCRBY', KEYS[i], quantity)
+        end
+    end
+end
+return released
@@ -0,0 +1,26 @@
+-- 주문 상품 재고 일괄 예약 (전체 성공 또는 전체 실패)
+-- KEYS[1..N]     = stock:available:{productId}  (String, 예약 가능 재고)
+-- KEYS[N+1..2N]  = stock:inflight:{productId}   (Sorted Set, 커밋 전 예약 member={reservationId}:{quantity}, score=예약 시각)
+-- ARGV[1]        = reservationId
+-- ARGV[2]        = 예약 시각 (epoch millis)
+-- ARGV[3..N+2]   = 상품별 수량
+--
+-- 반환값: 0 = 예약 성공, i (>0) = i번째 상품 재고 부족, -i = i번째 상품 재고 카운터 미적재
+local n = #KEYS / 2
+
+for i = 1, n do
+    local available = redis.call('GET', KEYS[i])
+    if not available then
+        return -i
+    end
+    if tonumber(available) < tonumber(ARGV[i + 2]) then
+        return i
+    end
+end
+
+for i = 1, n do
+    local quantity = ARGV[i + 2]
+    redis.call('DECRBY', KEYS[i], quantity)
+    redis.call('ZADD', KEYS[n + i], ARGV[2], ARGV[1] .. ':' .. quantity)
+end
+return 0
@@ -0,0 +1,158 @@
+package kr.hhplus.be.server.application.coupon.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import kr.hhplus.be.server.application.coupon.dto.response.CouponIssueBatchResult;
+import kr.hhplus.be.server.domain.coupon.entity.Coupon;
+import kr.hhplus.be.server.domain.coupon.entity.UserCoupon;
+import kr.hhplus.be.server.domain.coupon.enums.CouponStatus;
+import kr.hhplus.be.server.domain.coupon.enums.CouponType;
+import kr.hhplus.be.server.domain.coupon.repository.CouponRepository;
+import kr.hhplus.be.server.domain.coupon.repository.UserCouponRepository;
+import kr.hhplus.be.server.support.exception.BusinessException;
+import kr.hhplus.be.server.support.exception.ErrorCode;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponIssueBatchService 비동기 배치 발급 TDD")
+class CouponIssueBatchServiceTest {
+
+    @InjectMocks
+    private CouponIssueBatchService couponIssueBatchService;
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private UserCouponRepository userCouponRepository;
+
+    private final Long TEST_COUPON_ID = 100L;
+    private Coupon activeCoupon;
+
+    @BeforeEach
+    void setUp() {
+        activeCoupon = new Coupon(
+            TEST_COUPON_ID, "테스트 선착순 쿠폰", CouponType.AMOUNT, 5000L, 10000L,
+            LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1),
+            100, 100, CouponStatus.ACTIVE, LocalDateTime.now(), LocalDateTime.now()
+        );
+    }
+
+    @Test
+    @DisplayName("성공: 배치 전체를 한 번에 저장하고 새로 저장한 건수만큼 수량을 한 번에 차감한다.")
+    void 배치_발급_성공() {
+        // Given: 3명 중 1명은 이미 발급되어 제외됨
+        when(couponRepository.findByIdWithLock(TEST_COUPON_ID)).thenReturn(Optional.of(activeCoupon));
+        when(userCouponRepository.findIssuedUserIds(TEST_COUPON_ID, List.of(1L, 2L, 3L))).thenReturn(List.of(2L));
+        when(userCouponRepository.insertAllIgnoreDuplicates(anyList())).thenReturn(2);
+        when(couponRepository.decreaseAvailableQuantity(TEST_COUPON_ID, 2)).thenReturn(1);
+
+        // When
+        CouponIssueBatchResult result = couponIssueBatchService.issueBatch(TEST_COUPON_ID, List.of(1L, 2L, 3L));
+
+        // Then
+        assertThat(result.issued()).isEqualTo(2);
+        assertThat(result.rejectedUserIds()).isEmpty();
+        verify(userCouponRepository).insertAllIgnoreDuplicates(argThat(list ->
+            list.stream().map(UserCoupon::userId).toList().equals(List.of(1L, 3L))));
+        verify(couponRepository).decreaseAvailableQuantity(TEST_COUPON_ID, 2);
+        verify(couponRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("성공: 모두 이미 발급된 사용자면(재처리) 저장/수량 차감을 하지 않는다.")
+    void 배치_재처리_멱등() {
+        // Given
+        when(couponRepository.findByIdWithLock(TEST_COUPON_ID)).thenReturn(Optional.of(activeCoupon));
+        when(userCouponRepository.findIssuedUserIds(TEST_COUPON_ID, List.of(1L, 2L))).thenReturn(List.of(1L, 2L));
+
+        // When
+        CouponIssueBatchResult result = couponIssueBatchService.issueBatch(TEST_COUPON_ID, List.of(1L, 2L));
+
+        // Then
+        assertThat(result.issued()).isZero();
+        assertThat(result.rejectedUserIds()).isEmpty();
+        verify(userCouponRepository, never()).insertAllIgnoreDuplicates(anyList());
+        verify(couponRepository, never()).decreaseAvailableQuantity(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("부분 성공: DB 잔여 수량이 부족하면 대기열 순서대로 잔여 수량만큼만 발급하고 나머지만 거절한다.")
+    void 배치_발급_DB_수량_부족() {
+        // Given: DB 잔여 수량 2
+        Coupon lowStockCoupon = new Coupon(
+            TEST_COUPON_ID, "테스트 선착순 쿠폰", CouponType.AMOUNT, 5000L, 10000L,
+            activeCoupon.validFrom(), activeCoupon.validTo(), 100, 2, CouponStatus.ACTIVE,
+            activeCoupon.crtDttm(), activeCoupon.updDttm()
+        );
+        when(couponRepository.findByIdWithLock(TEST_COUPON_ID)).thenReturn(Optional.of(lowStockCoupon));
+        when(userCouponRepository.findIssuedUserIds(TEST_COUPON_ID, List.of(1L, 2L, 3L, 4L))).thenReturn(List.of());
+        when(userCouponRepository.insertAllIgnoreDuplicates(anyList())).thenReturn(2);
+        when(couponRepository.decreaseAvailableQuantity(TEST_COUPON_ID, 2)).thenReturn(1);
+
+        // When
+        CouponIssueBatchResult result = couponIssueBatchService.issueBatch(TEST_COUPON_ID, List.of(1L, 2L, 3L, 4L));
+
+        // Then
+        assertThat(result.issued()).isEqualTo(2);
+        assertThat(result.rejectedUserIds()).containsExactly(3L, 4L);
+        verify(userCouponRepository).insertAllIgnoreDuplicates(argThat(list ->
+            list.stream().map(UserCoupon::userId).toList().equals(List.of(1L, 2L))));
+    }
+
+    @Test
+    @DisplayName("종료 판단: 비활성/기간 종료/DB 수량 소진 쿠폰은 닫힌 것으로 본다.")
+    void 쿠폰_종료_판단() {
+        // Given
+        Coupon expiredCoupon = new Coupon(
+            TEST_COUPON_ID, "만료 쿠폰", CouponType.AMOUNT, 5000L, 10000L,
+            LocalDateTime.now().minusDays(3), LocalDateTime.now().minusDays(1), 100, 10, CouponStatus.ACTIVE,
+            activeCoupon.crtDttm(), activeCoupon.updDttm()
+        );
+        when(couponRepository.findById(TEST_COUPON_ID)).thenReturn(Optional.of(activeCoupon), Optional.of(expiredCoupon));
+        when(couponRepository.findById(999L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThat(couponIssueBatchService.isClosed(TEST_COUPON_ID)).isFalse();
+        assertThat(couponIssueBatchService.isClosed(TEST_COUPON_ID)).isTrue();
+        assertThat(couponIssueBatchService.isClosed(999L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("실패: 쿠폰이 비활성 상태이면 저장하지 않는다.")
+    void 배치_발급_비활성_쿠폰() {
+        // Given
+        Coupon inactiveCoupon = new Coupon(
+            TEST_COUPON_ID, "비활성 쿠폰", CouponType.AMOUNT, 5000L, 10000L,
+            activeCoupon.validFrom(), activeCoupon.validTo(), 100, 100, CouponStatus.INACTIVE,
+            activeCoupon.crtDttm(), activeCoupon.updDttm()
+        );
+        when(couponRepository.findByIdWithLock(TEST_COUPON_ID)).thenReturn(Optional.of(inactiveCoupon));
+
+        // When & Then
+        BusinessException exception = assertThrows(BusinessException.class,
+            () -> couponIssueBatchService.issueBatch(TEST_COUPON_ID, List.of(1L)));
+
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.COUPON_NOT_AVAILABLE);
+        verify(userCouponRepository, never()).insertAllIgnoreDuplicates(anyList());
+    }
+}
@@ -3,13 +3,10 @@ package kr.hhplus.be.server.application.coupon.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
-import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -25,17 +22,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.verification.VerificationMode;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.SetOperations;
-import org.springframework.data.redis.core.ValueOperations;
-import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 
 import kr.hhplus.be.server.domain.coupon.entity.Coupon;
 import kr.hhplus.be.server.domain.coupon.entity.UserCoupon;
+import kr.hhplus.be.server.domain.coupon.enums.CouponIssueStatus;
 import kr.hhplus.be.server.domain.coupon.enums.CouponStatus;
 import kr.hhplus.be.server.domain.coupon.enums.CouponType;
 import kr.hhplus.be.server.domain.coupon.repository.CouponRepository;
 import kr.hhplus.be.server.domain.coupon.repository.UserCouponRepository;
+import kr.hhplus.be.server.infrastructure.coupon.cache.CouponCatalogCache;
+import kr.hhplus.be.server.presentation.coupon.dto.response.CouponIssueStatusResponse;
 import kr.hhplus.be.server.presentation.coupon.dto.response.UserCouponResponse;
 import kr.hhplus.be.server.support.exception.BusinessException;
 import kr.hhplus.be.server.support.exception.ErrorCode;
@@ -56,14 +56,11 @@ class CouponServiceTest {
     @Mock
     private RedisTemplate<String, String> redisTemplate;
 
-    @Mock
-    private ValueOperations<String, String> valueOperations;
-
     @Mock
     private SetOperations<String, String> setOperations;
 
     @Mock
-    private ZSetOperations<String, String> zSetOperations;
+    private CouponCatalogCache couponCatalogCache;
 
     private final Long TEST_USER_ID = 1L;
     private final Long TEST_COUPON_ID = 100L;
@@ -71,11 +68,6 @@ class CouponServiceTest {
 
     @BeforeEach
     void setUp() {
-        // Redis 내부 연산 처리를 위한 Mock 설정
-        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        lenient().when(redisTemplate.opsForSet()).thenReturn(setOperations);
-        lenient().when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
-
         activeCoupon = new Coupon(
             TEST_COUPON_ID, "테스트 선착순 쿠폰", CouponType.AMOUNT, 5000L, 10000L,
             LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1),
@@ -83,16 +75,32 @@ class CouponServiceTest {
         );
     }
 
+    @SuppressWarnings("unchecked")
+    private void givenAdmitResult(long result) {
+        // 발급 스크립트: keys + (userId)
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any())).thenReturn(result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void verifyRollback(VerificationMode mode) {
+        // 롤백 스크립트: keys + (userId)
+        verify(redisTemplate, mode).execute(
+            any(RedisScript.class),
+            argThat(keys -> keys.size() == 2
+                && keys.get(0).toString().contains("issued")
+                && keys.get(1).toString().contains("request")),
+            eq(String.valueOf(TEST_USER_ID))
+        );
+    }
+
     @Test
-    @DisplayName("성공: Set 중복 체크 + Sorted Set 선착순 검증을 통과하면 DB에 발급 이력을 저장하고 쿠폰 수량을 차감한다.")
+    @DisplayName("성공: Lua 스크립트 입장 처리를 통과하면 DB에 발급 이력을 저장하고 쿠폰 수량을 차감한다.")
+    @SuppressWarnings("unchecked")
     void 쿠폰_발급_성공() {
         // Given
         UserCoupon savedUserCoupon = UserCoupon.issue(TEST_USER_ID, TEST_COUPON_ID, activeCoupon.validTo());
 
-        when(setOperations.add(anyString(), anyString())).thenReturn(1L);
-        when(zSetOperations.add(anyString(), anyString(), anyDouble())).thenReturn(true);
-        when(zSetOperations.rank(anyString(), anyString())).thenReturn(0L);
-        when(valueOperations.get(anyString())).thenReturn("10");
+        givenAdmitResult(0L);
         when(couponRepository.findByIdWithLock(TEST_COUPON_ID)).thenReturn(Optional.of(activeCoupon));
         when(userCouponRepository.save(any(UserCoupon.class))).thenReturn(savedUserCoupon);
         when(couponRepository.save(any(Coupon.class))).thenAnswer(invocation -> invocation.getArgument(0));
@@ -104,23 +112,27 @@ class CouponServiceTest {
         assertThat(response).isNotNull();
         assertThat(response.couponId()).isEqualTo(TEST_COUPON_ID);
 
-        // Redis 호출 검증: Set(중복체크) → Sorted Set(대기열 등록) → Sorted Set(순위 확인) → DB
-        verify(setOperations, times(1)).add(contains("issued"), eq(String.valueOf(TEST_USER_ID)));
-        verify(zSetOperations, times(1)).add(contains("request"), eq(String.valueOf(TEST_USER_ID)), anyDouble());
-        verify(zSetOperations, times(1)).rank(contains("request"), eq(String.valueOf(TEST_USER_ID)));
+        // Redis 호출 검증: Set/Sorted Set/수량 키를 한 번의 스크립트 호출로 처리
+        verify(redisTemplate, times(1)).execute(
+            any(RedisScript.class),
+            argThat(keys -> keys.size() == 4
+                && keys.get(0).toString().contains("issued")
+                && keys.get(1).toString().contains("request")
+                && keys.get(2).toString().contains("quantity")
+                && keys.get(3).toString().contains("seq")),
+            eq(String.valueOf(TEST_USER_ID))
+        );
+        verifyRollback(never());
         verify(couponRepository, times(1)).findByIdWithLock(TEST_COUPON_ID);
         verify(userCouponRepository, times(1)).save(any(UserCoupon.class));
         verify(couponRepository, times(1)).save(argThat(c -> c.availableQuantity() == 9));
     }
 
     @Test
-    @DisplayName("실패: Sorted Set 순위가 수량 이상이면 DB를 거치지 않고 Redis를 롤백하고 예외를 던진다.")
-    void 재고_부족_실패_및_롤백_검증() {
+    @DisplayName("실패: 스크립트가 수량 소진을 반환하면 DB를 거치지 않고 예외를 던진다.")
+    void 재고_부족_실패() {
         // Given
-        when(setOperations.add(anyString(), anyString())).thenReturn(1L);
-        when(zSetOperations.add(anyString(), anyString(), anyDouble())).thenReturn(true);
-        when(zSetOperations.rank(anyString(), anyString())).thenReturn(10L); // rank(10) >= maxQuantity(10) → 탈락
-        when(valueOperations.get(anyString())).thenReturn("10");
+        givenAdmitResult(-2L);
 
         // When & Then
         BusinessException exception = assertThrows(BusinessException.class,
@@ -128,23 +140,48 @@ class CouponServiceTest {
 
         assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.COUPON_OUT_OF_STOCK);
 
-        // 롤백 검증: Set에서 사용자 제거 + Sorted Set에서 대기열 제거
-        verify(setOperations).remove(contains("issued"), eq(String.valueOf(TEST_USER_ID)));
-        verify(zSetOperations).remove(contains("request"), eq(String.valueOf(TEST_USER_ID)));
+        // Redis에 등록되지 않았으므로 롤백 불필요
+        verifyRollback(never());
 
         // DB는 호출되지 않음 (Redis 레벨에서 조기 차단)
         verify(couponRepository, never()).findByIdWithLock(anyLong());
         verify(userCouponRepository, never()).save(any());
     }
 
+    @Test
+    @DisplayName("실패: 스크립트가 중복 발급을 반환하면 DB를 거치지 않고 예외를 던진다.")
+    void 중복_발급_실패() {
+        // Given
+        givenAdmitResult(-1L);
+
+        // When & Then
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> couponService.issueCoupon(TEST_USER_ID, TEST_COUPON_ID));
+
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.COUPON_ALREADY_ISSUED);
+        verifyRollback(never());
+        verify(couponRepository, never()).findByIdWithLock(anyLong());
+    }
+
+    @Test
+    @DisplayName("실패: 쿠폰 수량이 Redis에 설정되지 않았으면 발급 실패 예외를 던진다.")
+    void 수량_미설정_실패() {
+        // Given
+        givenAdmitResult(-3L);
+
+        // When & Then
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> couponService.issueCoupon(TEST_USER_ID, TEST_COUPON_ID));
+
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.COUPON_ISSUE_FAILED);
+        verify(couponRepository, never()).findByIdWithLock(anyLong());
+    }
+
     @Test
     @DisplayName("실패: DB 조회 시 쿠폰이 비활성 상태이면 Redis를 롤백하고 예외를 던진다.")
     void 쿠폰_상태_이상_실패_및_롤백_검증() {
         // Given
-        when(setOperations.add(anyString(), anyString())).thenReturn(1L);
-        when(zSetOperations.add(anyString(), anyString(), anyDouble())).thenReturn(true);
-        when(zSetOperations.rank(anyString(), anyString())).thenReturn(0L); // 순위 통과
-        when(valueOperations.get(anyString())).thenReturn("10");
+        givenAdmitResult(0L); // 순위 통과
 
         Coupon inactiveCoupon = new Coupon(
             TEST_COUPON_ID, "비활성 쿠폰", CouponType.AMOUNT, 5000L, 10000L,
@@ -159,13 +196,99 @@ class CouponServiceTest {
 
         assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.COUPON_NOT_AVAILABLE);
 
-        // Redis 롤백 검증: Set + Sorted Set 모두 정리
-        verify(setOperations).remove(contains("issued"), eq(String.valueOf(TEST_USER_ID)));
-        verify(zSetOperations).remove(contains("request"), eq(String.valueOf(TEST_USER_ID)));
+        // Redis 롤백 검증: Set + Sorted Set 정리를 한 번의 스크립트 호출로 처리
+        verifyRollback(times(1));
 
         // DB 조회는 이루어짐 (순위 검증 통과 후 DB 조회)
         verify(couponRepository).findByIdWithLock(TEST_COUPON_ID);
         // 쿠폰 저장은 수행되지 않음
         verify(userCouponRepository, never()).save(any());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("비동기 발급: 입장에 성공하면 DB를 거치지 않고 PENDING 상태를 즉시 반환한다.")
+    @SuppressWarnings("unchecked")
+    void 비동기_발급_요청_접수() {
+        // Given: 비동기 발급 스크립트 keys + (userId, couponId)
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).thenReturn(3L);
+
+        // When
+        CouponIssueStatusResponse response = couponService.requestCouponIssue(TEST_USER_ID, TEST_COUPON_ID);
+
+        // Then
+        assertThat(response.status()).isEqualTo(CouponIssueStatus.PENDING);
+        verify(redisTemplate).execute(
+            any(RedisScript.class),
+            argThat(keys -> keys.size() == 5 && keys.get(4).toString().equals("coupon:issue:active")),
+            eq(String.valueOf(TEST_USER_ID)),
+            eq(String.valueOf(TEST_COUPON_ID))
+        );
+        verify(couponRepository, never()).findByIdWithLock(anyLong());
+        verify(userCouponRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("비동기 발급: 수량이 소진되었으면 접수 단계에서 예외를 던진다.")
+    @SuppressWarnings("unchecked")
+    void 비동기_발급_요청_수량_소진() {
+        // Given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).thenReturn(-2L);
+
+        // When & Then
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> couponService.requestCouponIssue(TEST_USER_ID, TEST_COUPON_ID));
+
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.COUPON_OUT_OF_STOCK);
+    }
+
+    @Test
+    @DisplayName("발급 상태 조회: DB에 발급 이력이 있으면 ISSUED, Redis 대기열에만 있으면 PENDING, 실패 기록이 있으면 FAILED")
+    void 발급_상태_조회() {
+        // Given
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+
+        // ISSUED
+        when(userCouponRepository.existsByUserIdAndCouponId(TEST_USER_ID, TEST_COUPON_ID)).thenReturn(true);
+        assertThat(couponService.getCouponIssueStatus(TEST_USER_ID, TEST_COUPON_ID).status())
+            .isEqualTo(CouponIssueStatus.ISSUED);
+
+        // PENDING
+        when(userCouponRepository.existsByUserIdAndCouponId(TEST_USER_ID, TEST_COUPON_ID)).thenReturn(false);
+        when(setOperations.isMember("coupon:issue:failed:" + TEST_COUPON_ID, String.valueOf(TEST_USER_ID))).thenReturn(false);
+        when(setOperations.isMember("coupon:issued:" + TEST_COUPON_ID, String.valueOf(TEST_USER_ID))).thenReturn(true);
+        assertThat(couponService.getCouponIssueStatus(TEST_USER_ID, TEST_COUPON_ID).status())
+            .isEqualTo(CouponIssueStatus.PENDING);
+
+        // FAILED
+        when(setOperations.isMember("coupon:issue:failed:" + TEST_COUPON_ID, String.valueOf(TEST_USER_ID))).thenReturn(true);
+        assertThat(couponService.getCouponIssueStatus(TEST_USER_ID, TEST_COUPON_ID).status())
+            .isEqualTo(CouponIssueStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("쿠폰 조회: 카탈로그 로컬 캐시를 사용하고 DB를 직접 조회하지 않는다.")
+    void 쿠폰_조회_캐시_사용() {
+        // Given
+        when(couponCatalogCache.get(TEST_COUPON_ID)).thenReturn(Optional.of(activeCoupon));
+
+        // When
+        Coupon coupon = couponService.getCoupon(TEST_USER_ID, TEST_COUPON_ID);
+
+        // Then
+        assertThat(coupon).isEqualTo(activeCoupon);
+        verify(couponRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("쿠폰 조회: 존재하지 않는 쿠폰이면 예외를 던진다.")
+    void 쿠폰_조회_없음() {
+        // Given
+        when(couponCatalogCache.get(TEST_COUPON_ID)).thenReturn(Optional.empty());
+
+        // When & Then
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> couponService.getCoupon(TEST_USER_ID, TEST_COUPON_ID));
+
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.COUPON_NOT_FOUND);
+    }
+}
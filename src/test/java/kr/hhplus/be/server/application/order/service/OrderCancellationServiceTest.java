@@ -8,6 +8,7 @@ import static org.mockito.Mockito.*;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -161,8 +162,14 @@ public class OrderCancellationServiceTest {
         verify(productService, times(1)).increaseStock(20L, 1);
 
         // Then: 판매량 감소
-        verify(productService, times(1)).decreaseSalesQuantity(10L, 2);
-        verify(productService, times(1)).decreaseSalesQuantity(20L, 1);
+        verify(productService, times(1)).decreaseSalesQuantity(eq(10L), eq(2), any());
+        verify(productService, times(1)).decreaseSalesQuantity(eq(20L), eq(1), any());
+
+        // Then: 랭킹 점수는 주문 생성 시각 기준으로 한 번에 감소
+        verify(productRankingService, times(1)).decrementSalesScores(
+            Map.of(10L, 2, 20L, 1),
+            completedOrder.crtDttm()
+        );
     }
 
     @Test
@@ -205,8 +212,8 @@ public class OrderCancellationServiceTest {
         verify(productService, times(1)).increaseStock(20L, 1);
 
         // Then: 판매량 감소
-        verify(productService, times(1)).decreaseSalesQuantity(10L, 2);
-        verify(productService, times(1)).decreaseSalesQuantity(20L, 1);
+        verify(productService, times(1)).decreaseSalesQuantity(eq(10L), eq(2), any());
+        verify(productService, times(1)).decreaseSalesQuantity(eq(20L), eq(1), any());
     }
 
     @Test
@@ -225,7 +232,7 @@ public class OrderCancellationServiceTest {
 
         // Then: 재고 복구 1번만 호출
         verify(productService, times(1)).increaseStock(10L, 2);
-        verify(productService, times(1)).decreaseSalesQuantity(10L, 2);
+        verify(productService, times(1)).decreaseSalesQuantity(eq(10L), eq(2), any());
     }
 
     @Test
@@ -243,7 +250,7 @@ public class OrderCancellationServiceTest {
 
         // Then: 각 상품별 재고 복구
         verify(productService, times(2)).increaseStock(anyLong(), anyInt());
-        verify(productService, times(2)).decreaseSalesQuantity(anyLong(), anyInt());
+        verify(productService, times(2)).decreaseSalesQuantity(anyLong(), anyInt(), any());
     }
 
     // ==================== 주문 취소 가능 여부 테스트 ====================
@@ -349,7 +356,7 @@ public class OrderCancellationServiceTest {
 
         // Then: 재고/판매량 처리는 호출되지 않음
         verify(productService, never()).increaseStock(anyLong(), anyInt());
-        verify(productService, never()).decreaseSalesQuantity(anyLong(), anyInt());
+        verify(productService, never()).decreaseSalesQuantity(anyLong(), anyInt(), any());
     }
 
     // ==================== 대량 주문 취소 테스트 ====================
@@ -381,7 +388,7 @@ public class OrderCancellationServiceTest {
 
         // Then: 10개 상품 모두 재고 복구
         verify(productService, times(10)).increaseStock(anyLong(), anyInt());
-        verify(productService, times(10)).decreaseSalesQuantity(anyLong(), anyInt());
+        verify(productService, times(10)).decreaseSalesQuantity(anyLong(), anyInt(), any());
     }
 
     // ==================== 포인트 환불 검증 테스트 ====================
@@ -193,8 +193,8 @@ public class OrderCompletionServiceTest {
         verify(orderService, times(1)).completeOrder(1L);
 
         // Then: 판매량 증가 호출 (2개 상품)
-        verify(productService, times(1)).increaseSalesQuantity(10L, 2);
-        verify(productService, times(1)).increaseSalesQuantity(20L, 1);
+        verify(productService, times(1)).increaseSalesQuantity(eq(10L), eq(2), any());
+        verify(productService, times(1)).increaseSalesQuantity(eq(20L), eq(1), any());
 
         // Then: 이벤트 발행
         verify(eventPublisher, times(1)).publishEvent(orderData);
@@ -226,8 +226,8 @@ public class OrderCompletionServiceTest {
         orderCompletionService.completeOrder(singleOrderData, successPaymentResult);
 
         // Then: 판매량 증가 1번만 호출
-        verify(productService, times(1)).increaseSalesQuantity(10L, 2);
-        verify(productService, times(1)).increaseSalesQuantity(anyLong(), anyInt());
+        verify(productService, times(1)).increaseSalesQuantity(eq(10L), eq(2), any());
+        verify(productService, times(1)).increaseSalesQuantity(anyLong(), anyInt(), any());
     }
 
     @Test
@@ -241,7 +241,7 @@ public class OrderCompletionServiceTest {
         orderCompletionService.completeOrder(orderData, successPaymentResult);
 
         // Then: 각 상품별 판매량 증가
-        verify(productService, times(2)).increaseSalesQuantity(anyLong(), anyInt());
+        verify(productService, times(2)).increaseSalesQuantity(anyLong(), anyInt(), any());
     }
 
     @Test
@@ -274,7 +274,7 @@ public class OrderCompletionServiceTest {
         orderCompletionService.completeOrder(largeOrderData, successPaymentResult);
 
         // Then: 10개 상품 모두 판매량 증가
-        verify(productService, times(10)).increaseSalesQuantity(anyLong(), anyInt());
+        verify(productService, times(10)).increaseSalesQuantity(anyLong(), anyInt(), any());
     }
 
     // ==================== 주문 완료 프로세스 순서 검증 ====================
@@ -294,8 +294,8 @@ public class OrderCompletionServiceTest {
 
         inOrder.verify(paymentService).completePayment(1L, "tx-12345");
         inOrder.verify(orderService).completeOrder(1L);
-        inOrder.verify(productService).increaseSalesQuantity(10L, 2);
-        inOrder.verify(productService).increaseSalesQuantity(20L, 1);
+        inOrder.verify(productService).increaseSalesQuantity(eq(10L), eq(2), any());
+        inOrder.verify(productService).increaseSalesQuantity(eq(20L), eq(1), any());
         inOrder.verify(eventPublisher).publishEvent(any(OrderAndPayment.class));
     }
 
@@ -356,10 +356,10 @@ public class OrderCompletionServiceTest {
         orderCompletionService.completeOrder(orderData, successPaymentResult);
 
         // Then: 첫 번째 상품 - productId: 10, quantity: 2
-        verify(productService, times(1)).increaseSalesQuantity(eq(10L), eq(2));
+        verify(productService, times(1)).increaseSalesQuantity(eq(10L), eq(2), any());
 
         // Then: 두 번째 상품 - productId: 20, quantity: 1
-        verify(productService, times(1)).increaseSalesQuantity(eq(20L), eq(1));
+        verify(productService, times(1)).increaseSalesQuantity(eq(20L), eq(1), any());
     }
 
     // ==================== 이벤트 발행 검증 ====================
@@ -398,7 +398,7 @@ public class OrderCompletionServiceTest {
         verify(orderService, never()).completeOrder(anyLong());
 
         // Then: 판매량 증가는 호출되지 않음
-        verify(productService, never()).increaseSalesQuantity(anyLong(), anyInt());
+        verify(productService, never()).increaseSalesQuantity(anyLong(), anyInt(), any());
 
         // Then: 이벤트는 발행되지 않음
         verify(eventPublisher, never()).publishEvent(any());
@@ -420,7 +420,7 @@ public class OrderCompletionServiceTest {
         .hasMessageContaining("완료처리");
 
         // Then: 판매량 증가는 호출되지 않음
-        verify(productService, never()).increaseSalesQuantity(anyLong(), anyInt());
+        verify(productService, never()).increaseSalesQuantity(anyLong(), anyInt(), any());
 
         // Then: 이벤트는 발행되지 않음
         verify(eventPublisher, never()).publishEvent(any());
@@ -433,7 +433,7 @@ public class OrderCompletionServiceTest {
         when(paymentService.completePayment(1L, "tx-12345")).thenReturn(completedPayment);
         when(orderService.completeOrder(1L)).thenReturn(completedOrder);
         doThrow(new RuntimeException("판매량 증가 실패"))
-            .when(productService).increaseSalesQuantity(anyLong(), anyInt());
+            .when(productService).increaseSalesQuantity(anyLong(), anyInt(), any());
 
         // When & Then
         assertThatThrownBy(() ->
@@ -157,9 +157,9 @@ class OrderTransactionManagerTest {
         orderTransactionManager.completeOrder(orderData, paymentResult);
 
         // then: 리스트의 각 상품(1L-2개, 2L-1개)에 대해 호출되었는지 확인
-        verify(productService).increaseSalesQuantity(1L, 2);
-        verify(productService).increaseSalesQuantity(2L, 1);
-        verify(productService, times(2)).increaseSalesQuantity(anyLong(), anyInt());
+        verify(productService).increaseSalesQuantity(eq(1L), eq(2), any());
+        verify(productService).increaseSalesQuantity(eq(2L), eq(1), any());
+        verify(productService, times(2)).increaseSalesQuantity(anyLong(), anyInt(), any());
     }
 
     // --- Helper Methods (필요한 데이터만 간결하게 유지) ---
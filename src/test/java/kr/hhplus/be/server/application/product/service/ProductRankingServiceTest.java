@@ -0,0 +1,233 @@
+package kr.hhplus.be.server.application.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import kr.hhplus.be.server.domain.product.entity.ProductSummary;
+import kr.hhplus.be.server.domain.product.enums.ProductCategory;
+import kr.hhplus.be.server.domain.product.enums.ProductStatus;
+import kr.hhplus.be.server.infrastructure.product.cache.ProductSummaryCache;
+import kr.hhplus.be.server.presentation.product.dto.response.PopularProductResponse;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("ProductRankingService 랭킹 테스트")
+class ProductRankingServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private ProductSummaryCache productSummaryCache;
+
+    private ProductRankingService productRankingService;
+
+    private final Set<ZSetOperations.TypedTuple<String>> topProducts = new LinkedHashSet<>(List.of(
+        new DefaultTypedTuple<>("1", 30.0),
+        new DefaultTypedTuple<>("2", 10.0)
+    ));
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        productRankingService = new ProductRankingService(redisTemplate, productSummaryCache, "daily", 72);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenReturn(List.of());
+        when(zSetOperations.zCard(anyString())).thenReturn(2L);
+        when(zSetOperations.reverseRangeWithScores(eq("ranking:products:aggregated"), anyLong(), anyLong()))
+            .thenReturn(topProducts);
+        when(productSummaryCache.getAll(any())).thenReturn(Map.of(
+            1L, new ProductSummary(1L, "상품1", 1000L, 10, ProductCategory.TOP, ProductStatus.ON_SALE),
+            2L, new ProductSummary(2L, "상품2", 2000L, 10, ProductCategory.TOP, ProductStatus.ON_SALE)
+        ));
+    }
+
+    @Test
+    @DisplayName("주문 상품 판매량은 파이프라인 1회로 반영하고 캐시를 삭제하지 않는다")
+    @SuppressWarnings("unchecked")
+    void 판매량_일괄_증가_파이프라인() {
+        // when
+        productRankingService.incrementSalesScores(Map.of(1L, 2, 2L, 1, 3L, 5));
+
+        // then - 증가 1회 + 캐시 교체 1회
+        verify(redisTemplate, times(2)).executePipelined(any(SessionCallback.class));
+        verify(zSetOperations, never()).incrementScore(anyString(), anyString(), any(Double.class));
+        verify(redisTemplate, never()).delete(anyString());
+        verify(redisTemplate, never()).delete(anyCollection());
+    }
+
+    @Test
+    @DisplayName("짧은 시간에 판매가 몰려도 캐시 갱신(합산)은 노드별로 주기당 한 번만 실행한다")
+    void 캐시_갱신_주기_제한() {
+        // when
+        for (int i = 0; i < 100; i++) {
+            productRankingService.incrementSalesScore(1L, 1);
+        }
+
+        // then
+        verify(zSetOperations, times(1)).unionAndStore(anyString(), anyCollection(), eq("ranking:products:aggregated"));
+    }
+
+    @Test
+    @DisplayName("캐시가 있으면 합산하지 않고 캐시에서 조회한다")
+    void 캐시_조회() {
+        // given
+        when(zSetOperations.reverseRangeWithScores(eq("ranking:products:cache"), anyLong(), anyLong()))
+            .thenReturn(topProducts);
+
+        // when
+        List<PopularProductResponse> result = productRankingService.getTopRankingProducts();
+
+        // then
+        assertThat(result).extracting(PopularProductResponse::id).containsExactly(1L, 2L);
+        verify(zSetOperations, never()).unionAndStore(anyString(), anyCollection(), anyString());
+    }
+
+    @Test
+    @DisplayName("주문 취소 판매량 감소는 주문일 일별 키에 Lua 스크립트 1회로 전체 상품을 반영한다")
+    @SuppressWarnings("unchecked")
+    void 판매량_일괄_감소_스크립트() {
+        // given
+        LocalDate orderDate = LocalDate.of(2026, 1, 2);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any(), any(), any())).thenReturn(2L);
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        quantities.put(1L, 2);
+        quantities.put(2L, 1);
+
+        // when
+        productRankingService.decrementSalesScores(quantities, orderDate);
+
+        // then
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class),
+            eq(List.of("ranking:products:rolling:cursor", "ranking:products:rolling", "ranking:products:daily:20260102")),
+            eq(""), eq("1"), eq("2"), eq("2"), eq("1"));
+        verify(zSetOperations, never()).score(anyString(), any());
+        verify(zSetOperations, never()).add(anyString(), anyString(), any(Double.class));
+    }
+
+    @Nested
+    @DisplayName("시간 버킷 모드 (ranking.mode=hourly)")
+    class HourlyMode {
+
+        private final DateTimeFormatter hourFormatter = DateTimeFormatter.ofPattern("yyyyMMddHH");
+
+        @Mock
+        private ValueOperations<String, String> valueOperations;
+
+        @BeforeEach
+        void setUpHourly() {
+            productRankingService = new ProductRankingService(redisTemplate, productSummaryCache, "hourly", 3);
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        }
+
+        @Test
+        @DisplayName("조회는 롤링 합계 ZREVRANGE 1회로 처리하고 합산하지 않는다")
+        void 롤링_합계_조회() {
+            // given
+            when(zSetOperations.reverseRangeWithScores(eq("ranking:products:rolling"), eq(0L), eq(4L)))
+                .thenReturn(topProducts);
+
+            // when
+            List<PopularProductResponse> result = productRankingService.getTopRankingProducts();
+
+            // then
+            assertThat(result).extracting(PopularProductResponse::id).containsExactly(1L, 2L);
+            verify(zSetOperations, never()).unionAndStore(anyString(), anyCollection(), anyString());
+            verify(zSetOperations, never()).zCard(anyString());
+        }
+
+        @Test
+        @DisplayName("롤업은 커서 이후 윈도우를 벗어난 버킷만 순서대로 차감한다")
+        @SuppressWarnings("unchecked")
+        void 만료_버킷_차감() {
+            // given - 마지막 차감 버킷이 5시간 전 → 4시간 전, 3시간 전 버킷 차감 대상
+            LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+            when(valueOperations.get("ranking:products:rolling:cursor"))
+                .thenReturn(now.minusHours(5).format(hourFormatter));
+            when(redisTemplate.execute(any(RedisScript.class), anyList(), any())).thenReturn(1L);
+
+            // when
+            int rolledUp = productRankingService.rollupHourlyWindow();
+
+            // then
+            assertThat(rolledUp).isEqualTo(2);
+            String bucket4 = now.minusHours(4).format(hourFormatter);
+            String bucket3 = now.minusHours(3).format(hourFormatter);
+            verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(
+                "ranking:products:rolling", "ranking:products:rolling:cursor", "ranking:products:hourly:" + bucket4)), eq(bucket4));
+            verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(
+                "ranking:products:rolling", "ranking:products:rolling:cursor", "ranking:products:hourly:" + bucket3)), eq(bucket3));
+        }
+
+        @Test
+        @DisplayName("최초 롤업은 차감 없이 커서만 윈도우 시작 직전으로 맞춘다")
+        @SuppressWarnings("unchecked")
+        void 최초_롤업_커서_초기화() {
+            // when
+            int rolledUp = productRankingService.rollupHourlyWindow();
+
+            // then
+            assertThat(rolledUp).isZero();
+            String expired = LocalDateTime.now().minusHours(3).truncatedTo(ChronoUnit.HOURS).format(hourFormatter);
+            verify(valueOperations).setIfAbsent("ranking:products:rolling:cursor", expired);
+            verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any());
+        }
+
+        @Test
+        @DisplayName("주문 취소는 일별 키, 시간 버킷과 함께 주문 버킷을 넘겨 롤링 합계 감소 여부를 스크립트 안에서 판단한다")
+        @SuppressWarnings("unchecked")
+        void 취소_시간_버킷_감소() {
+            // given
+            LocalDateTime orderedAt = LocalDateTime.now().minusHours(1);
+
+            // when
+            productRankingService.decrementSalesScores(Map.of(1L, 2), orderedAt);
+
+            // then
+            verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(
+                "ranking:products:rolling:cursor",
+                "ranking:products:rolling",
+                "ranking:products:daily:" + orderedAt.toLocalDate().format(DateTimeFormatter.BASIC_ISO_DATE),
+                "ranking:products:hourly:" + orderedAt.format(hourFormatter))),
+                eq(orderedAt.format(hourFormatter)), eq("1"), eq("2"));
+        }
+    }
+}
@@ -1,55 +1,77 @@
 package kr.hhplus.be.server.application.product.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import kr.hhplus.be.server.application.common.response.CursorPageResponse;
 import kr.hhplus.be.server.application.common.response.PageResponse;
 import kr.hhplus.be.server.application.product.dto.request.ProductSearchCommand;
 import kr.hhplus.be.server.domain.product.entity.PopularProduct;
 import kr.hhplus.be.server.domain.product.entity.Product;
+import kr.hhplus.be.server.domain.product.entity.ProductSummary;
+import kr.hhplus.be.server.domain.product.entity.ProductCursor;
 import kr.hhplus.be.server.domain.product.entity.ProductSearch;
 import kr.hhplus.be.server.domain.product.enums.ProductCategory;
 import kr.hhplus.be.server.domain.product.enums.ProductStatus;
 import kr.hhplus.be.server.domain.product.repository.PopularProductRepository;
 import kr.hhplus.be.server.domain.product.repository.ProductRepository;
+import kr.hhplus.be.server.application.product.service.ProductService.CachedPopularProducts;
+import kr.hhplus.be.server.infrastructure.lock.CacheRebuildGuard;
+import kr.hhplus.be.server.infrastructure.product.ProductSalesAccumulator;
+import kr.hhplus.be.server.infrastructure.product.cache.ProductSummaryCache;
+import kr.hhplus.be.server.infrastructure.product.search.ProductCountCache;
+import kr.hhplus.be.server.infrastructure.product.search.ProductCountHistogram;
+import kr.hhplus.be.server.infrastructure.product.search.ProductNameIndex;
 import kr.hhplus.be.server.presentation.product.dto.response.PopularProductResponse;
 import kr.hhplus.be.server.presentation.product.dto.response.ProductResponse;
 import kr.hhplus.be.server.support.exception.BusinessException;
+import kr.hhplus.be.server.support.exception.ErrorCode;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("ProductService 상품조회 TDD")
@@ -72,7 +94,24 @@ public class ProductServiceTest {
     @Mock
     private ValueOperations<String, Object> valueOperations;
 
-    @InjectMocks
+    @Mock
+    private ProductNameIndex productNameIndex;
+
+    @Mock
+    private ProductCountCache productCountCache;
+
+    @Mock
+    private ProductCountHistogram productCountHistogram;
+
+    @Mock
+    private ProductSalesAccumulator productSalesAccumulator;
+
+    @Mock
+    private ProductSummaryCache productSummaryCache;
+
+    @Mock
+    private CacheRebuildGuard cacheRebuildGuard;
+
     private ProductService productService;
 
     private ProductSearchCommand searchCommand;
@@ -81,6 +120,10 @@ public class ProductServiceTest {
     
     @BeforeEach
     void setUp() {
+        productService = new ProductService(productRepository, popularProductRepository, productRankingService,
+            redisTemplate, objectMapper, productNameIndex, productCountCache, productCountHistogram,
+            productSalesAccumulator, productSummaryCache, cacheRebuildGuard, 1.0, Duration.ofSeconds(5));
+
         // 검색 조건 (전체 조회)
         searchCommand = new ProductSearchCommand(
             null,  // name
@@ -130,10 +173,10 @@ public class ProductServiceTest {
     @DisplayName("상품 목록 조회 - 데이터가 존재하는 경우 Page 객체 반환")
     public void 상품_목록_조회() {
         // given
-        when(productRepository.findBySearch(
+        when(productRepository.findContentBySearch(
             any(ProductSearch.class), 
             any(Pageable.class)
-        )).thenReturn(mockProductPage);
+        )).thenReturn(mockProductList);
 
         // when
         PageResponse<ProductResponse> result = productService.search(searchCommand);
@@ -147,7 +190,7 @@ public class ProductServiceTest {
         assertEquals(2, result.totalElements());
         
         verify(productRepository, times(1))
-            .findBySearch(any(ProductSearch.class), any(Pageable.class));
+            .findContentBySearch(any(ProductSearch.class), any(Pageable.class));
     }
 
     @Test
@@ -157,10 +200,10 @@ public class ProductServiceTest {
         Pageable pageable = PageRequest.of(0, 10);
         Page<Product> emptyPage = new PageImpl<>(List.of(), pageable, 0);
         
-        when(productRepository.findBySearch(
+        when(productRepository.findContentBySearch(
             any(ProductSearch.class), 
             any(Pageable.class)
-        )).thenReturn(emptyPage);
+        )).thenReturn(emptyPage.getContent());
 
         // when
         PageResponse<ProductResponse> result = productService.search(searchCommand);
@@ -171,7 +214,7 @@ public class ProductServiceTest {
         assertEquals(0, result.totalElements());
         
         verify(productRepository, times(1))
-            .findBySearch(any(ProductSearch.class), any(Pageable.class));
+            .findContentBySearch(any(ProductSearch.class), any(Pageable.class));
     }
 
     @Test
@@ -198,10 +241,10 @@ public class ProductServiceTest {
             filteredProducts.size()
         );
 
-        when(productRepository.findBySearch(
+        when(productRepository.findContentBySearch(
             any(ProductSearch.class), 
             any(Pageable.class)
-        )).thenReturn(filteredPage);
+        )).thenReturn(filteredPage.getContent());
 
         // when
         PageResponse<ProductResponse> result = productService.search(specificSearch);
@@ -213,6 +256,58 @@ public class ProductServiceTest {
         assertEquals(1900000, result.contents().get(0).price());
     }
 
+    @Test
+    @DisplayName("상품명 검색 - 색인에서 찾은 후보 ID 로 조회하고 LIKE 조건은 사용하지 않는다")
+    void 상품명_색인_검색() {
+        // given
+        ProductSearchCommand nameSearch = new ProductSearchCommand("상의", null, null, null, null, 0, 10);
+        when(productNameIndex.search("상의")).thenReturn(Optional.of(Set.of(1L)));
+        when(productRepository.findContentBySearch(any(ProductSearch.class), any(Pageable.class)))
+            .thenReturn(List.of(mockProductList.get(0)));
+
+        // when
+        PageResponse<ProductResponse> result = productService.search(nameSearch);
+
+        // then
+        assertEquals(1, result.contents().size());
+        verify(productRepository).findContentBySearch(
+            argThat(search -> search.productName() == null && Set.of(1L).equals(search.productIds())),
+            any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("상품명 검색 - 색인에 일치하는 상품이 없으면 DB 를 조회하지 않는다")
+    void 상품명_색인_일치_없음() {
+        // given
+        ProductSearchCommand nameSearch = new ProductSearchCommand("없는상품", null, null, null, null, 0, 10);
+        when(productNameIndex.search("없는상품")).thenReturn(Optional.of(Set.of()));
+
+        // when
+        PageResponse<ProductResponse> result = productService.search(nameSearch);
+
+        // then
+        assertEquals(0, result.totalElements());
+        verify(productRepository, never()).findContentBySearch(any(ProductSearch.class), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("상품명 검색 - 색인이 준비되지 않았으면 LIKE 조건으로 조회한다")
+    void 상품명_색인_미적재() {
+        // given
+        ProductSearchCommand nameSearch = new ProductSearchCommand("상의", null, null, null, null, 0, 10);
+        when(productNameIndex.search("상의")).thenReturn(Optional.empty());
+        when(productRepository.findContentBySearch(any(ProductSearch.class), any(Pageable.class)))
+            .thenReturn(mockProductList);
+
+        // when
+        productService.search(nameSearch);
+
+        // then
+        verify(productRepository).findContentBySearch(
+            argThat(search -> "상의".equals(search.productName()) && search.productIds() == null),
+            any(Pageable.class));
+    }
+
     @Test
     @DisplayName("가격 범위가 잘못되면 예외가 발생한다")
     void 가격범위_검증() {
@@ -221,6 +316,152 @@ public class ProductServiceTest {
         );
     }
 
+    // ==================== 전체 건수 조회 방식 테스트 ====================
+
+    private ProductSearchCommand secondPageCommand(String countMode) {
+        // 2페이지(size=2)가 꽉 차면 목록만으로 전체 건수를 알 수 없어 건수 조회가 필요
+        return new ProductSearchCommand(
+            null, null, null, null, null, 1, 2, null, null, null, countMode);
+    }
+
+    @Test
+    @DisplayName("건수 조회 - 기본(CACHED) 모드에서 캐시된 건수가 있으면 COUNT 를 실행하지 않는다")
+    void 건수_캐시_적중() {
+        // given
+        when(productRepository.findContentBySearch(any(ProductSearch.class), any(Pageable.class)))
+            .thenReturn(mockProductList);
+        when(productCountCache.get(any(ProductSearch.class))).thenReturn(Optional.of(120L));
+
+        // when
+        PageResponse<ProductResponse> result = productService.search(secondPageCommand(null));
+
+        // then
+        assertEquals(120, result.totalElements());
+        assertFalse(result.totalEstimated());
+        verify(productRepository, never()).countBySearch(any(ProductSearch.class));
+    }
+
+    @Test
+    @DisplayName("건수 조회 - 기본(CACHED) 모드에서 캐시가 없으면 COUNT 없이 히스토그램 추정치를 사용한다")
+    void 건수_캐시_미스() {
+        // given
+        when(productRepository.findContentBySearch(any(ProductSearch.class), any(Pageable.class)))
+            .thenReturn(mockProductList);
+        when(productCountCache.get(any(ProductSearch.class))).thenReturn(Optional.empty());
+        when(productCountHistogram.estimate(any(ProductSearch.class))).thenReturn(57L);
+
+        // when
+        PageResponse<ProductResponse> result = productService.search(secondPageCommand(null));
+
+        // then
+        assertEquals(57, result.totalElements());
+        assertTrue(result.totalEstimated());
+        verify(productRepository, never()).countBySearch(any(ProductSearch.class));
+        verify(productCountCache, never()).put(any(ProductSearch.class), anyLong());
+    }
+
+    @Test
+    @DisplayName("건수 조회 - ESTIMATED 모드는 히스토그램 추정치를 사용하고 COUNT 를 실행하지 않는다")
+    void 건수_추정() {
+        // given
+        when(productRepository.findContentBySearch(any(ProductSearch.class), any(Pageable.class)))
+            .thenReturn(mockProductList);
+        when(productCountHistogram.estimate(any(ProductSearch.class))).thenReturn(1000L);
+
+        // when
+        PageResponse<ProductResponse> result = productService.search(secondPageCommand("estimated"));
+
+        // then
+        assertEquals(1000, result.totalElements());
+        assertTrue(result.totalEstimated());
+        verify(productRepository, never()).countBySearch(any(ProductSearch.class));
+    }
+
+    @Test
+    @DisplayName("건수 조회 - EXACT 모드는 캐시를 무시하고 COUNT 를 실행한다")
+    void 건수_정확() {
+        // given
+        when(productRepository.findContentBySearch(any(ProductSearch.class), any(Pageable.class)))
+            .thenReturn(mockProductList);
+        when(productRepository.countBySearch(any(ProductSearch.class))).thenReturn(33L);
+
+        // when
+        PageResponse<ProductResponse> result = productService.search(secondPageCommand("exact"));
+
+        // then
+        assertEquals(33, result.totalElements());
+        assertFalse(result.totalEstimated());
+        verify(productCountCache, never()).get(any(ProductSearch.class));
+        verify(productCountCache).put(any(ProductSearch.class), eq(33L));
+    }
+
+    // ==================== 커서 기반 상품 목록 조회 테스트 ====================
+
+    @Test
+    @DisplayName("커서 조회 - size + 1 건이 조회되면 마지막 상품 기준 다음 커서를 반환하고 count 쿼리는 실행하지 않는다")
+    void 커서_상품_목록_조회_다음_페이지_존재() {
+        // given: size=1, 2건 조회 → 다음 페이지 존재
+        ProductSearchCommand command = new ProductSearchCommand(
+            null, null, null, null, null, null, 1, "price", "asc", null, null);
+        when(productRepository.findBySearchAfter(any(ProductSearch.class), eq(null), any(Sort.Order.class), eq(2)))
+            .thenReturn(mockProductList);
+
+        // when
+        CursorPageResponse<ProductResponse> result = productService.searchByCursor(command);
+
+        // then
+        assertEquals(1, result.contents().size());
+        assertTrue(result.hasNext());
+        ProductCursor next = ProductCursor.decode(result.nextCursor());
+        assertEquals("price", next.sortProperty());
+        assertTrue(next.ascending());
+        assertEquals(1L, next.id());
+        assertEquals("1900000", next.sortValue());
+        verify(productRepository, never()).findBySearch(any(ProductSearch.class), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("커서 조회 - 마지막 페이지면 nextCursor 가 null 이다")
+    void 커서_상품_목록_조회_마지막_페이지() {
+        // given
+        String cursor = new ProductCursor("id", false, 10L, "10").encode();
+        ProductSearchCommand command = new ProductSearchCommand(
+            null, null, null, null, null, null, 10, null, null, cursor, null);
+        when(productRepository.findBySearchAfter(
+            any(ProductSearch.class), any(ProductCursor.class), any(Sort.Order.class), eq(11)))
+            .thenReturn(mockProductList);
+
+        // when
+        CursorPageResponse<ProductResponse> result = productService.searchByCursor(command);
+
+        // then
+        assertEquals(2, result.contents().size());
+        assertFalse(result.hasNext());
+        assertNull(result.nextCursor());
+    }
+
+    @Test
+    @DisplayName("커서 조회 - 다른 정렬 조건으로 발급된 커서는 사용할 수 없다")
+    void 커서_정렬_불일치() {
+        // given
+        String cursor = new ProductCursor("price", true, 1L, "1000").encode();
+        ProductSearchCommand command = new ProductSearchCommand(
+            null, null, null, null, null, null, 10, "crtDttm", "desc", cursor, null);
+
+        // when & then
+        assertThrows(BusinessException.class, () -> productService.searchByCursor(command));
+        verify(productRepository, never()).findBySearchAfter(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 정렬 기준이면 예외가 발생한다")
+    void 정렬기준_검증() {
+        ProductSearchCommand command = new ProductSearchCommand(
+            null, null, null, null, null, null, 10, "stock", null, null, null);
+
+        assertThrows(BusinessException.class, command::toSortOrder);
+    }
+
     // ==================== 인기 상품 조회 테스트 (Redis Cache-Aside + DB캐시 + Fallback) ====================
 
     @Nested
@@ -241,19 +482,26 @@ public class ProductServiceTest {
             when(redisTemplate.opsForValue()).thenReturn(valueOperations);
             // ProductRankingService 기본 설정 (L0 캐시 빈 리스트 반환 -> L1~L3로 Fallback)
             when(productRankingService.getTopRankingProducts()).thenReturn(Collections.emptyList());
+            // 재생성 가드 기본 설정 (single-flight 는 바로 실행, 뮤텍스 획득 성공)
+            lenient().when(cacheRebuildGuard.singleFlight(anyString(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+            lenient().when(cacheRebuildGuard.tryLock(anyString(), any())).thenReturn(Optional.of("token"));
+        }
+
+        private CachedPopularProducts cachedEntry(long expireAtMillis) {
+            return new CachedPopularProducts(
+                mockCachedProducts.stream().map(PopularProductResponse::from).toList(), 10L, expireAtMillis);
         }
 
         @Test
         @DisplayName("성공: Redis 캐시에 데이터가 있으면 Redis에서 즉시 반환한다")
         void Redis_캐시_Hit() {
             // given
-            List<PopularProductResponse> cachedResponses = mockCachedProducts.stream()
-                .map(PopularProductResponse::from)
-                .toList();
+            CachedPopularProducts entry = cachedEntry(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1));
             when(valueOperations.get(ProductService.POPULAR_PRODUCTS_CACHE_KEY))
-                .thenReturn(cachedResponses);
-            when(objectMapper.convertValue(any(), any(TypeReference.class)))
-                .thenReturn(cachedResponses);
+                .thenReturn(entry);
+            when(objectMapper.convertValue(entry, CachedPopularProducts.class))
+                .thenReturn(entry);
 
             // when
             List<PopularProductResponse> result = productService.findPopularProducts();
@@ -268,6 +516,50 @@ public class ProductServiceTest {
             verify(productRepository, never()).findPopularProducts();
         }
 
+        @Test
+        @DisplayName("성공: 다른 노드가 재생성 중이면 DB를 조회하지 않고 stale 사본을 반환한다")
+        void 재생성_락_미획득_stale_응답() {
+            // given
+            CachedPopularProducts stale = cachedEntry(System.currentTimeMillis() - 1);
+            when(valueOperations.get(ProductService.POPULAR_PRODUCTS_CACHE_KEY)).thenReturn(null);
+            when(valueOperations.get(ProductService.POPULAR_PRODUCTS_STALE_KEY)).thenReturn(stale);
+            when(objectMapper.convertValue(stale, CachedPopularProducts.class)).thenReturn(stale);
+            when(cacheRebuildGuard.tryLock(anyString(), any())).thenReturn(Optional.empty());
+
+            // when
+            List<PopularProductResponse> result = productService.findPopularProducts();
+
+            // then
+            assertEquals(3, result.size());
+            verify(popularProductRepository, never()).findLatest();
+            verify(productRepository, never()).findPopularProducts();
+            verify(cacheRebuildGuard, never()).unlock(anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("성공: 만료 시각에 도달한 캐시는 조기 갱신으로 재생성하고 락을 해제한다")
+        void 만료_임박_조기_갱신() {
+            // given
+            CachedPopularProducts expiring = cachedEntry(System.currentTimeMillis() - 1);
+            when(valueOperations.get(ProductService.POPULAR_PRODUCTS_CACHE_KEY)).thenReturn(expiring);
+            when(objectMapper.convertValue(expiring, CachedPopularProducts.class)).thenReturn(expiring);
+            when(popularProductRepository.findLatest()).thenReturn(mockCachedProducts);
+
+            // when
+            List<PopularProductResponse> result = productService.findPopularProducts();
+
+            // then
+            assertEquals(3, result.size());
+            verify(popularProductRepository, times(1)).findLatest();
+            verify(valueOperations, times(1)).set(
+                eq(ProductService.POPULAR_PRODUCTS_CACHE_KEY),
+                any(),
+                eq(ProductService.POPULAR_PRODUCTS_CACHE_TTL_HOURS),
+                eq(TimeUnit.HOURS)
+            );
+            verify(cacheRebuildGuard, times(1)).unlock(ProductService.POPULAR_PRODUCTS_CACHE_KEY, "token");
+        }
+
         @Test
         @DisplayName("성공: Redis 캐시 Miss 시 DB 캐시 테이블에서 조회하고 Redis에 저장한다")
         void Redis_Miss_DB캐시_Hit() {
@@ -391,6 +683,31 @@ public class ProductServiceTest {
             assertEquals(150, result.get(0).salesQuantity());
         }
 
+        @Test
+        @DisplayName("성공: 캐시 데이터의 재고/상태는 상품 요약 캐시 값으로 채우고 판매량은 유지한다")
+        void 캐시_데이터_요약_캐시_보강() {
+            // given
+            when(valueOperations.get(ProductService.POPULAR_PRODUCTS_CACHE_KEY))
+                .thenReturn(null);
+            when(popularProductRepository.findLatest())
+                .thenReturn(mockCachedProducts);
+            when(productSummaryCache.getAll(List.of(1L, 2L, 3L))).thenReturn(Map.of(
+                1L, new ProductSummary(1L, "인기상품1", 45000L, 7, ProductCategory.TOP, ProductStatus.ON_SALE)
+            ));
+
+            // when
+            List<PopularProductResponse> result = productService.findPopularProducts();
+
+            // then
+            assertEquals(7, result.get(0).stock());
+            assertEquals(ProductStatus.ON_SALE, result.get(0).status());
+            assertEquals(45000L, result.get(0).price());
+            assertEquals(150, result.get(0).salesQuantity());
+            // 요약 캐시에 없는 상품은 캐시 테이블 값 그대로
+            assertNull(result.get(1).stock());
+            verify(productRepository, never()).findPopularProducts();
+        }
+
         @Test
         @DisplayName("성공: 실시간 조회 데이터는 재고/상태 정보가 존재한다")
         void 실시간_데이터_전체_정보_검증() {
@@ -413,75 +730,190 @@ public class ProductServiceTest {
     }
 
     @Test
-    @DisplayName("재고 차감 - 성공")
-    void 재고_차감_성공() {
+    @DisplayName("재고 증가 - 품절 상품이 판매중으로 전환되면 건수 캐시를 비운다")
+    void 재고_증가_판매중_전환_건수_캐시_무효화() {
+        // given
+        Product soldOutProduct = mockProductList.get(0).decreaseStock(10);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(soldOutProduct));
+        when(productRepository.save(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        Product result = productService.increaseStock(1L, 5);
+
+        // then
+        assertEquals(ProductStatus.ON_SALE, result.status());
+        verify(productCountCache, times(1)).invalidateAllAfterCommit();
+    }
+
+    @Test
+    @DisplayName("조건부 재고 차감 - UPDATE 반영 행 수로 성공을 판단하고 비관적 락/save 를 사용하지 않는다")
+    void 조건부_재고_차감_성공() {
         // given
         Long productId = 1L;
-        Integer quantity = 3;
-        Product mockProduct = mockProductList.get(0);
-        Product decreasedProduct = mockProduct.decreaseStock(quantity);
-        
-        when(productRepository.findByIdWithLock(productId))
-            .thenReturn(Optional.of(mockProduct));
-        when(productRepository.save(any(Product.class)))
-            .thenReturn(decreasedProduct);
+        Product decreasedProduct = mockProductList.get(0).decreaseStock(3);
+        when(productRepository.decreaseStockIfAvailable(productId, 3)).thenReturn(1);
+        when(productRepository.findById(productId)).thenReturn(Optional.of(decreasedProduct));
 
         // when
-        Product result = productService.decreaseStock(productId, quantity);
+        Product result = productService.decreaseStockAtomically(productId, 3);
 
         // then
-        assertNotNull(result);
-        assertEquals(7, result.stock()); // 10 - 3 = 7
+        assertEquals(7, result.stock());
+        verify(productRepository, never()).findByIdWithLock(anyLong());
+        verify(productRepository, never()).save(any(Product.class));
+        verify(productCountCache, never()).invalidateAllAfterCommit();
+    }
+
+    @Test
+    @DisplayName("조건부 재고 차감 - 마지막 재고를 차감해 품절되면 검색 건수 캐시를 무효화한다")
+    void 조건부_재고_차감_품절() {
+        // given
+        Long productId = 1L;
+        Product soldOutProduct = mockProductList.get(0).decreaseStock(10);
+        when(productRepository.decreaseStockIfAvailable(productId, 10)).thenReturn(1);
+        when(productRepository.findById(productId)).thenReturn(Optional.of(soldOutProduct));
+
+        // when
+        Product result = productService.decreaseStockAtomically(productId, 10);
 
-        verify(productRepository, times(1)).findByIdWithLock(productId);
-        verify(productRepository, times(1)).save(any(Product.class));
+        // then
+        assertEquals(ProductStatus.SOLD_OUT, result.status());
+        verify(productCountCache).invalidateAllAfterCommit();
     }
 
     @Test
-    @DisplayName("재고 차감 - 재고 부족으로 실패")
-    void 재고_차감_실패_재고_부족() {
+    @DisplayName("조건부 재고 차감 - 반영된 행이 없으면 재고 부족 예외")
+    void 조건부_재고_차감_재고_부족() {
         // given
         Long productId = 1L;
-        Integer quantity = 20; // 현재 재고(10)보다 많음
-        Product mockProduct = mockProductList.get(0);
+        when(productRepository.decreaseStockIfAvailable(productId, 20)).thenReturn(0);
+        when(productRepository.findById(productId)).thenReturn(Optional.of(mockProductList.get(0)));
 
-        when(productRepository.findByIdWithLock(productId))
-            .thenReturn(Optional.of(mockProduct));
+        // when & then
+        BusinessException exception = assertThrows(BusinessException.class, () ->
+            productService.decreaseStockAtomically(productId, 20)
+        );
+        assertEquals(ErrorCode.ORDER_STOCK_INSUFFICIENT, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("조건부 재고 차감 - 판매 중지 상품이면 판매 종료 예외")
+    void 조건부_재고_차감_판매_중지() {
+        // given
+        Long productId = 1L;
+        Product base = mockProductList.get(0);
+        Product inactive = new Product(base.id(), base.productName(), base.price(), base.stock(),
+            base.category(), ProductStatus.INACTIVE, base.salesQuantity(), base.crtDttm(), null);
+        when(productRepository.decreaseStockIfAvailable(productId, 1)).thenReturn(0);
+        when(productRepository.findById(productId)).thenReturn(Optional.of(inactive));
 
         // when & then
-        assertThrows(BusinessException.class, () ->
-            productService.decreaseStock(productId, quantity)
+        BusinessException exception = assertThrows(BusinessException.class, () ->
+            productService.decreaseStockAtomically(productId, 1)
         );
+        assertEquals(ErrorCode.PRODUCT_INACTIVE, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("조건부 재고 차감 - 수량이 0 이하이면 UPDATE 를 실행하지 않는다")
+    void 조건부_재고_차감_수량_검증() {
+        assertThrows(BusinessException.class, () -> productService.decreaseStockAtomically(1L, 0));
+        verify(productRepository, never()).decreaseStockIfAvailable(anyLong(), anyInt());
+    }
 
-        verify(productRepository, times(1)).findByIdWithLock(productId);
+    @Test
+    @DisplayName("일괄 재고 차감 - 상품 ID 오름차순으로 한 번에 락을 잡고 차감 결과를 한 번에 반영한다")
+    @SuppressWarnings("unchecked")
+    void 일괄_재고_차감_성공() {
+        // given - 요청 순서는 {2, 1}
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        quantities.put(2L, 4);
+        quantities.put(1L, 3);
+        when(productRepository.findAllByIdWithLock(any())).thenReturn(mockProductList);
+
+        // when
+        Map<Long, Product> result = productService.decreaseStocks(quantities);
+
+        // then
+        ArgumentCaptor<Collection<Long>> idsCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(productRepository).findAllByIdWithLock(idsCaptor.capture());
+        assertEquals(List.of(1L, 2L), List.copyOf(idsCaptor.getValue()));
+
+        ArgumentCaptor<List<Product>> updatedCaptor = ArgumentCaptor.forClass(List.class);
+        verify(productRepository).updateStocks(updatedCaptor.capture());
+        assertEquals(List.of(7, 6), updatedCaptor.getValue().stream().map(Product::stock).toList());
+
+        assertEquals(7, result.get(1L).stock());
+        assertEquals(6, result.get(2L).stock());
         verify(productRepository, never()).save(any(Product.class));
+        verify(productCountCache, never()).invalidateAllAfterCommit();
     }
 
-    // ==================== 판매량 증가 테스트 ====================
+    @Test
+    @DisplayName("일괄 재고 차감 - 한 상품이라도 재고가 부족하면 아무것도 반영하지 않는다")
+    void 일괄_재고_차감_재고_부족() {
+        // given
+        when(productRepository.findAllByIdWithLock(any())).thenReturn(mockProductList);
+
+        // when & then
+        BusinessException exception = assertThrows(BusinessException.class, () ->
+            productService.decreaseStocks(Map.of(1L, 1, 2L, 11))
+        );
+        assertEquals(ErrorCode.ORDER_STOCK_INSUFFICIENT, exception.getErrorCode());
+        verify(productRepository, never()).updateStocks(any());
+    }
 
     @Test
-    @DisplayName("판매량 증가 - 성공")
-    void 판매량_증가_성공() {
+    @DisplayName("일괄 재고 차감 - 존재하지 않는 상품이 있으면 상품 없음 예외")
+    void 일괄_재고_차감_상품_없음() {
         // given
-        Long productId = 1L;
-        Integer quantity = 5;
-        Product mockProduct = mockProductList.get(0);
-        Product increasedProduct = mockProduct.increaseSalesQuantity(quantity);
-        
-        when(productRepository.findById(productId))
-            .thenReturn(Optional.of(mockProduct));
-        when(productRepository.save(any(Product.class)))
-            .thenReturn(increasedProduct);
+        when(productRepository.findAllByIdWithLock(any())).thenReturn(List.of(mockProductList.get(0)));
+
+        // when & then
+        BusinessException exception = assertThrows(BusinessException.class, () ->
+            productService.decreaseStocks(Map.of(1L, 1, 99L, 1))
+        );
+        assertEquals(ErrorCode.PRODUCT_NOT_FOUND, exception.getErrorCode());
+        verify(productRepository, never()).updateStocks(any());
+    }
+
+    @Test
+    @DisplayName("일괄 재고 차감 - 마지막 재고를 차감해 품절되면 검색 건수 캐시를 무효화한다")
+    void 일괄_재고_차감_품절() {
+        // given
+        when(productRepository.findAllByIdWithLock(any())).thenReturn(List.of(mockProductList.get(0)));
 
         // when
-        Product result = productService.increaseSalesQuantity(productId, quantity);
+        Map<Long, Product> result = productService.decreaseStocks(Map.of(1L, 10));
 
         // then
-        assertNotNull(result);
-        assertEquals(15, result.salesQuantity()); // 10 + 5 = 15
-        
-        verify(productRepository, times(1)).findById(productId);
-        verify(productRepository, times(1)).save(any(Product.class));
+        assertEquals(ProductStatus.SOLD_OUT, result.get(1L).status());
+        verify(productCountCache).invalidateAllAfterCommit();
+    }
+
+    // ==================== 판매량 증가 테스트 ====================
+
+    @Test
+    @DisplayName("판매량 증가 - 상품 행을 조회/저장하지 않고 누산기에 가산한다")
+    void 판매량_증가_성공() {
+        // when
+        productService.increaseSalesQuantity(1L, 5, LocalDateTime.of(2026, 1, 10, 23, 59));
+
+        // then - 일별 롤업 날짜는 주문 생성일
+        verify(productSalesAccumulator, times(1)).add(1L, LocalDate.of(2026, 1, 10), 5);
+        verify(productRepository, never()).findById(anyLong());
+        verify(productRepository, never()).save(any(Product.class));
+    }
+
+    @Test
+    @DisplayName("판매량 감소 - 누산기에 음수로 가산한다")
+    void 판매량_감소_성공() {
+        // when
+        productService.decreaseSalesQuantity(1L, 3, LocalDateTime.of(2026, 1, 9, 10, 0));
+
+        // then - 취소일이 아닌 원래 주문일에서 차감
+        verify(productSalesAccumulator, times(1)).add(1L, LocalDate.of(2026, 1, 9), -3);
+        verify(productRepository, never()).save(any(Product.class));
     }
 
 }
@@ -0,0 +1,60 @@
+package kr.hhplus.be.server.domain.product;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import kr.hhplus.be.server.domain.product.entity.Product;
+import kr.hhplus.be.server.domain.product.entity.ProductCursor;
+import kr.hhplus.be.server.domain.product.enums.ProductCategory;
+import kr.hhplus.be.server.domain.product.enums.ProductStatus;
+import kr.hhplus.be.server.support.exception.BusinessException;
+
+class ProductCursorTest {
+
+    @Test
+    @DisplayName("성공: 인코딩한 커서를 디코딩하면 정렬 값과 id 가 그대로 복원된다 (':' 포함 값)")
+    void 커서_인코딩_디코딩() {
+        // given
+        LocalDateTime crtDttm = LocalDateTime.of(2025, 1, 2, 3, 4, 5, 123456000);
+        Product product = new Product(7L, "상의:한정판", 1000L, 5,
+            ProductCategory.TOP, ProductStatus.ON_SALE, 0, crtDttm, null);
+
+        // when
+        ProductCursor decoded = ProductCursor.decode(ProductCursor.of(product, "crtDttm", false).encode());
+
+        // then
+        assertThat(decoded.sortProperty()).isEqualTo("crtDttm");
+        assertThat(decoded.ascending()).isFalse();
+        assertThat(decoded.id()).isEqualTo(7L);
+        assertThat(LocalDateTime.parse(decoded.sortValue())).isEqualTo(crtDttm);
+        assertThat(ProductCursor.decode(ProductCursor.of(product, "productName", true).encode()).sortValue())
+            .isEqualTo("상의:한정판");
+    }
+
+    @Test
+    @DisplayName("성공: 생성일이 없는 상품으로도 생성일 커서를 만들 수 있다")
+    void 생성일_없는_커서() {
+        // given
+        Product product = new Product(7L, "상의", 1000L, 5,
+            ProductCategory.TOP, ProductStatus.ON_SALE, 0, null, null);
+
+        // when
+        ProductCursor decoded = ProductCursor.decode(ProductCursor.of(product, "crtDttm", true).encode());
+
+        // then
+        assertThat(decoded.sortProperty()).isEqualTo("crtDttm");
+        assertThat(decoded.id()).isEqualTo(7L);
+        assertThat(decoded.sortValue()).isNull();
+    }
+
+    @Test
+    @DisplayName("실패: 형식이 잘못된 커서는 예외가 발생한다")
+    void 잘못된_커서() {
+        assertThrows(BusinessException.class, () -> ProductCursor.decode("not-a-cursor"));
+    }
+}
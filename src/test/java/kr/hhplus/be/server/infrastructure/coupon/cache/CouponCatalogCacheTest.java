@@ -0,0 +1,127 @@
+package kr.hhplus.be.server.infrastructure.coupon.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.domain.coupon.entity.Coupon;
+import kr.hhplus.be.server.domain.coupon.enums.CouponStatus;
+import kr.hhplus.be.server.domain.coupon.enums.CouponType;
+import kr.hhplus.be.server.infrastructure.coupon.persistence.CouponEntity;
+import kr.hhplus.be.server.infrastructure.coupon.persistence.CouponJpaRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponCatalogCache 로컬 캐시 테스트")
+class CouponCatalogCacheTest {
+
+    @Mock
+    private CouponJpaRepository couponJpaRepository;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CouponCatalogCache couponCatalogCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        couponCatalogCache = new CouponCatalogCache(
+            couponJpaRepository, redisTemplate, meterRegistry, 100, Duration.ofMinutes(10));
+    }
+
+    private CouponEntity couponEntity(Long id) {
+        return CouponEntity.from(new Coupon(
+            id, "쿠폰" + id, CouponType.AMOUNT, 1000L, 10000L,
+            LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1),
+            100, 100, CouponStatus.ACTIVE, LocalDateTime.now(), LocalDateTime.now()
+        ));
+    }
+
+    @Test
+    @DisplayName("두 번째 조회부터는 DB를 조회하지 않고 hit/miss 지표가 기록된다.")
+    void 캐시_적중() {
+        // Given
+        when(couponJpaRepository.findById(1L)).thenReturn(Optional.of(couponEntity(1L)));
+
+        // When
+        couponCatalogCache.get(1L);
+        Optional<Coupon> second = couponCatalogCache.get(1L);
+
+        // Then
+        assertThat(second).isPresent();
+        verify(couponJpaRepository, times(1)).findById(1L);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("다건 조회 시 캐시에 없는 ID만 DB에서 조회한다.")
+    void 다건_조회_미스만_DB_조회() {
+        // Given
+        when(couponJpaRepository.findById(1L)).thenReturn(Optional.of(couponEntity(1L)));
+        couponCatalogCache.get(1L);
+        when(couponJpaRepository.findAllById(List.of(2L)))
+            .thenReturn(List.of(couponEntity(2L)));
+
+        // When
+        Map<Long, Coupon> result = couponCatalogCache.getAll(List.of(1L, 2L));
+
+        // Then
+        assertThat(result).containsOnlyKeys(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("무효화 메시지를 수신하면 해당 쿠폰을 다시 DB에서 적재한다.")
+    void 무효화_메시지_수신() {
+        // Given
+        when(couponJpaRepository.findById(1L)).thenReturn(Optional.of(couponEntity(1L)));
+        couponCatalogCache.get(1L);
+
+        // When
+        couponCatalogCache.onMessage(
+            new DefaultMessage(CouponCatalogCache.INVALIDATE_CHANNEL.getBytes(), "1".getBytes()), null);
+        couponCatalogCache.get(1L);
+
+        // Then
+        verify(couponJpaRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 변경되면 커밋 이후에 무효화 메시지를 발행한다.")
+    void 커밋_후_무효화() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            couponCatalogCache.invalidateAfterCommit(1L);
+
+            // Then: 커밋 전에는 발행하지 않음
+            verify(redisTemplate, never()).convertAndSend(CouponCatalogCache.INVALIDATE_CHANNEL, "1");
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(redisTemplate).convertAndSend(CouponCatalogCache.INVALIDATE_CHANNEL, "1");
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
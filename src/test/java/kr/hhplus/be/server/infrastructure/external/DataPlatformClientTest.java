@@ -0,0 +1,162 @@
+package kr.hhplus.be.server.infrastructure.external;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.infrastructure.external.DataPlatformClient.OrderEventPayload;
+
+@DisplayName("DataPlatformClient 비동기 bulk 전송 테스트")
+class DataPlatformClientTest {
+
+    private DataPlatformStubServer stub;
+    private DataPlatformClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = new DataPlatformStubServer(0, Duration.ofMillis(100));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (client != null) {
+            client.shutdown();
+        }
+        stub.close();
+    }
+
+    @Test
+    @DisplayName("개별 비동기 요청을 batch-size 단위 bulk 요청으로 묶어 보낸다")
+    void 마이크로_배치() {
+        // given
+        client = httpClient(16, 100, Duration.ofMillis(50), 1000);
+
+        // when
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (long i = 0; i < 250; i++) {
+            futures.add(client.sendOrderEventAsync(payload(i, 10_000L)));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        // then: 250 건 → 100 / 100 / 50
+        assertThat(stub.eventCount()).isEqualTo(250);
+        assertThat(stub.requestCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("진행 중인 bulk 요청은 max-in-flight 개를 넘지 않는다")
+    void 동시_요청_상한() {
+        // given
+        client = httpClient(2, 1, Duration.ZERO, 1000);
+
+        // when
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (long i = 0; i < 10; i++) {
+            futures.add(client.sendOrderEventAsync(payload(i, 10_000L)));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        // then
+        assertThat(stub.requestCount()).isEqualTo(10);
+        assertThat(stub.maxConcurrent()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("상한에 걸려 대기열이 가득 차면 새 요청은 즉시 거절된다")
+    void 배압() {
+        // given: 동시 1건, 대기열 2건
+        client = httpClient(1, 1, Duration.ZERO, 2);
+
+        // when
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (long i = 0; i < 10; i++) {
+            futures.add(client.sendOrderEventAsync(payload(i, 10_000L)));
+        }
+
+        // then
+        assertThat(futures).anySatisfy(future -> assertThat(future)
+            .isCompletedExceptionally()
+            .failsWithin(Duration.ZERO)
+            .withThrowableOfType(Exception.class)
+            .withCauseInstanceOf(RejectedExecutionException.class));
+    }
+
+    @Test
+    @DisplayName("bulk 응답이 실패면 묶인 요청이 모두 실패하고 동기 전송은 예외를 던진다")
+    void 응답_실패() {
+        // given
+        stub.respondWith(500);
+        client = httpClient(4, 100, Duration.ZERO, 100);
+
+        // when & then
+        assertThatThrownBy(() -> client.sendOrderEvent(payload(1L, 10_000L)))
+            .isInstanceOf(RuntimeException.class)
+            .hasMessageContaining("status=500");
+    }
+
+    @Test
+    @DisplayName("같은 bulk 에 묶인 이벤트 중 거부된 이벤트만 실패하고 나머지는 분할 재전송으로 성공한다")
+    void 거부_격리() {
+        // given
+        client = httpClient(4, 100, Duration.ofMillis(50), 100);
+
+        // when: 서로 다른 호출자의 이벤트가 한 bulk 로 묶임
+        List<CompletableFuture<Void>> valid = new ArrayList<>();
+        for (long i = 0; i < 7; i++) {
+            valid.add(client.sendOrderEventAsync(payload(i, 10_000L)));
+        }
+        CompletableFuture<Void> invalid = client.sendOrderEventAsync(payload(99L, -1L));
+
+        // then
+        CompletableFuture.allOf(valid.toArray(CompletableFuture[]::new)).join();
+        assertThatThrownBy(invalid::join)
+            .isInstanceOf(CompletionException.class)
+            .hasMessageContaining("status=400");
+        assertThat(stub.eventCount()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("mock 모드는 지연 동안 호출 스레드를 막지 않고, 잘못된 금액 이벤트만 실패한다")
+    void mock_비동기() {
+        // given
+        client = new DataPlatformClient(JsonMapper.builder().findAndAddModules().build(), new SimpleMeterRegistry(),
+            "mock", stub.baseUrl(), Duration.ofMillis(200), Duration.ofSeconds(3), 4, 100, Duration.ZERO, 100);
+
+        // when: 같은 bulk 에 묶임
+        long start = System.nanoTime();
+        CompletableFuture<Void> success = client.sendOrderEventAsync(payload(1L, 10_000L));
+        CompletableFuture<Void> invalid = client.sendOrderEventAsync(payload(2L, -1L));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // then
+        assertThat(elapsedMillis).isLessThan(100);
+        success.join();
+        assertThatThrownBy(invalid::join)
+            .isInstanceOf(CompletionException.class)
+            .hasMessageContaining("Invalid order amount");
+        assertThat(stub.requestCount()).isZero();
+    }
+
+    private DataPlatformClient httpClient(int maxInFlight, int batchSize, Duration linger, int queueCapacity) {
+        return new DataPlatformClient(JsonMapper.builder().findAndAddModules().build(), new SimpleMeterRegistry(),
+            "http", stub.baseUrl(), Duration.ZERO, Duration.ofSeconds(3), maxInFlight, batchSize, linger, queueCapacity);
+    }
+
+    private OrderEventPayload payload(Long orderId, Long totalAmount) {
+        return OrderEventPayload.of(orderId, 1L, totalAmount, 0L, totalAmount, List.of());
+    }
+}
@@ -0,0 +1,152 @@
+package kr.hhplus.be.server.infrastructure.external;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.infrastructure.external.DataPlatformClient.OrderEventPayload;
+
+/**
+ * 데이터 플랫폼 bulk API 로컬 스텁 (JDK HttpServer)
+ *
+ * POST /api/v1/order-events/bulk 를 받아 latency 만큼 지연 후 200 을 돌려준다.
+ * totalAmount 가 음수인 이벤트가 하나라도 있으면 400 으로 묶음 전체를 거부한다. (실제 bulk API 의 검증 실패 흉내)
+ * 받은 요청 수 / 이벤트 수 / 최대 동시 요청 수를 기록한다.
+ *
+ * 오프라인 벤치마크:
+ *   ./gradlew compileTestJava
+ *   java -cp "build/classes/java/test:build/classes/java/main:<runtime classpath>" \
+ *       kr.hhplus.be.server.infrastructure.external.DataPlatformStubServer [port] [latencyMs] [bench events]
+ * - bench 인자가 없으면 스텁만 띄운다. (data-platform.client.mode=http, base-url=http://localhost:{port} 로 애플리케이션 연결)
+ * - bench 인자를 주면 같은 이벤트 수를 건별 동기 전송(batch-size 1, in-flight 1) / 비동기 마이크로 배치로 보내 비교한다.
+ */
+public class DataPlatformStubServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final Duration latency;
+
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicLong eventCount = new AtomicLong();
+    private final AtomicInteger concurrent = new AtomicInteger();
+    private final AtomicInteger maxConcurrent = new AtomicInteger();
+    private volatile int responseStatus = 200;
+
+    public DataPlatformStubServer(int port, Duration latency) throws IOException {
+        this.latency = latency;
+        this.server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        this.executor = Executors.newCachedThreadPool();
+        this.server.createContext(DataPlatformClient.BULK_PATH, this::handle);
+        this.server.setExecutor(executor);
+        this.server.start();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        int now = concurrent.incrementAndGet();
+        maxConcurrent.accumulateAndGet(now, Math::max);
+        try (InputStream body = exchange.getRequestBody()) {
+            JsonNode events = objectMapper.readTree(body);
+            requestCount.incrementAndGet();
+            Thread.sleep(latency.toMillis());
+
+            boolean invalid = false;
+            for (JsonNode event : events) {
+                invalid |= event.path("totalAmount").asLong() < 0;
+            }
+            if (!invalid && responseStatus / 100 == 2) {
+                eventCount.addAndGet(events.size());
+            }
+            exchange.sendResponseHeaders(invalid ? 400 : responseStatus, -1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            exchange.sendResponseHeaders(503, -1);
+        } finally {
+            concurrent.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public int requestCount() {
+        return requestCount.get();
+    }
+
+    public long eventCount() {
+        return eventCount.get();
+    }
+
+    public int maxConcurrent() {
+        return maxConcurrent.get();
+    }
+
+    public void respondWith(int status) {
+        this.responseStatus = status;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    public static void main(String[] args) throws Exception {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 18080;
+        Duration latency = Duration.ofMillis(args.length > 1 ? Long.parseLong(args[1]) : 100);
+
+        DataPlatformStubServer stub = new DataPlatformStubServer(port, latency);
+        System.out.printf("데이터 플랫폼 스텁 기동: %s%s (latency=%dms)%n", stub.baseUrl(), DataPlatformClient.BULK_PATH, latency.toMillis());
+        if (args.length < 3) {
+            return; // HttpServer 스레드가 살아 있으므로 종료하지 않음
+        }
+
+        int events = Integer.parseInt(args[2]);
+        try (stub) {
+            bench("건별 동기 전송", stub, 1, 1, events);
+            bench("비동기 마이크로 배치", stub, 100, 16, events);
+        }
+    }
+
+    private static void bench(String name, DataPlatformStubServer stub, int batchSize, int maxInFlight, int events) {
+        DataPlatformClient client = new DataPlatformClient(
+            JsonMapper.builder().findAndAddModules().build(), new SimpleMeterRegistry(), "http", stub.baseUrl(),
+            Duration.ZERO, Duration.ofSeconds(30), maxInFlight, batchSize, Duration.ofMillis(5), events);
+        int requestsBefore = stub.requestCount();
+        long start = System.nanoTime();
+        try {
+            List<CompletableFuture<Void>> futures = new ArrayList<>(events);
+            for (int i = 0; i < events; i++) {
+                OrderEventPayload payload = OrderEventPayload.of((long) i, 1L, 10_000L, 0L, 10_000L, List.of());
+                if (batchSize == 1) {
+                    client.sendOrderEvent(payload);
+                } else {
+                    futures.add(client.sendOrderEventAsync(payload));
+                }
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } finally {
+            client.shutdown();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%s: events=%d, requests=%d, elapsed=%.2fs, throughput=%.0f events/s%n",
+            name, events, stub.requestCount() - requestsBefore, seconds, events / seconds);
+    }
+}
@@ -0,0 +1,101 @@
+package kr.hhplus.be.server.infrastructure.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("KeyOrderedExecutor 키 순서 보장 병렬 실행 테스트")
+class KeyOrderedExecutorTest {
+
+    private static final String TOPIC = "order.completed.v1";
+
+    private KeyOrderedExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new KeyOrderedExecutor(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 키는 오프셋 순서대로 처리한다")
+    void 키_순서_유지() {
+        // given: 키 1 / 2 가 섞여 있음
+        List<ConsumerRecord<String, Long>> records = List.of(
+            record(0, 0, 1L), record(0, 1, 2L), record(0, 2, 1L), record(0, 3, 2L), record(0, 4, 1L));
+        List<Long> handledForKey1 = new CopyOnWriteArrayList<>();
+
+        // when
+        Map<TopicPartition, Long> next = executor.process(records, ConsumerRecord::value, record -> {
+            if (record.value() == 1L) {
+                handledForKey1.add(record.offset());
+            }
+        });
+
+        // then
+        assertThat(handledForKey1).containsExactly(0L, 2L, 4L);
+        assertThat(next).containsEntry(new TopicPartition(TOPIC, 0), 5L);
+    }
+
+    @Test
+    @DisplayName("다른 키는 같은 파티션이어도 동시에 처리한다")
+    void 다른_키_병렬() {
+        // given: 두 레코드가 서로를 기다림 - 순차 실행이면 타임아웃
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        List<ConsumerRecord<String, Long>> records = List.of(record(0, 0, 1L), record(0, 1, 2L));
+
+        // when
+        Map<TopicPartition, Long> next = executor.process(records, ConsumerRecord::value, record -> {
+            bothStarted.countDown();
+            if (!bothStarted.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("병렬 실행되지 않음");
+            }
+        });
+
+        // then
+        assertThat(next).containsEntry(new TopicPartition(TOPIC, 0), 2L);
+    }
+
+    @Test
+    @DisplayName("실패한 키의 이후 레코드는 건너뛰고, 파티션별 가장 낮은 미완료 오프셋을 돌려준다")
+    void 미완료_오프셋() {
+        // given: 파티션 0 의 offset 1 (키 2) 실패, 파티션 1 은 모두 성공
+        List<ConsumerRecord<String, Long>> records = List.of(
+            record(0, 0, 1L), record(0, 1, 2L), record(0, 2, 3L), record(0, 3, 2L),
+            record(1, 7, 4L), record(1, 8, 5L));
+        List<Long> handledForKey2 = new CopyOnWriteArrayList<>();
+
+        // when
+        Map<TopicPartition, Long> next = executor.process(records, ConsumerRecord::value, record -> {
+            if (record.value() == 2L) {
+                handledForKey2.add(record.offset());
+                throw new RuntimeException("전송 실패");
+            }
+        });
+
+        // then
+        assertThat(handledForKey2).containsExactly(1L);
+        assertThat(next)
+            .containsEntry(new TopicPartition(TOPIC, 0), 1L)
+            .containsEntry(new TopicPartition(TOPIC, 1), 9L);
+    }
+
+    private ConsumerRecord<String, Long> record(int partition, long offset, Long key) {
+        return new ConsumerRecord<>(TOPIC, partition, offset, key.toString(), key);
+    }
+}
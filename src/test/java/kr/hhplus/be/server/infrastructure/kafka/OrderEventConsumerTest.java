@@ -0,0 +1,226 @@
+package kr.hhplus.be.server.infrastructure.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import kr.hhplus.be.server.infrastructure.external.DataPlatformClient;
+import kr.hhplus.be.server.infrastructure.external.DataPlatformClient.OrderEventPayload;
+import kr.hhplus.be.server.infrastructure.kafka.OrderEventMessage.OrderItemMessage;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderEventConsumer 배치/병렬 수신 테스트")
+class OrderEventConsumerTest {
+
+    @Mock
+    private DataPlatformClient dataPlatformClient;
+
+    @Mock
+    private ProcessedEventJpaRepository processedEventRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Captor
+    private ArgumentCaptor<List<OrderEventPayload>> payloadsCaptor;
+
+    @Captor
+    private ArgumentCaptor<List<Object[]>> argsCaptor;
+
+    @Mock
+    private Consumer<?, ?> kafkaConsumer;
+
+    private KeyOrderedExecutor keyOrderedExecutor;
+    private OrderEventConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        keyOrderedExecutor = new KeyOrderedExecutor(2);
+        consumer = new OrderEventConsumer(
+            dataPlatformClient, processedEventRepository, jdbcTemplate, transactionManager, keyOrderedExecutor);
+        ReflectionTestUtils.setField(consumer, "parallelMaxAttempts", 3);
+        ReflectionTestUtils.setField(consumer, "parallelRetryBackoff", Duration.ZERO);
+    }
+
+    @AfterEach
+    void tearDown() {
+        keyOrderedExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("처리된 이벤트와 묶음 안 중복을 제외하고 bulk 전송 1회, 처리 기록 batch INSERT 1회로 처리한다")
+    void 배치_처리() {
+        // given: e1 은 이미 처리됨, e2 는 묶음 안에서 중복
+        List<OrderEventMessage> messages = List.of(
+            message("e1", 1L), message("e2", 2L), message("e2", 2L), message("e3", 3L));
+        when(processedEventRepository.findEventIdsByEventIdIn(anyCollection())).thenReturn(List.of("e1"));
+
+        // when
+        consumer.handleOrderCompletedBatch(messages);
+
+        // then
+        verify(dataPlatformClient).sendOrderEvents(payloadsCaptor.capture());
+        assertThat(payloadsCaptor.getValue()).extracting(OrderEventPayload::orderId).containsExactly(2L, 3L);
+
+        verify(jdbcTemplate).batchUpdate(anyString(), argsCaptor.capture());
+        assertThat(argsCaptor.getValue()).extracting(args -> args[0]).containsExactly("e2", "e3");
+    }
+
+    @Test
+    @DisplayName("모두 처리된 이벤트면 전송과 기록을 하지 않는다")
+    void 전부_중복() {
+        // given
+        when(processedEventRepository.findEventIdsByEventIdIn(anyCollection())).thenReturn(List.of("e1"));
+
+        // when
+        consumer.handleOrderCompletedBatch(List.of(message("e1", 1L)));
+
+        // then
+        verify(dataPlatformClient, never()).sendOrderEvents(anyList());
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("bulk 전송이 실패하면 건별로 다시 보내 실패 레코드 앞까지만 기록하고 그 위치로 예외를 던진다")
+    void 전송_실패_레코드_지정() {
+        // given: e2(index 2, 주문 2) 만 건별 전송에서도 실패
+        List<OrderEventMessage> messages = List.of(
+            message("e0", 10L), message("e1", 1L), message("e2", 2L), message("e3", 3L));
+        when(processedEventRepository.findEventIdsByEventIdIn(anyCollection())).thenReturn(List.of("e0"));
+        doThrow(new RuntimeException("데이터 플랫폼 일괄 전송 실패"))
+            .when(dataPlatformClient).sendOrderEvents(anyList());
+        lenient().doThrow(new RuntimeException("Invalid order amount"))
+            .when(dataPlatformClient).sendOrderEvent(argThat(payload -> payload.orderId() == 2L));
+
+        // when & then
+        assertThatThrownBy(() -> consumer.handleOrderCompletedBatch(messages))
+            .isInstanceOfSatisfying(BatchListenerFailedException.class,
+                e -> assertThat(e.getIndex()).isEqualTo(2));
+
+        verify(jdbcTemplate).batchUpdate(anyString(), argsCaptor.capture());
+        assertThat(argsCaptor.getValue()).extracting(args -> args[0]).containsExactly("e1");
+        verify(dataPlatformClient, never()).sendOrderEvent(argThat(payload -> payload.orderId() == 3L));
+    }
+
+    @Test
+    @DisplayName("bulk 전송이 실패해도 건별 재전송이 모두 성공하면 전부 기록하고 정상 반환한다")
+    void 전송_실패_건별_성공() {
+        // given
+        when(processedEventRepository.findEventIdsByEventIdIn(anyCollection())).thenReturn(List.of());
+        doThrow(new RuntimeException("일시 오류")).when(dataPlatformClient).sendOrderEvents(anyList());
+
+        // when
+        consumer.handleOrderCompletedBatch(List.of(message("e1", 1L), message("e2", 2L)));
+
+        // then
+        verify(dataPlatformClient, times(2)).sendOrderEvent(any());
+        verify(jdbcTemplate).batchUpdate(anyString(), argsCaptor.capture());
+        assertThat(argsCaptor.getValue()).extracting(args -> args[0]).containsExactly("e1", "e2");
+    }
+
+    @Test
+    @DisplayName("parallel 모드는 미완료 레코드 직전까지 커밋하고 그 오프셋으로 되감는다")
+    void 병렬_부분_커밋() {
+        // given: offset 11 (주문 2) 전송 실패
+        List<ConsumerRecord<String, OrderEventMessage>> records = List.of(
+            record(10, message("e1", 1L)), record(11, message("e2", 2L)), record(12, message("e3", 3L)));
+        // 주문 1 레인이 다른 인자로 동시에 호출하므로 strict stubbing 검사에서 제외
+        lenient().doThrow(new RuntimeException("데이터 플랫폼 전송 실패"))
+            .when(dataPlatformClient).sendOrderEvent(argThat(payload -> payload.orderId() == 2L));
+
+        // when
+        consumer.handleOrderCompletedParallel(records, kafkaConsumer);
+
+        // then
+        TopicPartition partition = new TopicPartition(OrderEventProducer.TOPIC, 0);
+        verify(kafkaConsumer).commitSync(Map.of(partition, new OffsetAndMetadata(11)));
+        verify(kafkaConsumer).seek(partition, 11);
+        verify(processedEventRepository, never()).save(argThat(entity -> entity.getEventId().equals("e2")));
+    }
+
+    @Test
+    @DisplayName("parallel 모드에서 max-attempts 번 실패한 레코드는 FAILED 로 기록하고 건너뛴다")
+    void 병렬_재시도_초과() {
+        // given
+        List<ConsumerRecord<String, OrderEventMessage>> records = List.of(record(10, message("e1", 1L)));
+        doThrow(new RuntimeException("데이터 플랫폼 전송 실패")).when(dataPlatformClient).sendOrderEvent(any());
+
+        // when: 3번째 시도에서 포기
+        consumer.handleOrderCompletedParallel(records, kafkaConsumer);
+        consumer.handleOrderCompletedParallel(records, kafkaConsumer);
+        consumer.handleOrderCompletedParallel(records, kafkaConsumer);
+
+        // then
+        TopicPartition partition = new TopicPartition(OrderEventProducer.TOPIC, 0);
+        verify(kafkaConsumer).commitSync(Map.of(partition, new OffsetAndMetadata(11)));
+        verify(processedEventRepository).save(argThat(entity -> entity.getStatus().equals("FAILED")));
+    }
+
+    @Test
+    @DisplayName("회수된 파티션의 시도 횟수는 지우고 다른 파티션 것은 남긴다")
+    void 파티션_회수_시도_횟수_정리() {
+        // given: 파티션 0, 1 에서 한 번씩 실패
+        doThrow(new RuntimeException("데이터 플랫폼 전송 실패")).when(dataPlatformClient).sendOrderEvent(any());
+        consumer.handleOrderCompletedParallel(List.of(
+            record(10, message("e1", 1L)),
+            new ConsumerRecord<>(OrderEventProducer.TOPIC, 1, 20, "2", message("e2", 2L))), kafkaConsumer);
+        assertThat(consumer.attemptsSize()).isEqualTo(2);
+
+        // when
+        consumer.clearAttempts(List.of(new TopicPartition(OrderEventProducer.TOPIC, 0)));
+
+        // then
+        assertThat(consumer.attemptsSize()).isEqualTo(1);
+    }
+
+    private ConsumerRecord<String, OrderEventMessage> record(long offset, OrderEventMessage message) {
+        return new ConsumerRecord<>(OrderEventProducer.TOPIC, 0, offset, message.getOrderId().toString(), message);
+    }
+
+    private OrderEventMessage message(String eventId, Long orderId) {
+        return OrderEventMessage.builder()
+            .eventId(eventId)
+            .orderId(orderId)
+            .userId(1L)
+            .totalAmount(10_000L)
+            .discountAmount(0L)
+            .finalAmount(10_000L)
+            .items(List.of(new OrderItemMessage(1L, 1, 10_000L, 10_000L)))
+            .build();
+    }
+}
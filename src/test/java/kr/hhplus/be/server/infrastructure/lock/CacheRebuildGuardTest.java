@@ -0,0 +1,144 @@
+package kr.hhplus.be.server.infrastructure.lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CacheRebuildGuard 캐시 재생성 폭주 방지 테스트")
+class CacheRebuildGuardTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private CacheRebuildGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        guard = new CacheRebuildGuard(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 재생성은 한 번만 실행되고 모두 같은 결과를 받는다.")
+    void singleFlight_동시_요청_합치기() throws Exception {
+        // Given
+        int threads = 8;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // When
+        List<Future<String>> results = new ArrayList<>();
+        try {
+            results.add(executor.submit(() -> guard.singleFlight("popular", () -> {
+                loads.incrementAndGet();
+                started.countDown();
+                await(release);
+                return "rebuilt";
+            })));
+            started.await(1, TimeUnit.SECONDS);
+            for (int i = 1; i < threads; i++) {
+                results.add(executor.submit(() -> guard.singleFlight("popular", () -> {
+                    loads.incrementAndGet();
+                    return "duplicate";
+                })));
+            }
+            Thread.sleep(100); // 대기 요청이 진행 중인 재생성에 합류할 시간
+            release.countDown();
+
+            // Then
+            for (Future<String> result : results) {
+                assertThat(result.get(1, TimeUnit.SECONDS)).isEqualTo("rebuilt");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재생성이 실패하면 예외를 전달하고 다음 요청은 다시 실행한다.")
+    void singleFlight_실패_후_재시도() {
+        assertThatThrownBy(() -> guard.singleFlight("popular", () -> {
+            throw new IllegalStateException("db down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(guard.singleFlight("popular", () -> "ok")).isEqualTo("ok");
+    }
+
+    @Test
+    @DisplayName("다른 노드가 락을 보유 중이면 기다리지 않고 empty 를 반환한다.")
+    void tryLock_보유중() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq("lock:rebuild:popular"), anyString(), any(Duration.class)))
+            .thenReturn(false);
+
+        assertThat(guard.tryLock("popular", Duration.ofSeconds(5))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시에는 락을 얻은 것으로 보고 토큰을 반환한다.")
+    void tryLock_Redis_장애() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+            .thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(guard.tryLock("popular", Duration.ofSeconds(5))).isPresent();
+    }
+
+    @Test
+    @DisplayName("락 해제는 획득 시 토큰과 비교하는 스크립트로 실행한다.")
+    @SuppressWarnings("unchecked")
+    void unlock_토큰_비교() {
+        guard.unlock("popular", "token-1");
+
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("lock:rebuild:popular")), eq("token-1"));
+    }
+
+    @Test
+    @DisplayName("만료가 지난 항목은 항상 조기 갱신 대상이고, 만료가 먼 항목은 대상이 아니다.")
+    void 확률적_조기_갱신() {
+        long now = System.currentTimeMillis();
+
+        assertThat(CacheRebuildGuard.shouldRefreshEarly(100, now - 1, 1.0)).isTrue();
+        assertThat(CacheRebuildGuard.shouldRefreshEarly(100, now + TimeUnit.HOURS.toMillis(1), 1.0)).isFalse();
+        assertThat(CacheRebuildGuard.shouldRefreshEarly(100, now + TimeUnit.HOURS.toMillis(1), 0.0)).isFalse();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package kr.hhplus.be.server.infrastructure.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import kr.hhplus.be.server.domain.outbox.entity.OutBoxMessage;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxDispatcher 병렬 전송 테스트")
+class OutboxDispatcherTest {
+
+    @Mock
+    private OutboxClaimer outboxClaimer;
+
+    @Mock
+    private OutboxProcessor outboxProcessor;
+
+    private OutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new OutboxDispatcher(outboxClaimer, outboxProcessor, 2, 2, 10, false);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("워커들이 선점이 빌 때까지 반복 선점하고 모든 메시지를 한 번씩 전송한다")
+    void 선점_반복_전송() {
+        // given: 선점 결과 3묶음 (총 5건), 이후 빈 결과
+        Queue<List<OutBoxMessage>> batches = new ConcurrentLinkedQueue<>(List.of(
+            List.of(message(1L), message(2L)),
+            List.of(message(3L), message(4L)),
+            List.of(message(5L))
+        ));
+        when(outboxClaimer.claim(2)).thenAnswer(invocation -> {
+            List<OutBoxMessage> batch = batches.poll();
+            return batch != null ? batch : List.of();
+        });
+
+        // when
+        OutboxDispatcher.DispatchResult result = dispatcher.dispatch();
+
+        // then
+        assertThat(result.successCount()).isEqualTo(5);
+        assertThat(result.failCount()).isZero();
+        verify(outboxProcessor, times(5)).process(any());
+    }
+
+    @Test
+    @DisplayName("전송 실패는 집계만 하고 같은 묶음의 나머지 메시지는 계속 전송한다")
+    void 실패_집계_후_계속() {
+        // given
+        OutBoxMessage failing = message(1L);
+        Queue<List<OutBoxMessage>> batches = new ConcurrentLinkedQueue<>(List.of(
+            List.of(failing, message(2L))
+        ));
+        when(outboxClaimer.claim(anyInt())).thenAnswer(invocation -> {
+            List<OutBoxMessage> batch = batches.poll();
+            return batch != null ? batch : List.of();
+        });
+        doThrow(new RuntimeException("전송 실패")).when(outboxProcessor).process(failing);
+
+        // when
+        OutboxDispatcher.DispatchResult result = dispatcher.dispatch();
+
+        // then
+        assertThat(result.successCount()).isEqualTo(1);
+        assertThat(result.failCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한 번의 실행에서 워커당 선점 횟수는 max-claims-per-run 을 넘지 않는다")
+    void 선점_횟수_상한() throws InterruptedException {
+        // given: 항상 1건씩 선점되는 밀린 상황
+        dispatcher.shutdown();
+        dispatcher = new OutboxDispatcher(outboxClaimer, outboxProcessor, 1, 1, 3, false);
+        when(outboxClaimer.claim(1)).thenAnswer(invocation -> List.of(message(1L)));
+
+        // when
+        OutboxDispatcher.DispatchResult result = dispatcher.dispatch();
+
+        // then
+        assertThat(result.successCount()).isEqualTo(3);
+        verify(outboxClaimer, times(3)).claim(1);
+    }
+
+    @Test
+    @DisplayName("batch-send 모드면 선점한 묶음을 한 번에 처리하고 성공 건수로 집계한다")
+    void 일괄_전송_모드() throws InterruptedException {
+        // given
+        dispatcher.shutdown();
+        dispatcher = new OutboxDispatcher(outboxClaimer, outboxProcessor, 1, 3, 10, true);
+        List<OutBoxMessage> batch = List.of(message(1L), message(2L), message(3L));
+        Queue<List<OutBoxMessage>> batches = new ConcurrentLinkedQueue<>(List.of(batch));
+        when(outboxClaimer.claim(3)).thenAnswer(invocation -> {
+            List<OutBoxMessage> claimed = batches.poll();
+            return claimed != null ? claimed : List.of();
+        });
+        when(outboxProcessor.processBatch(batch)).thenReturn(2);
+
+        // when
+        OutboxDispatcher.DispatchResult result = dispatcher.dispatch();
+
+        // then
+        assertThat(result.successCount()).isEqualTo(2);
+        assertThat(result.failCount()).isEqualTo(1);
+        verify(outboxProcessor, never()).process(any());
+    }
+
+    @Test
+    @DisplayName("오래된 메시지 스윕은 기간 제한 없는 선점(claimStale)으로 빌 때까지 전송한다")
+    void 오래된_메시지_스윕() {
+        // given
+        Queue<List<OutBoxMessage>> batches = new ConcurrentLinkedQueue<>(List.of(
+            List.of(message(1L), message(2L))
+        ));
+        when(outboxClaimer.claimStale(2)).thenAnswer(invocation -> {
+            List<OutBoxMessage> batch = batches.poll();
+            return batch != null ? batch : List.of();
+        });
+
+        // when
+        OutboxDispatcher.DispatchResult result = dispatcher.sweepStale();
+
+        // then
+        assertThat(result.successCount()).isEqualTo(2);
+        verify(outboxClaimer, never()).claim(anyInt());
+    }
+
+    private OutBoxMessage message(Long id) {
+        return new OutBoxMessage(id, "ORDER", id, "ORDER_COMPLETED", "{}", false, null, 0, null, null);
+    }
+}
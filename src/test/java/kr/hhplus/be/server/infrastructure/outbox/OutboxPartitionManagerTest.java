@@ -0,0 +1,108 @@
+package kr.hhplus.be.server.infrastructure.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxPartitionManager 파티션 관리 테스트")
+class OutboxPartitionManagerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 17);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private OutboxPartitionManager manager;
+
+    @BeforeEach
+    void setUp() {
+        manager = new OutboxPartitionManager(jdbcTemplate, true, 7, 2);
+    }
+
+    @Test
+    @DisplayName("분할되지 않은 테이블은 DDL 을 실행하지 않는다 (최초 분할은 마이그레이션 스크립트로)")
+    void 분할되지_않은_테이블() {
+        // given
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of());
+
+        // when
+        int dropped = manager.maintain();
+
+        // then
+        assertThat(dropped).isZero();
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    @DisplayName("마지막 날짜 파티션 이후 ~ 오늘+N일 까지만 pmax 를 분할해 만든다")
+    void 미래_파티션_생성() {
+        // given
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class)))
+            .thenReturn(List.of("p20261016", "p20261017", "p20261018", "pmax"));
+
+        // when
+        List<LocalDate> days = manager.ensurePartitions(TODAY);
+
+        // then
+        assertThat(days).last().isEqualTo(LocalDate.of(2026, 10, 19));
+        verify(jdbcTemplate).execute(
+            "ALTER TABLE outbox_messages REORGANIZE PARTITION pmax INTO (" +
+            "PARTITION p20261019 VALUES LESS THAN ('2026-10-20 00:00:00'), " +
+            "PARTITION pmax VALUES LESS THAN (MAXVALUE))");
+    }
+
+    @Test
+    @DisplayName("미래 파티션이 이미 있으면 DDL 을 실행하지 않는다")
+    void 미래_파티션_충분() {
+        // given
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class)))
+            .thenReturn(List.of("p20261017", "p20261018", "p20261019", "pmax"));
+
+        // when
+        manager.ensurePartitions(TODAY);
+
+        // then
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 파티션 중 미처리 메시지가 없는 것만 DROP 한다")
+    void 만료_파티션_삭제() {
+        // given: cutoff = 10/10, 10/08·10/09 만료 / 10/10 보관
+        List<LocalDate> days = List.of(
+            LocalDate.of(2026, 10, 8), LocalDate.of(2026, 10, 9), LocalDate.of(2026, 10, 10), TODAY);
+        when(jdbcTemplate.queryForObject(contains("PARTITION (p20261008)"), eq(Long.class))).thenReturn(2L);
+        when(jdbcTemplate.queryForObject(contains("PARTITION (p20261009)"), eq(Long.class))).thenReturn(0L);
+
+        // when
+        int dropped = manager.dropExpired(days, TODAY);
+
+        // then
+        assertThat(dropped).isEqualTo(1);
+        verify(jdbcTemplate).execute("ALTER TABLE outbox_messages DROP PARTITION p20261009");
+    }
+
+    @Test
+    @DisplayName("파티션 이름은 포함 날짜로 변환하고 pmax 는 제외한다")
+    void 파티션_이름_변환() {
+        assertThat(OutboxPartitionManager.nameOf(TODAY)).isEqualTo("p20261017");
+        assertThat(OutboxPartitionManager.dayOf("p20261017")).contains(TODAY);
+        assertThat(OutboxPartitionManager.dayOf("pmax")).isEmpty();
+    }
+}
@@ -0,0 +1,51 @@
+package kr.hhplus.be.server.infrastructure.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxPoller 적응형 폴링 테스트")
+class OutboxPollerTest {
+
+    @Mock
+    private OutboxDispatcher outboxDispatcher;
+
+    @Test
+    @DisplayName("처리한 메시지가 있으면 최소 간격, 없으면 두 배씩 늘려 최대 간격까지 대기한다")
+    void 대기_간격_계산() {
+        OutboxPoller poller = new OutboxPoller(outboxDispatcher, new OutboxWakeupSignal(), 0, 20, 5000);
+
+        assertThat(poller.nextDelay(5000, 3)).isEqualTo(20);
+        assertThat(poller.nextDelay(20, 0)).isEqualTo(40);
+        assertThat(poller.nextDelay(3000, 0)).isEqualTo(5000);
+        assertThat(poller.nextDelay(0, 0)).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("커밋 신호가 오면 폴링 간격을 기다리지 않고 바로 전송한다")
+    void 신호_즉시_전송() {
+        // given: 초기 지연 1분 - 신호가 없으면 테스트 시간 안에 실행되지 않음
+        OutboxWakeupSignal signal = new OutboxWakeupSignal();
+        OutboxPoller poller = new OutboxPoller(outboxDispatcher, signal, 60_000, 20, 60_000);
+        when(outboxDispatcher.dispatch()).thenReturn(OutboxDispatcher.DispatchResult.EMPTY);
+        poller.start();
+
+        try {
+            // when
+            signal.signal();
+
+            // then
+            verify(outboxDispatcher, timeout(1000)).dispatch();
+        } finally {
+            poller.stop();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package kr.hhplus.be.server.infrastructure.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.domain.message.MessageProducer;
+import kr.hhplus.be.server.domain.message.MessageProducer.SendResult;
+import kr.hhplus.be.server.domain.outbox.entity.OutBoxMessage;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxProcessor 일괄 전송 테스트")
+class OutboxProcessorTest {
+
+    @Mock
+    private MessageProducer messageProducer;
+
+    @Mock
+    private OutBoxMessageJpaRepository outBoxMessageJpaRepository;
+
+    @Mock
+    private OutboxFailureHandler failureHandler;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Captor
+    private ArgumentCaptor<List<Long>> idsCaptor;
+
+    @Captor
+    private ArgumentCaptor<List<Object[]>> argsCaptor;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxProcessor outboxProcessor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        outboxProcessor = new OutboxProcessor(
+            messageProducer, outBoxMessageJpaRepository, failureHandler,
+            jdbcTemplate, transactionManager, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("성공은 IN 절 UPDATE 한 번, 실패는 재시도 batch UPDATE 한 번으로 반영한다")
+    void 일괄_반영() {
+        // given: 1, 3 성공 / 2 실패
+        List<OutBoxMessage> messages = List.of(message(1L), message(2L), message(3L));
+        when(messageProducer.sendAll(anyList())).thenAnswer(invocation -> {
+            List<MessageProducer.Message> outgoing = invocation.getArgument(0);
+            return List.of(
+                SendResult.success(outgoing.get(0)),
+                SendResult.failure(outgoing.get(1), new RuntimeException("브로커 응답 없음")),
+                SendResult.success(outgoing.get(2))
+            );
+        });
+
+        // when
+        int succeeded = outboxProcessor.processBatch(messages);
+
+        // then
+        assertThat(succeeded).isEqualTo(2);
+        verify(outBoxMessageJpaRepository).markProcessed(idsCaptor.capture(), any());
+        assertThat(idsCaptor.getValue()).containsExactly(1L, 3L);
+
+        verify(jdbcTemplate).batchUpdate(anyString(), argsCaptor.capture());
+        assertThat(argsCaptor.getValue()).hasSize(1);
+        assertThat(argsCaptor.getValue().get(0)).containsExactly("브로커 응답 없음", 2L);
+
+        // 메시지별 전송/저장 경로는 사용하지 않음
+        verify(messageProducer, never()).send(anyString(), anyString(), anyString());
+        verify(outBoxMessageJpaRepository, never()).save(any());
+
+        // 지표 기록
+        assertThat(meterRegistry.summary("outbox.batch.size").totalAmount()).isEqualTo(3);
+        assertThat(meterRegistry.timer("outbox.batch.send.latency").count()).isEqualTo(1);
+        assertThat(meterRegistry.timer("outbox.batch.commit.latency").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("모두 성공하면 재시도 UPDATE 는 실행하지 않는다")
+    void 전체_성공() {
+        // given
+        List<OutBoxMessage> messages = List.of(message(1L), message(2L));
+        when(messageProducer.sendAll(anyList())).thenAnswer(invocation -> {
+            List<MessageProducer.Message> outgoing = invocation.getArgument(0);
+            return outgoing.stream().map(SendResult::success).toList();
+        });
+
+        // when
+        int succeeded = outboxProcessor.processBatch(messages);
+
+        // then
+        assertThat(succeeded).isEqualTo(2);
+        verify(outBoxMessageJpaRepository).markProcessed(eq(List.of(1L, 2L)), any());
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    private OutBoxMessage message(Long id) {
+        return new OutBoxMessage(id, "ORDER", id * 10, "ORDER_COMPLETED", "{}", false, null, 0, null, null);
+    }
+}
@@ -3,6 +3,7 @@ package kr.hhplus.be.server.infrastructure.product;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -28,6 +29,7 @@ import kr.hhplus.be.server.application.product.service.ProductService;
 import kr.hhplus.be.server.domain.product.entity.PopularProduct;
 import kr.hhplus.be.server.domain.product.enums.ProductCategory;
 import kr.hhplus.be.server.domain.product.repository.PopularProductRepository;
+import kr.hhplus.be.server.infrastructure.product.batch.OrderHistorySalesAggregator;
 import kr.hhplus.be.server.infrastructure.product.persistence.PopularProductCustomRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,6 +42,9 @@ class PopularProductSchedulerTest {
     @Mock
     private PopularProductCustomRepository popularProductCustomRepository;
 
+    @Mock
+    private OrderHistorySalesAggregator orderHistorySalesAggregator;
+
     @Mock
     private ProductService productService;
 
@@ -59,6 +64,7 @@ class PopularProductSchedulerTest {
         ReflectionTestUtils.setField(scheduler, "periodDays", 3);
         ReflectionTestUtils.setField(scheduler, "cleanupDays", 7);
         ReflectionTestUtils.setField(scheduler, "endDateOffset", 1);
+        ReflectionTestUtils.setField(scheduler, "rebuildMode", "rollup");
     }
 
     @Nested
@@ -66,7 +72,7 @@ class PopularProductSchedulerTest {
     class AggregatePopularProducts {
 
         @Test
-        @DisplayName("성공: 집계 결과가 있으면 기존 데이터 삭제 후 저장한다")
+        @DisplayName("성공: 집계 결과가 있으면 오늘자 데이터를 교체한다")
         void 집계_성공_저장() {
             // given
             LocalDate today = LocalDate.now();
@@ -83,33 +89,28 @@ class PopularProductSchedulerTest {
                 eq(startDate), eq(endDate), eq(5), eq(today)
             )).thenReturn(aggregatedProducts);
 
-            when(popularProductRepository.saveAll(any()))
-                .thenReturn(aggregatedProducts);
-
             // when
             scheduler.aggregatePopularProducts();
 
             // then
-            // 1. 기존 데이터 삭제 호출 확인
-            verify(popularProductRepository, times(1)).deleteByBaseDate(today);
-
-            // 2. 집계 쿼리 호출 확인
+            // 1. 집계 쿼리 호출 확인 (롤업 모드이므로 주문 이력 스캔 안함)
             verify(popularProductCustomRepository, times(1))
                 .aggregateTopSellingProducts(startDate, endDate, 5, today);
+            verify(orderHistorySalesAggregator, never()).aggregateTopSellingProducts(any(), any(), anyInt(), any());
 
-            // 3. 저장 호출 확인
-            verify(popularProductRepository, times(1)).saveAll(productListCaptor.capture());
+            // 2. 오늘자 교체 호출 확인
+            verify(popularProductRepository, times(1)).replaceByBaseDate(eq(today), productListCaptor.capture());
             List<PopularProduct> savedProducts = productListCaptor.getValue();
             assertEquals(3, savedProducts.size());
             assertEquals("상품1", savedProducts.get(0).productName());
 
             // 4. Redis 캐시 갱신 확인 (Cache Warming)
             verify(productService, times(1)).evictRedisCache();
-            verify(productService, times(1)).putToRedisCache(any());
+            verify(productService, times(1)).putToRedisCache(any(), anyLong());
         }
 
         @Test
-        @DisplayName("성공: 집계 결과가 없으면 저장하지 않는다")
+        @DisplayName("성공: 집계 결과가 없으면 캐시를 갱신하지 않는다")
         void 집계_결과_없음_저장_안함() {
             // given
             LocalDate today = LocalDate.now();
@@ -124,14 +125,13 @@ class PopularProductSchedulerTest {
             scheduler.aggregatePopularProducts();
 
             // then
-            verify(popularProductRepository, times(1)).deleteByBaseDate(today);
             verify(popularProductCustomRepository, times(1))
                 .aggregateTopSellingProducts(startDate, endDate, 5, today);
-            // 빈 결과이므로 saveAll 호출 안됨
-            verify(popularProductRepository, never()).saveAll(any());
+            // 빈 결과로 교체 (오늘자 데이터만 비워짐)
+            verify(popularProductRepository, times(1)).replaceByBaseDate(today, List.of());
             // Redis 캐시도 갱신하지 않음
             verify(productService, never()).evictRedisCache();
-            verify(productService, never()).putToRedisCache(any());
+            verify(productService, never()).putToRedisCache(any(), anyLong());
         }
 
         @Test
@@ -150,16 +150,38 @@ class PopularProductSchedulerTest {
                 any(), any(), anyInt(), any()
             )).thenReturn(aggregatedProducts);
 
-            when(popularProductRepository.saveAll(any()))
-                .thenReturn(aggregatedProducts);
-
             // when - 2번 실행
             scheduler.aggregatePopularProducts();
             scheduler.aggregatePopularProducts();
 
-            // then - 각 실행마다 deleteByBaseDate가 먼저 호출되어 멱등성 보장
-            verify(popularProductRepository, times(2)).deleteByBaseDate(today);
-            verify(popularProductRepository, times(2)).saveAll(any());
+            // then - 각 실행마다 오늘자 데이터를 통째로 교체하여 멱등성 보장
+            verify(popularProductRepository, times(2)).replaceByBaseDate(today, aggregatedProducts);
+        }
+
+        @Test
+        @DisplayName("성공: order-scan 모드면 주문 이력 스캔 결과로 교체한다")
+        void 주문이력_스캔_모드() {
+            // given
+            ReflectionTestUtils.setField(scheduler, "rebuildMode", "order-scan");
+            LocalDate today = LocalDate.now();
+            LocalDate startDate = today.minusDays(3);
+            LocalDate endDate = today.minusDays(1);
+
+            List<PopularProduct> aggregatedProducts = List.of(
+                PopularProduct.fromAggregation(1, 1L, "상품1", 10000L, ProductCategory.TOP, 100, today)
+            );
+
+            when(orderHistorySalesAggregator.aggregateTopSellingProducts(
+                eq(startDate), eq(endDate), eq(5), eq(today)
+            )).thenReturn(aggregatedProducts);
+
+            // when
+            scheduler.aggregatePopularProducts();
+
+            // then
+            verify(popularProductCustomRepository, never()).aggregateTopSellingProducts(any(), any(), anyInt(), any());
+            verify(popularProductRepository, times(1)).replaceByBaseDate(today, aggregatedProducts);
+            verify(productService, times(1)).putToRedisCache(any(), anyLong());
         }
 
         @Test
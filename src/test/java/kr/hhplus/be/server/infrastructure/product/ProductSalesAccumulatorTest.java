@@ -0,0 +1,161 @@
+package kr.hhplus.be.server.infrastructure.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import kr.hhplus.be.server.domain.product.entity.ProductDailySales;
+import kr.hhplus.be.server.domain.product.repository.ProductRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductSalesAccumulator 판매량 write-behind 테스트")
+class ProductSalesAccumulatorTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ProductSalesAccumulator accumulator;
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 1, 10);
+
+    @BeforeEach
+    void setUp() {
+        accumulator = new ProductSalesAccumulator(productRepository, transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Long> captureFlushed() {
+        ArgumentCaptor<Map<Long, Long>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(productRepository).increaseSalesQuantities(captor.capture());
+        return captor.getValue();
+    }
+
+    @Test
+    @DisplayName("상품별 변화량을 합산해 상품 ID 순으로 한 번에 반영한다")
+    void 합산_후_일괄_반영() {
+        // given
+        accumulator.add(2L, TODAY, 3);
+        accumulator.add(1L, TODAY, 2);
+        accumulator.add(2L, TODAY, 4);
+        accumulator.add(1L, TODAY, -1);
+
+        // when
+        int flushed = accumulator.flush();
+
+        // then
+        assertThat(flushed).isEqualTo(2);
+        Map<Long, Long> deltas = captureFlushed();
+        assertThat(List.copyOf(deltas.keySet())).containsExactly(1L, 2L);
+        assertThat(deltas).containsEntry(1L, 1L).containsEntry(2L, 7L);
+    }
+
+    @Test
+    @DisplayName("반영할 값이 없으면 UPDATE 를 실행하지 않는다")
+    void 빈_반영() {
+        accumulator.add(1L, TODAY, 2);
+        accumulator.add(1L, TODAY, -2);
+
+        assertThat(accumulator.flush()).isZero();
+        verify(productRepository, never()).increaseSalesQuantities(any());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 가산하면 커밋된 후에만 반영 대상이 된다")
+    void 커밋_후_가산() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        accumulator.add(1L, TODAY, 5);
+
+        // then - 커밋 전에는 반영할 값 없음
+        assertThat(accumulator.flush()).isZero();
+
+        // when - 커밋
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // then
+        assertThat(accumulator.flush()).isEqualTo(1);
+        assertThat(captureFlushed()).containsEntry(1L, 5L);
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 꺼낸 값을 되돌려 다음 주기에 다시 반영한다")
+    void 실패_시_재시도() {
+        // given
+        accumulator.add(1L, TODAY, 5);
+        doThrow(new QueryTimeoutException("timeout"))
+            .doNothing()
+            .when(productRepository).increaseSalesQuantities(any());
+
+        // when
+        int first = accumulator.flush();
+        accumulator.add(1L, TODAY, 1);
+        int second = accumulator.flush();
+
+        // then
+        assertThat(first).isZero();
+        assertThat(second).isEqualTo(1);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<Long, Long>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(productRepository, times(2)).increaseSalesQuantities(captor.capture());
+        assertThat(captor.getAllValues().get(1)).containsEntry(1L, 6L);
+    }
+
+    @Test
+    @DisplayName("일별 롤업은 (판매일, 상품) 별로 합산해 판매일, 상품 ID 순으로 같은 트랜잭션에서 반영한다")
+    @SuppressWarnings("unchecked")
+    void 일별_롤업_반영() {
+        // given - 어제 주문의 취소는 오늘이 아닌 어제 롤업에서 차감
+        LocalDate yesterday = TODAY.minusDays(1);
+        accumulator.add(2L, TODAY, 3);
+        accumulator.add(1L, yesterday, 4);
+        accumulator.add(1L, TODAY, 2);
+        accumulator.add(1L, yesterday, -1);
+
+        // when
+        accumulator.flush();
+
+        // then
+        ArgumentCaptor<List<ProductDailySales>> captor = ArgumentCaptor.forClass(List.class);
+        verify(productRepository).addDailySales(captor.capture());
+        assertThat(captor.getValue()).containsExactly(
+            new ProductDailySales(1L, yesterday, 3),
+            new ProductDailySales(1L, TODAY, 2),
+            new ProductDailySales(2L, TODAY, 3)
+        );
+        assertThat(captureFlushed()).containsEntry(1L, 5L).containsEntry(2L, 3L);
+
+        // 반영한 키는 제거되어 다음 주기에 다시 반영되지 않음
+        accumulator.flush();
+        verify(productRepository, times(1)).addDailySales(any());
+    }
+}
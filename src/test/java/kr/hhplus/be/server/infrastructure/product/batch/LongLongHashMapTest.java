@@ -0,0 +1,67 @@
+package kr.hhplus.be.server.infrastructure.product.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("LongLongHashMap / 상위 N개 선택 테스트")
+class LongLongHashMapTest {
+
+    @Test
+    @DisplayName("같은 키는 값이 누적되고 없는 키는 0 이다")
+    void 누적_조회() {
+        LongLongHashMap map = new LongLongHashMap(4);
+
+        map.addTo(1L, 3);
+        map.addTo(2L, 5);
+        map.addTo(1L, 4);
+        map.addTo(0L, 7);
+
+        assertThat(map.get(1L)).isEqualTo(7);
+        assertThat(map.get(2L)).isEqualTo(5);
+        assertThat(map.get(0L)).isEqualTo(7);
+        assertThat(map.get(99L)).isZero();
+        assertThat(map.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("초기 용량을 넘어 재해시되어도 모든 값이 유지된다")
+    void 재해시_유지() {
+        LongLongHashMap map = new LongLongHashMap(4);
+        for (long id = 1; id <= 10_000; id++) {
+            map.addTo(id, id);
+            map.addTo(id, 1);
+        }
+
+        Map<Long, Long> copied = new HashMap<>();
+        map.forEach(copied::put);
+
+        assertThat(map.size()).isEqualTo(10_000);
+        assertThat(copied).hasSize(10_000);
+        assertThat(copied.get(1L)).isEqualTo(2L);
+        assertThat(copied.get(10_000L)).isEqualTo(10_001L);
+    }
+
+    @Test
+    @DisplayName("판매량 내림차순(동률이면 상품 ID 오름차순)으로 상위 N개만 고르고 0 이하는 제외한다")
+    void 상위_N개_선택() {
+        LongLongHashMap map = new LongLongHashMap(16);
+        map.addTo(10L, 5);
+        map.addTo(11L, 50);
+        map.addTo(12L, 20);
+        map.addTo(13L, 20);
+        map.addTo(14L, 0);
+        map.addTo(15L, 1);
+
+        List<long[]> top = OrderHistorySalesAggregator.topN(map, 3);
+
+        assertThat(top).extracting(entry -> entry[0]).containsExactly(11L, 12L, 13L);
+        assertThat(top).extracting(entry -> entry[1]).containsExactly(50L, 20L, 20L);
+        assertThat(OrderHistorySalesAggregator.topN(map, 10)).hasSize(5);
+    }
+}
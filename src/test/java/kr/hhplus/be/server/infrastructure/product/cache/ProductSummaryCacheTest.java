@@ -0,0 +1,134 @@
+package kr.hhplus.be.server.infrastructure.product.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.domain.product.entity.Product;
+import kr.hhplus.be.server.domain.product.entity.ProductSummary;
+import kr.hhplus.be.server.domain.product.enums.ProductCategory;
+import kr.hhplus.be.server.domain.product.enums.ProductStatus;
+import kr.hhplus.be.server.infrastructure.product.persistence.ProductEntity;
+import kr.hhplus.be.server.infrastructure.product.persistence.ProductJpaRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductSummaryCache 상품 요약 캐시 테스트")
+class ProductSummaryCacheTest {
+
+    @Mock
+    private ProductJpaRepository productJpaRepository;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private ProductSummaryCache productSummaryCache;
+
+    @BeforeEach
+    void setUp() {
+        productSummaryCache = new ProductSummaryCache(
+            productJpaRepository, redisTemplate, new SimpleMeterRegistry(), 100, Duration.ofMinutes(1), Duration.ofHours(1));
+    }
+
+    private Product product(Long id, int stock) {
+        return new Product(id, "상품" + id, 1000L, stock, ProductCategory.TOP, ProductStatus.ON_SALE, 0,
+            LocalDateTime.now(), LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("Redis Hash 에 있으면 DB 를 조회하지 않고, 두 번째 조회는 로컬 캐시에서 반환한다.")
+    @SuppressWarnings("unchecked")
+    void Redis_적중_후_로컬_적중() {
+        // Given
+        Map<Object, Object> hash = Map.of(
+            "name", "상품1", "price", "1000", "stock", "7", "category", "TOP", "status", "ON_SALE");
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenReturn(List.of(hash));
+
+        // When
+        Map<Long, ProductSummary> first = productSummaryCache.getAll(List.of(1L));
+        Map<Long, ProductSummary> second = productSummaryCache.getAll(List.of(1L));
+
+        // Then
+        assertThat(first.get(1L).stock()).isEqualTo(7);
+        assertThat(second.get(1L)).isEqualTo(first.get(1L));
+        verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+        verify(productJpaRepository, never()).findAllById(anyList());
+    }
+
+    @Test
+    @DisplayName("Redis 에 없는 상품은 IN 절 1회로 DB 에서 조회하고 Redis 에 적재한다.")
+    @SuppressWarnings("unchecked")
+    void Redis_미스_DB_적재() {
+        // Given
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenReturn(List.of(Map.of(), Map.of()));
+        when(productJpaRepository.findAllById(anyList()))
+            .thenReturn(List.of(ProductEntity.from(product(1L, 10)), ProductEntity.from(product(2L, 5))));
+
+        // When
+        Map<Long, ProductSummary> result = productSummaryCache.getAll(List.of(1L, 2L));
+
+        // Then
+        assertThat(result).containsOnlyKeys(1L, 2L);
+        verify(productJpaRepository, times(1)).findAllById(anyList());
+        // HGETALL 파이프라인 1회 + 적재 파이프라인 1회
+        verify(redisTemplate, times(2)).executePipelined(any(SessionCallback.class));
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 DB 에서 조회한다.")
+    @SuppressWarnings("unchecked")
+    void Redis_장애_DB_fallback() {
+        // Given
+        when(redisTemplate.executePipelined(any(SessionCallback.class)))
+            .thenThrow(new RedisConnectionFailureException("down"));
+        when(productJpaRepository.findAllById(anyList())).thenReturn(List.of(ProductEntity.from(product(1L, 3))));
+
+        // When
+        Map<Long, ProductSummary> result = productSummaryCache.getAll(List.of(1L));
+
+        // Then
+        assertThat(result.get(1L).stock()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 변경은 커밋 후에 로컬 캐시와 Redis 에 반영된다.")
+    @SuppressWarnings("unchecked")
+    void 커밋_후_갱신() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            productSummaryCache.putAfterCommit(product(1L, 4));
+
+            // Then - 커밋 전에는 반영하지 않음
+            verify(redisTemplate, never()).executePipelined(any(SessionCallback.class));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+            assertThat(productSummaryCache.getAll(List.of(1L)).get(1L).stock()).isEqualTo(4);
+            verify(productJpaRepository, never()).findAllById(anyList());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package kr.hhplus.be.server.infrastructure.product.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import kr.hhplus.be.server.domain.product.entity.ProductSearch;
+import kr.hhplus.be.server.domain.product.enums.ProductCategory;
+import kr.hhplus.be.server.domain.product.enums.ProductStatus;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductCountHistogram 추정 건수 테스트")
+class ProductCountHistogramTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private ProductCountHistogram histogram;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws SQLException {
+        histogram = new ProductCountHistogram(jdbcTemplate, 10000, Duration.ofMinutes(5));
+
+        // (TOP, ON_SALE, 0~9999원) 100건, (TOP, ON_SALE, 10000~19999원) 100건, (PANTS, SOLD_OUT, 0~9999원) 50건
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(10000L))).thenAnswer(invocation -> {
+            RowMapper<Object> mapper = invocation.getArgument(1);
+            Object[][] rows = {
+                {"TOP", "ON_SALE", 0L, 100L},
+                {"TOP", "ON_SALE", 1L, 100L},
+                {"PANTS", "SOLD_OUT", 0L, 50L}
+            };
+            List<Object> cells = new ArrayList<>();
+            for (Object[] row : rows) {
+                when(resultSet.getString("category")).thenReturn((String) row[0]);
+                when(resultSet.getString("status")).thenReturn((String) row[1]);
+                when(resultSet.getLong("bucket")).thenReturn((Long) row[2]);
+                when(resultSet.getLong("cnt")).thenReturn((Long) row[3]);
+                cells.add(mapper.mapRow(resultSet, cells.size()));
+            }
+            return cells;
+        });
+    }
+
+    @Test
+    @DisplayName("카테고리/상태 조건은 해당 셀 합계로 추정한다")
+    void 카테고리_상태_추정() {
+        ProductSearch search = new ProductSearch(null, null, null, ProductCategory.TOP, ProductStatus.ON_SALE);
+
+        assertThat(histogram.estimate(search)).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("가격 범위는 경계 구간을 선형 보간한다")
+    void 가격_범위_추정() {
+        // 5000 ~ 14999원: 첫 구간 절반(50) + 두 번째 구간 절반(50)
+        ProductSearch search = new ProductSearch(null, 5000, 14999, ProductCategory.TOP, null);
+
+        assertThat(histogram.estimate(search)).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("상품명 후보 ID 비율을 곱하고, TTL 동안 히스토그램을 재사용한다")
+    void 상품명_비율_추정() {
+        // 전체 250건 중 후보 25건 → 10%
+        Set<Long> candidateIds = LongStream.rangeClosed(1, 25).boxed().collect(Collectors.toSet());
+        ProductSearch search = new ProductSearch(null, null, null, null, null, candidateIds);
+
+        assertThat(histogram.estimate(search)).isEqualTo(25);
+        histogram.estimate(search);
+        verify(jdbcTemplate, times(1)).query(anyString(), any(RowMapper.class), eq(10000L));
+    }
+}
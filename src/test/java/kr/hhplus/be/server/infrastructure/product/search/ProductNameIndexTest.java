@@ -0,0 +1,108 @@
+package kr.hhplus.be.server.infrastructure.product.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import kr.hhplus.be.server.infrastructure.product.persistence.ProductJpaRepository;
+import kr.hhplus.be.server.infrastructure.product.persistence.ProductNameProjection;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductNameIndex 상품명 n-gram 색인 테스트")
+class ProductNameIndexTest {
+
+    @Mock
+    private ProductJpaRepository productJpaRepository;
+
+    private ProductNameIndex productNameIndex;
+
+    @BeforeEach
+    void setUp() {
+        productNameIndex = new ProductNameIndex(productJpaRepository, 2);
+    }
+
+    private ProductNameProjection name(Long id, String productName) {
+        return new ProductNameProjection() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getProductName() {
+                return productName;
+            }
+        };
+    }
+
+    private void load() {
+        when(productJpaRepository.findAllProductNames()).thenReturn(List.of(
+            name(1L, "오버핏 반팔 티셔츠"),
+            name(2L, "와이드 데님 바지"),
+            name(3L, "Nike 에어 운동화")
+        ));
+        productNameIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("적재 전에는 색인을 사용하지 않는다 (LIKE 대체)")
+    void 적재_전() {
+        assertThat(productNameIndex.search("티셔츠")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("한글 부분 일치 / 1글자 / 대소문자 무시 검색")
+    void 부분_일치_검색() {
+        load();
+
+        assertThat(productNameIndex.search("반팔")).contains(Set.of(1L));
+        assertThat(productNameIndex.search("데님 바")).contains(Set.of(2L));
+        assertThat(productNameIndex.search("바")).contains(Set.of(2L));
+        assertThat(productNameIndex.search("nike")).contains(Set.of(3L));
+        assertThat(productNameIndex.search("반바지")).contains(Set.of());
+    }
+
+    @Test
+    @DisplayName("gram 은 모두 포함하지만 연속되지 않은 상품명은 제외한다")
+    void 오탐_제거() {
+        when(productJpaRepository.findAllProductNames()).thenReturn(List.of(name(1L, "가나 나다")));
+        productNameIndex.rebuild();
+
+        // "가나", "나다" 2-gram 은 모두 존재하지만 "가나다" 연속 문자열은 아님
+        assertThat(productNameIndex.search("가나다")).contains(Set.of());
+    }
+
+    @Test
+    @DisplayName("상품명이 변경되면 이전 이름으로는 검색되지 않는다")
+    void 증분_갱신() {
+        load();
+
+        productNameIndex.update(1L, "오버핏 긴팔 셔츠");
+        productNameIndex.update(4L, "반팔 카라 셔츠");
+
+        assertThat(productNameIndex.search("반팔")).contains(Set.of(4L));
+        assertThat(productNameIndex.search("긴팔")).contains(Set.of(1L));
+    }
+
+    @Test
+    @DisplayName("후보가 max-candidates 를 넘으면 색인 대신 LIKE 로 대체한다")
+    void 후보_초과() {
+        when(productJpaRepository.findAllProductNames()).thenReturn(List.of(
+            name(1L, "반팔 셔츠"), name(2L, "긴팔 셔츠"), name(3L, "린넨 셔츠")));
+        productNameIndex.rebuild();
+
+        Optional<Set<Long>> result = productNameIndex.search("셔츠");
+
+        assertThat(result).isEmpty();
+    }
+}
@@ -0,0 +1,137 @@
+package kr.hhplus.be.server.infrastructure.stock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import kr.hhplus.be.server.application.order.dto.request.OrderCreateRequest.OrderItem;
+import kr.hhplus.be.server.infrastructure.stock.RedisStockReservation.Reservation;
+import kr.hhplus.be.server.infrastructure.stock.RedisStockReservation.ReserveResult;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisStockReservation 재고 예약 테스트")
+class RedisStockReservationTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    private RedisStockReservation stockReservation;
+
+    @BeforeEach
+    void setUp() {
+        stockReservation = new RedisStockReservation(redisTemplate, true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stockReservation.clearCurrent();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenReserveResult(long result) {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(result);
+    }
+
+    @Test
+    @DisplayName("같은 상품은 수량을 합산하고 예약 가능 재고 키, 예약 기록 키 순서로 전달한다")
+    @SuppressWarnings("unchecked")
+    void 수량_합산_키_순서() {
+        givenReserveResult(0L);
+
+        Reservation reservation = stockReservation.reserve(List.of(
+            new OrderItem(1L, 2), new OrderItem(2L, 1), new OrderItem(1L, 3)));
+
+        ArgumentCaptor<List<String>> keysCaptor = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<Object[]> argsCaptor = ArgumentCaptor.forClass(Object[].class);
+        verify(redisTemplate).execute(any(RedisScript.class), keysCaptor.capture(), argsCaptor.capture());
+
+        assertThat(reservation.result()).isEqualTo(ReserveResult.RESERVED);
+        assertThat(keysCaptor.getValue()).containsExactly(
+            "stock:available:1", "stock:available:2", "stock:inflight:1", "stock:inflight:2");
+        Object[] args = argsCaptor.getValue();
+        assertThat(args[0]).isEqualTo(reservation.id());
+        assertThat(List.of(args).subList(2, args.length)).containsExactly("5", "1");
+    }
+
+    @Test
+    @DisplayName("재고 부족 상품이 있으면 SOLD_OUT 을 반환하고 해제 스크립트를 실행하지 않는다")
+    @SuppressWarnings("unchecked")
+    void 재고_부족() {
+        givenReserveResult(2L);
+
+        Reservation reservation = stockReservation.reserve(List.of(new OrderItem(1L, 1), new OrderItem(2L, 5)));
+        stockReservation.release(reservation, true);
+
+        assertThat(reservation.result()).isEqualTo(ReserveResult.SOLD_OUT);
+        verify(redisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("카운터가 없는 상품은 재동기화 대상에 등록하고 NOT_TRACKED 를 반환한다")
+    void 카운터_미적재() {
+        givenReserveResult(-2L);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+
+        Reservation reservation = stockReservation.reserve(List.of(new OrderItem(1L, 1), new OrderItem(7L, 1)));
+
+        assertThat(reservation.result()).isEqualTo(ReserveResult.NOT_TRACKED);
+        verify(setOperations).add(RedisStockReservation.TRACKED_KEY, "7");
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 예약 수량을 복구하고, 커밋되면 예약 기록만 제거한다")
+    @SuppressWarnings("unchecked")
+    void 트랜잭션_결과에_따른_해제() {
+        givenReserveResult(0L);
+        Reservation reservation = stockReservation.reserve(List.of(new OrderItem(1L, 2)));
+        stockReservation.setCurrent(reservation);
+
+        TransactionSynchronizationManager.initSynchronization();
+        stockReservation.bindToTransaction();
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertThat(synchronizations).hasSize(1);
+
+        synchronizations.get(0).afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        verify(redisTemplate).execute(any(RedisScript.class), anyList(), eq(reservation.id()), eq("1"), eq("2"));
+
+        synchronizations.get(0).afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        verify(redisTemplate).execute(any(RedisScript.class), anyList(), eq(reservation.id()), eq("0"), eq("2"));
+    }
+
+    @Test
+    @DisplayName("예약이 없으면 트랜잭션에 아무것도 등록하지 않는다")
+    void 예약_없음() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        stockReservation.bindToTransaction();
+
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+        verify(redisTemplate, never()).opsForSet();
+    }
+}
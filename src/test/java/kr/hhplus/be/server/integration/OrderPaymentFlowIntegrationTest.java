@@ -30,6 +30,7 @@ import kr.hhplus.be.server.domain.product.enums.ProductStatus;
 import kr.hhplus.be.server.domain.product.repository.ProductRepository;
 import kr.hhplus.be.server.domain.user.entity.User;
 import kr.hhplus.be.server.domain.user.repository.UserRepository;
+import kr.hhplus.be.server.infrastructure.product.ProductSalesAccumulator;
 
 /**
  * 주문 → 재고 차감 → 잔액 차감 → 주문 저장 → Outbox 저장 전체 플로우 통합 테스트
@@ -48,6 +49,9 @@ class OrderPaymentFlowIntegrationTest extends BaseIntegrationTest {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private ProductSalesAccumulator productSalesAccumulator;
+
     @Autowired
     private OrderRepository orderRepository;
 
@@ -135,6 +139,9 @@ class OrderPaymentFlowIntegrationTest extends BaseIntegrationTest {
         assertThat(orderDetails).extracting(OrderDetail::quantity)
             .containsExactlyInAnyOrder(2, 3);
 
+        // 누적 판매량은 write-behind 로 반영되므로 먼저 flush
+        productSalesAccumulator.flush();
+
         // Then 4: 재고 차감 확인
         Product updatedProduct1 = productRepository.findById(testProduct1.id()).orElseThrow();
         Product updatedProduct2 = productRepository.findById(testProduct2.id()).orElseThrow();
@@ -0,0 +1,187 @@
+package kr.hhplus.be.server.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.MySQLContainer;
+
+import kr.hhplus.be.server.domain.message.MessageProducer;
+import kr.hhplus.be.server.infrastructure.outbox.cdc.OutboxBinlogRelay;
+
+/**
+ * Outbox CDC 릴레이 통합 테스트 (binlog 활성화된 MySQL Testcontainer)
+ * - INSERT 된 outbox 행이 MessageProducer 로 전달되고 처리 완료로 표시되는지
+ * - 재시작 시 체크포인트 이후 행만 전달되는지
+ * - 여러 릴레이 중 리스를 가진 하나만 전달하는지
+ */
+class OutboxBinlogRelayIntegrationTest {
+
+    private static final MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0")
+        .withDatabaseName("hhplus")
+        .withUsername("root")
+        .withPassword("root")
+        .withCommand("--server-id=1", "--log-bin=mysql-bin", "--binlog-format=ROW");
+
+    private static JdbcTemplate jdbcTemplate;
+    private static DataSourceTransactionManager transactionManager;
+
+    private final List<String> sentKeys = new CopyOnWriteArrayList<>();
+    private final MessageProducer recordingProducer = (topic, key, payload) -> sentKeys.add(key);
+
+    @BeforeAll
+    static void setUpDatabase() {
+        mysql.start();
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+
+        jdbcTemplate.execute("""
+            CREATE TABLE outbox_messages (
+                id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                aggregate_type VARCHAR(50) NOT NULL,
+                aggregate_id BIGINT NOT NULL,
+                event_type VARCHAR(100) NOT NULL,
+                payload JSON NOT NULL,
+                is_processed BIT(1) NOT NULL,
+                processed_dttm DATETIME(6),
+                retry_count INT NOT NULL,
+                error_message VARCHAR(1000),
+                crt_dttm DATETIME(6) NOT NULL,
+                locked_until DATETIME(6),
+                locked_by VARCHAR(100)
+            )""");
+        jdbcTemplate.execute("""
+            CREATE TABLE outbox_relay_checkpoint (
+                relay_name VARCHAR(50) PRIMARY KEY,
+                binlog_file VARCHAR(100),
+                binlog_position BIGINT,
+                upd_dttm DATETIME(6) NOT NULL,
+                lease_owner VARCHAR(100),
+                lease_until DATETIME(6)
+            )""");
+    }
+
+    @AfterAll
+    static void tearDown() {
+        mysql.stop();
+    }
+
+    @BeforeEach
+    void clean() {
+        jdbcTemplate.update("DELETE FROM outbox_messages");
+        jdbcTemplate.update("DELETE FROM outbox_relay_checkpoint");
+    }
+
+    @Test
+    @DisplayName("INSERT 된 outbox 행을 전달하고 처리 완료 + 체크포인트를 저장한다")
+    void 삽입_행_전달() {
+        OutboxBinlogRelay relay = newRelay();
+        relay.start();
+        await().atMost(Duration.ofSeconds(10)).until(relay::isSubscribed);
+        try {
+            // when
+            insertOutbox(1001L);
+
+            // then
+            await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+                assertThat(sentKeys).containsExactly("1001");
+                assertThat(isProcessed(1001L)).isTrue();
+            });
+            assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM outbox_relay_checkpoint", Integer.class)).isEqualTo(1);
+        } finally {
+            relay.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("재시작하면 체크포인트 이후 행만 전달한다 (이미 보낸 행 재전송 없음)")
+    void 체크포인트_재시작() {
+        // given: 첫 번째 릴레이가 2001 전달 후 종료
+        OutboxBinlogRelay first = newRelay();
+        first.start();
+        await().atMost(Duration.ofSeconds(10)).until(first::isSubscribed);
+        insertOutbox(2001L);
+        await().atMost(Duration.ofSeconds(10)).until(() -> isProcessed(2001L));
+        first.stop();
+
+        // 릴레이가 멈춘 동안 들어온 행
+        insertOutbox(2002L);
+
+        // when: 새 릴레이 시작
+        OutboxBinlogRelay second = newRelay();
+        second.start();
+        try {
+            // then
+            await().atMost(Duration.ofSeconds(10)).until(() -> sentKeys.contains("2002"));
+            assertThat(sentKeys).containsExactly("2001", "2002");
+            assertThat(isProcessed(2002L)).isTrue();
+        } finally {
+            second.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("릴레이가 둘이어도 리스를 가진 하나만 전달하고, 리더가 멈추면 다른 쪽이 이어받는다")
+    void 단일_리더() {
+        // given
+        OutboxBinlogRelay first = newRelay();
+        OutboxBinlogRelay second = newRelay();
+        first.start();
+        await().atMost(Duration.ofSeconds(10)).until(first::isSubscribed);
+        second.start();
+        try {
+            // when
+            insertOutbox(3001L);
+            await().atMost(Duration.ofSeconds(10)).until(() -> isProcessed(3001L));
+
+            // then
+            assertThat(second.isSubscribed()).isFalse();
+            assertThat(sentKeys).containsExactly("3001");
+
+            // 리더 종료 → 리스 반납 → 다른 릴레이가 체크포인트부터 이어서 전달
+            first.stop();
+            insertOutbox(3002L);
+            await().atMost(Duration.ofSeconds(10)).until(() -> isProcessed(3002L));
+            assertThat(second.isSubscribed()).isTrue();
+            assertThat(sentKeys).containsExactly("3001", "3002");
+        } finally {
+            first.stop();
+            second.stop();
+        }
+    }
+
+    private OutboxBinlogRelay newRelay() {
+        return new OutboxBinlogRelay(
+            recordingProducer, jdbcTemplate, transactionManager,
+            mysql.getHost(), mysql.getMappedPort(3306), "hhplus",
+            mysql.getUsername(), mysql.getPassword(),
+            6501, Duration.ofSeconds(10), Duration.ofSeconds(1), Duration.ofMillis(100), 3, Duration.ofSeconds(3)
+        );
+    }
+
+    private void insertOutbox(Long aggregateId) {
+        jdbcTemplate.update(
+            "INSERT INTO outbox_messages (aggregate_type, aggregate_id, event_type, payload, is_processed, retry_count, crt_dttm) " +
+            "VALUES ('ORDER', ?, 'ORDER_COMPLETED', '{\"orderId\": 1}', false, 0, NOW(6))",
+            aggregateId);
+    }
+
+    private boolean isProcessed(Long aggregateId) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+            "SELECT is_processed FROM outbox_messages WHERE aggregate_id = ?", Boolean.class, aggregateId));
+    }
+}
@@ -19,6 +19,7 @@ import kr.hhplus.be.server.domain.product.enums.ProductStatus;
 import kr.hhplus.be.server.domain.product.repository.ProductRepository;
 import kr.hhplus.be.server.domain.user.entity.User;
 import kr.hhplus.be.server.domain.user.repository.UserRepository;
+import kr.hhplus.be.server.infrastructure.product.ProductSalesAccumulator;
 
 /**
  * 포인트 충전 → 주문까지 전체 플로우 통합 테스트
@@ -37,6 +38,9 @@ class PointToOrderIntegrationTest extends BaseIntegrationTest {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private ProductSalesAccumulator productSalesAccumulator;
+
     @Test
     @DisplayName("✅ 포인트 충전 → 주문 → 잔액 차감 전체 플로우 테스트")
     void chargePointAndOrderFlow() {
@@ -90,6 +94,9 @@ class PointToOrderIntegrationTest extends BaseIntegrationTest {
         Long balanceAfterOrder = pointService.getPointBalance(testUser.id());
         assertThat(balanceAfterOrder).isEqualTo(100000L); // 200,000 - 100,000 = 100,000
 
+        // 누적 판매량은 write-behind 로 반영되므로 먼저 flush
+        productSalesAccumulator.flush();
+
         // Then 4: 재고 차감 확인
         Product updatedProduct = productRepository.findById(testProduct.id()).orElseThrow();
         assertThat(updatedProduct.stock()).isEqualTo(49); // 50 - 1 = 49
@@ -12,7 +12,6 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.transaction.annotation.Transactional;
 
 import org.springframework.data.redis.core.RedisTemplate;
 
@@ -29,6 +28,7 @@ import kr.hhplus.be.server.domain.product.repository.ProductRepository;
 import kr.hhplus.be.server.domain.user.entity.User;
 import kr.hhplus.be.server.domain.user.repository.UserRepository;
 import kr.hhplus.be.server.infrastructure.product.PopularProductScheduler;
+import kr.hhplus.be.server.infrastructure.product.ProductSalesAccumulator;
 import kr.hhplus.be.server.presentation.product.dto.response.PopularProductResponse;
 
 /**
@@ -60,6 +60,9 @@ class PopularProductIntegrationTest extends BaseIntegrationTest {
     @Autowired
     private RedisTemplate<String, Object> redisTemplate;
 
+    @Autowired
+    private ProductSalesAccumulator productSalesAccumulator;
+
     private User testUser;
     private List<Product> testProducts;
 
@@ -211,7 +214,6 @@ class PopularProductIntegrationTest extends BaseIntegrationTest {
         }
 
         @Test
-        @Transactional
         @DisplayName("성공: 캐시 테이블이 비어있으면 실시간 조회로 Fallback한다")
         void 실시간_조회_Fallback() {
             // Given: 캐시 비어있음 (배치 미실행)
@@ -238,7 +240,6 @@ class PopularProductIntegrationTest extends BaseIntegrationTest {
     class CleanupTest {
 
         @Test
-        @Transactional
         @DisplayName("성공: 오래된 데이터가 삭제된다")
         void 오래된_데이터_삭제() {
             // Given: 8일 전 데이터 직접 삽입
@@ -277,5 +278,7 @@ class PopularProductIntegrationTest extends BaseIntegrationTest {
             UUID.randomUUID().toString()
         );
         orderFacade.completeOrder(testUser.id(), orderRequest);
+        // 판매량/일별 롤업은 write-behind 이므로 집계 전에 즉시 반영
+        productSalesAccumulator.flush();
     }
 }
@@ -0,0 +1,111 @@
+package kr.hhplus.be.server.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.test.context.TestPropertySource;
+
+import kr.hhplus.be.server.application.order.dto.request.OrderCreateRequest.OrderItem;
+import kr.hhplus.be.server.application.order.facade.interfaces.StockManager;
+import kr.hhplus.be.server.domain.product.entity.Product;
+import kr.hhplus.be.server.domain.product.enums.ProductCategory;
+import kr.hhplus.be.server.domain.product.enums.ProductStatus;
+import kr.hhplus.be.server.domain.product.repository.ProductRepository;
+
+/**
+ * 여러 상품 재고 일괄 락 통합 테스트
+ * 상품 순서가 엇갈린 주문({A,B} / {B,A})이 동시에 들어와도 교착 상태 없이 모두 차감되는지 검증
+ * (stock.reserve.mode=batch-lock)
+ */
+@TestPropertySource(properties = "stock.reserve.mode=batch-lock")
+class StockBatchLockIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private StockManager stockManager;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private Product createProduct(String name, int stock) {
+        return productRepository.save(new Product(
+            null, name, 10000L, stock, ProductCategory.TOP, ProductStatus.ON_SALE, 0, LocalDateTime.now(), null
+        ));
+    }
+
+    @Test
+    @DisplayName("성공: 상품 순서가 엇갈린 주문이 동시에 들어와도 교착 상태 없이 모두 차감된다")
+    void 엇갈린_주문_교착_상태_없음() throws InterruptedException {
+        // Given
+        Product productA = createProduct("교착테스트A", 1000);
+        Product productB = createProduct("교착테스트B", 1000);
+        int threadCount = 100;
+
+        ExecutorService executor = Executors.newFixedThreadPool(20);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger deadlockCount = new AtomicInteger();
+        AtomicInteger otherFailureCount = new AtomicInteger();
+
+        // When: 절반은 {A,B}, 절반은 {B,A} 순서로 동시에 차감
+        for (int i = 0; i < threadCount; i++) {
+            List<OrderItem> items = i % 2 == 0
+                ? List.of(new OrderItem(productA.id(), 1), new OrderItem(productB.id(), 2))
+                : List.of(new OrderItem(productB.id(), 2), new OrderItem(productA.id(), 1));
+
+            executor.submit(() -> {
+                try {
+                    ready.await();
+                    stockManager.reserveStock(items);
+                    successCount.incrementAndGet();
+                } catch (PessimisticLockingFailureException e) {
+                    deadlockCount.incrementAndGet();
+                } catch (Exception e) {
+                    otherFailureCount.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.countDown();
+        done.await(60, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // Then
+        assertThat(deadlockCount.get()).isZero();
+        assertThat(otherFailureCount.get()).isZero();
+        assertThat(successCount.get()).isEqualTo(threadCount);
+        assertThat(productRepository.findById(productA.id()).orElseThrow().stock()).isEqualTo(1000 - threadCount);
+        assertThat(productRepository.findById(productB.id()).orElseThrow().stock()).isEqualTo(1000 - threadCount * 2);
+    }
+
+    @Test
+    @DisplayName("성공: 한 상품이라도 재고가 부족하면 어떤 상품도 차감되지 않는다")
+    void 일부_재고_부족_전체_미반영() {
+        // Given
+        Product productA = createProduct("부분실패A", 10);
+        Product productB = createProduct("부분실패B", 1);
+
+        // When
+        try {
+            stockManager.reserveStock(List.of(new OrderItem(productA.id(), 5), new OrderItem(productB.id(), 2)));
+        } catch (Exception ignored) {
+            // 재고 부족 예외 예상
+        }
+
+        // Then
+        assertThat(productRepository.findById(productA.id()).orElseThrow().stock()).isEqualTo(10);
+        assertThat(productRepository.findById(productB.id()).orElseThrow().stock()).isEqualTo(1);
+    }
+}